@@ -0,0 +1,52 @@
+package com.rdt.api.model.dto;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.util.List;
+import lombok.Value;
+
+/**
+ * One page of an offset-paginated list, as sent to clients: the records and the four numbers a pager needs.
+ *
+ * @param <T> record type
+ */
+@Value
+@SuppressFBWarnings({"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
+public class PageResponse<T> {
+
+    /**
+     * Records of this page, in list order
+     */
+    List<T> records;
+
+    /**
+     * Total rows of the list (a lower bound when the request skipped the count)
+     */
+    long total;
+
+    /**
+     * 1-based page number
+     */
+    long current;
+
+    /**
+     * Rows per page
+     */
+    long size;
+
+    /**
+     * Whether another page follows
+     */
+    boolean hasNext;
+
+    /**
+     * @param records records of this page
+     * @param total   total rows of the list
+     * @param current 1-based page number
+     * @param size    rows per page
+     * @param <T>     record type
+     * @return page
+     */
+    public static <T> PageResponse<T> page(List<T> records, long total, long current, long size) {
+        return new PageResponse<>(records, total, current, size, current * size < total);
+    }
+}
@@ -0,0 +1,16 @@
+package com.rdt.auth.model.dto;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.Data;
+
+@Data
+@SuppressFBWarnings({"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
+public class BulkUserReq {
+    @NotEmpty(message = "User ids cannot be empty")
+    @Size(max = 10_000, message = "At most 10000 users per request")
+    private List<@NotNull Long> ids;
+}
@@ -18,6 +18,8 @@ public class LoginResp implements Serializable {
 
     private String token;
     private Long expiresIn;
+    private String refreshToken;
+    private Long refreshExpiresIn;
     private UserInfo user;
 
     @Data
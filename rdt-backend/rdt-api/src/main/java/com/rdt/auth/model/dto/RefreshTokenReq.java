@@ -0,0 +1,13 @@
+package com.rdt.auth.model.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import java.io.Serializable;
+import lombok.Data;
+
+@Data
+public class RefreshTokenReq implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    @NotBlank(message = "Refresh token cannot be empty")
+    private String refreshToken;
+}
@@ -1,6 +1,7 @@
 package com.rdt.auth.model.dto;
 
 import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 
 @Data
@@ -9,4 +10,10 @@ public class UpdateUserReq {
     private String email;
 
     private String avatar;
+
+    /**
+     * Version returned when the user was read; the update is refused if it has changed since.
+     */
+    @NotNull(message = "Version cannot be empty")
+    private Integer version;
 }
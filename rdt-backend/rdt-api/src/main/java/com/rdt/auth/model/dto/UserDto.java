@@ -10,6 +10,7 @@ public class UserDto {
     private String email;
     private String avatar;
     private Integer status;
+    private Integer version;
     private LocalDateTime createdAt;
     private LocalDateTime lastLoginTime;
 }
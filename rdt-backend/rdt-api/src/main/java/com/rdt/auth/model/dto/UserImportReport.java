@@ -0,0 +1,67 @@
+package com.rdt.auth.model.dto;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Outcome of a bulk user import: how many rows were created, which were rejected and why, and the throughput.
+ */
+@Value
+@Builder
+@SuppressFBWarnings({"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
+public class UserImportReport {
+
+    /**
+     * Users created
+     */
+    long imported;
+
+    /**
+     * Rows rejected
+     */
+    long failed;
+
+    /**
+     * Rejected rows in file order, the first {@code auth.user-import.max-errors} of them
+     */
+    List<RowError> errors;
+
+    /**
+     * Whether more rows were rejected than {@link #errors} lists
+     */
+    boolean errorsTruncated;
+
+    /**
+     * Wall-clock time of the whole import
+     */
+    long elapsedMillis;
+
+    /**
+     * Users created per second of {@link #elapsedMillis}
+     */
+    double usersPerSecond;
+
+    /**
+     * One rejected row.
+     */
+    @Value
+    public static class RowError {
+
+        /**
+         * 1-based line of the row in the uploaded file
+         */
+        long line;
+
+        /**
+         * Username of the row, if it had one
+         */
+        String username;
+
+        /**
+         * Why the row was rejected
+         */
+        String message;
+    }
+}
@@ -0,0 +1,46 @@
+package com.rdt.auth.model.dto;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import lombok.Value;
+
+/**
+ * One row of a bulk user import, as read from the request body: either a parsed user or the reason it could not be
+ * parsed.
+ */
+@Value
+@SuppressFBWarnings({"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
+public class UserImportRow {
+
+    /**
+     * 1-based line of the row in the uploaded file
+     */
+    long line;
+
+    /**
+     * Parsed user; {@code null} when the row is malformed
+     */
+    CreateUserReq user;
+
+    /**
+     * Why the row could not be parsed; {@code null} when it was
+     */
+    String error;
+
+    /**
+     * @param line 1-based line
+     * @param user parsed user
+     * @return parsed row
+     */
+    public static UserImportRow parsed(long line, CreateUserReq user) {
+        return new UserImportRow(line, user, null);
+    }
+
+    /**
+     * @param line  1-based line
+     * @param error why the row could not be parsed
+     * @return malformed row
+     */
+    public static UserImportRow malformed(long line, String error) {
+        return new UserImportRow(line, null, error);
+    }
+}
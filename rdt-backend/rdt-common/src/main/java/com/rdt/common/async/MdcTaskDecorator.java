@@ -10,7 +10,8 @@ import org.springframework.lang.NonNull;
  */
 public class MdcTaskDecorator implements TaskDecorator {
     @Override
-    @NonNull public Runnable decorate(@NonNull Runnable runnable) {
+    @NonNull
+    public Runnable decorate(@NonNull Runnable runnable) {
         // 捕获当前线程的 MDC 上下文
         Map<String, String> contextMap = MDC.getCopyOfContextMap();
         return () -> {
@@ -23,6 +23,11 @@ public class BusinessException extends RuntimeException {
      */
     public static final int NOT_FOUND_CODE = 404;
 
+    /**
+     * HTTP 409 Conflict
+     */
+    public static final int CONFLICT_CODE = 409;
+
     /**
      * HTTP 500 Internal Server Error
      */
@@ -110,6 +115,17 @@ public class BusinessException extends RuntimeException {
         return new BusinessException(NOT_FOUND_CODE, key, args);
     }
 
+    /**
+     * 快速创建 409 错误 (Type-Safe I18n).
+     *
+     * @param key  i18n key
+     * @param args i18n arguments
+     * @return BusinessException
+     */
+    public static BusinessException conflict(I18nKey key, Object... args) {
+        return new BusinessException(CONFLICT_CODE, key, args);
+    }
+
     /**
      * 快速创建 500 错误.
      *
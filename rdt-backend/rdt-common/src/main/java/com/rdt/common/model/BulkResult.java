@@ -0,0 +1,20 @@
+package com.rdt.common.model;
+
+import lombok.Value;
+
+/**
+ * Outcome of a set-based bulk operation.
+ */
+@Value
+public class BulkResult {
+
+    /**
+     * Existing, not deleted rows the operation selected (unknown and repeated ids are not counted)
+     */
+    long matched;
+
+    /**
+     * Rows actually changed; rows already in the requested state are matched but not affected
+     */
+    long affected;
+}
@@ -0,0 +1,28 @@
+package com.rdt.common.model;
+
+/**
+ * How a paged list obtains its total row count, chosen per request.
+ */
+public enum CountMode {
+
+    /**
+     * {@code COUNT} before the page query, on the same connection (MyBatis-Plus default)
+     */
+    EXACT,
+
+    /**
+     * {@code COUNT} and page query at the same time, on separate connections
+     */
+    PARALLEL,
+
+    /**
+     * Total of the same filter remembered for a short time and dropped on writes; counted in parallel on a miss
+     */
+    CACHED,
+
+    /**
+     * No {@code COUNT}: one extra row is fetched to tell whether another page follows, and the total is only a
+     * lower bound ({@code rows before this page + rows on it + 1 if more follow})
+     */
+    NONE
+}
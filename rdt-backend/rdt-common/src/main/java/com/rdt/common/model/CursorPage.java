@@ -0,0 +1,43 @@
+package com.rdt.common.model;
+
+import java.util.List;
+import java.util.function.Function;
+import lombok.Value;
+
+/**
+ * One page of a keyset-paginated list. There is no total: counting would cost the scan the cursor avoids.
+ *
+ * @param <T> record type
+ */
+@Value
+public class CursorPage<T> {
+
+    /**
+     * Records of this page, in list order
+     */
+    List<T> records;
+
+    /**
+     * Cursor of the next page, or {@code null} on the last page
+     */
+    String nextCursor;
+
+    /**
+     * Build a page from rows fetched with {@code LIMIT size + 1}; the extra row only signals that more follow.
+     *
+     * @param rows     fetched rows, at most {@code size + 1}
+     * @param size     page size
+     * @param mapper   row to record conversion
+     * @param cursorOf sort key of a row
+     * @param <E>      row type
+     * @param <T>      record type
+     * @return page
+     */
+    public static <E, T> CursorPage<T> slice(
+            List<E> rows, int size, Function<E, T> mapper, Function<E, KeysetCursor> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+        return new CursorPage<>(page.stream().map(mapper).toList(), nextCursor);
+    }
+}
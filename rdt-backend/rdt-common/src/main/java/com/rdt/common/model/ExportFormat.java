@@ -0,0 +1,17 @@
+package com.rdt.common.model;
+
+/**
+ * Body format of a streamed export, chosen per request.
+ */
+public enum ExportFormat {
+
+    /**
+     * One JSON object per line ({@code application/x-ndjson}), fields as in the list responses
+     */
+    NDJSON,
+
+    /**
+     * Comma-separated values with a header row ({@code text/csv}), one column per response field
+     */
+    CSV
+}
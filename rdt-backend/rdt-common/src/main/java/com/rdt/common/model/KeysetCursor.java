@@ -0,0 +1,70 @@
+package com.rdt.common.model;
+
+import com.rdt.common.exception.BusinessException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import lombok.Value;
+
+/**
+ * Position in a list ordered by {@code created_at DESC, id DESC}: the sort key of the last row already served.
+ *
+ * <p>Clients only see the opaque {@link #encode() encoded} form and hand it back unchanged; the next page seeks
+ * past it ({@code created_at < ? OR (created_at = ? AND id < ?)}) instead of skipping an offset.
+ */
+@Value
+public class KeysetCursor {
+
+    private static final char SEPARATOR = '|';
+    private static final String INVALID_CURSOR = "Invalid cursor";
+
+    /**
+     * Creation time of the last served row
+     */
+    LocalDateTime createdAt;
+
+    /**
+     * ID of the last served row, the tie-break within one {@code created_at}
+     */
+    Long id;
+
+    /**
+     * Opaque, URL-safe form handed to clients.
+     *
+     * @return encoded cursor
+     */
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parse a cursor previously produced by {@link #encode()}.
+     *
+     * @param cursor encoded cursor, blank for the first page
+     * @return decoded cursor, or {@code null} for the first page
+     * @throws BusinessException 400 if the cursor was not produced by {@link #encode()}
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(BusinessException.BAD_REQUEST_CODE, INVALID_CURSOR, e);
+        }
+        int separator = raw.lastIndexOf(SEPARATOR);
+        if (separator < 0) {
+            throw BusinessException.badRequest(INVALID_CURSOR);
+        }
+        try {
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)), Long.valueOf(raw.substring(separator + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new BusinessException(BusinessException.BAD_REQUEST_CODE, INVALID_CURSOR, e);
+        }
+    }
+}
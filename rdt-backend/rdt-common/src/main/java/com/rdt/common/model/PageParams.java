@@ -0,0 +1,62 @@
+package com.rdt.common.model;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Offset pagination parameters of a list request, bound from the {@code page}, {@code size}, {@code count} and
+ * {@code sort} query parameters. Bind it with {@code @Valid}: out-of-range values would otherwise reach the SQL
+ * {@code LIMIT} unclamped.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageParams {
+
+    /** Largest page size a client may request. */
+    public static final int MAX_SIZE = 500;
+
+    private static final int DEFAULT_SIZE = 10;
+
+    /**
+     * 1-based page number
+     */
+    @Min(value = 1, message = "Page must be at least 1")
+    private int page = 1;
+
+    /**
+     * Rows per page
+     */
+    @Min(value = 1, message = "Page size must be at least 1")
+    @Max(value = MAX_SIZE, message = "Page size must be at most 500")
+    private int size = DEFAULT_SIZE;
+
+    /**
+     * How the total is obtained
+     */
+    private CountMode count = CountMode.EXACT;
+
+    /**
+     * Row order
+     */
+    private SortOrder sort = SortOrder.NEWEST;
+
+    /**
+     * @param page 1-based page number
+     * @param size rows per page
+     * @return parameters with an exact count
+     */
+    public static PageParams exact(int page, int size) {
+        return new PageParams(page, size, CountMode.EXACT, SortOrder.NEWEST);
+    }
+
+    /**
+     * @return rows before this page
+     */
+    public long offset() {
+        return (long) (page - 1) * size;
+    }
+}
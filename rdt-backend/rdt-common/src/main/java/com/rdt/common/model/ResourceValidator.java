@@ -0,0 +1,81 @@
+package com.rdt.common.model;
+
+import com.rdt.common.util.DigestUtils;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Objects;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * HTTP cache validators of a resource representation: an entity tag and, when known, its last modification time.
+ *
+ * <p>Strong tags hash every served field, so equal tags mean byte-identical bodies. Weak tags ({@code W/}) are
+ * for representations derived from second-precision {@code updated_at} stamps only.
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ResourceValidator {
+
+    private static final int TAG_HEX_LENGTH = 32;
+    private static final char FIELD_SEPARATOR = '\u0000';
+
+    /**
+     * Quoted entity tag, {@code W/}-prefixed when weak
+     */
+    String etag;
+
+    /**
+     * Last modification time in epoch millis, or {@code -1} when unknown
+     */
+    long lastModified;
+
+    /**
+     * Strong validator over the served fields.
+     *
+     * @param lastModified modification time of the underlying row(s), may be {@code null}
+     * @param fields every field of the representation
+     * @return validator
+     */
+    public static ResourceValidator strong(LocalDateTime lastModified, Object... fields) {
+        return new ResourceValidator("\"" + hash(fields) + "\"", toEpochMillis(lastModified));
+    }
+
+    /**
+     * Strong validator of a representation that is already built, e.g. a list page: hashes its {@code toString}, which
+     * for the Lombok {@code @Value}/{@code @Data} DTOs lists every field. Costs no query, but a matching request still
+     * pays for building the body; it only saves serializing and sending it.
+     *
+     * @param body response body
+     * @return validator without a modification time
+     */
+    public static ResourceValidator ofBody(Object body) {
+        return strong(null, body);
+    }
+
+    /**
+     * Weak validator over change stamps rather than content.
+     *
+     * @param lastModified latest modification time of the underlying rows, may be {@code null}
+     * @param stamps values that change whenever the representation may change
+     * @return validator
+     */
+    public static ResourceValidator weak(LocalDateTime lastModified, Object... stamps) {
+        return new ResourceValidator("W/\"" + hash(stamps) + "\"", toEpochMillis(lastModified));
+    }
+
+    private static String hash(Object... fields) {
+        StringBuilder canonical = new StringBuilder();
+        for (Object field : fields) {
+            canonical.append(Objects.toString(field, "")).append(FIELD_SEPARATOR);
+        }
+        return DigestUtils.sha256Hex(canonical.toString()).substring(0, TAG_HEX_LENGTH);
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time == null
+                ? -1
+                : time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
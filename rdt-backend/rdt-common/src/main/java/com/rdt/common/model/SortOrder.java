@@ -0,0 +1,17 @@
+package com.rdt.common.model;
+
+/**
+ * Row order of an offset-paged list, chosen per request.
+ */
+public enum SortOrder {
+
+    /**
+     * Newest first ({@code created_at DESC, id DESC})
+     */
+    NEWEST,
+
+    /**
+     * By name in simplified Chinese (pinyin) collation order, through the stored name sort key
+     */
+    NAME
+}
@@ -0,0 +1,33 @@
+package com.rdt.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 摘要工具类 (纯静态工具类).
+ */
+public final class DigestUtils {
+
+    private DigestUtils() {
+        // Prevent instantiation
+    }
+
+    /**
+     * SHA-256 of the UTF-8 bytes of {@code value}, as 64 lowercase hex characters.
+     *
+     * <p>Suitable for keying or storing high-entropy secrets (tokens); never for passwords.
+     *
+     * @param value input
+     * @return hex digest
+     */
+    public static String sha256Hex(String value) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.rdt.common.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 中文名称的拼音检索键与排序键 (纯静态工具类).
+ *
+ * <p>Both keys are computed once on write and stored next to the name, so pinyin search and name ordering are plain
+ * index lookups instead of per-query conversion.
+ */
+public final class PinyinUtils {
+
+    /**
+     * Width of the {@code VARBINARY} sort key columns; longer keys are cut, which keeps their order by prefix
+     */
+    public static final int SORT_KEY_LENGTH = 255;
+
+    /**
+     * Width of the {@code VARCHAR} initials columns; readings that would not fit are left out
+     */
+    public static final int INITIALS_LENGTH = 255;
+
+    /**
+     * Most initials combinations kept for one name, so names full of polyphones stay bounded
+     */
+    public static final int MAX_READINGS = 8;
+
+    /**
+     * Version of the rules behind both keys, stored next to them; rows written under an older version are recomputed
+     * by the startup backfill. Bump it whenever {@link #initials} or {@link #sortKey} change their output
+     */
+    public static final int KEY_VERSION = 2;
+
+    private static final String INITIALS_RESOURCE = "/pinyin/initials.txt";
+    private static final String POLYPHONES_RESOURCE = "/pinyin/polyphones.txt";
+    private static final String READING_SEPARATOR = " ";
+    private static final int FIRST_HAN = 0x4E00;
+    private static final char NO_INITIAL = '-';
+    private static final char LAST_ASCII = 0x7F;
+
+    private static final String INITIALS_TABLE = String.join("", loadLines(INITIALS_RESOURCE));
+
+    private static final Map<Character, String> POLYPHONES = loadPolyphones();
+
+    private static final Collator COLLATOR = chineseCollator();
+
+    private PinyinUtils() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Key version to store with the keys of {@code text}.
+     *
+     * @param text name
+     * @return {@link #KEY_VERSION}, or {@code null} when {@code text} is {@code null} (no keys are written)
+     */
+    public static Integer keyVersion(String text) {
+        return text == null ? null : KEY_VERSION;
+    }
+
+    /**
+     * Pinyin initials of {@code text}, e.g. {@code "zfxt"} for 支付系统: each Chinese character becomes the first
+     * letter of its reading, ASCII letters and digits are kept lowercased and everything else is dropped.
+     *
+     * <p>A polyphonic character contributes every reading, so one name can have several initials; they are joined with
+     * spaces, the collation reading first, e.g. {@code "wsyxxt wsyhxt"} for 网上银行系统 (行 xing/hang). The ngram
+     * parser never forms a token across the space, so a search matches within one reading only. At most
+     * {@value #MAX_READINGS} combinations are kept, within {@value #INITIALS_LENGTH} characters.
+     *
+     * @param text name
+     * @return initials, or {@code null} when {@code text} has no Chinese character (the name itself already matches)
+     */
+    public static String initials(String text) {
+        if (text == null) {
+            return null;
+        }
+        List<StringBuilder> readings = new ArrayList<>(MAX_READINGS);
+        readings.add(new StringBuilder(text.length()));
+        boolean han = false;
+        for (int i = 0; i < text.length(); i++) {
+            char character = text.charAt(i);
+            String initials = initialsOf(character);
+            if (initials.isEmpty()) {
+                if (character <= LAST_ASCII && Character.isLetterOrDigit(character)) {
+                    readings.forEach(reading -> reading.append(Character.toLowerCase(character)));
+                }
+                continue;
+            }
+            han = true;
+            int existing = readings.size();
+            // 多音字: 先为其余读音复制已有组合, 再在原组合后追加排序读音
+            for (int alternative = 1; alternative < initials.length(); alternative++) {
+                for (int r = 0; r < existing && readings.size() < MAX_READINGS; r++) {
+                    readings.add(new StringBuilder(readings.get(r)).append(initials.charAt(alternative)));
+                }
+            }
+            for (int r = 0; r < existing; r++) {
+                readings.get(r).append(initials.charAt(0));
+            }
+        }
+        return han ? join(readings) : null;
+    }
+
+    /**
+     * Binary key whose byte order is the simplified Chinese (pinyin) collation order of {@code text}, ignoring case
+     * and accents, for an indexed {@code ORDER BY}.
+     *
+     * @param text name
+     * @return sort key of at most {@value #SORT_KEY_LENGTH} bytes (empty for {@code null}, sorting first)
+     */
+    public static byte[] sortKey(String text) {
+        if (text == null) {
+            return new byte[0];
+        }
+        byte[] key = COLLATOR.getCollationKey(text).toByteArray();
+        return key.length > SORT_KEY_LENGTH ? Arrays.copyOf(key, SORT_KEY_LENGTH) : key;
+    }
+
+    /**
+     * Initials of every reading of {@code character}, the collation reading first; empty when it has none.
+     */
+    private static String initialsOf(char character) {
+        String polyphone = POLYPHONES.get(character);
+        if (polyphone != null) {
+            return polyphone;
+        }
+        char initial = tableInitial(character);
+        return initial == NO_INITIAL ? "" : String.valueOf(initial);
+    }
+
+    private static char tableInitial(char character) {
+        int index = character - FIRST_HAN;
+        return index >= 0 && index < INITIALS_TABLE.length() ? INITIALS_TABLE.charAt(index) : NO_INITIAL;
+    }
+
+    private static String join(List<StringBuilder> readings) {
+        StringBuilder joined = new StringBuilder(readings.get(0));
+        for (StringBuilder reading : readings.subList(1, readings.size())) {
+            boolean fits = joined.length() + READING_SEPARATOR.length() + reading.length() <= INITIALS_LENGTH;
+            if (fits && !joined.toString().contains(reading)) {
+                joined.append(READING_SEPARATOR).append(reading);
+            }
+        }
+        return joined.toString();
+    }
+
+    private static Collator chineseCollator() {
+        Collator collator = Collator.getInstance(Locale.SIMPLIFIED_CHINESE);
+        collator.setStrength(Collator.PRIMARY);
+        return collator;
+    }
+
+    /**
+     * Polyphone lines ({@code 行 xh}) as character to initials, the {@code initials.txt} (collation) reading first.
+     */
+    private static Map<Character, String> loadPolyphones() {
+        Map<Character, String> polyphones = new HashMap<>();
+        for (String line : loadLines(POLYPHONES_RESOURCE)) {
+            char character = line.charAt(0);
+            String initials = Stream.concat(
+                            Stream.of(tableInitial(character)).filter(initial -> initial != NO_INITIAL),
+                            line.substring(1).strip().chars().mapToObj(initial -> (char) initial))
+                    .distinct()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining());
+            polyphones.put(character, initials);
+        }
+        return Map.copyOf(polyphones);
+    }
+
+    private static List<String> loadLines(String resource) {
+        try (InputStream stream = Objects.requireNonNull(
+                        PinyinUtils.class.getResourceAsStream(resource), resource + " not found");
+                BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            return reader.lines().filter(line -> !line.startsWith("#")).toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
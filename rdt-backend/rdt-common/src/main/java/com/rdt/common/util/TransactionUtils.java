@@ -0,0 +1,71 @@
+package com.rdt.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 事务回调工具类 (纯静态工具类).
+ *
+ * <p>Defers in-memory side effects (cache eviction, local state) until the database outcome is known. Without an
+ * active transaction synchronization the action runs immediately.
+ */
+public final class TransactionUtils {
+
+    private TransactionUtils() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Runs the action after the current transaction commits; dropped on rollback.
+     *
+     * @param action side effect to apply
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new AfterCommit(action));
+    }
+
+    /**
+     * Runs the action once the current transaction completes, whether it committed or rolled back.
+     *
+     * @param action side effect to apply
+     */
+    public static void afterCompletion(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new AfterCompletion(action));
+    }
+
+    private static final class AfterCommit implements TransactionSynchronization {
+
+        private final Runnable action;
+
+        private AfterCommit(Runnable action) {
+            this.action = action;
+        }
+
+        @Override
+        public void afterCommit() {
+            action.run();
+        }
+    }
+
+    private static final class AfterCompletion implements TransactionSynchronization {
+
+        private final Runnable action;
+
+        private AfterCompletion(Runnable action) {
+            this.action = action;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.rdt.auth.component;
+
+import com.rdt.auth.config.JwtProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Per-request token handling in {@code JwtAuthenticationFilter}: the former validate-then-extract double parse
+ * against the single {@link JwtProvider#verify(String)} call, with and without the verified-token cache.
+ *
+ * <p>Run: {@code mvn -Pbenchmark -pl rdt-service test-compile exec:exec@jmh -Djmh.args=JwtProviderBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class JwtProviderBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-1234567890-abcdefg-hijklmn";
+
+    private Key key;
+    private JwtProvider uncached;
+    private JwtProvider cached;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        uncached = provider(0L);
+        cached = provider(10_000L);
+        token = uncached.generateToken("admin");
+    }
+
+    private static JwtProvider provider(long verifiedCacheSize) {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setExpiration(7_200_000L);
+        properties.setVerifiedCacheSize(verifiedCacheSize);
+        properties.setVerifiedCacheTtl(Duration.ofMinutes(1));
+        JwtProvider provider = new JwtProvider(properties);
+        provider.init();
+        return provider;
+    }
+
+    /**
+     * Previous filter behaviour: two fresh parsers, two signature checks.
+     */
+    @Benchmark
+    public String doubleParse() {
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody()
+                .getSubject();
+    }
+
+    @Benchmark
+    public String singleParse() {
+        return uncached.verify(token).map(Claims::getSubject).orElse(null);
+    }
+
+    @Benchmark
+    public String cachedVerify() {
+        return cached.verify(token).map(Claims::getSubject).orElse(null);
+    }
+}
@@ -0,0 +1,85 @@
+package com.rdt.auth.convert;
+
+import com.rdt.auth.model.dto.UserDto;
+import com.rdt.auth.model.entity.SysUser;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.BeanUtils;
+
+/**
+ * Mapping a 1000-row page of {@link SysUser} to {@link UserDto} with {@link BeanUtils#copyProperties} (as the user
+ * service used to) against {@link UserConverter}. Scores are per row; add the GC profiler for the bytes allocated per
+ * row ({@code gc.alloc.rate.norm}).
+ *
+ * <p>Run: {@code mvn -Pbenchmark -pl rdt-service test-compile exec:exec@jmh
+ * "-Djmh.args=DtoMappingBenchmark -prof gc"}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    private static final int ROWS = 1000;
+
+    private List<SysUser> page;
+
+    @Setup
+    public void setUp() {
+        page = LongStream.rangeClosed(1, ROWS).mapToObj(this::user).toList();
+    }
+
+    private SysUser user(long id) {
+        return SysUser.builder()
+                .id(id)
+                .username("user" + id)
+                .usernameInitials("user" + id)
+                .email("user" + id + "@example.com")
+                .password("$2a$10$abcdefghijklmnopqrstuv")
+                .status(1)
+                .version(0)
+                .failedAttempts(0)
+                .tokenVersion(0)
+                .createdAt(LocalDateTime.of(2026, 1, 1, 0, 0).plusMinutes(id))
+                .lastLoginTime(LocalDateTime.of(2026, 2, 1, 0, 0).plusMinutes(id))
+                .build();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<UserDto> beanUtils() {
+        List<UserDto> dtos = new ArrayList<>(ROWS);
+        for (SysUser user : page) {
+            UserDto dto = new UserDto();
+            BeanUtils.copyProperties(user, dto);
+            dtos.add(dto);
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<UserDto> converter() {
+        List<UserDto> dtos = new ArrayList<>(ROWS);
+        for (SysUser user : page) {
+            dtos.add(UserConverter.INSTANCE.toDto(user));
+        }
+        return dtos;
+    }
+}
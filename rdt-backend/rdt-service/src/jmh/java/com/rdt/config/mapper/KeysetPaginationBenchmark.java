@@ -0,0 +1,158 @@
+package com.rdt.config.mapper;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * List page latency on a seeded million-row table: {@code LIMIT/OFFSET} (the paged list endpoints) against the
+ * {@code (created_at, id)} seek used by the cursor endpoints, on page 1 and page 10,000.
+ *
+ * <p>Needs a MySQL schema the benchmark may write to; the {@code bench_keyset_page} table is created and seeded
+ * on the first run (takes a minute) and reused afterwards.
+ *
+ * <p>Run: {@code mvn -Pbenchmark -pl rdt-service test-compile exec:exec@jmh -Djmh.args="KeysetPaginationBenchmark
+ * -jvmArgs -Dbench.jdbc.url=jdbc:mysql://localhost:3306/rdt_bench -jvmArgs -Dbench.jdbc.user=root
+ * -jvmArgs -Dbench.jdbc.password=..."}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KeysetPaginationBenchmark {
+
+    private static final int ROWS = 1_000_000;
+    private static final int ROWS_PER_SECOND = 10;
+    private static final int BATCH = 10_000;
+    private static final int PAGE_SIZE = 20;
+
+    private static final String COLUMNS = "SELECT id, name, created_at FROM bench_keyset_page ";
+    private static final String ORDER = " ORDER BY created_at DESC, id DESC LIMIT ?";
+
+    @Param({"1", "10000"})
+    private int page;
+
+    private Connection connection;
+    private PreparedStatement offsetQuery;
+    private PreparedStatement firstPageQuery;
+    private PreparedStatement seekQuery;
+    private Timestamp cursorCreatedAt;
+    private long cursorId;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("bench.jdbc.url", "jdbc:mysql://localhost:3306/rdt_bench"),
+                System.getProperty("bench.jdbc.user", "root"),
+                System.getProperty("bench.jdbc.password", ""));
+        seed();
+        offsetQuery = connection.prepareStatement(COLUMNS + ORDER + " OFFSET ?");
+        firstPageQuery = connection.prepareStatement(COLUMNS + ORDER);
+        seekQuery = connection.prepareStatement(
+                COLUMNS + "WHERE created_at < ? OR (created_at = ? AND id < ?)" + ORDER);
+        if (page > 1) {
+            // The cursor a client would hold after reading page - 1: the last row of that page
+            offsetQuery.setInt(1, 1);
+            offsetQuery.setInt(2, (page - 1) * PAGE_SIZE - 1);
+            try (ResultSet rs = offsetQuery.executeQuery()) {
+                rs.next();
+                cursorId = rs.getLong(1);
+                cursorCreatedAt = rs.getTimestamp(3);
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public long offset() throws SQLException {
+        offsetQuery.setInt(1, PAGE_SIZE);
+        offsetQuery.setInt(2, (page - 1) * PAGE_SIZE);
+        return drain(offsetQuery);
+    }
+
+    @Benchmark
+    public long keyset() throws SQLException {
+        if (cursorCreatedAt == null) {
+            firstPageQuery.setInt(1, PAGE_SIZE + 1);
+            return drain(firstPageQuery);
+        }
+        seekQuery.setTimestamp(1, cursorCreatedAt);
+        seekQuery.setTimestamp(2, cursorCreatedAt);
+        seekQuery.setLong(3, cursorId);
+        seekQuery.setInt(4, PAGE_SIZE + 1);
+        return drain(seekQuery);
+    }
+
+    private static long drain(PreparedStatement query) throws SQLException {
+        long sum = 0;
+        try (ResultSet rs = query.executeQuery()) {
+            while (rs.next()) {
+                sum += rs.getLong(1);
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Same shape and index as the list tables; several rows share each {@code created_at} so the id tie-break
+     * is exercised.
+     */
+    private void seed() throws SQLException {
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("CREATE TABLE IF NOT EXISTS bench_keyset_page ("
+                    + "id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY, "
+                    + "name VARCHAR(64) NOT NULL, "
+                    + "created_at DATETIME NOT NULL, "
+                    + "KEY idx_bench_keyset_page_created_at_id (created_at, id))");
+            try (ResultSet rs = ddl.executeQuery("SELECT COUNT(1) FROM bench_keyset_page")) {
+                rs.next();
+                if (rs.getLong(1) >= ROWS) {
+                    return;
+                }
+            }
+            ddl.execute("TRUNCATE TABLE bench_keyset_page");
+        }
+        LocalDateTime base = LocalDateTime.now().minusSeconds(ROWS / ROWS_PER_SECOND);
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert =
+                connection.prepareStatement("INSERT INTO bench_keyset_page (name, created_at) VALUES (?, ?)")) {
+            for (int i = 0; i < ROWS; i++) {
+                insert.setString(1, "row-" + i);
+                insert.setTimestamp(2, Timestamp.valueOf(base.plusSeconds(i / ROWS_PER_SECOND)));
+                insert.addBatch();
+                if ((i + 1) % BATCH == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+        }
+        connection.setAutoCommit(true);
+        try (Statement analyze = connection.createStatement()) {
+            analyze.execute("ANALYZE TABLE bench_keyset_page");
+        }
+    }
+}
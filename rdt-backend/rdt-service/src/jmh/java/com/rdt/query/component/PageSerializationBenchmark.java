@@ -0,0 +1,87 @@
+package com.rdt.query.component;
+
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.rdt.api.model.dto.PageResponse;
+import com.rdt.auth.model.dto.UserDto;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serializing a user list page as the MyBatis-Plus {@link Page} the controllers used to return, against the
+ * {@link PageResponse} they return now, with the application's {@code non_null} inclusion. The payload size of
+ * each is printed once per row count.
+ *
+ * <p>Run: {@code mvn -Pbenchmark -pl rdt-service test-compile exec:exec@jmh -Djmh.args=PageSerializationBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PageSerializationBenchmark {
+
+    private static final long TOTAL = 25_000;
+
+    @Param({"10", "100", "1000"})
+    private int rows;
+
+    private ObjectMapper objectMapper;
+    private Page<UserDto> page;
+    private PageResponse<UserDto> response;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .build();
+        List<UserDto> records = LongStream.rangeClosed(1, rows).mapToObj(this::user).toList();
+        page = new Page<>(2, rows, TOTAL);
+        page.setRecords(records);
+        response = Paginator.toResponse(page, Function.identity());
+        System.out.printf(
+                "%n%d rows: Page %d bytes, PageResponse %d bytes%n",
+                rows,
+                objectMapper.writeValueAsBytes(page).length,
+                objectMapper.writeValueAsBytes(response).length);
+    }
+
+    private UserDto user(long id) {
+        UserDto user = new UserDto();
+        user.setId(id);
+        user.setUsername("user" + id);
+        user.setEmail("user" + id + "@example.com");
+        user.setStatus(1);
+        user.setCreatedAt(LocalDateTime.of(2026, 1, 1, 0, 0).plusMinutes(id));
+        return user;
+    }
+
+    @Benchmark
+    public byte[] mybatisPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] pageResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
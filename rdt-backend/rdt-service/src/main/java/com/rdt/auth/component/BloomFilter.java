@@ -0,0 +1,110 @@
+package com.rdt.auth.component;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size Bloom filter over strings; thread-safe and lock-free.
+ *
+ * <p>{@link #mightContain} never returns {@code false} for a key that was {@link #put}; it returns {@code true} for
+ * an absent key with roughly the configured false-positive probability while the filter holds no more than its
+ * expected number of keys. Keys cannot be removed. Positions are derived from one 64-bit hash by double hashing
+ * (Kirsch-Mitzenmacher).
+ */
+public final class BloomFilter {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long MIX_1 = 0xff51afd7ed558ccdL;
+    private static final long MIX_2 = 0xc4ceb9fe1a85ec53L;
+    private static final int MIX_SHIFT = 33;
+    private static final int HALF_SHIFT = 32;
+    private static final int WORD_SHIFT = 6;
+    private static final int WORD_BITS = 64;
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions keys the filter is sized for
+     * @param fpp                target false-positive probability at that size, in (0, 1)
+     */
+    public BloomFilter(long expectedInsertions, double fpp) {
+        if (expectedInsertions <= 0 || fpp <= 0 || fpp >= 1) {
+            throw new IllegalArgumentException("expectedInsertions must be positive and fpp in (0, 1)");
+        }
+        double ln2 = Math.log(2);
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(fpp) / (ln2 * ln2));
+        int wordCount = Math.toIntExact((bits + WORD_BITS - 1) / WORD_BITS);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitSize = (long) wordCount * WORD_BITS;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * ln2));
+    }
+
+    /**
+     * Adds a key.
+     */
+    public void put(String key) {
+        long hash = hash(key);
+        long low = (int) hash;
+        long high = hash >>> HALF_SHIFT;
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = Math.floorMod(low + i * high, bitSize);
+            int word = (int) (bit >>> WORD_SHIFT);
+            long mask = 1L << bit;
+            long current = words.get(word);
+            while ((current & mask) == 0 && !words.weakCompareAndSetVolatile(word, current, current | mask)) {
+                current = words.get(word);
+            }
+        }
+    }
+
+    /**
+     * Returns {@code false} if the key was definitely never added.
+     */
+    public boolean mightContain(String key) {
+        long hash = hash(key);
+        long low = (int) hash;
+        long high = hash >>> HALF_SHIFT;
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = Math.floorMod(low + i * high, bitSize);
+            if ((words.get((int) (bit >>> WORD_SHIFT)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * False-positive probability at the current fill: (set bits / total bits) ^ hash functions.
+     */
+    public double expectedFpp() {
+        long set = 0;
+        for (int i = 0; i < words.length(); i++) {
+            set += Long.bitCount(words.get(i));
+        }
+        return Math.pow((double) set / bitSize, hashCount);
+    }
+
+    /**
+     * Size of the bit array in bytes.
+     */
+    public long byteSize() {
+        return bitSize / Byte.SIZE;
+    }
+
+    private static long hash(String key) {
+        // FNV-1a over the UTF-16 code units, finished with the MurmurHash3 64-bit mixer
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        hash ^= hash >>> MIX_SHIFT;
+        hash *= MIX_1;
+        hash ^= hash >>> MIX_SHIFT;
+        hash *= MIX_2;
+        hash ^= hash >>> MIX_SHIFT;
+        return hash;
+    }
+}
@@ -1,17 +1,26 @@
 package com.rdt.auth.component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.rdt.auth.config.JwtProperties;
+import com.rdt.common.util.DigestUtils;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date; // NOPMD
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -24,10 +33,20 @@ public class JwtProvider {
 
     private final JwtProperties jwtProperties;
     private Key key;
+    private JwtParser parser;
+    private Cache<String, Claims> verifiedTokens;
 
     @PostConstruct
     public void init() {
         this.key = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+        // JwtParser is immutable and thread-safe once built
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+        if (jwtProperties.getVerifiedCacheSize() > 0) {
+            this.verifiedTokens = Caffeine.newBuilder()
+                    .maximumSize(jwtProperties.getVerifiedCacheSize())
+                    .expireAfter(Expiry.creating((String digest, Claims claims) -> cacheLifetime(claims)))
+                    .build();
+        }
     }
 
     public String generateToken(String username) {
@@ -35,6 +54,17 @@ public class JwtProvider {
         return createToken(claims, username);
     }
 
+    /**
+     * Issues a token carrying additional claims (see {@code AuthConstants.CLAIM_*}).
+     *
+     * @param username subject
+     * @param claims   extra claims
+     * @return compact JWS string
+     */
+    public String generateToken(String username, Map<String, Object> claims) {
+        return createToken(new HashMap<>(claims), username);
+    }
+
     private String createToken(Map<String, Object> claims, String subject) {
         Instant now = Instant.now();
         Instant expiry = now.plus(jwtProperties.getExpiration(), ChronoUnit.MILLIS);
@@ -42,28 +72,86 @@ public class JwtProvider {
         return Jwts.builder()
                 .setClaims(claims)
                 .setSubject(subject)
+                .setId(UUID.randomUUID().toString()) // jti, the key for logout revocation
                 .setIssuedAt(Date.from(now)) // Required by JJWT
                 .setExpiration(Date.from(expiry)) // Required by JJWT
                 .signWith(key)
                 .compact();
     }
 
+    /**
+     * Verifies the token signature and expiry and returns its claims in a single parse.
+     *
+     * <p>When the verified-token cache is enabled, a token that was already verified is served from memory
+     * (keyed by its SHA-256 digest) until the earlier of its own expiry and {@code jwt.verified-cache-ttl}.
+     *
+     * @param token compact JWS string
+     * @return the verified claims (shared, treat as read-only), or empty if the token is missing, malformed,
+     *     forged or expired
+     */
+    public Optional<Claims> verify(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+        if (verifiedTokens == null) {
+            return parse(token);
+        }
+        String digest = DigestUtils.sha256Hex(token);
+        Claims cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<Claims> claims = parse(token);
+        claims.ifPresent(verified -> verifiedTokens.put(digest, verified));
+        return claims;
+    }
+
+    /**
+     * @param claims verified claims
+     * @return the token's expiry, or null if it has none
+     */
+    public Instant getExpiration(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return expiration == null ? null : expiration.toInstant();
+    }
+
+    /**
+     * @return lifetime of newly issued access tokens in seconds
+     */
+    public long getExpiresInSeconds() {
+        return jwtProperties.getExpiration() / 1000;
+    }
+
     public boolean validateToken(String token) {
+        return verify(token).isPresent();
+    }
+
+    public String getUsernameFromToken(String token) {
+        return parser.parseClaimsJws(token).getBody().getSubject();
+    }
+
+    private Optional<Claims> parse(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            return Optional.of(parser.parseClaimsJws(token).getBody());
         } catch (JwtException | IllegalArgumentException e) {
             log.error("Invalid JWT token: {}", e.getMessage());
         }
-        return false;
+        return Optional.empty();
     }
 
-    public String getUsernameFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+    /**
+     * A verified token is cached until its own {@code exp}, capped by the configured TTL.
+     */
+    private Duration cacheLifetime(Claims claims) {
+        Duration maxTtl = jwtProperties.getVerifiedCacheTtl();
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return maxTtl;
+        }
+        Duration remaining = Duration.between(Instant.now(), expiration.toInstant());
+        if (remaining.isNegative()) {
+            return Duration.ZERO;
+        }
+        return remaining.compareTo(maxTtl) < 0 ? remaining : maxTtl;
     }
 }
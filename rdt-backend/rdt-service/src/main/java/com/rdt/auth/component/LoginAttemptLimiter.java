@@ -0,0 +1,154 @@
+package com.rdt.auth.component;
+
+import com.rdt.auth.config.LoginRateLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.util.Locale;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory login throttling, consulted before any database or BCrypt work.
+ *
+ * <ul>
+ *   <li>Token buckets per client IP and per username cap the rate of login attempts; an empty bucket rejects the
+ *       attempt outright.
+ *   <li>Consecutive password failures per username are counted here instead of in {@code sys_user}, so a brute-force
+ *       run costs no writes until the lockout threshold is reached.
+ * </ul>
+ *
+ * <p>Usernames are keyed stripped and lowercased: {@code sys_user.username} compares case-insensitively, so "Admin" and
+ * "ADMIN" are the same account and must share one bucket and one failure count.
+ *
+ * <p>State lives in {@link StripedLruMap}s: lock-striped and bounded. It is per node, so with N nodes an account
+ * tolerates up to N times the configured failures before the database lock (which every node honours) kicks in.
+ */
+@Component
+public final class LoginAttemptLimiter {
+
+    private static final double MILLIS_PER_MINUTE = 60_000d;
+
+    private final int ipCapacity;
+    private final int ipRefillPerMinute;
+    private final int userCapacity;
+    private final int userRefillPerMinute;
+    private final long failureWindowMillis;
+    private final Clock clock;
+    private final StripedLruMap<TokenBucket> ipBuckets;
+    private final StripedLruMap<TokenBucket> userBuckets;
+    private final StripedLruMap<Failures> failures;
+    private final Counter ipThrottled;
+    private final Counter userThrottled;
+
+    @Autowired
+    public LoginAttemptLimiter(LoginRateLimitProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, Clock.systemUTC());
+    }
+
+    public LoginAttemptLimiter(LoginRateLimitProperties properties, MeterRegistry meterRegistry, Clock clock) {
+        this.ipCapacity = properties.getIpCapacity();
+        this.ipRefillPerMinute = properties.getIpRefillPerMinute();
+        this.userCapacity = properties.getUserCapacity();
+        this.userRefillPerMinute = properties.getUserRefillPerMinute();
+        this.failureWindowMillis = properties.getFailureWindow().toMillis();
+        this.clock = clock;
+        this.ipBuckets = new StripedLruMap<>(properties.getStripes(), properties.getMaxEntries());
+        this.userBuckets = new StripedLruMap<>(properties.getStripes(), properties.getMaxEntries());
+        this.failures = new StripedLruMap<>(properties.getStripes(), properties.getMaxEntries());
+        this.ipThrottled = Counter.builder("auth.login.throttled")
+                .tag("scope", "ip")
+                .description("Login attempts rejected by the rate limiter")
+                .register(meterRegistry);
+        this.userThrottled = Counter.builder("auth.login.throttled")
+                .tag("scope", "user")
+                .description("Login attempts rejected by the rate limiter")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Takes one token from the client IP's and the username's buckets.
+     *
+     * @param username submitted username
+     * @param clientIp client address, may be null
+     * @return false if either bucket is empty and the attempt must be rejected
+     */
+    public boolean tryAcquire(String username, String clientIp) {
+        long now = clock.millis();
+        if (clientIp != null
+                && !ipBuckets.compute(
+                        clientIp,
+                        () -> new TokenBucket(ipCapacity, now),
+                        bucket -> bucket.tryConsume(now, ipCapacity, ipRefillPerMinute))) {
+            ipThrottled.increment();
+            return false;
+        }
+        if (!userBuckets.compute(
+                key(username),
+                () -> new TokenBucket(userCapacity, now),
+                bucket -> bucket.tryConsume(now, userCapacity, userRefillPerMinute))) {
+            userThrottled.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Records a wrong password.
+     *
+     * @param username account name
+     * @return consecutive failures within {@code auth.login-rate-limit.failure-window}, including this one
+     */
+    public int recordFailure(String username) {
+        long now = clock.millis();
+        return failures.compute(key(username), Failures::new, f -> f.increment(now, failureWindowMillis));
+    }
+
+    /**
+     * Forgets the failures of an account (after a successful login or once it has been locked).
+     *
+     * @param username account name
+     */
+    public void reset(String username) {
+        failures.remove(key(username));
+    }
+
+    private static String key(String username) {
+        return username.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class TokenBucket {
+        private static final double COST = 1d;
+
+        private double tokens;
+        private long updatedAt;
+
+        private TokenBucket(int capacity, long now) {
+            this.tokens = capacity;
+            this.updatedAt = now;
+        }
+
+        private boolean tryConsume(long now, int capacity, int refillPerMinute) {
+            tokens = Math.min(capacity, tokens + (now - updatedAt) * refillPerMinute / MILLIS_PER_MINUTE);
+            updatedAt = now;
+            if (tokens < COST) {
+                return false;
+            }
+            tokens -= COST;
+            return true;
+        }
+    }
+
+    private static final class Failures {
+        private int count;
+        private long lastFailureAt;
+
+        private int increment(long now, long window) {
+            if (now - lastFailureAt > window) {
+                count = 0;
+            }
+            lastFailureAt = now;
+            return ++count;
+        }
+    }
+}
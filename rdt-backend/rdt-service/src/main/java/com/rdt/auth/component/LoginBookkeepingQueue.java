@@ -0,0 +1,188 @@
+package com.rdt.auth.component;
+
+import com.rdt.auth.config.LoginBookkeepingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Write-behind queue for the bookkeeping a successful login leaves on {@code sys_user}.
+ *
+ * <p>Logins only record {@code (userId, loginTime)} in memory; repeated logins of the same user before the next
+ * flush coalesce into one entry keeping the latest time. Every {@code auth.login-bookkeeping.flush-interval} the
+ * pending entries are written with a single batched statement that sets {@code last_login_time} and clears
+ * {@code failed_attempts}, so the login path never waits on a row lock. The update leaves {@code updated_at}
+ * untouched (a login is not a change to the user) and does not reset the counter of an account that got locked
+ * after the queued login.
+ *
+ * <p>Pending entries are flushed once more when the context shuts down; a failed batch is re-queued for the next
+ * flush. Only a crash can lose entries, i.e. at most one flush interval of last-login times.
+ *
+ * <p>Metrics: {@code auth.login.bookkeeping.pending} (queued users), {@code auth.login.bookkeeping.lag} (time from
+ * the first queued login of a user to its write), {@code auth.login.bookkeeping.flush} (batch write time),
+ * {@code auth.login.bookkeeping.coalesced} and {@code auth.login.bookkeeping.failed}.
+ */
+@Slf4j
+@Component
+public final class LoginBookkeepingQueue {
+
+    private static final String UPDATE_SQL = "UPDATE sys_user SET"
+            + " last_login_time = GREATEST(COALESCE(last_login_time, ?), ?),"
+            + " failed_attempts = IF(status = 2, failed_attempts, 0),"
+            + " updated_at = updated_at"
+            + " WHERE id = ?";
+
+    private static final int PARAM_LOGIN_TIME = 1;
+    private static final int PARAM_LOGIN_TIME_AGAIN = 2;
+    private static final int PARAM_ID = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final Clock clock;
+    private final Map<Long, Pending> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Timer lagTimer;
+    private final Timer flushTimer;
+    private final Counter coalesced;
+    private final Counter failed;
+
+    @Autowired
+    public LoginBookkeepingQueue(
+            JdbcTemplate jdbcTemplate, LoginBookkeepingProperties properties, MeterRegistry meterRegistry) {
+        this(jdbcTemplate, properties, meterRegistry, Clock.systemDefaultZone());
+    }
+
+    public LoginBookkeepingQueue(
+            JdbcTemplate jdbcTemplate,
+            LoginBookkeepingProperties properties,
+            MeterRegistry meterRegistry,
+            Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = properties.getBatchSize();
+        this.clock = clock;
+        this.lagTimer = Timer.builder("auth.login.bookkeeping.lag")
+                .description("Time from a user's first queued login to its write to sys_user")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("auth.login.bookkeeping.flush")
+                .description("Time spent writing one flush of login bookkeeping")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("auth.login.bookkeeping.coalesced")
+                .description("Logins merged into an already queued update of the same user")
+                .register(meterRegistry);
+        this.failed = Counter.builder("auth.login.bookkeeping.failed")
+                .description("Flushes that failed and were re-queued")
+                .register(meterRegistry);
+        Gauge.builder("auth.login.bookkeeping.pending", pending, Map::size)
+                .description("Users with login bookkeeping waiting to be written")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues a successful login; returns immediately.
+     *
+     * @param userId    user id
+     * @param loginTime time of the login
+     */
+    public void recordLogin(Long userId, LocalDateTime loginTime) {
+        Pending entry = new Pending(loginTime, clock.millis());
+        pending.compute(userId, (id, queued) -> {
+            if (queued == null) {
+                return entry;
+            }
+            coalesced.increment();
+            return queued.merge(entry);
+        });
+    }
+
+    /**
+     * Writes everything queued so far. Runs on the scheduler; concurrent calls are serialised.
+     */
+    @Scheduled(fixedDelayString = "${auth.login-bookkeeping.flush-interval:500ms}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<Map.Entry<Long, Pending>> batch = drain();
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                flushTimer.record(() -> write(batch));
+            } catch (DataAccessException e) {
+                failed.increment();
+                batch.forEach(entry -> pending.merge(entry.getKey(), entry.getValue(), Pending::merge));
+                log.warn("Login bookkeeping flush of {} users failed, re-queued", batch.size(), e);
+                return;
+            }
+            long now = clock.millis();
+            batch.forEach(entry -> lagTimer.record(now - entry.getValue().queuedAt(), TimeUnit.MILLISECONDS));
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Final flush on graceful shutdown; runs before the data source is closed.
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        if (!pending.isEmpty()) {
+            log.error("Login bookkeeping for {} users could not be written before shutdown", pending.size());
+        }
+    }
+
+    /**
+     * Number of users with a queued update.
+     */
+    public int size() {
+        return pending.size();
+    }
+
+    private List<Map.Entry<Long, Pending>> drain() {
+        List<Map.Entry<Long, Pending>> batch = new ArrayList<>(pending.size());
+        for (Long userId : pending.keySet()) {
+            Pending entry = pending.remove(userId);
+            if (entry != null) {
+                batch.add(Map.entry(userId, entry));
+            }
+        }
+        return batch;
+    }
+
+    private void write(List<Map.Entry<Long, Pending>> batch) {
+        jdbcTemplate.batchUpdate(UPDATE_SQL, batch, batchSize, (ps, entry) -> {
+            Timestamp loginTime = Timestamp.valueOf(entry.getValue().loginTime());
+            ps.setTimestamp(PARAM_LOGIN_TIME, loginTime);
+            ps.setTimestamp(PARAM_LOGIN_TIME_AGAIN, loginTime);
+            ps.setLong(PARAM_ID, entry.getKey());
+        });
+    }
+
+    /**
+     * A queued login: latest login time, and when the user was first queued since the last flush.
+     */
+    private record Pending(LocalDateTime loginTime, long queuedAt) {
+
+        Pending merge(Pending other) {
+            LocalDateTime latest = loginTime.isAfter(other.loginTime) ? loginTime : other.loginTime;
+            return new Pending(latest, Math.min(queuedAt, other.queuedAt));
+        }
+    }
+}
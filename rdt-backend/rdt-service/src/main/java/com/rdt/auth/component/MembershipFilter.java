@@ -0,0 +1,184 @@
+package com.rdt.auth.component;
+
+import com.rdt.auth.config.MembershipFilterProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * "Does this key exist?" pre-check in front of a unique column, backed by a {@link BloomFilter}.
+ *
+ * <p>A {@code false} from {@link #mightContain} is definite, so the caller can skip the database; {@code true} still
+ * needs the query. Writers {@link #add} a key before the row is written, so a committed key is never missed; rolled
+ * back, deleted or renamed keys only cost false positives until the next {@link #rebuild}. Keys written on other
+ * nodes are pulled in by {@link #sync}. Until the first rebuild completes every key is reported as possibly present.
+ *
+ * <p>Metrics, tagged {@code filter}: {@code membership.filter.checks} ({@code result=absent|present}),
+ * {@code membership.filter.false.positives} (reported by callers), {@code membership.filter.fpp} (expected rate at
+ * the current fill), {@code membership.filter.bytes} and {@code membership.filter.keys}.
+ */
+@Slf4j
+public final class MembershipFilter {
+
+    private static final int GROWTH_FACTOR = 2;
+    private static final String TAG_FILTER = "filter";
+
+    private final String name;
+    private final double fpp;
+    private final int minExpectedInsertions;
+    private final long syncLookbackNanos;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final AtomicLong keys = new AtomicLong();
+    private final AtomicLong lastSyncNanos = new AtomicLong();
+    private final Counter absent;
+    private final Counter present;
+    private final Counter falsePositives;
+    private final AtomicReference<BloomFilter> current = new AtomicReference<>();
+
+    /** Keys added while a rebuild is loading (or before the first one); guarded by {@link #writeLock}. */
+    private final List<String> addedDuringRebuild = new ArrayList<>();
+
+    /** Whether a rebuild is loading; guarded by {@link #writeLock}. */
+    private boolean rebuilding = true;
+
+    public MembershipFilter(String name, MembershipFilterProperties properties, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.fpp = properties.getFpp();
+        this.minExpectedInsertions = properties.getMinExpectedInsertions();
+        this.syncLookbackNanos = properties.getSyncLookback().toNanos();
+        this.absent = checks(meterRegistry, "absent");
+        this.present = checks(meterRegistry, "present");
+        this.falsePositives = Counter.builder("membership.filter.false.positives")
+                .tag(TAG_FILTER, name)
+                .description("Keys the filter reported as possibly present that the database did not have")
+                .register(meterRegistry);
+        Gauge.builder(
+                        "membership.filter.fpp",
+                        current,
+                        ref -> ref.get() == null ? 1.0 : ref.get().expectedFpp())
+                .tag(TAG_FILTER, name)
+                .description("Expected false-positive probability at the current fill")
+                .register(meterRegistry);
+        Gauge.builder(
+                        "membership.filter.bytes",
+                        current,
+                        ref -> ref.get() == null ? 0 : ref.get().byteSize())
+                .tag(TAG_FILTER, name)
+                .description("Memory used by the filter's bit array")
+                .register(meterRegistry);
+        Gauge.builder("membership.filter.keys", keys, AtomicLong::get)
+                .tag(TAG_FILTER, name)
+                .description("Keys added since the last rebuild, including the rebuild itself")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns {@code false} only if the key definitely does not exist.
+     */
+    public boolean mightContain(String key) {
+        BloomFilter filter = current.get();
+        if (filter == null) {
+            return true;
+        }
+        boolean result = filter.mightContain(key);
+        (result ? present : absent).increment();
+        return result;
+    }
+
+    /**
+     * Registers a key; call before the row carrying it is written.
+     */
+    public void add(String key) {
+        writeLock.lock();
+        try {
+            BloomFilter filter = current.get();
+            if (filter != null) {
+                filter.put(key);
+                keys.incrementAndGet();
+            }
+            if (rebuilding) {
+                addedDuringRebuild.add(key);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Reports that {@link #mightContain} returned {@code true} for a key the database did not have.
+     */
+    public void recordFalsePositive() {
+        if (current.get() != null) {
+            falsePositives.increment();
+        }
+    }
+
+    /**
+     * Replaces the filter with one built from every current key, sized for twice their number.
+     *
+     * @param allKeys loads every existing key
+     */
+    public void rebuild(Supplier<? extends Collection<String>> allKeys) {
+        writeLock.lock();
+        try {
+            rebuilding = true;
+        } finally {
+            writeLock.unlock();
+        }
+        final long startedAt = System.nanoTime();
+        Collection<String> loaded = allKeys.get();
+        BloomFilter fresh = new BloomFilter(Math.max(minExpectedInsertions, (long) loaded.size() * GROWTH_FACTOR), fpp);
+        loaded.forEach(fresh::put);
+        writeLock.lock();
+        try {
+            addedDuringRebuild.forEach(fresh::put);
+            keys.set(loaded.size() + addedDuringRebuild.size());
+            addedDuringRebuild.clear();
+            rebuilding = false;
+            current.set(fresh);
+        } finally {
+            writeLock.unlock();
+        }
+        lastSyncNanos.compareAndSet(0, startedAt);
+        log.info("Membership filter '{}' rebuilt: {} keys, {} bytes", name, loaded.size(), fresh.byteSize());
+    }
+
+    /**
+     * Adds keys written (possibly on other nodes) since the previous sync, looking back a little further.
+     *
+     * @param keysUpdatedWithin loads keys whose rows changed within the given number of seconds
+     */
+    public void sync(LongFunction<? extends Collection<String>> keysUpdatedWithin) {
+        long previous = lastSyncNanos.get();
+        if (previous == 0) {
+            return; // not built yet; the first rebuild loads everything
+        }
+        long startedAt = System.nanoTime();
+        long windowSeconds = TimeUnit.NANOSECONDS.toSeconds(startedAt - previous + syncLookbackNanos) + 1;
+        BloomFilter filter = current.get();
+        for (String key : keysUpdatedWithin.apply(windowSeconds)) {
+            if (!filter.mightContain(key)) {
+                add(key);
+            }
+        }
+        lastSyncNanos.set(startedAt);
+    }
+
+    private Counter checks(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("membership.filter.checks")
+                .tag(TAG_FILTER, name)
+                .tag("result", result)
+                .description("Existence checks answered by the filter")
+                .register(meterRegistry);
+    }
+}
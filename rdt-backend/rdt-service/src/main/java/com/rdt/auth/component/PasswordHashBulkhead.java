@@ -0,0 +1,85 @@
+package com.rdt.auth.component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs password verification on a dedicated, bounded executor.
+ *
+ * <p>BCrypt is deliberately slow and CPU-bound; on servlet threads a burst of logins would starve every other
+ * endpoint. Here it is capped at {@code auth.password-hashing.pool-size} threads plus a bounded queue, and once
+ * both are full new verifications fail fast with {@link RejectedExecutionException} (reported as 503) instead of
+ * piling up.
+ *
+ * <p>Metrics: {@code auth.password.hash} (hashing time), {@code auth.password.hash.wait} (time queued),
+ * {@code auth.password.hash.queue} (queue depth) and {@code auth.password.hash.rejected}.
+ */
+@Slf4j
+@Component
+public final class PasswordHashBulkhead {
+
+    /** Name of the executor bean backing the bulkhead. */
+    public static final String EXECUTOR_BEAN = "passwordHashExecutor";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor executor;
+    private final Timer hashTimer;
+    private final Timer waitTimer;
+    private final Counter rejected;
+
+    public PasswordHashBulkhead(
+            PasswordEncoder passwordEncoder,
+            @Qualifier(EXECUTOR_BEAN) ThreadPoolTaskExecutor executor,
+            MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+        this.hashTimer = Timer.builder("auth.password.hash")
+                .description("Time spent verifying a password hash")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("auth.password.hash.wait")
+                .description("Time a password verification waited for a bulkhead thread")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("auth.password.hash.rejected")
+                .description("Password verifications shed because the bulkhead was full")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hash.queue", executor, e -> e.getThreadPoolExecutor()
+                        .getQueue()
+                        .size())
+                .description("Password verifications waiting for a bulkhead thread")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Verifies a raw password against its stored hash on the bulkhead.
+     *
+     * @param rawPassword     password as entered
+     * @param encodedPassword stored hash
+     * @return future completing with the match result, or failed with {@link RejectedExecutionException} when the
+     *     bulkhead is saturated
+     */
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        long queuedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(
+                    () -> {
+                        waitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                        return hashTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+                    },
+                    executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("Password hashing bulkhead saturated, login rejected");
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
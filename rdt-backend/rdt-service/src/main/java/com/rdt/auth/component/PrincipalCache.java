@@ -0,0 +1,83 @@
+package com.rdt.auth.component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rdt.auth.config.PrincipalCacheProperties;
+import com.rdt.common.util.TransactionUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded, time-expiring cache of {@link UserDetails} keyed by username.
+ *
+ * <p>Sits in front of the user lookup done for every authenticated request. Writers that change a user's
+ * credentials, status or existence must call {@link #evict(String)}; the entry is dropped immediately and again
+ * once the surrounding transaction completes, so a concurrent reload cannot keep the pre-commit row cached.
+ */
+@Slf4j
+@Component
+public class PrincipalCache {
+
+    public static final String CACHE_NAME = "auth.principal";
+
+    private final Cache<String, UserDetails> cache;
+
+    public PrincipalCache(PrincipalCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns the cached principal, loading it with {@code loader} on a miss.
+     *
+     * @param username the username
+     * @param loader   database lookup used on a miss; exceptions propagate and nothing is cached
+     * @return the principal
+     */
+    public UserDetails get(String username, Function<String, UserDetails> loader) {
+        return cache.get(username, loader);
+    }
+
+    /**
+     * Drops the cached principal now and, if a transaction is active, again when it completes.
+     *
+     * @param username the username whose entry is stale
+     */
+    public void evict(String username) {
+        if (username == null) {
+            return;
+        }
+        invalidate(username);
+        TransactionUtils.afterCompletion(() -> invalidate(username));
+    }
+
+    /**
+     * Bulk variant of {@link #evict(String)}.
+     *
+     * @param usernames the usernames whose entries are stale
+     */
+    public void evictAll(Collection<String> usernames) {
+        if (usernames.isEmpty()) {
+            return;
+        }
+        List<String> keys = List.copyOf(usernames);
+        cache.invalidateAll(keys);
+        TransactionUtils.afterCompletion(() -> cache.invalidateAll(keys));
+        log.debug("Evicted {} cached principals", keys.size());
+    }
+
+    private void invalidate(String username) {
+        cache.invalidate(username);
+        log.debug("Evicted cached principal '{}'", username);
+    }
+}
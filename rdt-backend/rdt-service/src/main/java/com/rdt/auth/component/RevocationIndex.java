@@ -0,0 +1,81 @@
+package com.rdt.auth.component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory set of revoked token ids that forgets each id once its token has expired.
+ *
+ * <p>{@link #contains(String)} is a single {@link ConcurrentHashMap} lookup: O(1) and lock-free, so it is safe on
+ * the per-request authentication path. Writes and expiry share a lock around the {@link TimingWheel}, which keeps
+ * memory proportional to the number of tokens that are revoked and not yet expired.
+ */
+public class RevocationIndex {
+
+    private static final long TICK_MILLIS = 1000L;
+    private static final int WHEEL_SIZE = 64;
+
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+    private final ReentrantLock wheelLock = new ReentrantLock();
+    private final TimingWheel<String> wheel;
+    private final Clock clock;
+
+    public RevocationIndex() {
+        this(Clock.systemUTC());
+    }
+
+    public RevocationIndex(Clock clock) {
+        this.clock = clock;
+        this.wheel = new TimingWheel<>(TICK_MILLIS, WHEEL_SIZE, clock.millis());
+    }
+
+    /**
+     * Marks a token id as revoked until the token's own expiry.
+     *
+     * @param jti       token id
+     * @param expiresAt token expiry; ids of already expired tokens are ignored
+     */
+    public void add(String jti, Instant expiresAt) {
+        if (!expiresAt.isAfter(clock.instant())) {
+            return;
+        }
+        wheelLock.lock();
+        try {
+            if (revoked.putIfAbsent(jti, expiresAt) == null && !wheel.schedule(jti, expiresAt.toEpochMilli())) {
+                revoked.remove(jti);
+            }
+        } finally {
+            wheelLock.unlock();
+        }
+    }
+
+    /**
+     * @param jti token id, may be null
+     * @return true if the id was revoked and its token has not expired yet
+     */
+    public boolean contains(String jti) {
+        return jti != null && revoked.containsKey(jti);
+    }
+
+    /**
+     * Drops every id whose token has expired.
+     */
+    public void expire() {
+        wheelLock.lock();
+        try {
+            wheel.advance(clock.millis(), revoked::remove);
+        } finally {
+            wheelLock.unlock();
+        }
+    }
+
+    /**
+     * @return number of revoked, unexpired token ids
+     */
+    public int size() {
+        return revoked.size();
+    }
+}
@@ -0,0 +1,121 @@
+package com.rdt.auth.component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Bounded map split into independently locked stripes.
+ *
+ * <p>A key always hashes to the same stripe, so {@link #compute} is atomic per key while unrelated keys rarely
+ * contend. Each stripe is an access-ordered {@link LinkedHashMap} that drops its least recently used entry once it
+ * holds {@code maxEntries / stripes} keys, which keeps memory bounded when keys are attacker controlled (client
+ * IPs, usernames).
+ *
+ * @param <V> mutable per-key state, only touched under its stripe's lock
+ */
+public final class StripedLruMap<V> {
+
+    private static final int HASH_SPREAD_SHIFT = 16;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final List<Stripe<V>> stripes;
+
+    /**
+     * @param stripeCount number of stripes (locks)
+     * @param maxEntries  total capacity across all stripes
+     */
+    public StripedLruMap(int stripeCount, int maxEntries) {
+        if (stripeCount < 1 || maxEntries < stripeCount) {
+            throw new IllegalArgumentException("stripeCount must be positive and maxEntries at least stripeCount");
+        }
+        int perStripe = maxEntries / stripeCount;
+        this.stripes = new ArrayList<>(stripeCount);
+        for (int i = 0; i < stripeCount; i++) {
+            stripes.add(new Stripe<>(perStripe));
+        }
+    }
+
+    /**
+     * Applies {@code action} to the key's state under the stripe lock, creating the state first if absent.
+     *
+     * @param key     key
+     * @param factory creates the initial state
+     * @param action  reads or updates the state
+     * @param <R>     result type
+     * @return the action's result
+     */
+    public <R> R compute(String key, Supplier<V> factory, Function<V, R> action) {
+        Stripe<V> stripe = stripeFor(key);
+        stripe.lock.lock();
+        try {
+            return action.apply(stripe.entries.computeIfAbsent(key, k -> factory.get()));
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * @param key key to forget
+     */
+    public void remove(String key) {
+        Stripe<V> stripe = stripeFor(key);
+        stripe.lock.lock();
+        try {
+            stripe.entries.remove(key);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * @return number of tracked keys (approximate under concurrent updates)
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe<V> stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.entries.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private Stripe<V> stripeFor(String key) {
+        int hash = key.hashCode();
+        return stripes.get(Math.floorMod(hash ^ (hash >>> HASH_SPREAD_SHIFT), stripes.size()));
+    }
+
+    private static final class Stripe<V> {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<String, V> entries;
+
+        private Stripe(int capacity) {
+            this.entries = new LruMap<>(capacity);
+        }
+    }
+
+    private static final class LruMap<V> extends LinkedHashMap<String, V> {
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+
+        private LruMap(int capacity) {
+            super(INITIAL_CAPACITY, LOAD_FACTOR, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+            return size() > capacity;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.rdt.auth.component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel for expiring keys at a deadline.
+ *
+ * <p>Level {@code i} has {@code wheelSize} buckets of {@code tickMillis * wheelSize^i} each; levels are added on
+ * demand, so scheduling and expiring are O(1) amortised regardless of how far out a deadline is. Entries cascade
+ * to finer levels as their bucket comes due and are reported through the callback of {@link #advance} no earlier
+ * than their deadline and at most one tick after it.
+ *
+ * <p>Not thread-safe; callers serialise access.
+ *
+ * @param <K> key type
+ */
+public final class TimingWheel<K> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final List<List<ArrayDeque<Entry<K>>>> levels = new ArrayList<>();
+    private long currentTime;
+    private int scheduled;
+
+    /**
+     * @param tickMillis  resolution of the finest level
+     * @param wheelSize   buckets per level
+     * @param startMillis initial clock value (epoch millis)
+     */
+    public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException("tickMillis must be positive and wheelSize at least 2");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.currentTime = startMillis - Math.floorMod(startMillis, tickMillis);
+        levels.add(newLevel());
+    }
+
+    /**
+     * Schedules a key for expiry.
+     *
+     * @param key            key
+     * @param deadlineMillis epoch millis at which the key may be expired
+     * @return false if the deadline has already passed (nothing was scheduled)
+     */
+    public boolean schedule(K key, long deadlineMillis) {
+        if (!place(new Entry<>(key, deadlineMillis))) {
+            return false;
+        }
+        scheduled++;
+        return true;
+    }
+
+    /**
+     * Moves the clock forward and expires every key whose deadline is before {@code nowMillis}.
+     *
+     * @param nowMillis epoch millis
+     * @param onExpired receives each expired key
+     */
+    public void advance(long nowMillis, Consumer<K> onExpired) {
+        while (currentTime + tickMillis <= nowMillis) {
+            currentTime += tickMillis;
+            // Finest level first: the slot that just ended holds deadlines in [currentTime - tick, currentTime)
+            // and is reused for the far end of the window, so it must be empty before anything cascades into it.
+            cascade(levels.get(0).get(index(currentTime - tickMillis, tickMillis)), onExpired);
+            long levelTick = tickMillis;
+            for (int level = 1; level < levels.size(); level++) {
+                levelTick *= wheelSize;
+                if (currentTime % levelTick == 0) {
+                    cascade(levels.get(level).get(index(currentTime, levelTick)), onExpired);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return number of scheduled keys
+     */
+    public int size() {
+        return scheduled;
+    }
+
+    private void cascade(ArrayDeque<Entry<K>> bucket, Consumer<K> onExpired) {
+        Entry<K> entry = bucket.poll();
+        while (entry != null) {
+            if (!place(entry)) {
+                scheduled--;
+                onExpired.accept(entry.key);
+            }
+            entry = bucket.poll();
+        }
+    }
+
+    private boolean place(Entry<K> entry) {
+        if (entry.deadline < currentTime) {
+            return false;
+        }
+        long levelTick = tickMillis;
+        for (int level = 0; ; level++) {
+            if (level == levels.size()) {
+                levels.add(newLevel());
+            }
+            long levelStart = currentTime - currentTime % levelTick;
+            if (entry.deadline < levelStart + levelTick * wheelSize) {
+                levels.get(level).get(index(entry.deadline, levelTick)).add(entry);
+                return true;
+            }
+            levelTick *= wheelSize;
+        }
+    }
+
+    private int index(long time, long levelTick) {
+        return (int) ((time / levelTick) % wheelSize);
+    }
+
+    private List<ArrayDeque<Entry<K>>> newLevel() {
+        List<ArrayDeque<Entry<K>>> buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new ArrayDeque<>());
+        }
+        return buckets;
+    }
+
+    private record Entry<K>(K key, long deadline) {}
+}
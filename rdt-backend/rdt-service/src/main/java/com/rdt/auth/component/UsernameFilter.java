@@ -0,0 +1,73 @@
+package com.rdt.auth.component;
+
+import com.rdt.auth.config.MembershipFilterProperties;
+import com.rdt.auth.mapper.UserMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Locale;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link MembershipFilter} over {@code sys_user.username}: lets logins with unknown usernames (credential
+ * stuffing) skip the database.
+ *
+ * <p>{@code sys_user.username} uses a case-insensitive collation, so "Admin" finds the row "admin"; keys are
+ * lower-cased on every path in and out of the filter to agree with it.
+ */
+@Component
+public final class UsernameFilter {
+
+    private final UserMapper userMapper;
+    private final MembershipFilter filter;
+
+    public UsernameFilter(UserMapper userMapper, MembershipFilterProperties properties, MeterRegistry meterRegistry) {
+        this.userMapper = userMapper;
+        this.filter = new MembershipFilter("username", properties, meterRegistry);
+    }
+
+    /**
+     * Returns {@code false} only if no user has this username.
+     */
+    public boolean mightExist(String username) {
+        return filter.mightContain(key(username));
+    }
+
+    /**
+     * Registers a username about to be inserted.
+     */
+    public void add(String username) {
+        filter.add(key(username));
+    }
+
+    /**
+     * Reports a username the filter let through but the database did not have.
+     */
+    public void recordFalsePositive() {
+        filter.recordFalsePositive();
+    }
+
+    /**
+     * Builds the filter at startup and periodically drops deleted usernames.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${auth.membership-filter.rebuild-interval:6h}")
+    public void rebuild() {
+        filter.rebuild(() -> keys(userMapper.selectAllUsernames()));
+    }
+
+    /**
+     * Picks up users created on other nodes.
+     */
+    @Scheduled(fixedDelayString = "${auth.membership-filter.sync-interval:5s}")
+    public void sync() {
+        filter.sync(seconds -> keys(userMapper.selectUsernamesUpdatedWithin(seconds)));
+    }
+
+    private static String key(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    private static List<String> keys(List<String> usernames) {
+        return usernames.stream().map(UsernameFilter::key).toList();
+    }
+}
@@ -0,0 +1,17 @@
+package com.rdt.auth.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "bulk")
+public class BulkOperationProperties {
+
+    /**
+     * Ids per statement of a bulk operation: one {@code SELECT ... FOR UPDATE} and one {@code UPDATE ... IN} each,
+     * keeping statements and lock lists short
+     */
+    private int chunkSize = 500;
+}
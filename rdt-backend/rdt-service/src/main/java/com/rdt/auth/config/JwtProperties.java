@@ -1,5 +1,6 @@
 package com.rdt.auth.config;
 
+import java.time.Duration;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
@@ -18,4 +19,25 @@ public class JwtProperties {
      * JWT Expiration time in milliseconds
      */
     private long expiration;
+
+    /**
+     * Stateless mode: authenticate from the token's own claims (uid, status, authorities, token version)
+     * instead of loading the user on every request
+     */
+    private boolean stateless;
+
+    /**
+     * Maximum number of verified tokens kept in memory (0 disables the cache)
+     */
+    private long verifiedCacheSize;
+
+    /**
+     * Upper bound on how long a verified token is cached; entries never outlive the token itself
+     */
+    private Duration verifiedCacheTtl = Duration.ofMinutes(1);
+
+    /**
+     * Lifetime of refresh tokens; each refresh rotates the token and restarts this lifetime
+     */
+    private Duration refreshExpiration = Duration.ofDays(14);
 }
@@ -0,0 +1,22 @@
+package com.rdt.auth.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "auth.login-bookkeeping")
+public class LoginBookkeepingProperties {
+
+    /**
+     * How often pending last-login updates are written to sys_user (upper bound on how stale last_login_time is)
+     */
+    private Duration flushInterval = Duration.ofMillis(500);
+
+    /**
+     * Rows per JDBC batch when flushing
+     */
+    private int batchSize = 500;
+}
@@ -0,0 +1,21 @@
+package com.rdt.auth.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "auth.login-executor")
+public class LoginExecutorProperties {
+
+    /**
+     * Threads finishing logins after the password check; each holds a database connection while it runs
+     */
+    private int poolSize = 8;
+
+    /**
+     * Logins allowed to wait for a thread; beyond this they are rejected (503) rather than run on a bulkhead thread
+     */
+    private int queueCapacity = 64;
+}
@@ -0,0 +1,47 @@
+package com.rdt.auth.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "auth.login-rate-limit")
+public class LoginRateLimitProperties {
+
+    /**
+     * Burst of login attempts allowed from one client IP
+     */
+    private int ipCapacity = 20;
+
+    /**
+     * Login attempts per minute a client IP regains
+     */
+    private int ipRefillPerMinute = 10;
+
+    /**
+     * Burst of login attempts allowed for one username (from any IP)
+     */
+    private int userCapacity = 10;
+
+    /**
+     * Login attempts per minute a username regains
+     */
+    private int userRefillPerMinute = 5;
+
+    /**
+     * Consecutive failures are forgotten after this long without a new failure
+     */
+    private Duration failureWindow = Duration.ofMinutes(30);
+
+    /**
+     * Number of independently locked stripes per table
+     */
+    private int stripes = 64;
+
+    /**
+     * Upper bound on tracked keys per table; the least recently used keys are dropped beyond it
+     */
+    private int maxEntries = 100_000;
+}
@@ -0,0 +1,37 @@
+package com.rdt.auth.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "auth.membership-filter")
+public class MembershipFilterProperties {
+
+    /**
+     * Target false-positive probability of each filter
+     */
+    private double fpp = 0.01;
+
+    /**
+     * Smallest number of keys a filter is sized for; filters are sized for twice the loaded keys beyond that
+     */
+    private int minExpectedInsertions = 10_000;
+
+    /**
+     * How often keys written on other nodes are pulled in (by updated_at)
+     */
+    private Duration syncInterval = Duration.ofSeconds(5);
+
+    /**
+     * How often filters are rebuilt from scratch, dropping keys that were deleted or renamed
+     */
+    private Duration rebuildInterval = Duration.ofHours(6);
+
+    /**
+     * How far each sync looks back before the previous one, covering commit delays and clock skew with the database
+     */
+    private Duration syncLookback = Duration.ofMinutes(1);
+}
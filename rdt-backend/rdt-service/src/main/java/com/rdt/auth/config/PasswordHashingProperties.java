@@ -0,0 +1,22 @@
+package com.rdt.auth.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "auth.password-hashing")
+public class PasswordHashingProperties {
+
+    /**
+     * Threads dedicated to password verification (BCrypt is CPU-bound, so more than the core count only adds
+     * contention)
+     */
+    private int poolSize = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Verifications allowed to wait for a thread; beyond this logins are rejected immediately
+     */
+    private int queueCapacity = 64;
+}
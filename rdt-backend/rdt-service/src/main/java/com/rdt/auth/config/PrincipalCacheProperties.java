@@ -0,0 +1,22 @@
+package com.rdt.auth.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "auth.principal-cache")
+public class PrincipalCacheProperties {
+
+    /**
+     * Maximum number of cached principals
+     */
+    private long maxSize = 10_000L;
+
+    /**
+     * Time after which a cached principal is reloaded from the database
+     */
+    private Duration ttl = Duration.ofMinutes(5);
+}
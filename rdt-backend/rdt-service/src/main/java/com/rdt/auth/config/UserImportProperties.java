@@ -0,0 +1,27 @@
+package com.rdt.auth.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "auth.user-import")
+public class UserImportProperties {
+
+    /**
+     * Rows checked, hashed and inserted together: one uniqueness query, one parallel hashing pass and one JDBC
+     * batch each
+     */
+    private int chunkSize = 500;
+
+    /**
+     * Fork-join threads hashing imported passwords (half the cores by default, leaving the rest to logins)
+     */
+    private int hashParallelism = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    /**
+     * Rejected rows listed in the report; further rejections are only counted
+     */
+    private int maxErrors = 1000;
+}
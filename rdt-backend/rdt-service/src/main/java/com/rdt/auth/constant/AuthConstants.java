@@ -0,0 +1,29 @@
+package com.rdt.auth.constant;
+
+/**
+ * 认证相关常量.
+ */
+public final class AuthConstants {
+
+    /** Authority granted to every console user. */
+    public static final String ROLE_ADMIN = "ROLE_ADMIN";
+
+    /** JWT claim: user id. */
+    public static final String CLAIM_USER_ID = "uid";
+
+    /** JWT claim: user status at issue time (1=正常). */
+    public static final String CLAIM_STATUS = "status";
+
+    /** JWT claim: granted authorities. */
+    public static final String CLAIM_AUTHORITIES = "auth";
+
+    /** JWT claim: sys_user.token_version at issue time. */
+    public static final String CLAIM_TOKEN_VERSION = "ver";
+
+    /** JWT claim: refresh-token family (one per login), revoked together with the access token on logout. */
+    public static final String CLAIM_SESSION_ID = "sid";
+
+    private AuthConstants() {
+        // Prevent instantiation
+    }
+}
@@ -0,0 +1,26 @@
+package com.rdt.auth.convert;
+
+import com.rdt.auth.model.dto.UserDto;
+import com.rdt.auth.model.entity.SysUser;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+import org.mapstruct.factory.Mappers;
+
+/**
+ * 用户实体到 DTO 的转换 (MapStruct 编译期生成实现).
+ *
+ * <p>The generated {@code UserConverterImpl} is plain getter/setter calls: no per-row introspection or reflective
+ * invocation. Only the columns the API exposes are copied; credentials, lock state and sort keys never leave the
+ * service. A {@link UserDto} property without a source fails the build.
+ */
+@Mapper(unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface UserConverter {
+
+    UserConverter INSTANCE = Mappers.getMapper(UserConverter.class);
+
+    /**
+     * @param user entity, may be {@code null}
+     * @return DTO, or {@code null} for a {@code null} entity
+     */
+    UserDto toDto(SysUser user);
+}
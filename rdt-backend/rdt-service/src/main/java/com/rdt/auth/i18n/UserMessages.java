@@ -39,7 +39,22 @@ public enum UserMessages implements I18nKey {
     /**
      * Update user failed.
      */
-    UPDATE_FAILED("error.user.update.failed");
+    UPDATE_FAILED("error.user.update.failed"),
+
+    /**
+     * User changed since the version the update was based on.
+     */
+    VERSION_CONFLICT("error.user.version.conflict"),
+
+    /**
+     * Imported username repeats an earlier row of the file.
+     */
+    IMPORT_DUPLICATE("error.user.import.duplicate"),
+
+    /**
+     * Import file lacks a required column.
+     */
+    IMPORT_HEADER("error.user.import.header");
 
     private final String key;
 }
@@ -0,0 +1,43 @@
+package com.rdt.auth.mapper;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.rdt.auth.model.entity.SysRefreshToken;
+import java.time.LocalDateTime;
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
+
+@Mapper
+public interface RefreshTokenMapper extends BaseMapper<SysRefreshToken> {
+
+    /**
+     * The token row together with its (non-deleted) owner: one unique-key lookup plus a primary-key join.
+     */
+    @Select("SELECT t.id, t.user_id, t.family_id, t.token_version, t.expires_at, t.used_at, t.revoked_at,"
+            + " u.username, u.status AS user_status, u.token_version AS user_token_version"
+            + " FROM sys_refresh_token t"
+            + " LEFT JOIN sys_user u ON u.id = t.user_id AND u.deleted_at IS NULL"
+            + " WHERE t.token_hash = #{tokenHash}")
+    SysRefreshToken selectByHash(@Param("tokenHash") String tokenHash);
+
+    /**
+     * Marks a token as rotated; returns 0 if it was already used or revoked (e.g. by a concurrent refresh).
+     */
+    @Update("UPDATE sys_refresh_token SET used_at = #{now}"
+            + " WHERE id = #{id} AND used_at IS NULL AND revoked_at IS NULL")
+    int markUsed(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * Revokes every token rotated from the same login.
+     */
+    @Update("UPDATE sys_refresh_token SET revoked_at = #{now} WHERE family_id = #{familyId} AND revoked_at IS NULL")
+    int revokeFamily(@Param("familyId") String familyId, @Param("now") LocalDateTime now);
+
+    /**
+     * Removes up to {@code limit} expired rows.
+     */
+    @Delete("DELETE FROM sys_refresh_token WHERE expires_at <= #{now} LIMIT #{limit}")
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
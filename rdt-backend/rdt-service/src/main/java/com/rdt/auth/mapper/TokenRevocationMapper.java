@@ -0,0 +1,35 @@
+package com.rdt.auth.mapper;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.rdt.auth.model.entity.SysTokenRevocation;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+
+@Mapper
+public interface TokenRevocationMapper extends BaseMapper<SysTokenRevocation> {
+
+    /**
+     * Idempotent insert: revoking the same token twice is a no-op.
+     */
+    @Insert("INSERT IGNORE INTO sys_token_revocation (jti, expires_at) VALUES (#{jti}, #{expiresAt})")
+    int insertIgnore(@Param("jti") String jti, @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * Unexpired revocations recorded after {@code afterId}, oldest first.
+     */
+    @Select("SELECT id, jti, expires_at FROM sys_token_revocation"
+            + " WHERE id > #{afterId} AND expires_at > #{now} ORDER BY id LIMIT #{limit}")
+    List<SysTokenRevocation> selectSince(
+            @Param("afterId") long afterId, @Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * Removes up to {@code limit} expired rows.
+     */
+    @Delete("DELETE FROM sys_token_revocation WHERE expires_at <= #{now} LIMIT #{limit}")
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
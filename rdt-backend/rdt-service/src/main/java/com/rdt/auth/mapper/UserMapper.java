@@ -1,8 +1,71 @@
 package com.rdt.auth.mapper;
 
+import com.baomidou.mybatisplus.core.conditions.Wrapper;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.baomidou.mybatisplus.core.toolkit.Constants;
+import com.rdt.auth.model.dto.UserDto;
 import com.rdt.auth.model.entity.SysUser;
+import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.mapping.ResultSetType;
 
 @Mapper
-public interface UserMapper extends BaseMapper<SysUser> {}
+public interface UserMapper extends BaseMapper<SysUser> {
+
+    /**
+     * Invalidates every token issued so far to the users matching {@code wrapper} (deleted users included).
+     */
+    @Update("UPDATE sys_user SET token_version = token_version + 1 ${ew.customSqlSegment}")
+    int incrementTokenVersions(@Param(Constants.WRAPPER) Wrapper<SysUser> wrapper);
+
+    /**
+     * Users whose tokens are not all valid: bumped versions and soft-deleted rows (bypasses @TableLogic).
+     */
+    @Select("SELECT id, token_version, deleted_at FROM sys_user WHERE token_version > 0 OR deleted_at IS NOT NULL")
+    List<SysUser> selectTokenVersions();
+
+    /**
+     * Every active username, for building the username membership filter.
+     */
+    @Select("SELECT username FROM sys_user WHERE deleted_at IS NULL")
+    List<String> selectAllUsernames();
+
+    /**
+     * Active usernames whose row changed within the last {@code seconds} (database clock).
+     */
+    @Select("SELECT username FROM sys_user"
+            + " WHERE deleted_at IS NULL AND updated_at >= NOW() - INTERVAL #{seconds} SECOND")
+    List<String> selectUsernamesUpdatedWithin(@Param("seconds") long seconds);
+
+    /**
+     * Up to {@code limit} rows (soft-deleted included) whose username keys were computed under a key version below
+     * {@code keyVersion} (or never), with an id above {@code afterId}, in id order.
+     */
+    @Select("SELECT id, username FROM sys_user"
+            + " WHERE username_key_version < #{keyVersion} AND id > #{afterId} ORDER BY id LIMIT #{limit}")
+    List<SysUser> selectStaleUsernameKeys(
+            @Param("keyVersion") int keyVersion, @Param("afterId") long afterId, @Param("limit") int limit);
+
+    /**
+     * Usernames among the rows matching {@code wrapper}, soft-deleted users included: the unique key on
+     * {@code username} ignores {@code deleted_at}, so their names are still taken.
+     */
+    @Select("SELECT username FROM sys_user ${ew.customSqlSegment}")
+    List<String> selectUsernames(@Param(Constants.WRAPPER) Wrapper<SysUser> wrapper);
+
+    /**
+     * Every active user as a {@link UserDto}, in id order, streamed row by row: {@code Integer.MIN_VALUE} is the
+     * MySQL driver's signal to stream a forward-only result set instead of buffering it. Must be read inside a
+     * transaction (the cursor closes with the session), and nothing else can run on the connection until it is
+     * closed.
+     */
+    @Select("SELECT id, username, email, avatar, status, version, created_at, last_login_time FROM sys_user"
+            + " WHERE deleted_at IS NULL ORDER BY id")
+    @Options(resultSetType = ResultSetType.FORWARD_ONLY, fetchSize = Integer.MIN_VALUE)
+    Cursor<UserDto> selectExportCursor();
+}
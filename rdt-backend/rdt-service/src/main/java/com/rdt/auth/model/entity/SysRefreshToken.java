@@ -0,0 +1,101 @@
+package com.rdt.auth.model.entity;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableField;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * <p>
+ * 刷新令牌表 (只保存令牌摘要, 明文仅在签发时返回给客户端)
+ * </p>
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@TableName("sys_refresh_token")
+public class SysRefreshToken implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 主键ID
+     */
+    @TableId(value = "id", type = IdType.AUTO)
+    private Long id;
+
+    /**
+     * 用户ID
+     */
+    @TableField("user_id")
+    private Long userId;
+
+    /**
+     * 令牌族ID: 同一次登录轮换出的所有刷新令牌共享, 检测到重放时整族吊销
+     */
+    @TableField("family_id")
+    private String familyId;
+
+    /**
+     * 令牌摘要 (SHA-256 十六进制)
+     */
+    @TableField("token_hash")
+    private String tokenHash;
+
+    /**
+     * 签发时的用户令牌版本, 与 sys_user.token_version 不一致即失效
+     */
+    @TableField("token_version")
+    private Integer tokenVersion;
+
+    /**
+     * 过期时间
+     */
+    @TableField("expires_at")
+    private LocalDateTime expiresAt;
+
+    /**
+     * 轮换时间, 非空表示已使用
+     */
+    @TableField("used_at")
+    private LocalDateTime usedAt;
+
+    /**
+     * 吊销时间
+     */
+    @TableField("revoked_at")
+    private LocalDateTime revokedAt;
+
+    /**
+     * 创建时间
+     */
+    @TableField("created_at")
+    private LocalDateTime createdAt;
+
+    /**
+     * 用户名 (关联 sys_user, 用户已删除时为空)
+     */
+    @TableField(exist = false)
+    private String username;
+
+    /**
+     * 用户当前状态 (关联 sys_user)
+     */
+    @TableField(exist = false)
+    private Integer userStatus;
+
+    /**
+     * 用户当前令牌版本 (关联 sys_user)
+     */
+    @TableField(exist = false)
+    private Integer userTokenVersion;
+}
@@ -0,0 +1,53 @@
+package com.rdt.auth.model.entity;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableField;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * <p>
+ * 令牌吊销表 (多节点共享的登出记录)
+ * </p>
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@TableName("sys_token_revocation")
+public class SysTokenRevocation implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 主键ID (单调递增, 各节点据此增量同步)
+     */
+    @TableId(value = "id", type = IdType.AUTO)
+    private Long id;
+
+    /**
+     * 令牌ID (JWT jti)
+     */
+    @TableField("jti")
+    private String jti;
+
+    /**
+     * 令牌过期时间, 过期后记录可清理
+     */
+    @TableField("expires_at")
+    private LocalDateTime expiresAt;
+
+    /**
+     * 创建时间
+     */
+    @TableField("created_at")
+    private LocalDateTime createdAt;
+}
@@ -1,10 +1,12 @@
 package com.rdt.auth.model.entity;
 
+import com.baomidou.mybatisplus.annotation.FieldStrategy;
 import com.baomidou.mybatisplus.annotation.IdType;
 import com.baomidou.mybatisplus.annotation.TableField;
 import com.baomidou.mybatisplus.annotation.TableId;
 import com.baomidou.mybatisplus.annotation.TableLogic;
 import com.baomidou.mybatisplus.annotation.TableName;
+import com.baomidou.mybatisplus.annotation.Version;
 import java.io.Serializable;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
@@ -27,6 +29,7 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 @TableName("sys_user")
+@SuppressWarnings("PMD.TooManyFields") // one field per sys_user column
 public class SysUser implements Serializable {
 
     private static final long serialVersionUID = 1L;
@@ -43,6 +46,24 @@ public class SysUser implements Serializable {
     @TableField("username")
     private String username;
 
+    /**
+     * 用户名拼音首字母 (不含汉字时为空, 写入时计算)
+     */
+    @TableField("username_initials")
+    private String usernameInitials;
+
+    /**
+     * 用户名排序键 (简体中文拼音排序规则, 写入时计算)
+     */
+    @TableField("username_sort_key")
+    private byte[] usernameSortKey;
+
+    /**
+     * 计算上面两个键所用的规则版本 (PinyinUtils.KEY_VERSION), 低于当前版本的行由启动回填重算
+     */
+    @TableField("username_key_version")
+    private Integer usernameKeyVersion;
+
     /**
      * 邮箱
      */
@@ -67,6 +88,13 @@ public class SysUser implements Serializable {
     @TableField("status")
     private Integer status;
 
+    /**
+     * 乐观锁版本号 (编辑时带上读取到的值, 每次编辑递增)
+     */
+    @Version
+    @TableField("version")
+    private Integer version;
+
     /**
      * 连续失败次数
      */
@@ -85,6 +113,12 @@ public class SysUser implements Serializable {
     @TableField("last_login_time")
     private LocalDateTime lastLoginTime;
 
+    /**
+     * 令牌版本号 (仅通过 UserMapper#incrementTokenVersions 递增, updateById 不回写)
+     */
+    @TableField(value = "token_version", updateStrategy = FieldStrategy.NEVER)
+    private Integer tokenVersion;
+
     /**
      * 创建时间
      */
@@ -92,9 +126,9 @@ public class SysUser implements Serializable {
     private LocalDateTime createdAt;
 
     /**
-     * 更新时间
+     * 更新时间 (由数据库 DEFAULT / ON UPDATE 维护, 与成员过滤器同步同用数据库时钟; 实体写入不回写)
      */
-    @TableField("updated_at")
+    @TableField(value = "updated_at", insertStrategy = FieldStrategy.NEVER, updateStrategy = FieldStrategy.NEVER)
     private LocalDateTime updatedAt;
 
     /**
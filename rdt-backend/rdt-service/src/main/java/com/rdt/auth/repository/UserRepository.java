@@ -3,6 +3,16 @@ package com.rdt.auth.repository;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.rdt.auth.model.entity.SysUser;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Update;
 
 @Mapper
-public interface UserRepository extends BaseMapper<SysUser> {}
+public interface UserRepository extends BaseMapper<SysUser> {
+
+    /**
+     * Lifts an expired lock; a no-op unless the account is still locked.
+     */
+    @Update("UPDATE sys_user SET status = 1, failed_attempts = 0, lock_expire_time = NULL"
+            + " WHERE id = #{id} AND status = 2")
+    int unlock(@Param("id") Long id);
+}
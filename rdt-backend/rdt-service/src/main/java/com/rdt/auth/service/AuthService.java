@@ -2,9 +2,39 @@ package com.rdt.auth.service;
 
 import com.rdt.auth.model.dto.LoginReq;
 import com.rdt.auth.model.dto.LoginResp;
+import com.rdt.auth.model.dto.RefreshTokenReq;
+import java.util.concurrent.CompletableFuture;
 
 public interface AuthService {
-    LoginResp login(LoginReq req);
 
-    void logout();
+    /**
+     * Name of the bounded executor that finishes a login (transaction, token signing) after the password check.
+     */
+    String LOGIN_EXECUTOR_BEAN = "loginExecutor";
+
+    /**
+     * Authenticates a user. Throttled attempts and unknown, disabled or locked accounts are rejected synchronously;
+     * the password check runs on the password-hashing bulkhead.
+     *
+     * @param req      login request
+     * @param clientIp client address used for per-IP rate limiting, may be null
+     * @return future completing with the token pair, or failing with a {@code BusinessException} for bad
+     *     credentials or a {@code RejectedExecutionException} when the bulkhead or the login executor is saturated
+     */
+    CompletableFuture<LoginResp> login(LoginReq req, String clientIp);
+
+    /**
+     * Exchanges a refresh token for a new access token and a new refresh token (the old one is consumed).
+     *
+     * @param req refresh request
+     * @return fresh token pair
+     */
+    LoginResp refresh(RefreshTokenReq req);
+
+    /**
+     * Revokes the given access token until it expires. Missing, invalid or already expired tokens are ignored.
+     *
+     * @param token compact JWS string (without the {@code Bearer } prefix), may be null
+     */
+    void logout(String token);
 }
@@ -0,0 +1,46 @@
+package com.rdt.auth.service;
+
+import com.rdt.auth.model.entity.SysRefreshToken;
+
+/**
+ * Opaque, rotating refresh tokens.
+ *
+ * <p>Tokens are high-entropy random strings, so they are stored as a plain SHA-256 digest: a refresh is one
+ * indexed lookup and never pays for a password hash.
+ */
+public interface RefreshTokenService {
+
+    /**
+     * Issues a new refresh token.
+     *
+     * @param userId       owner
+     * @param tokenVersion owner's current token version; the token dies when the version moves on
+     * @param familyId     login the token belongs to (a fresh id on login, the previous token's on rotation)
+     * @return the plaintext token, returned to the client once and never stored
+     */
+    String issue(Long userId, int tokenVersion, String familyId);
+
+    /**
+     * Consumes a refresh token so it cannot be used again.
+     *
+     * <p>Presenting a token that was already rotated is treated as theft: the whole family is revoked, which also
+     * logs out whoever holds the newer token.
+     *
+     * @param token plaintext token
+     * @return the consumed row with its owner's current username, status and token version
+     * @throws com.rdt.common.exception.BusinessException if the token is unknown, expired, revoked or reused
+     */
+    SysRefreshToken rotate(String token);
+
+    /**
+     * Revokes every refresh token of one login.
+     *
+     * @param familyId family id
+     */
+    void revokeFamily(String familyId);
+
+    /**
+     * @return lifetime of newly issued refresh tokens in seconds
+     */
+    long getExpiresInSeconds();
+}
@@ -0,0 +1,28 @@
+package com.rdt.auth.service;
+
+import java.time.Instant;
+
+/**
+ * 令牌吊销服务.
+ *
+ * <p>Keyed by the token id ({@code jti}); entries are forgotten once the token expires. The backend is chosen with
+ * {@code jwt.revocation.store}: {@code memory} for a single node, {@code jdbc} to share revocations across nodes.
+ */
+public interface TokenRevocationService {
+
+    /**
+     * Revokes a token until its expiry.
+     *
+     * @param jti       token id
+     * @param expiresAt token expiry
+     */
+    void revoke(String jti, Instant expiresAt);
+
+    /**
+     * Hot-path check used by the authentication filter: O(1), lock-free, no I/O.
+     *
+     * @param jti token id, may be null
+     * @return true if the token was revoked
+     */
+    boolean isRevoked(String jti);
+}
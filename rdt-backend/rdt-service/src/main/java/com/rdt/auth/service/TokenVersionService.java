@@ -0,0 +1,41 @@
+package com.rdt.auth.service;
+
+import java.util.Collection;
+
+/**
+ * 令牌版本服务.
+ *
+ * <p>Stateless JWT revocation: every token carries the user's {@code token_version} at issue time, and a token
+ * is only accepted while that version is still current. Lockout, disable and delete bump the version.
+ */
+public interface TokenVersionService {
+
+    /**
+     * Checks a token's version claim against the in-memory version table (no database access).
+     *
+     * @param userId       user id claim
+     * @param tokenVersion version claim
+     * @return true if no lockout, disable or delete happened after the token was issued
+     */
+    boolean isCurrent(Long userId, int tokenVersion);
+
+    /**
+     * Revokes all tokens issued to the user so far. Takes effect locally once the transaction commits and on
+     * other nodes at their next refresh.
+     *
+     * @param userId user id
+     */
+    void bump(Long userId);
+
+    /**
+     * Bulk variant of {@link #bump}: one statement for all the users.
+     *
+     * @param userIds user ids
+     */
+    void bumpAll(Collection<Long> userIds);
+
+    /**
+     * Reloads the version table from the database.
+     */
+    void refresh();
+}
@@ -0,0 +1,34 @@
+package com.rdt.auth.service;
+
+import com.rdt.common.model.BulkResult;
+import java.util.List;
+
+/**
+ * Set-based user operations: one statement per chunk of ids instead of a read and a write per user.
+ */
+public interface UserBulkService {
+
+    /**
+     * Re-enables disabled users; locked users are left to their lock expiry.
+     *
+     * @param ids user ids (unknown and deleted ones are ignored)
+     * @return matched and enabled counts
+     */
+    BulkResult enableUsers(List<Long> ids);
+
+    /**
+     * Disables users and revokes their tokens.
+     *
+     * @param ids user ids (unknown and deleted ones are ignored)
+     * @return matched and disabled counts
+     */
+    BulkResult disableUsers(List<Long> ids);
+
+    /**
+     * Soft-deletes users and revokes their tokens.
+     *
+     * @param ids user ids (unknown and deleted ones are ignored)
+     * @return matched and deleted counts
+     */
+    BulkResult deleteUsers(List<Long> ids);
+}
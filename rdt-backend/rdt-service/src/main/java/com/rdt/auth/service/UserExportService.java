@@ -0,0 +1,17 @@
+package com.rdt.auth.service;
+
+import com.rdt.auth.model.dto.UserDto;
+import java.util.function.Consumer;
+
+public interface UserExportService {
+
+    /**
+     * Streams every active user to {@code sink} in id order, over a database cursor inside one read-only
+     * transaction: memory use does not grow with the row count, and a connection is held until the last row has been
+     * consumed.
+     *
+     * @param sink receives each user; a slow sink slows the read down rather than letting rows pile up
+     * @return number of users exported
+     */
+    long exportUsers(Consumer<UserDto> sink);
+}
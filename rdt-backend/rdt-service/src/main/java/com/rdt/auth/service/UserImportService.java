@@ -0,0 +1,23 @@
+package com.rdt.auth.service;
+
+import com.rdt.auth.model.dto.UserImportReport;
+import com.rdt.auth.model.dto.UserImportRow;
+import java.util.Iterator;
+
+public interface UserImportService {
+
+    /**
+     * Name of the fork-join pool bean hashing imported passwords.
+     */
+    String HASH_POOL_BEAN = "userImportHashPool";
+
+    /**
+     * Creates the users of {@code rows} chunk by chunk while they are still being read, so the upload is never held
+     * in memory. Each chunk commits on its own: rows rejected by validation or because the username is taken are
+     * reported, the rest are created.
+     *
+     * @param rows rows in file order
+     * @return counts, rejected rows and throughput
+     */
+    UserImportReport importUsers(Iterator<UserImportRow> rows);
+}
@@ -1,9 +1,11 @@
 package com.rdt.auth.service;
 
-import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.rdt.api.model.dto.PageResponse;
 import com.rdt.auth.model.dto.CreateUserReq;
 import com.rdt.auth.model.dto.UpdateUserReq;
 import com.rdt.auth.model.dto.UserDto;
+import com.rdt.common.model.CursorPage;
+import com.rdt.common.model.PageParams;
 
 public interface UserService {
 
@@ -49,10 +51,19 @@ public interface UserService {
     /**
      * Page query users
      *
-     * @param page    current page
-     * @param size    page size
+     * @param params  page, size and count mode
      * @param keyword search keyword
      * @return page result
      */
-    Page<UserDto> getUsers(int page, int size, String keyword);
+    PageResponse<UserDto> getUsers(PageParams params, String keyword);
+
+    /**
+     * Keyset page of users, newest first: seeks past {@code cursor} instead of counting and skipping rows
+     *
+     * @param cursor  cursor of the previous page, blank for the first page
+     * @param size    page size
+     * @param keyword search keyword
+     * @return page with the next cursor
+     */
+    CursorPage<UserDto> getUsersAfter(String cursor, int size, String keyword);
 }
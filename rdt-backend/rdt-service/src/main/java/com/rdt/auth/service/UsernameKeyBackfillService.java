@@ -0,0 +1,13 @@
+package com.rdt.auth.service;
+
+/**
+ * Fills in, or recomputes, the pinyin initials and sort keys of usernames written before those columns existed or
+ * under older key rules ({@code PinyinUtils.KEY_VERSION}).
+ */
+public interface UsernameKeyBackfillService {
+
+    /**
+     * Computes the keys of every user whose key version is behind, in place; runs once after startup.
+     */
+    void backfill();
+}
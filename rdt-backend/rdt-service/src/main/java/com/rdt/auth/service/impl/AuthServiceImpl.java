@@ -2,38 +2,71 @@ package com.rdt.auth.service.impl;
 
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.rdt.auth.component.JwtProvider;
+import com.rdt.auth.component.LoginAttemptLimiter;
+import com.rdt.auth.component.LoginBookkeepingQueue;
+import com.rdt.auth.component.PasswordHashBulkhead;
+import com.rdt.auth.component.PrincipalCache;
+import com.rdt.auth.component.UsernameFilter;
+import com.rdt.auth.constant.AuthConstants;
 import com.rdt.auth.model.dto.LoginReq;
 import com.rdt.auth.model.dto.LoginResp;
+import com.rdt.auth.model.dto.RefreshTokenReq;
+import com.rdt.auth.model.entity.SysRefreshToken;
 import com.rdt.auth.model.entity.SysUser;
 import com.rdt.auth.repository.UserRepository;
 import com.rdt.auth.service.AuthService;
+import com.rdt.auth.service.RefreshTokenService;
+import com.rdt.auth.service.TokenRevocationService;
+import com.rdt.auth.service.TokenVersionService;
 import com.rdt.common.exception.BusinessException;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(rollbackFor = Exception.class)
 public class AuthServiceImpl implements AuthService {
 
     private final UserRepository userRepository;
     private final JwtProvider jwtProvider;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashBulkhead passwordHashBulkhead;
+    // Continues a login once its hash is checked, so the bulkhead threads only ever run BCrypt
+    @Qualifier(AuthService.LOGIN_EXECUTOR_BEAN)
+    private final Executor loginExecutor;
+
+    private final LoginAttemptLimiter loginAttemptLimiter;
+    private final LoginBookkeepingQueue loginBookkeepingQueue;
+    private final TransactionTemplate transactionTemplate;
+    private final PrincipalCache principalCache;
+    private final UsernameFilter usernameFilter;
+    private final TokenVersionService tokenVersionService;
+    private final TokenRevocationService tokenRevocationService;
+    private final RefreshTokenService refreshTokenService;
 
     // Error Codes
     private static final int ERR_USER_OR_PASS = 11_001;
     private static final int ERR_ACCOUNT_LOCKED = 11_004;
     private static final int ERR_ACCOUNT_DISABLED = 11_005;
+    private static final int ERR_REFRESH_TOKEN_INVALID = 11_006;
+    private static final int ERR_TOO_MANY_ATTEMPTS = 11_007;
+    private static final String MSG_BAD_CREDENTIALS = "Invalid username or password";
 
     // Policy Constants
     private static final int MAX_FAILED_ATTEMPTS = 5;
     private static final int LOCK_TIME_MINUTES = 30;
-    private static final long TOKEN_EXPIRE_SECONDS = 7200L;
 
     // Status Constants
     private static final int STATUS_DISABLED = 0;
@@ -41,24 +74,45 @@ public class AuthServiceImpl implements AuthService {
     private static final int STATUS_LOCKED = 2;
 
     @Override
-    public LoginResp login(LoginReq req) {
-        // 1. Check User
+    public CompletableFuture<LoginResp> login(LoginReq req, String clientIp) {
+        // 0. Rate limit per client IP and username, before any database or BCrypt work
+        if (!loginAttemptLimiter.tryAcquire(req.getUsername(), clientIp)) {
+            log.warn("Login throttled: username '{}', client {}", req.getUsername(), clientIp);
+            throw new BusinessException(ERR_TOO_MANY_ATTEMPTS, "Too many login attempts, please try again later");
+        }
+
+        // 1. Check User (cheap checks stay on the request thread and fail synchronously)
+        if (!usernameFilter.mightExist(req.getUsername())) {
+            log.warn("Login failed: Username '{}' not found", req.getUsername());
+            throw new BusinessException(ERR_USER_OR_PASS, MSG_BAD_CREDENTIALS);
+        }
         SysUser user =
                 userRepository.selectOne(new LambdaQueryWrapper<SysUser>().eq(SysUser::getUsername, req.getUsername()));
 
         if (user == null) {
+            usernameFilter.recordFalsePositive();
             log.warn("Login failed: Username '{}' not found", req.getUsername());
-            throw new BusinessException(ERR_USER_OR_PASS, "Invalid username or password");
+            throw new BusinessException(ERR_USER_OR_PASS, MSG_BAD_CREDENTIALS);
         }
 
-        checkUserStatus(user);
-        verifyPassword(req.getPassword(), user);
-
-        // 4. Login Success
-        return processLoginSuccess(user);
+        boolean unlocked = checkUserStatus(user);
+
+        // 2. Verify password on the BCrypt bulkhead; the transaction, token signing and refresh-token insert run
+        //    on the login executor, so bulkhead capacity is not bounded by database latency. When that executor is
+        //    full the login fails with RejectedExecutionException (503) instead of running on the bulkhead thread
+        return passwordHashBulkhead
+                .matches(req.getPassword(), user.getPassword())
+                .thenApplyAsync(
+                        matched -> matched
+                                ? transactionTemplate.execute(status -> processLoginSuccess(user, unlocked))
+                                : processLoginFailure(user),
+                        loginExecutor);
     }
 
-    private void checkUserStatus(SysUser user) {
+    /**
+     * Rejects disabled and locked accounts; returns whether an expired lock was lifted.
+     */
+    private boolean checkUserStatus(SysUser user) {
         if (user.getStatus() == STATUS_DISABLED) {
             log.warn("Login failed: Account '{}' is disabled", user.getUsername());
             throw new BusinessException(ERR_ACCOUNT_DISABLED, "Account is disabled");
@@ -73,38 +127,94 @@ public class AuthServiceImpl implements AuthService {
             user.setStatus(STATUS_NORMAL);
             user.setFailedAttempts(0);
             user.setLockExpireTime(null);
+            principalCache.evict(user.getUsername());
+            return true;
         }
+        return false;
     }
 
-    private void verifyPassword(String rawPassword, SysUser user) {
-        if (!passwordEncoder.matches(rawPassword, user.getPassword())) {
-            int attempts = (user.getFailedAttempts() == null ? 0 : user.getFailedAttempts()) + 1;
-            user.setFailedAttempts(attempts);
-            if (attempts >= MAX_FAILED_ATTEMPTS) {
-                user.setStatus(STATUS_LOCKED);
-                user.setLockExpireTime(LocalDateTime.now().plusMinutes(LOCK_TIME_MINUTES));
-                userRepository.updateById(user);
-                log.warn("Account '{}' locked due to {} failed attempts", user.getUsername(), attempts);
-                throw new BusinessException(ERR_ACCOUNT_LOCKED, "Account locked due to too many failed attempts");
-            }
-            userRepository.updateById(user);
+    private LoginResp processLoginFailure(SysUser user) {
+        // Failures are counted in memory; sys_user is only written once the account gets locked
+        int attempts = loginAttemptLimiter.recordFailure(user.getUsername());
+        if (attempts < MAX_FAILED_ATTEMPTS) {
             log.warn("Login failed: Invalid password for user '{}', attempts: {}", user.getUsername(), attempts);
-            throw new BusinessException(ERR_USER_OR_PASS, "Invalid username or password");
+            throw new BusinessException(ERR_USER_OR_PASS, MSG_BAD_CREDENTIALS);
         }
+        // Only the lock columns, and without the version: a lock is not an edit and must not fail on one
+        SysUser lock = SysUser.builder()
+                .id(user.getId())
+                .failedAttempts(attempts)
+                .status(STATUS_LOCKED)
+                .lockExpireTime(LocalDateTime.now().plusMinutes(LOCK_TIME_MINUTES))
+                .build();
+        // Committed before the exception is thrown, so the lock survives it
+        transactionTemplate.executeWithoutResult(status -> {
+            userRepository.updateById(lock);
+            tokenVersionService.bump(user.getId());
+            principalCache.evict(user.getUsername());
+        });
+        loginAttemptLimiter.reset(user.getUsername());
+        log.warn("Account '{}' locked due to {} failed attempts", user.getUsername(), attempts);
+        throw new BusinessException(ERR_ACCOUNT_LOCKED, "Account locked due to too many failed attempts");
     }
 
-    private LoginResp processLoginSuccess(SysUser user) {
-        user.setFailedAttempts(0);
-        user.setLockExpireTime(null);
-        user.setLastLoginTime(LocalDateTime.now());
-        userRepository.updateById(user);
+    private LoginResp processLoginSuccess(SysUser user, boolean unlocked) {
+        loginAttemptLimiter.reset(user.getUsername());
+        if (unlocked) {
+            // Lifting a lock must be visible at once (principals are reloaded from sys_user), so it is not deferred
+            userRepository.unlock(user.getId());
+        }
+        // last_login_time and the attempt reset are written behind, batched with other logins
+        LocalDateTime now = LocalDateTime.now();
+        user.setLastLoginTime(now);
+        loginBookkeepingQueue.recordLogin(user.getId(), now);
 
-        // 5. Generate Token
-        String token = jwtProvider.generateToken(user.getUsername());
+        // 5. Generate Tokens: a new refresh-token family starts with every login
+        return issueTokens(user, UUID.randomUUID().toString());
+    }
+
+    @Override
+    // A detected reuse revokes the family and must survive the BusinessException that reports it
+    @Transactional(rollbackFor = Exception.class, noRollbackFor = BusinessException.class)
+    public LoginResp refresh(RefreshTokenReq req) {
+        // One indexed lookup, no password hashing: the refresh token itself is the credential
+        SysRefreshToken consumed = refreshTokenService.rotate(req.getRefreshToken());
+        int tokenVersion = Objects.requireNonNullElse(consumed.getTokenVersion(), 0);
+        boolean userValid = consumed.getUsername() != null
+                && Objects.equals(consumed.getUserStatus(), STATUS_NORMAL)
+                && Objects.equals(consumed.getUserTokenVersion(), tokenVersion);
+        if (!userValid) {
+            // Deleted, disabled or locked since the login (locking and deletion also bump token_version)
+            refreshTokenService.revokeFamily(consumed.getFamilyId());
+            log.warn("Refresh rejected: user {} is no longer active", consumed.getUserId());
+            throw new BusinessException(ERR_REFRESH_TOKEN_INVALID, "Refresh token is invalid or expired");
+        }
+        SysUser user = SysUser.builder()
+                .id(consumed.getUserId())
+                .username(consumed.getUsername())
+                .status(STATUS_NORMAL)
+                .tokenVersion(tokenVersion)
+                .build();
+        return issueTokens(user, consumed.getFamilyId());
+    }
+
+    private LoginResp issueTokens(SysUser user, String familyId) {
+        int tokenVersion = Objects.requireNonNullElse(user.getTokenVersion(), 0);
+        // Claims let the filter authenticate statelessly
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(AuthConstants.CLAIM_USER_ID, user.getId());
+        claims.put(AuthConstants.CLAIM_STATUS, user.getStatus());
+        claims.put(AuthConstants.CLAIM_AUTHORITIES, List.of(AuthConstants.ROLE_ADMIN));
+        claims.put(AuthConstants.CLAIM_TOKEN_VERSION, tokenVersion);
+        claims.put(AuthConstants.CLAIM_SESSION_ID, familyId);
+        String token = jwtProvider.generateToken(user.getUsername(), claims);
+        String refreshToken = refreshTokenService.issue(user.getId(), tokenVersion, familyId);
 
         return LoginResp.builder()
                 .token(token)
-                .expiresIn(TOKEN_EXPIRE_SECONDS) // 2h from JwtProvider
+                .expiresIn(jwtProvider.getExpiresInSeconds())
+                .refreshToken(refreshToken)
+                .refreshExpiresIn(refreshTokenService.getExpiresInSeconds())
                 .user(LoginResp.UserInfo.builder()
                         .id(user.getId())
                         .username(user.getUsername())
@@ -114,7 +224,20 @@ public class AuthServiceImpl implements AuthService {
     }
 
     @Override
-    public void logout() {
-        // Implementation needed
+    @Transactional(rollbackFor = Exception.class)
+    public void logout(String token) {
+        jwtProvider.verify(token).ifPresent(claims -> {
+            Instant expiresAt = jwtProvider.getExpiration(claims);
+            if (claims.getId() == null || expiresAt == null) {
+                log.warn("Logout ignored: token for '{}' has no id or expiry", claims.getSubject());
+                return;
+            }
+            tokenRevocationService.revoke(claims.getId(), expiresAt);
+            String familyId = claims.get(AuthConstants.CLAIM_SESSION_ID, String.class);
+            if (familyId != null) {
+                refreshTokenService.revokeFamily(familyId);
+            }
+            log.info("User '{}' logged out, token revoked until {}", claims.getSubject(), expiresAt);
+        });
     }
 }
@@ -0,0 +1,44 @@
+package com.rdt.auth.service.impl;
+
+import com.rdt.auth.component.RevocationIndex;
+import com.rdt.auth.service.TokenRevocationService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Single-node revocation store: everything lives in this JVM's {@link RevocationIndex}.
+ */
+@Service
+@ConditionalOnProperty(prefix = "jwt.revocation", name = "store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryTokenRevocationServiceImpl implements TokenRevocationService {
+
+    private final RevocationIndex index = new RevocationIndex();
+
+    public InMemoryTokenRevocationServiceImpl(MeterRegistry meterRegistry) {
+        Gauge.builder("auth.token.revocations", index, RevocationIndex::size)
+                .description("Revoked tokens that have not expired yet")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void revoke(String jti, Instant expiresAt) {
+        index.add(jti, expiresAt);
+    }
+
+    @Override
+    public boolean isRevoked(String jti) {
+        return index.contains(jti);
+    }
+
+    /**
+     * Advances the timing wheel; expired ids are dropped within a second of their token's expiry.
+     */
+    @Scheduled(fixedRate = 1000)
+    public void expire() {
+        index.expire();
+    }
+}
@@ -0,0 +1,93 @@
+package com.rdt.auth.service.impl;
+
+import com.rdt.auth.component.RevocationIndex;
+import com.rdt.auth.mapper.TokenRevocationMapper;
+import com.rdt.auth.model.entity.SysTokenRevocation;
+import com.rdt.auth.service.TokenRevocationService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Multi-node revocation store backed by {@code sys_token_revocation}.
+ *
+ * <p>Lookups never touch the database: each node mirrors the table into a local {@link RevocationIndex}, pulling
+ * rows by increasing id every {@code jwt.revocation.sync-interval}. Revocations made on this node are visible
+ * locally at once; on other nodes after their next sync.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "jwt.revocation", name = "store", havingValue = "jdbc")
+public class JdbcTokenRevocationServiceImpl implements TokenRevocationService {
+
+    private static final int BATCH_SIZE = 1000;
+
+    /** Re-read window for ids that were allocated earlier but committed after the last sync. */
+    private static final long LOOKBACK_IDS = 100L;
+
+    private final TokenRevocationMapper tokenRevocationMapper;
+    private final RevocationIndex index = new RevocationIndex();
+    private final AtomicLong lastSeenId = new AtomicLong();
+
+    public JdbcTokenRevocationServiceImpl(TokenRevocationMapper tokenRevocationMapper, MeterRegistry meterRegistry) {
+        this.tokenRevocationMapper = tokenRevocationMapper;
+        Gauge.builder("auth.token.revocations", index, RevocationIndex::size)
+                .description("Revoked tokens that have not expired yet")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void revoke(String jti, Instant expiresAt) {
+        tokenRevocationMapper.insertIgnore(jti, LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()));
+        index.add(jti, expiresAt);
+    }
+
+    @Override
+    public boolean isRevoked(String jti) {
+        return index.contains(jti);
+    }
+
+    /**
+     * Pulls revocations recorded by any node since the last sync.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${jwt.revocation.sync-interval:5s}")
+    public void sync() {
+        long afterId = Math.max(0L, lastSeenId.get() - LOOKBACK_IDS);
+        List<SysTokenRevocation> rows;
+        do {
+            rows = tokenRevocationMapper.selectSince(afterId, LocalDateTime.now(), BATCH_SIZE);
+            for (SysTokenRevocation row : rows) {
+                index.add(
+                        row.getJti(),
+                        row.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant());
+                afterId = row.getId();
+            }
+        } while (rows.size() == BATCH_SIZE);
+        lastSeenId.accumulateAndGet(afterId, Math::max);
+        index.expire();
+    }
+
+    /**
+     * Deletes rows whose tokens have expired.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval:10m}")
+    public void purge() {
+        int deleted;
+        int total = 0;
+        do {
+            deleted = tokenRevocationMapper.deleteExpired(LocalDateTime.now(), BATCH_SIZE);
+            total += deleted;
+        } while (deleted == BATCH_SIZE);
+        if (total > 0) {
+            log.info("Purged {} expired token revocations", total);
+        }
+    }
+}
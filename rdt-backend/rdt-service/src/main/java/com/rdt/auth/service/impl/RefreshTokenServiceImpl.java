@@ -0,0 +1,95 @@
+package com.rdt.auth.service.impl;
+
+import com.rdt.auth.config.JwtProperties;
+import com.rdt.auth.mapper.RefreshTokenMapper;
+import com.rdt.auth.model.entity.SysRefreshToken;
+import com.rdt.auth.service.RefreshTokenService;
+import com.rdt.common.exception.BusinessException;
+import com.rdt.common.util.DigestUtils;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+
+    private static final int ERR_REFRESH_TOKEN_INVALID = 11_006;
+    private static final int TOKEN_BYTES = 32;
+    private static final int PURGE_BATCH_SIZE = 1000;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenMapper refreshTokenMapper;
+    private final JwtProperties jwtProperties;
+
+    @Override
+    public String issue(Long userId, int tokenVersion, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        refreshTokenMapper.insert(SysRefreshToken.builder()
+                .userId(userId)
+                .familyId(familyId)
+                .tokenHash(DigestUtils.sha256Hex(token))
+                .tokenVersion(tokenVersion)
+                .expiresAt(LocalDateTime.now().plus(jwtProperties.getRefreshExpiration()))
+                .build());
+        return token;
+    }
+
+    @Override
+    public SysRefreshToken rotate(String token) {
+        SysRefreshToken row = refreshTokenMapper.selectByHash(DigestUtils.sha256Hex(token));
+        if (row == null || row.getRevokedAt() != null) {
+            throw invalid();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (row.getUsedAt() != null || refreshTokenMapper.markUsed(row.getId(), now) == 0) {
+            // A rotated token came back: either the client or an attacker holds a stale copy, revoke both
+            log.warn(
+                    "Refresh token reuse detected for user {}, revoking family {}", row.getUserId(), row.getFamilyId());
+            refreshTokenMapper.revokeFamily(row.getFamilyId(), now);
+            throw invalid();
+        }
+        if (!row.getExpiresAt().isAfter(now)) {
+            throw invalid();
+        }
+        return row;
+    }
+
+    @Override
+    public void revokeFamily(String familyId) {
+        refreshTokenMapper.revokeFamily(familyId, LocalDateTime.now());
+    }
+
+    @Override
+    public long getExpiresInSeconds() {
+        return jwtProperties.getRefreshExpiration().toSeconds();
+    }
+
+    /**
+     * Deletes rows whose tokens have expired; revoked and used rows go with them.
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh-purge-interval:1h}")
+    public void purge() {
+        int deleted;
+        int total = 0;
+        do {
+            deleted = refreshTokenMapper.deleteExpired(LocalDateTime.now(), PURGE_BATCH_SIZE);
+            total += deleted;
+        } while (deleted == PURGE_BATCH_SIZE);
+        if (total > 0) {
+            log.info("Purged {} expired refresh tokens", total);
+        }
+    }
+
+    private BusinessException invalid() {
+        return new BusinessException(ERR_REFRESH_TOKEN_INVALID, "Refresh token is invalid or expired");
+    }
+}
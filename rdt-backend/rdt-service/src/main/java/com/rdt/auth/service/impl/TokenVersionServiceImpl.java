@@ -0,0 +1,80 @@
+package com.rdt.auth.service.impl;
+
+import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
+import com.rdt.auth.mapper.UserMapper;
+import com.rdt.auth.model.entity.SysUser;
+import com.rdt.auth.service.TokenVersionService;
+import com.rdt.common.util.TransactionUtils;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps an immutable snapshot of {@code userId -> token_version} for users whose version was ever bumped.
+ *
+ * <p>Readers on the authentication hot path only dereference the snapshot; writers (rare) copy it. The snapshot
+ * reloads itself on a fixed delay so bumps made on other nodes are picked up. Versions only grow, so local and
+ * loaded values are merged by maximum.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenVersionServiceImpl implements TokenVersionService {
+
+    /** Soft-deleted users: no token is ever current again. */
+    private static final int DELETED = Integer.MAX_VALUE;
+
+    private final UserMapper userMapper;
+    private final AtomicReference<Map<Long, Integer>> versions = new AtomicReference<>(Map.of());
+
+    @Override
+    public boolean isCurrent(Long userId, int tokenVersion) {
+        return tokenVersion >= versions.get().getOrDefault(userId, 0);
+    }
+
+    @Override
+    public void bump(Long userId) {
+        bumpAll(List.of(userId));
+    }
+
+    @Override
+    public void bumpAll(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(userIds);
+        userMapper.incrementTokenVersions(new QueryWrapper<SysUser>().in("id", ids));
+        TransactionUtils.afterCommit(() -> bumpLocal(ids));
+    }
+
+    @Override
+    @Scheduled(initialDelay = 0, fixedDelayString = "${jwt.token-version-refresh:30s}")
+    public void refresh() {
+        Map<Long, Integer> loaded = new HashMap<>();
+        for (SysUser user : userMapper.selectTokenVersions()) {
+            loaded.put(user.getId(), user.getDeletedAt() != null ? Integer.valueOf(DELETED) : user.getTokenVersion());
+        }
+        versions.updateAndGet(current -> {
+            Map<Long, Integer> merged = new HashMap<>(loaded);
+            current.forEach((id, version) -> merged.merge(id, version, Math::max));
+            return Map.copyOf(merged);
+        });
+        log.debug("Token version table refreshed: {} entries", loaded.size());
+    }
+
+    private void bumpLocal(Collection<Long> userIds) {
+        versions.updateAndGet(current -> {
+            Map<Long, Integer> copy = new HashMap<>(current);
+            for (Long userId : userIds) {
+                copy.merge(userId, 1, (version, one) -> version == DELETED ? DELETED : version + one);
+            }
+            return Map.copyOf(copy);
+        });
+    }
+}
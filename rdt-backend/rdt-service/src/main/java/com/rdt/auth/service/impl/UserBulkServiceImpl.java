@@ -0,0 +1,126 @@
+package com.rdt.auth.service.impl;
+
+import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
+import com.baomidou.mybatisplus.core.conditions.update.UpdateWrapper;
+import com.rdt.auth.component.PrincipalCache;
+import com.rdt.auth.config.BulkOperationProperties;
+import com.rdt.auth.mapper.UserMapper;
+import com.rdt.auth.model.entity.SysUser;
+import com.rdt.auth.service.TokenVersionService;
+import com.rdt.auth.service.UserBulkService;
+import com.rdt.common.model.BulkResult;
+import com.rdt.query.component.Paginator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Bulk user operations in chunks of {@code bulk.chunk-size} ids.
+ *
+ * <p>Per chunk: one {@code SELECT ... FOR UPDATE} finds the users that exist and are not in the target state yet,
+ * and one {@code UPDATE ... WHERE id IN} changes exactly those. Caches are swept once for all the changed users:
+ * principals by username, list totals, and tokens (one version bump statement) when access is taken away.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserBulkServiceImpl implements UserBulkService {
+
+    private static final int STATUS_ACTIVE = 1;
+    private static final int STATUS_DISABLED = 0;
+    private static final String ID_COLUMN = "id";
+    private static final String BUMP_VERSION = "version = version + 1";
+
+    private final UserMapper userMapper;
+    private final PrincipalCache principalCache;
+    private final TokenVersionService tokenVersionService;
+    private final Paginator paginator;
+    private final BulkOperationProperties properties;
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public BulkResult enableUsers(List<Long> ids) {
+        return apply(
+                ids,
+                user -> Objects.equals(user.getStatus(), STATUS_DISABLED),
+                changing -> userMapper.update(withStatus(STATUS_ACTIVE), byIds(changing)),
+                false);
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public BulkResult disableUsers(List<Long> ids) {
+        return apply(
+                ids,
+                user -> !Objects.equals(user.getStatus(), STATUS_DISABLED),
+                changing -> userMapper.update(withStatus(STATUS_DISABLED), byIds(changing)),
+                true);
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public BulkResult deleteUsers(List<Long> ids) {
+        return apply(ids, user -> true, userMapper::deleteBatchIds, true);
+    }
+
+    /**
+     * @param applies      whether a matched user still needs the change
+     * @param update       statement changing the given users, returning the rows changed
+     * @param revokeTokens whether the changed users lose access
+     */
+    private BulkResult apply(
+            List<Long> ids, Predicate<SysUser> applies, ToIntFunction<List<Long>> update, boolean revokeTokens) {
+        List<Long> distinct = ids.stream().distinct().toList();
+        List<Long> changedIds = new ArrayList<>();
+        List<String> changedUsernames = new ArrayList<>();
+        long matched = 0;
+        long affected = 0;
+        for (int from = 0; from < distinct.size(); from += properties.getChunkSize()) {
+            List<Long> chunk = distinct.subList(from, Math.min(from + properties.getChunkSize(), distinct.size()));
+            // Locked until commit, so the update changes exactly the rows selected here
+            List<SysUser> users = userMapper.selectList(new QueryWrapper<SysUser>()
+                    .select(ID_COLUMN, "username", "status")
+                    .in(ID_COLUMN, chunk)
+                    .last("FOR UPDATE"));
+            matched += users.size();
+            List<SysUser> changing = users.stream().filter(applies).toList();
+            if (changing.isEmpty()) {
+                continue;
+            }
+            List<Long> changingIds = changing.stream().map(SysUser::getId).toList();
+            affected += update.applyAsInt(changingIds);
+            changedIds.addAll(changingIds);
+            changing.forEach(user -> changedUsernames.add(user.getUsername()));
+        }
+
+        if (!changedIds.isEmpty()) {
+            if (revokeTokens) {
+                tokenVersionService.bumpAll(changedIds);
+            }
+            principalCache.evictAll(changedUsernames);
+            paginator.evictTotals(UserServiceImpl.USER_TOTALS);
+        }
+        log.info("Bulk user operation: {} requested, {} matched, {} changed", distinct.size(), matched, affected);
+        return new BulkResult(matched, affected);
+    }
+
+    /**
+     * Update template: {@code update(entity, wrapper)} writes only its non-null fields.
+     */
+    private static SysUser withStatus(int status) {
+        return SysUser.builder().status(status).build();
+    }
+
+    /**
+     * Where clause of the status updates; a bulk change is an edit, so it bumps the optimistic lock version.
+     */
+    private static UpdateWrapper<SysUser> byIds(List<Long> ids) {
+        return new UpdateWrapper<SysUser>().in(ID_COLUMN, ids).setSql(BUMP_VERSION);
+    }
+}
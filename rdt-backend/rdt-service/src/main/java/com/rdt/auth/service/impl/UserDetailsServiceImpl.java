@@ -1,6 +1,8 @@
 package com.rdt.auth.service.impl;
 
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.rdt.auth.component.PrincipalCache;
+import com.rdt.auth.constant.AuthConstants;
 import com.rdt.auth.model.entity.SysUser;
 import com.rdt.auth.repository.UserRepository;
 import java.util.Collections;
@@ -14,15 +16,22 @@ import org.springframework.stereotype.Service;
 
 /**
  * Implementation of Spring Security's UserDetailsService.
+ *
+ * <p>Lookups go through {@link PrincipalCache}, so the database is only hit on a miss.
  */
 @Service
 @RequiredArgsConstructor
 public class UserDetailsServiceImpl implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
     @Override
     public UserDetails loadUserByUsername(String username) {
+        return principalCache.get(username, this::loadFromDatabase);
+    }
+
+    private UserDetails loadFromDatabase(String username) {
         SysUser user = userRepository.selectOne(new LambdaQueryWrapper<SysUser>().eq(SysUser::getUsername, username));
 
         if (user == null) {
@@ -37,6 +46,6 @@ public class UserDetailsServiceImpl implements UserDetailsService {
                 true, // accountNonExpired
                 true, // credentialsNonExpired
                 user.getStatus() != 2, // accountNonLocked: 2=锁定
-                Collections.singletonList(new SimpleGrantedAuthority("ROLE_ADMIN")));
+                Collections.singletonList(new SimpleGrantedAuthority(AuthConstants.ROLE_ADMIN)));
     }
 }
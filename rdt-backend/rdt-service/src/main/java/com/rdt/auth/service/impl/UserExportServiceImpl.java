@@ -0,0 +1,34 @@
+package com.rdt.auth.service.impl;
+
+import com.rdt.auth.mapper.UserMapper;
+import com.rdt.auth.model.dto.UserDto;
+import com.rdt.auth.service.UserExportService;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class UserExportServiceImpl implements UserExportService {
+
+    private final UserMapper userMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportUsers(Consumer<UserDto> sink) {
+        long rows = 0;
+        try (Cursor<UserDto> cursor = userMapper.selectExportCursor()) {
+            for (UserDto user : cursor) {
+                sink.accept(user);
+                rows++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return rows;
+    }
+}
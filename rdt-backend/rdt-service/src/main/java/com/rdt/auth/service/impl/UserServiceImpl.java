@@ -2,19 +2,32 @@ package com.rdt.auth.service.impl;
 
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.rdt.api.model.dto.PageResponse;
+import com.rdt.auth.component.PrincipalCache;
+import com.rdt.auth.component.UsernameFilter;
+import com.rdt.auth.convert.UserConverter;
 import com.rdt.auth.i18n.UserMessages;
 import com.rdt.auth.mapper.UserMapper;
 import com.rdt.auth.model.dto.CreateUserReq;
 import com.rdt.auth.model.dto.UpdateUserReq;
 import com.rdt.auth.model.dto.UserDto;
 import com.rdt.auth.model.entity.SysUser;
+import com.rdt.auth.service.TokenVersionService;
 import com.rdt.auth.service.UserService;
 import com.rdt.common.exception.BusinessException;
+import com.rdt.common.model.CursorPage;
+import com.rdt.common.model.KeysetCursor;
+import com.rdt.common.model.PageParams;
+import com.rdt.common.model.SortOrder;
+import com.rdt.common.util.MessageUtils;
+import com.rdt.common.util.PinyinUtils;
+import com.rdt.query.component.PageQuery;
+import com.rdt.query.component.Paginator;
+import com.rdt.query.mapper.KeywordSearch;
 import java.time.LocalDateTime;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.BeanUtils;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,51 +37,63 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
 
+    /* default */ static final String USER_TOTALS = "auth.users";
+
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
+    private final UsernameFilter usernameFilter;
+    private final TokenVersionService tokenVersionService;
+    private final Paginator paginator;
 
     @Override
     @Transactional(rollbackFor = Exception.class)
     public void createUser(CreateUserReq req) {
-        // Check if username exists
-        if (userMapper.selectCount(new LambdaQueryWrapper<SysUser>().eq(SysUser::getUsername, req.getUsername())) > 0) {
-            throw BusinessException.badRequest(UserMessages.USERNAME_ALREADY_EXISTS);
-        }
-
         SysUser user = new SysUser();
         user.setUsername(req.getUsername());
+        user.setUsernameInitials(PinyinUtils.initials(req.getUsername()));
+        user.setUsernameSortKey(PinyinUtils.sortKey(req.getUsername()));
+        user.setUsernameKeyVersion(PinyinUtils.KEY_VERSION);
         user.setEmail(req.getEmail());
         // Encrypt password
         user.setPassword(passwordEncoder.encode(req.getPassword()));
         user.setStatus(1); // Default active
         user.setCreatedAt(LocalDateTime.now());
-        user.setUpdatedAt(LocalDateTime.now());
 
-        if (userMapper.insert(user) <= 0) {
+        usernameFilter.add(req.getUsername());
+        // No lookup first: the username unique key rejects a taken name, also between two concurrent creates
+        int inserted;
+        try {
+            inserted = userMapper.insert(user);
+        } catch (DuplicateKeyException e) {
+            throw new BusinessException(
+                    BusinessException.BAD_REQUEST_CODE, MessageUtils.get(UserMessages.USERNAME_ALREADY_EXISTS), e);
+        }
+        if (inserted <= 0) {
             throw BusinessException.serverError(UserMessages.CREATE_FAILED);
         }
+        paginator.evictTotals(USER_TOTALS);
     }
 
     @Override
     @Transactional(rollbackFor = Exception.class)
     public void updateUser(Long id, UpdateUserReq req) {
-        SysUser existingUser = userMapper.selectById(id);
-        if (existingUser == null) {
-            throw BusinessException.notFound(UserMessages.USER_NOT_FOUND);
-        }
-
-        // Update fields
-        if (req.getEmail() != null) {
-            existingUser.setEmail(req.getEmail());
-        }
-        if (req.getAvatar() != null) {
-            existingUser.setAvatar(req.getAvatar());
-        }
-        existingUser.setUpdatedAt(LocalDateTime.now());
-
-        if (userMapper.updateById(existingUser) <= 0) {
-            throw BusinessException.serverError(UserMessages.UPDATE_FAILED);
+        // One statement: UPDATE ... SET <non-null fields>, version = version + 1 WHERE id = ? AND version = ?
+        // Email and avatar are not part of the cached principal, so there is nothing to evict
+        SysUser changes = SysUser.builder()
+                .id(id)
+                .email(req.getEmail())
+                .avatar(req.getAvatar())
+                .version(req.getVersion())
+                .build();
+        if (userMapper.updateById(changes) <= 0) {
+            // Only a failed update pays for the lookup telling a missing user from a stale version
+            if (userMapper.selectById(id) == null) {
+                throw BusinessException.notFound(UserMessages.USER_NOT_FOUND);
+            }
+            throw BusinessException.conflict(UserMessages.VERSION_CONFLICT);
         }
+        paginator.evictTotals(USER_TOTALS);
     }
 
     @Override
@@ -81,7 +106,11 @@ public class UserServiceImpl implements UserService {
         // Assuming MyBatis Plus handles soft delete via @TableLogic if configured or we
         // rely on deleteById
         // which will update the deleted_at field.
-        return userMapper.deleteById(id) > 0;
+        final boolean deleted = userMapper.deleteById(id) > 0;
+        tokenVersionService.bump(id);
+        principalCache.evict(existingUser.getUsername());
+        paginator.evictTotals(USER_TOTALS);
+        return deleted;
     }
 
     @Override
@@ -96,36 +125,49 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public UserDto getUserById(Long id) {
-        SysUser user = userMapper.selectById(id);
-        if (user == null) {
-            return null;
-        }
-        UserDto dto = new UserDto();
-        BeanUtils.copyProperties(user, dto);
-        return dto;
+        return UserConverter.INSTANCE.toDto(userMapper.selectById(id));
     }
 
     @Override
-    public Page<UserDto> getUsers(int page, int size, String keyword) {
-        Page<SysUser> pageParam = new Page<>(page, size);
-        LambdaQueryWrapper<SysUser> wrapper = new LambdaQueryWrapper<>();
-        if (keyword != null && !keyword.isEmpty()) {
-            wrapper.like(SysUser::getUsername, keyword).or().like(SysUser::getEmail, keyword);
+    public PageResponse<UserDto> getUsers(PageParams params, String keyword) {
+        Page<SysUser> userPage = paginator.selectPage(
+                userMapper,
+                params,
+                PageQuery.<SysUser>builder()
+                        .filter(() -> userListQuery(keyword))
+                        .order(w -> {
+                            if (params.getSort() == SortOrder.NAME) {
+                                w.orderByAsc(SysUser::getUsernameSortKey).orderByAsc(SysUser::getId);
+                            } else {
+                                w.orderByDesc(SysUser::getCreatedAt).orderByDesc(SysUser::getId);
+                            }
+                        })
+                        .totalKey(Paginator.totalKey(USER_TOTALS, keyword))
+                        .build());
+        return Paginator.toResponse(userPage, UserConverter.INSTANCE::toDto);
+    }
+
+    @Override
+    public CursorPage<UserDto> getUsersAfter(String cursor, int size, String keyword) {
+        final KeysetCursor after = KeysetCursor.decode(cursor);
+        LambdaQueryWrapper<SysUser> wrapper = userListQuery(keyword);
+        if (after != null) {
+            wrapper.and(w -> w.lt(SysUser::getCreatedAt, after.getCreatedAt())
+                    .or(o -> o.eq(SysUser::getCreatedAt, after.getCreatedAt()).lt(SysUser::getId, after.getId())));
         }
-        wrapper.orderByDesc(SysUser::getCreatedAt);
-        Page<SysUser> userPage = userMapper.selectPage(pageParam, wrapper);
+        wrapper.orderByDesc(SysUser::getCreatedAt).orderByDesc(SysUser::getId).last("LIMIT " + (size + 1));
+        return CursorPage.slice(
+                userMapper.selectList(wrapper),
+                size,
+                UserConverter.INSTANCE::toDto,
+                user -> new KeysetCursor(user.getCreatedAt(), user.getId()));
+    }
 
-        Page<UserDto> resultPage = new Page<>(userPage.getCurrent(), userPage.getSize(), userPage.getTotal());
-        List<UserDto> dtoList = userPage.getRecords().stream()
-                .map(user -> {
-                    UserDto dto = new UserDto();
-                    if (user != null) {
-                        BeanUtils.copyProperties(user, dto);
-                    }
-                    return dto;
-                })
-                .toList();
-        resultPage.setRecords(dtoList);
-        return resultPage;
+    /**
+     * Users whose username, email or username initials contain {@code keyword} (all when blank), via
+     * {@code ft_sys_user_username_email_initials}.
+     */
+    private static LambdaQueryWrapper<SysUser> userListQuery(String keyword) {
+        return KeywordSearch.matching(new LambdaQueryWrapper<>(), "username, email, username_initials", keyword);
     }
 }
@@ -0,0 +1,88 @@
+package com.rdt.auth.service.impl;
+
+import com.rdt.auth.mapper.UserMapper;
+import com.rdt.auth.model.entity.SysUser;
+import com.rdt.auth.service.UsernameKeyBackfillService;
+import com.rdt.common.util.PinyinUtils;
+import java.util.List;
+import java.util.concurrent.Executor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.stereotype.Service;
+
+/**
+ * The user services maintain both keys on every write, so after one pass there is nothing left to do; running it on
+ * several nodes at once only repeats the same idempotent updates. The pass runs on the async executor once the
+ * application is ready, so it never holds up startup or readiness.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UsernameKeyBackfillServiceImpl implements UsernameKeyBackfillService {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String UPDATE_SQL = "UPDATE sys_user"
+            + " SET username_initials = ?, username_sort_key = ?, username_key_version = ?, updated_at = updated_at"
+            + " WHERE id = ?";
+
+    private static final int PARAM_INITIALS = 1;
+    private static final int PARAM_SORT_KEY = 2;
+    private static final int PARAM_KEY_VERSION = 3;
+    private static final int PARAM_ID = 4;
+
+    private final UserMapper userMapper;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Qualifier(AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME)
+    private final Executor asyncExecutor;
+
+    /**
+     * Hands the backfill to the async executor once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillAfterStartup() {
+        asyncExecutor.execute(this::backfill);
+    }
+
+    /**
+     * Backfills {@code sys_user} in id order, {@value #BATCH_SIZE} rows per query and one JDBC batch per write.
+     */
+    @Override
+    public void backfill() {
+        try {
+            long afterId = 0;
+            int filled = 0;
+            List<SysUser> rows;
+            do {
+                rows = userMapper.selectStaleUsernameKeys(PinyinUtils.KEY_VERSION, afterId, BATCH_SIZE);
+                if (!rows.isEmpty()) {
+                    write(rows);
+                    afterId = rows.get(rows.size() - 1).getId();
+                }
+                filled += rows.size();
+            } while (rows.size() == BATCH_SIZE);
+            if (filled > 0) {
+                log.info("Backfilled name keys: {} users", filled);
+            }
+        } catch (DataAccessException e) {
+            // 回填失败不影响服务: 未重算的行沿用旧版本的键 (从未计算的行暂时无法按拼音检索, 名称排序时排在最前), 下次启动重试
+            log.warn("Username key backfill failed, will retry on next startup", e);
+        }
+    }
+
+    private void write(List<SysUser> rows) {
+        jdbcTemplate.batchUpdate(UPDATE_SQL, rows, rows.size(), (ps, user) -> {
+            ps.setString(PARAM_INITIALS, PinyinUtils.initials(user.getUsername()));
+            ps.setBytes(PARAM_SORT_KEY, PinyinUtils.sortKey(user.getUsername()));
+            ps.setInt(PARAM_KEY_VERSION, PinyinUtils.KEY_VERSION);
+            ps.setLong(PARAM_ID, user.getId());
+        });
+    }
+}
@@ -0,0 +1,34 @@
+package com.rdt.config.convert;
+
+import com.rdt.config.model.dto.MainSystemResponse;
+import com.rdt.config.model.dto.SubSystemResponse;
+import com.rdt.config.model.entity.MainSystemEntity;
+import com.rdt.config.model.entity.SubSystemEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+import org.mapstruct.factory.Mappers;
+
+/**
+ * 主/子系统实体到响应的转换 (MapStruct 编译期生成实现).
+ *
+ * <p>The generated {@code SystemConverterImpl} is plain getter/builder calls. Pinyin keys stay in the service; a
+ * response property without a source fails the build.
+ */
+@Mapper(unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface SystemConverter {
+
+    SystemConverter INSTANCE = Mappers.getMapper(SystemConverter.class);
+
+    /**
+     * @param entity main system
+     * @return response
+     */
+    MainSystemResponse toResponse(MainSystemEntity entity);
+
+    /**
+     * @param entity         sub system
+     * @param mainSystemName name of its main system (not a column of the sub system)
+     * @return response
+     */
+    SubSystemResponse toResponse(SubSystemEntity entity, String mainSystemName);
+}
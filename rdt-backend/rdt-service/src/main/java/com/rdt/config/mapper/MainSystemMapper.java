@@ -1,8 +1,79 @@
 package com.rdt.config.mapper;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.rdt.config.model.dto.MainSystemResponse;
 import com.rdt.config.model.entity.MainSystemEntity;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.mapping.ResultSetType;
 
 @Mapper
-public interface MainSystemMapper extends BaseMapper<MainSystemEntity> {}
+public interface MainSystemMapper extends BaseMapper<MainSystemEntity> {
+
+    /**
+     * Adds {@code delta} to the sub system counter, leaving {@code updated_at} alone.
+     */
+    @Update("UPDATE sys_main_system SET sub_system_count = sub_system_count + #{delta}, updated_at = updated_at"
+            + " WHERE id = #{id}")
+    int adjustSubSystemCount(@Param("id") Long id, @Param("delta") int delta);
+
+    /**
+     * Keeps the parents' sub system counters in step with a sub system write in the same transaction ({@code null}
+     * on the create/delete side). A reparent locks both parents in id order, so two opposite moves cannot deadlock.
+     * Tree pages read the counter from the database; cached main system rows may lag until their TTL.
+     */
+    default void moveSubSystemCount(Long fromId, Long toId) {
+        if (Objects.equals(fromId, toId)) {
+            return;
+        }
+        List<Long> parents =
+                Stream.of(fromId, toId).filter(Objects::nonNull).sorted().toList();
+        for (Long parent : parents) {
+            adjustSubSystemCount(parent, parent.equals(toId) ? 1 : -1);
+        }
+    }
+
+    /**
+     * Bulk variant of {@link #moveSubSystemCount}: applies one signed delta per main system, locking the parents in
+     * id order for the same reason.
+     *
+     * @param deltas sub system count change, by main system id (zero entries are skipped)
+     */
+    default void adjustSubSystemCounts(Map<Long, Integer> deltas) {
+        deltas.entrySet().stream()
+                .filter(delta -> delta.getValue() != 0)
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(delta -> adjustSubSystemCount(delta.getKey(), delta.getValue()));
+    }
+
+    /**
+     * Up to {@code limit} active main systems with an id above {@code afterId}, in id order.
+     */
+    @Select("SELECT * FROM sys_main_system WHERE deleted_at IS NULL AND id > #{afterId} ORDER BY id LIMIT #{limit}")
+    List<MainSystemEntity> selectAfter(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    /**
+     * Up to {@code limit} rows (soft-deleted included) whose name keys were computed under a key version below
+     * {@code keyVersion} (or never), with an id above {@code afterId}, in id order.
+     */
+    @Select("SELECT id, name FROM sys_main_system"
+            + " WHERE name_key_version < #{keyVersion} AND id > #{afterId} ORDER BY id LIMIT #{limit}")
+    List<MainSystemEntity> selectStaleNameKeys(
+            @Param("keyVersion") int keyVersion, @Param("afterId") long afterId, @Param("limit") int limit);
+
+    /**
+     * Every active main system, in id order, streamed row by row (see {@code UserMapper#selectExportCursor}).
+     */
+    @Select("SELECT id, name, code, description, owner, status, version, created_at, updated_at FROM sys_main_system"
+            + " WHERE deleted_at IS NULL ORDER BY id")
+    @Options(resultSetType = ResultSetType.FORWARD_ONLY, fetchSize = Integer.MIN_VALUE)
+    Cursor<MainSystemResponse> selectExportCursor();
+}
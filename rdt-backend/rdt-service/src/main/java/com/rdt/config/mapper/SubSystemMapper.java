@@ -1,8 +1,44 @@
 package com.rdt.config.mapper;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.rdt.config.model.dto.SubSystemResponse;
 import com.rdt.config.model.entity.SubSystemEntity;
+import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.mapping.ResultSetType;
 
 @Mapper
-public interface SubSystemMapper extends BaseMapper<SubSystemEntity> {}
+public interface SubSystemMapper extends BaseMapper<SubSystemEntity> {
+
+    /**
+     * Up to {@code limit} active sub systems of one main system with an id above {@code afterId}, in id order.
+     */
+    @Select("SELECT * FROM sys_sub_system WHERE deleted_at IS NULL AND main_system_id = #{mainSystemId}"
+            + " AND id > #{afterId} ORDER BY id LIMIT #{limit}")
+    List<SubSystemEntity> selectChildrenAfter(
+            @Param("mainSystemId") Long mainSystemId, @Param("afterId") long afterId, @Param("limit") int limit);
+
+    /**
+     * Up to {@code limit} rows (soft-deleted included) whose name keys were computed under a key version below
+     * {@code keyVersion} (or never), with an id above {@code afterId}, in id order.
+     */
+    @Select("SELECT id, name FROM sys_sub_system"
+            + " WHERE name_key_version < #{keyVersion} AND id > #{afterId} ORDER BY id LIMIT #{limit}")
+    List<SubSystemEntity> selectStaleNameKeys(
+            @Param("keyVersion") int keyVersion, @Param("afterId") long afterId, @Param("limit") int limit);
+
+    /**
+     * Every active sub system with its main system's name joined in, in id order, streamed row by row (see
+     * {@code UserMapper#selectExportCursor}).
+     */
+    @Select("SELECT s.id, s.main_system_id, COALESCE(m.name, 'Unknown') AS main_system_name, s.name, s.code,"
+            + " s.description, s.git_url, s.owner, s.status, s.version, s.created_at, s.updated_at"
+            + " FROM sys_sub_system s LEFT JOIN sys_main_system m ON m.id = s.main_system_id"
+            + " WHERE s.deleted_at IS NULL ORDER BY s.id")
+    @Options(resultSetType = ResultSetType.FORWARD_ONLY, fetchSize = Integer.MIN_VALUE)
+    Cursor<SubSystemResponse> selectExportCursor();
+}
@@ -0,0 +1,100 @@
+package com.rdt.config.mapper;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.rdt.common.model.KeysetCursor;
+import com.rdt.common.model.SortOrder;
+import com.rdt.config.model.entity.MainSystemEntity;
+import com.rdt.config.model.entity.SubSystemEntity;
+import com.rdt.query.mapper.KeywordSearch;
+
+/**
+ * List filters shared by the list queries and their change stamps, so both always select the same rows (纯静态工具类).
+ */
+public final class SystemQueries {
+
+    /**
+     * Columns of the {@code ft_*_name_code_initials} ngram FULLTEXT indexes on both system tables
+     */
+    private static final String SEARCH_COLUMNS = "name, code, name_initials";
+
+    private SystemQueries() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Main systems whose name, code or name initials contain {@code keyword} (all when blank).
+     */
+    public static LambdaQueryWrapper<MainSystemEntity> mainSystemList(String keyword) {
+        return KeywordSearch.matching(new LambdaQueryWrapper<>(), SEARCH_COLUMNS, keyword);
+    }
+
+    /**
+     * Sub systems of {@code mainSystemId} (all when {@code null}) whose name, code or name initials contain
+     * {@code keyword}.
+     */
+    public static LambdaQueryWrapper<SubSystemEntity> subSystemList(Long mainSystemId, String keyword) {
+        LambdaQueryWrapper<SubSystemEntity> queryWrapper = new LambdaQueryWrapper<>();
+        if (mainSystemId != null) {
+            queryWrapper.eq(SubSystemEntity::getMainSystemId, mainSystemId);
+        }
+        return KeywordSearch.matching(queryWrapper, SEARCH_COLUMNS, keyword);
+    }
+
+    /**
+     * Offset main system list order; {@link SortOrder#NAME} is served by the {@code (name_sort_key, id)} index.
+     */
+    public static void orderMainSystems(LambdaQueryWrapper<MainSystemEntity> query, SortOrder sort) {
+        if (sort == SortOrder.NAME) {
+            query.orderByAsc(MainSystemEntity::getNameSortKey).orderByAsc(MainSystemEntity::getId);
+        } else {
+            query.orderByDesc(MainSystemEntity::getCreatedAt).orderByDesc(MainSystemEntity::getId);
+        }
+    }
+
+    /**
+     * Sub system counterpart of {@link #orderMainSystems}.
+     */
+    public static void orderSubSystems(LambdaQueryWrapper<SubSystemEntity> query, SortOrder sort) {
+        if (sort == SortOrder.NAME) {
+            query.orderByAsc(SubSystemEntity::getNameSortKey).orderByAsc(SubSystemEntity::getId);
+        } else {
+            query.orderByDesc(SubSystemEntity::getCreatedAt).orderByDesc(SubSystemEntity::getId);
+        }
+    }
+
+    /**
+     * Keyset page of {@code query}, newest first: rows strictly after {@code after} (from the start when {@code null}),
+     * one extra row to tell whether another page follows. Served by the {@code (created_at, id)} index.
+     */
+    public static LambdaQueryWrapper<MainSystemEntity> mainSystemsAfter(
+            LambdaQueryWrapper<MainSystemEntity> query, KeysetCursor after, int size) {
+        if (after != null) {
+            query.and(w -> w.lt(MainSystemEntity::getCreatedAt, after.getCreatedAt())
+                    .or(o -> o.eq(MainSystemEntity::getCreatedAt, after.getCreatedAt())
+                            .lt(MainSystemEntity::getId, after.getId())));
+        }
+        return query.orderByDesc(MainSystemEntity::getCreatedAt)
+                .orderByDesc(MainSystemEntity::getId)
+                .last(limit(size));
+    }
+
+    /**
+     * Sub system counterpart of {@link #mainSystemsAfter}, served by {@code (main_system_id, created_at, id)} when
+     * filtered by main system.
+     */
+    public static LambdaQueryWrapper<SubSystemEntity> subSystemsAfter(
+            LambdaQueryWrapper<SubSystemEntity> query, KeysetCursor after, int size) {
+        if (after != null) {
+            query.and(w -> w.lt(SubSystemEntity::getCreatedAt, after.getCreatedAt())
+                    .or(o -> o.eq(SubSystemEntity::getCreatedAt, after.getCreatedAt())
+                            .lt(SubSystemEntity::getId, after.getId())));
+        }
+        return query.orderByDesc(SubSystemEntity::getCreatedAt)
+                .orderByDesc(SubSystemEntity::getId)
+                .last(limit(size));
+    }
+
+    private static String limit(int size) {
+        return "LIMIT " + (size + 1);
+    }
+}
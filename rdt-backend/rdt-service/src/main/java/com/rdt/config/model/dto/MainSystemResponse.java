@@ -23,6 +23,7 @@ public class MainSystemResponse implements Serializable {
     private String description;
     private String owner;
     private Integer status;
+    private Integer version;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
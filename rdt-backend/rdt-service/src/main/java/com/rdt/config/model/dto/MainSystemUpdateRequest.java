@@ -1,5 +1,6 @@
 package com.rdt.config.model.dto;
 
+import jakarta.validation.constraints.NotNull;
 import java.io.Serializable;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -21,4 +22,10 @@ public class MainSystemUpdateRequest implements Serializable {
     private String description;
     private String owner;
     private Integer status;
+
+    /**
+     * Version returned when the system was read; the update is refused if it has changed since.
+     */
+    @NotNull(message = "Version cannot be empty")
+    private Integer version;
 }
@@ -0,0 +1,29 @@
+package com.rdt.config.model.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.io.Serializable;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Sub System Bulk Request DTO: selects sub systems either by {@code ids} or by their current {@code mainSystemId}
+ * (exactly one of the two).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SubSystemBulkRequest implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    @Size(max = 10_000, message = "At most 10000 sub systems per request")
+    private List<@NotNull Long> ids;
+
+    private Long mainSystemId;
+    private Long targetMainSystemId;
+    private Integer status;
+}
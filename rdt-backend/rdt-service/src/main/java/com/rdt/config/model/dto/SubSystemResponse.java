@@ -26,6 +26,7 @@ public class SubSystemResponse implements Serializable {
     private String gitUrl;
     private String owner;
     private Integer status;
+    private Integer version;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
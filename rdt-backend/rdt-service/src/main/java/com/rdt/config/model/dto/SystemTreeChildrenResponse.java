@@ -0,0 +1,19 @@
+package com.rdt.config.model.dto;
+
+import java.io.Serializable;
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * One page of a tree level. Pass {@code nextCursor} back as {@code cursor} for the next page; it is {@code null}
+ * on the last page.
+ */
+@Value
+@Builder
+public class SystemTreeChildrenResponse implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    List<SystemTreeNode> nodes;
+    Long nextCursor;
+}
@@ -0,0 +1,38 @@
+package com.rdt.config.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.io.Serializable;
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * One node of the system tree: a main system ({@code SYSTEM}) with its sub systems, or a sub system
+ * ({@code SUBSYSTEM}). Immutable, so a snapshot can be shared by every reader.
+ */
+@Value
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SystemTreeNode implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    public static final String TYPE_SYSTEM = "SYSTEM";
+    public static final String TYPE_SUBSYSTEM = "SUBSYSTEM";
+
+    Long id;
+    Long parentId;
+    String type;
+    String name;
+    String code;
+    String description;
+    String owner;
+    String gitUrl;
+    Integer status;
+
+    /**
+     * Number of direct children, known without loading them
+     */
+    Integer childCount;
+
+    List<SystemTreeNode> children;
+}
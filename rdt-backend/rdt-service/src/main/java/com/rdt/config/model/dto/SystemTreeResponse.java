@@ -0,0 +1,19 @@
+package com.rdt.config.model.dto;
+
+import java.io.Serializable;
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * The whole system hierarchy. {@code version} is a fingerprint of the content: equal versions mean equal trees,
+ * on every node and across restarts.
+ */
+@Value
+@Builder
+public class SystemTreeResponse implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    String version;
+    List<SystemTreeNode> systems;
+}
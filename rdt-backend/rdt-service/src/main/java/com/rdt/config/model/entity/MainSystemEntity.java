@@ -1,10 +1,12 @@
 package com.rdt.config.model.entity;
 
+import com.baomidou.mybatisplus.annotation.FieldStrategy;
 import com.baomidou.mybatisplus.annotation.IdType;
 import com.baomidou.mybatisplus.annotation.TableField;
 import com.baomidou.mybatisplus.annotation.TableId;
 import com.baomidou.mybatisplus.annotation.TableLogic;
 import com.baomidou.mybatisplus.annotation.TableName;
+import com.baomidou.mybatisplus.annotation.Version;
 import java.io.Serializable;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
@@ -43,6 +45,24 @@ public class MainSystemEntity implements Serializable {
     @TableField("name")
     private String name;
 
+    /**
+     * 系统名称拼音首字母 (不含汉字时为空, 写入时计算)
+     */
+    @TableField("name_initials")
+    private String nameInitials;
+
+    /**
+     * 系统名称排序键 (简体中文拼音排序规则, 写入时计算)
+     */
+    @TableField("name_sort_key")
+    private byte[] nameSortKey;
+
+    /**
+     * 计算上面两个键所用的规则版本 (PinyinUtils.KEY_VERSION), 低于当前版本的行由启动回填重算
+     */
+    @TableField("name_key_version")
+    private Integer nameKeyVersion;
+
     /**
      * 系统编码
      */
@@ -67,6 +87,19 @@ public class MainSystemEntity implements Serializable {
     @TableField("status")
     private Integer status;
 
+    /**
+     * 乐观锁版本号 (编辑时带上读取到的值, 每次编辑递增)
+     */
+    @Version
+    @TableField("version")
+    private Integer version;
+
+    /**
+     * 子系统数量 (仅由子系统写操作增减, 实体更新不覆盖)
+     */
+    @TableField(value = "sub_system_count", insertStrategy = FieldStrategy.NEVER, updateStrategy = FieldStrategy.NEVER)
+    private Integer subSystemCount;
+
     /**
      * 创建时间
      */
@@ -74,9 +107,9 @@ public class MainSystemEntity implements Serializable {
     private LocalDateTime createdAt;
 
     /**
-     * 更新时间
+     * 更新时间 (由数据库 ON UPDATE 维护, 实体写入不回写旧值)
      */
-    @TableField("updated_at")
+    @TableField(value = "updated_at", insertStrategy = FieldStrategy.NEVER, updateStrategy = FieldStrategy.NEVER)
     private LocalDateTime updatedAt;
 
     /**
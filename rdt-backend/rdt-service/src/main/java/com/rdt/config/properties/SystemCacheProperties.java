@@ -0,0 +1,22 @@
+package com.rdt.config.properties;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "config.system-cache")
+public class SystemCacheProperties {
+
+    /**
+     * Maximum number of cached main systems, and separately of cached sub systems
+     */
+    private long maxSize = 1_000L;
+
+    /**
+     * Time after which a cached row is reloaded; bounds how long other nodes may serve a row changed elsewhere
+     */
+    private Duration ttl = Duration.ofMinutes(1);
+}
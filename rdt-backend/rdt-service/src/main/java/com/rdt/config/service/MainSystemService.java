@@ -1,6 +1,8 @@
 package com.rdt.config.service;
 
-import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.rdt.api.model.dto.PageResponse;
+import com.rdt.common.model.CursorPage;
+import com.rdt.common.model.PageParams;
 import com.rdt.config.model.dto.MainSystemCreateRequest;
 import com.rdt.config.model.dto.MainSystemResponse;
 import com.rdt.config.model.dto.MainSystemUpdateRequest;
@@ -10,7 +12,9 @@ public interface MainSystemService {
 
     MainSystemResponse getMainSystem(Long id);
 
-    Page<MainSystemResponse> getMainSystemList(String keyword, int page, int size);
+    PageResponse<MainSystemResponse> getMainSystemList(String keyword, PageParams params);
+
+    CursorPage<MainSystemResponse> getMainSystemListAfter(String keyword, String cursor, int size);
 
     void updateMainSystem(Long id, MainSystemUpdateRequest request);
     // specific update dto
@@ -2,16 +2,23 @@ package com.rdt.config.service;
 
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.rdt.api.model.dto.PageResponse;
 import com.rdt.common.exception.BusinessException;
+import com.rdt.common.model.CursorPage;
+import com.rdt.common.model.KeysetCursor;
+import com.rdt.common.model.PageParams;
+import com.rdt.common.util.PinyinUtils;
+import com.rdt.config.convert.SystemConverter;
 import com.rdt.config.mapper.MainSystemMapper;
-import com.rdt.config.mapper.SubSystemMapper;
+import com.rdt.config.mapper.SystemQueries;
 import com.rdt.config.model.dto.MainSystemCreateRequest;
 import com.rdt.config.model.dto.MainSystemResponse;
 import com.rdt.config.model.dto.MainSystemUpdateRequest;
 import com.rdt.config.model.entity.MainSystemEntity;
-import com.rdt.config.model.entity.SubSystemEntity;
-import java.util.List;
+import com.rdt.query.component.PageQuery;
+import com.rdt.query.component.Paginator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,113 +27,126 @@ import org.springframework.transaction.annotation.Transactional;
 public class MainSystemServiceImpl implements MainSystemService {
     private static final int ERR_CODE_EXISTS = 10_002;
     private static final int ERR_SYSTEM_NOT_FOUND = 10_003;
+    private static final int ERR_VERSION_CONFLICT = 10_005;
+    private static final String CODE_EXISTS_MESSAGE = "System code already exists";
+    private static final String VERSION_CONFLICT_MESSAGE =
+            "Main System was modified by someone else, reload it and try again";
+    private static final String MAIN_SYSTEM_TOTALS = "config.main-systems";
 
     private final MainSystemMapper mainSystemMapper;
-    private final SubSystemMapper subSystemMapper;
+    private final SystemCacheService systemCacheService;
+    private final SystemTreeService systemTreeService;
+    private final Paginator paginator;
 
     @Override
     @Transactional(rollbackFor = Exception.class)
     public Long createMainSystem(MainSystemCreateRequest request) {
-        if (checkCodeExists(request.getCode(), null)) {
-            throw new BusinessException(ERR_CODE_EXISTS, "System code already exists");
-        }
-
         MainSystemEntity entity = MainSystemEntity.builder()
                 .name(request.getName())
+                .nameInitials(PinyinUtils.initials(request.getName()))
+                .nameSortKey(PinyinUtils.sortKey(request.getName()))
+                .nameKeyVersion(PinyinUtils.keyVersion(request.getName()))
                 .code(request.getCode())
                 .description(request.getDescription())
                 .owner(request.getOwner())
                 .status(1)
                 .build();
 
-        mainSystemMapper.insert(entity);
+        try {
+            mainSystemMapper.insert(entity);
+        } catch (DuplicateKeyException e) {
+            throw new BusinessException(ERR_CODE_EXISTS, CODE_EXISTS_MESSAGE, e);
+        }
+        systemCacheService.evictMainSystem(entity.getId());
+        systemTreeService.invalidate();
+        paginator.evictTotals(MAIN_SYSTEM_TOTALS);
         return entity.getId();
     }
 
     @Override
     public MainSystemResponse getMainSystem(Long id) {
-        MainSystemEntity entity = mainSystemMapper.selectById(id);
+        MainSystemEntity entity = systemCacheService.getMainSystem(id);
         if (entity == null) {
             throw new BusinessException(ERR_SYSTEM_NOT_FOUND, "Main System not found");
         }
-        return convertToResponse(entity);
+        return SystemConverter.INSTANCE.toResponse(entity);
     }
 
     @Override
-    public Page<MainSystemResponse> getMainSystemList(String keyword, int page, int size) {
-        Page<MainSystemEntity> pageParam = new Page<>(page, size);
-        LambdaQueryWrapper<MainSystemEntity> queryWrapper = new LambdaQueryWrapper<>();
-
-        if (keyword != null && !keyword.isEmpty()) {
-            queryWrapper.and(
-                    w -> w.like(MainSystemEntity::getName, keyword).or().like(MainSystemEntity::getCode, keyword));
-        }
-
-        queryWrapper.orderByDesc(MainSystemEntity::getCreatedAt);
-
-        Page<MainSystemEntity> resultPage = mainSystemMapper.selectPage(pageParam, queryWrapper);
-        List<MainSystemResponse> records =
-                resultPage.getRecords().stream().map(this::convertToResponse).toList();
-
-        Page<MainSystemResponse> responsePage = new Page<>(page, size);
-        responsePage.setRecords(records);
-        responsePage.setTotal(resultPage.getTotal());
+    public PageResponse<MainSystemResponse> getMainSystemList(String keyword, PageParams params) {
+        Page<MainSystemEntity> resultPage = paginator.selectPage(
+                mainSystemMapper,
+                params,
+                PageQuery.<MainSystemEntity>builder()
+                        .filter(() -> SystemQueries.mainSystemList(keyword))
+                        .order(w -> SystemQueries.orderMainSystems(w, params.getSort()))
+                        .totalKey(Paginator.totalKey(MAIN_SYSTEM_TOTALS, keyword))
+                        .build());
+        return Paginator.toResponse(resultPage, SystemConverter.INSTANCE::toResponse);
+    }
 
-        return responsePage;
+    @Override
+    public CursorPage<MainSystemResponse> getMainSystemListAfter(String keyword, String cursor, int size) {
+        return CursorPage.slice(
+                mainSystemMapper.selectList(SystemQueries.mainSystemsAfter(
+                        SystemQueries.mainSystemList(keyword), KeysetCursor.decode(cursor), size)),
+                size,
+                SystemConverter.INSTANCE::toResponse,
+                entity -> new KeysetCursor(entity.getCreatedAt(), entity.getId()));
     }
 
     @Override
     @Transactional(rollbackFor = Exception.class)
     public void updateMainSystem(Long id, MainSystemUpdateRequest request) {
-        MainSystemEntity entity = mainSystemMapper.selectById(id);
-        if (entity == null) {
-            throw new BusinessException(ERR_SYSTEM_NOT_FOUND, "Main System not found");
-        }
+        // One statement: UPDATE ... SET <non-null fields>, version = version + 1 WHERE id = ? AND version = ?
+        MainSystemEntity changes = MainSystemEntity.builder()
+                .id(id)
+                .name(request.getName())
+                .nameInitials(PinyinUtils.initials(request.getName()))
+                .nameSortKey(PinyinUtils.sortKey(request.getName()))
+                .nameKeyVersion(PinyinUtils.keyVersion(request.getName()))
+                .code(request.getCode())
+                .description(request.getDescription())
+                .owner(request.getOwner())
+                .status(request.getStatus())
+                .version(request.getVersion())
+                .build();
 
-        if (checkCodeExists(request.getCode(), id)) {
-            throw new BusinessException(ERR_CODE_EXISTS, "System code already exists");
+        int updated;
+        try {
+            updated = mainSystemMapper.updateById(changes);
+        } catch (DuplicateKeyException e) {
+            throw new BusinessException(ERR_CODE_EXISTS, CODE_EXISTS_MESSAGE, e);
         }
-
-        entity.setName(request.getName());
-        entity.setCode(request.getCode());
-        entity.setDescription(request.getDescription());
-        entity.setOwner(request.getOwner());
-        entity.setStatus(request.getStatus());
-
-        mainSystemMapper.updateById(entity);
+        if (updated == 0) {
+            // Only a failed update pays for the lookup telling a missing row from a stale version
+            if (mainSystemMapper.selectById(id) == null) {
+                throw new BusinessException(ERR_SYSTEM_NOT_FOUND, "Main System not found");
+            }
+            throw new BusinessException(ERR_VERSION_CONFLICT, VERSION_CONFLICT_MESSAGE);
+        }
+        systemCacheService.evictMainSystem(id);
+        systemTreeService.invalidate();
+        paginator.evictTotals(MAIN_SYSTEM_TOTALS);
     }
 
     @Override
     @Transactional(rollbackFor = Exception.class)
     public void deleteMainSystem(Long id) {
-        LambdaQueryWrapper<SubSystemEntity> queryWrapper = new LambdaQueryWrapper<>();
-        queryWrapper.eq(SubSystemEntity::getMainSystemId, id);
-        if (subSystemMapper.selectCount(queryWrapper) > 0) {
+        // One statement against the denormalized counter: UPDATE ... SET deleted_at = NOW()
+        // WHERE id = ? AND sub_system_count = 0. Sub system writes adjust the counter under the same row lock
+        int deleted = mainSystemMapper.delete(new LambdaQueryWrapper<MainSystemEntity>()
+                .eq(MainSystemEntity::getId, id)
+                .eq(MainSystemEntity::getSubSystemCount, 0));
+        if (deleted == 0) {
+            // Only a miss pays for the lookup telling a missing row (nothing to delete) from one with sub systems
+            if (mainSystemMapper.selectById(id) == null) {
+                return;
+            }
             throw new BusinessException(ERR_CODE_EXISTS, "Cannot delete Main System with existing Sub Systems");
         }
-
-        mainSystemMapper.deleteById(id);
-    }
-
-    private boolean checkCodeExists(String code, Long excludeId) {
-        LambdaQueryWrapper<MainSystemEntity> queryWrapper = new LambdaQueryWrapper<>();
-        queryWrapper.eq(MainSystemEntity::getCode, code);
-        if (excludeId != null) {
-            queryWrapper.ne(MainSystemEntity::getId, excludeId);
-        }
-        return mainSystemMapper.selectCount(queryWrapper) > 0;
-    }
-
-    private MainSystemResponse convertToResponse(MainSystemEntity entity) {
-        return MainSystemResponse.builder()
-                .id(entity.getId())
-                .name(entity.getName())
-                .code(entity.getCode())
-                .description(entity.getDescription())
-                .owner(entity.getOwner())
-                .status(entity.getStatus())
-                .createdAt(entity.getCreatedAt())
-                .updatedAt(entity.getUpdatedAt())
-                .build();
+        systemCacheService.evictMainSystem(id);
+        systemTreeService.invalidate();
+        paginator.evictTotals(MAIN_SYSTEM_TOTALS);
     }
 }
@@ -0,0 +1,13 @@
+package com.rdt.config.service;
+
+/**
+ * Fills in, or recomputes, the pinyin initials and sort keys of system names written before those columns existed or
+ * under older key rules ({@code PinyinUtils.KEY_VERSION}).
+ */
+public interface NameKeyBackfillService {
+
+    /**
+     * Computes the keys of every main and sub system whose key version is behind, in place; runs once after startup.
+     */
+    void backfill();
+}
@@ -0,0 +1,111 @@
+package com.rdt.config.service;
+
+import com.rdt.common.util.PinyinUtils;
+import com.rdt.config.mapper.MainSystemMapper;
+import com.rdt.config.mapper.SubSystemMapper;
+import com.rdt.config.model.entity.MainSystemEntity;
+import com.rdt.config.model.entity.SubSystemEntity;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.stereotype.Service;
+
+/**
+ * The system services maintain both keys on every write, so after one pass there is nothing left to do; running it on
+ * several nodes at once only repeats the same idempotent updates. The pass runs on the async executor once the
+ * application is ready, so it never holds up startup or readiness.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NameKeyBackfillServiceImpl implements NameKeyBackfillService {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String UPDATE_MAIN_SYSTEM_SQL =
+            "UPDATE sys_main_system SET name_initials = ?, name_sort_key = ?, name_key_version = ?,"
+                    + " updated_at = updated_at WHERE id = ?";
+
+    private static final String UPDATE_SUB_SYSTEM_SQL =
+            "UPDATE sys_sub_system SET name_initials = ?, name_sort_key = ?, name_key_version = ?,"
+                    + " updated_at = updated_at WHERE id = ?";
+
+    private static final int PARAM_INITIALS = 1;
+    private static final int PARAM_SORT_KEY = 2;
+    private static final int PARAM_KEY_VERSION = 3;
+    private static final int PARAM_ID = 4;
+
+    private final MainSystemMapper mainSystemMapper;
+    private final SubSystemMapper subSystemMapper;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Qualifier(AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME)
+    private final Executor asyncExecutor;
+
+    /**
+     * Hands the backfill to the async executor once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillAfterStartup() {
+        asyncExecutor.execute(this::backfill);
+    }
+
+    /**
+     * Backfills both tables in id order, {@value #BATCH_SIZE} rows per query and one JDBC batch per write.
+     */
+    @Override
+    public void backfill() {
+        try {
+            int mainSystems = fill(
+                    (afterId, limit) -> mainSystemMapper.selectStaleNameKeys(PinyinUtils.KEY_VERSION, afterId, limit),
+                    MainSystemEntity::getId,
+                    batch -> jdbcTemplate.batchUpdate(UPDATE_MAIN_SYSTEM_SQL, batch, batch.size(), (ps, entity) -> {
+                        ps.setString(PARAM_INITIALS, PinyinUtils.initials(entity.getName()));
+                        ps.setBytes(PARAM_SORT_KEY, PinyinUtils.sortKey(entity.getName()));
+                        ps.setInt(PARAM_KEY_VERSION, PinyinUtils.KEY_VERSION);
+                        ps.setLong(PARAM_ID, entity.getId());
+                    }));
+            int subSystems = fill(
+                    (afterId, limit) -> subSystemMapper.selectStaleNameKeys(PinyinUtils.KEY_VERSION, afterId, limit),
+                    SubSystemEntity::getId,
+                    batch -> jdbcTemplate.batchUpdate(UPDATE_SUB_SYSTEM_SQL, batch, batch.size(), (ps, entity) -> {
+                        ps.setString(PARAM_INITIALS, PinyinUtils.initials(entity.getName()));
+                        ps.setBytes(PARAM_SORT_KEY, PinyinUtils.sortKey(entity.getName()));
+                        ps.setInt(PARAM_KEY_VERSION, PinyinUtils.KEY_VERSION);
+                        ps.setLong(PARAM_ID, entity.getId());
+                    }));
+            if (mainSystems + subSystems > 0) {
+                log.info("Backfilled name keys: {} main systems, {} sub systems", mainSystems, subSystems);
+            }
+        } catch (DataAccessException e) {
+            // 回填失败不影响服务: 未重算的行沿用旧版本的键 (从未计算的行暂时无法按拼音检索, 名称排序时排在最前), 下次启动重试
+            log.warn("System name key backfill failed, will retry on next startup", e);
+        }
+    }
+
+    private static <E> int fill(
+            BiFunction<Long, Integer, List<E>> select, Function<E, Long> idOf, Consumer<List<E>> write) {
+        long afterId = 0;
+        int filled = 0;
+        List<E> rows;
+        do {
+            rows = select.apply(afterId, BATCH_SIZE);
+            if (!rows.isEmpty()) {
+                write.accept(rows);
+                afterId = idOf.apply(rows.get(rows.size() - 1));
+            }
+            filled += rows.size();
+        } while (rows.size() == BATCH_SIZE);
+        return filled;
+    }
+}
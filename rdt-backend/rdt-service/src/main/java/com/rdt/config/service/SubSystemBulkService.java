@@ -0,0 +1,35 @@
+package com.rdt.config.service;
+
+import com.rdt.common.model.BulkResult;
+import com.rdt.config.model.dto.SubSystemBulkRequest;
+
+/**
+ * Set-based sub system operations over the sub systems selected by a {@link SubSystemBulkRequest}: one statement
+ * per chunk of ids instead of a read and a write per sub system.
+ */
+public interface SubSystemBulkService {
+
+    /**
+     * Moves the selected sub systems under {@code targetMainSystemId}, keeping both parents' counters in step.
+     *
+     * @param request selection and target main system
+     * @return matched and moved counts
+     */
+    BulkResult moveSubSystems(SubSystemBulkRequest request);
+
+    /**
+     * Sets the status of the selected sub systems.
+     *
+     * @param request selection and status
+     * @return matched and changed counts
+     */
+    BulkResult updateSubSystemStatus(SubSystemBulkRequest request);
+
+    /**
+     * Soft-deletes the selected sub systems.
+     *
+     * @param request selection
+     * @return matched and deleted counts
+     */
+    BulkResult deleteSubSystems(SubSystemBulkRequest request);
+}
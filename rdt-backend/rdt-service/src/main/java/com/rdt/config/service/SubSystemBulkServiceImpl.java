@@ -0,0 +1,160 @@
+package com.rdt.config.service;
+
+import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
+import com.baomidou.mybatisplus.core.conditions.update.UpdateWrapper;
+import com.rdt.auth.config.BulkOperationProperties;
+import com.rdt.common.exception.BusinessException;
+import com.rdt.common.model.BulkResult;
+import com.rdt.config.mapper.MainSystemMapper;
+import com.rdt.config.mapper.SubSystemMapper;
+import com.rdt.config.model.dto.SubSystemBulkRequest;
+import com.rdt.config.model.entity.SubSystemEntity;
+import com.rdt.query.component.Paginator;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Bulk sub system operations in chunks of {@code bulk.chunk-size} ids.
+ *
+ * <p>Per chunk: one {@code SELECT ... FOR UPDATE} finds the sub systems that exist and still need the change, and
+ * one {@code UPDATE ... WHERE id IN} writes the changed field to exactly those. Parent counters get one adjustment
+ * per main system for the whole operation, and the caches are swept once: the changed rows, the tree and the list
+ * totals.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SubSystemBulkServiceImpl implements SubSystemBulkService {
+
+    private static final int ERR_MAIN_SYSTEM_NOT_FOUND = 10_003;
+    private static final String ID_COLUMN = "id";
+    private static final String BUMP_VERSION = "version = version + 1";
+    private static final String MAIN_SYSTEM_ID = "main_system_id";
+
+    private final SubSystemMapper subSystemMapper;
+    private final MainSystemMapper mainSystemMapper;
+    private final SystemCacheService systemCacheService;
+    private final SystemTreeService systemTreeService;
+    private final Paginator paginator;
+    private final BulkOperationProperties properties;
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public BulkResult moveSubSystems(SubSystemBulkRequest request) {
+        final Long target = request.getTargetMainSystemId();
+        if (target == null || mainSystemMapper.selectById(target) == null) {
+            throw new BusinessException(ERR_MAIN_SYSTEM_NOT_FOUND, "Main System not found");
+        }
+        Map<Long, Integer> counts = new HashMap<>();
+        BulkResult result = apply(request, sub -> !target.equals(sub.getMainSystemId()), changing -> {
+            changing.forEach(sub -> counts.merge(sub.getMainSystemId(), -1, Integer::sum));
+            counts.merge(target, changing.size(), Integer::sum);
+            return subSystemMapper.update(
+                    SubSystemEntity.builder().mainSystemId(target).build(), byIds(changing));
+        });
+        mainSystemMapper.adjustSubSystemCounts(counts);
+        return result;
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public BulkResult updateSubSystemStatus(SubSystemBulkRequest request) {
+        final Integer status = request.getStatus();
+        if (status == null) {
+            throw BusinessException.badRequest("Status is required");
+        }
+        return apply(
+                request,
+                sub -> !status.equals(sub.getStatus()),
+                changing -> subSystemMapper.update(
+                        SubSystemEntity.builder().status(status).build(), byIds(changing)));
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public BulkResult deleteSubSystems(SubSystemBulkRequest request) {
+        Map<Long, Integer> counts = new HashMap<>();
+        BulkResult result = apply(request, sub -> true, changing -> {
+            changing.forEach(sub -> counts.merge(sub.getMainSystemId(), -1, Integer::sum));
+            return subSystemMapper.deleteBatchIds(
+                    changing.stream().map(SubSystemEntity::getId).toList());
+        });
+        mainSystemMapper.adjustSubSystemCounts(counts);
+        return result;
+    }
+
+    /**
+     * @param applies whether a matched sub system still needs the change
+     * @param update  statement changing the given (locked) sub systems, returning the rows changed
+     */
+    private BulkResult apply(
+            SubSystemBulkRequest request,
+            Predicate<SubSystemEntity> applies,
+            ToIntFunction<List<SubSystemEntity>> update) {
+        List<Long> ids = selectedIds(request);
+        List<Long> changedIds = new ArrayList<>();
+        long matched = 0;
+        long affected = 0;
+        for (int from = 0; from < ids.size(); from += properties.getChunkSize()) {
+            List<Long> chunk = ids.subList(from, Math.min(from + properties.getChunkSize(), ids.size()));
+            // Locked until commit, so the update and the counters see exactly the rows selected here
+            List<SubSystemEntity> subSystems = subSystemMapper.selectList(new QueryWrapper<SubSystemEntity>()
+                    .select(ID_COLUMN, MAIN_SYSTEM_ID, "status")
+                    .in(ID_COLUMN, chunk)
+                    .last("FOR UPDATE"));
+            matched += subSystems.size();
+            List<SubSystemEntity> changing = subSystems.stream().filter(applies).toList();
+            if (changing.isEmpty()) {
+                continue;
+            }
+            affected += update.applyAsInt(changing);
+            changing.forEach(sub -> changedIds.add(sub.getId()));
+        }
+
+        if (!changedIds.isEmpty()) {
+            systemCacheService.evictSubSystems(changedIds);
+            systemTreeService.invalidate();
+            paginator.evictTotals(SubSystemServiceImpl.SUB_SYSTEM_TOTALS);
+        }
+        log.info("Bulk sub system operation: {} selected, {} matched, {} changed", ids.size(), matched, affected);
+        return new BulkResult(matched, affected);
+    }
+
+    /**
+     * The requested ids without repeats, or the ids of the main system's sub systems (one id-only query).
+     */
+    private List<Long> selectedIds(SubSystemBulkRequest request) {
+        boolean byIds = request.getIds() != null && !request.getIds().isEmpty();
+        if (byIds == (request.getMainSystemId() != null)) {
+            throw BusinessException.badRequest("Select sub systems by either ids or mainSystemId");
+        }
+        if (byIds) {
+            return request.getIds().stream().distinct().toList();
+        }
+        return subSystemMapper
+                .selectList(new QueryWrapper<SubSystemEntity>()
+                        .select(ID_COLUMN)
+                        .eq(MAIN_SYSTEM_ID, request.getMainSystemId())
+                        .orderByAsc(ID_COLUMN))
+                .stream()
+                .map(SubSystemEntity::getId)
+                .toList();
+    }
+
+    /**
+     * Where clause of the move and status updates; a bulk change is an edit, so it bumps the optimistic lock version.
+     */
+    private static UpdateWrapper<SubSystemEntity> byIds(List<SubSystemEntity> subSystems) {
+        return new UpdateWrapper<SubSystemEntity>()
+                .in(ID_COLUMN, subSystems.stream().map(SubSystemEntity::getId).toList())
+                .setSql(BUMP_VERSION);
+    }
+}
@@ -1,6 +1,8 @@
 package com.rdt.config.service;
 
-import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.rdt.api.model.dto.PageResponse;
+import com.rdt.common.model.CursorPage;
+import com.rdt.common.model.PageParams;
 import com.rdt.config.model.dto.SubSystemCreateRequest;
 import com.rdt.config.model.dto.SubSystemResponse;
 import com.rdt.config.model.dto.SubSystemUpdateRequest;
@@ -10,7 +12,9 @@ public interface SubSystemService {
 
     SubSystemResponse getSubSystem(Long id);
 
-    Page<SubSystemResponse> getSubSystemList(Long mainSystemId, String keyword, int page, int size);
+    PageResponse<SubSystemResponse> getSubSystemList(Long mainSystemId, String keyword, PageParams params);
+
+    CursorPage<SubSystemResponse> getSubSystemListAfter(Long mainSystemId, String keyword, String cursor, int size);
 
     void updateSubSystem(Long id, SubSystemUpdateRequest request);
 
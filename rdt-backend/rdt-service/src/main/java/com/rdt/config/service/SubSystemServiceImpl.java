@@ -2,16 +2,27 @@ package com.rdt.config.service;
 
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.rdt.api.model.dto.PageResponse;
 import com.rdt.common.exception.BusinessException;
+import com.rdt.common.model.CursorPage;
+import com.rdt.common.model.KeysetCursor;
+import com.rdt.common.model.PageParams;
+import com.rdt.common.util.PinyinUtils;
+import com.rdt.config.convert.SystemConverter;
 import com.rdt.config.mapper.MainSystemMapper;
 import com.rdt.config.mapper.SubSystemMapper;
+import com.rdt.config.mapper.SystemQueries;
 import com.rdt.config.model.dto.SubSystemCreateRequest;
 import com.rdt.config.model.dto.SubSystemResponse;
 import com.rdt.config.model.dto.SubSystemUpdateRequest;
 import com.rdt.config.model.entity.MainSystemEntity;
 import com.rdt.config.model.entity.SubSystemEntity;
+import com.rdt.query.component.PageQuery;
+import com.rdt.query.component.Paginator;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,9 +33,17 @@ public class SubSystemServiceImpl implements SubSystemService {
     private static final int ERR_CODE_EXISTS = 10_002;
     private static final int ERR_MAIN_SYSTEM_NOT_FOUND = 10_003;
     private static final int ERR_SUB_SYSTEM_NOT_FOUND = 10_004;
+    private static final int ERR_VERSION_CONFLICT = 10_005;
+    private static final String CODE_EXISTS_MESSAGE = "System code already exists";
+    private static final String VERSION_CONFLICT_MESSAGE =
+            "Sub System was modified by someone else, reload it and try again";
+    /* default */ static final String SUB_SYSTEM_TOTALS = "config.sub-systems";
 
     private final SubSystemMapper subSystemMapper;
     private final MainSystemMapper mainSystemMapper;
+    private final SystemCacheService systemCacheService;
+    private final SystemTreeService systemTreeService;
+    private final Paginator paginator;
 
     @Override
     @Transactional(rollbackFor = Exception.class)
@@ -35,14 +54,12 @@ public class SubSystemServiceImpl implements SubSystemService {
             throw new BusinessException(ERR_MAIN_SYSTEM_NOT_FOUND, "Main System not found");
         }
 
-        // Validate Code Uniqueness
-        if (checkCodeExists(request.getCode(), null)) {
-            throw new BusinessException(ERR_CODE_EXISTS, "System code already exists");
-        }
-
         SubSystemEntity entity = SubSystemEntity.builder()
                 .mainSystemId(request.getMainSystemId())
                 .name(request.getName())
+                .nameInitials(PinyinUtils.initials(request.getName()))
+                .nameSortKey(PinyinUtils.sortKey(request.getName()))
+                .nameKeyVersion(PinyinUtils.keyVersion(request.getName()))
                 .code(request.getCode())
                 .description(request.getDescription())
                 .gitUrl(request.getGitUrl())
@@ -50,111 +67,149 @@ public class SubSystemServiceImpl implements SubSystemService {
                 .status(1)
                 .build();
 
-        subSystemMapper.insert(entity);
+        try {
+            subSystemMapper.insert(entity);
+        } catch (DuplicateKeyException e) {
+            throw new BusinessException(ERR_CODE_EXISTS, CODE_EXISTS_MESSAGE, e);
+        }
+        mainSystemMapper.moveSubSystemCount(null, entity.getMainSystemId());
+        systemCacheService.evictSubSystem(entity.getId());
+        systemTreeService.invalidate();
+        paginator.evictTotals(SUB_SYSTEM_TOTALS);
         return entity.getId();
     }
 
     @Override
     public SubSystemResponse getSubSystem(Long id) {
-        SubSystemEntity entity = subSystemMapper.selectById(id);
+        SubSystemEntity entity = systemCacheService.getSubSystem(id);
         if (entity == null) {
             throw new BusinessException(ERR_SUB_SYSTEM_NOT_FOUND, "Sub System not found");
         }
-        return convertToResponse(entity);
+        return convertToResponse(entity, systemCacheService.getMainSystemNames(List.of(entity)));
     }
 
     @Override
-    public Page<SubSystemResponse> getSubSystemList(Long mainSystemId, String keyword, int page, int size) {
-        final Page<SubSystemEntity> pageParam = new Page<>(page, size);
-        LambdaQueryWrapper<SubSystemEntity> queryWrapper = new LambdaQueryWrapper<>();
+    public PageResponse<SubSystemResponse> getSubSystemList(Long mainSystemId, String keyword, PageParams params) {
+        Page<SubSystemEntity> resultPage = paginator.selectPage(
+                subSystemMapper,
+                params,
+                PageQuery.<SubSystemEntity>builder()
+                        .filter(() -> SystemQueries.subSystemList(mainSystemId, keyword))
+                        .order(w -> SystemQueries.orderSubSystems(w, params.getSort()))
+                        .totalKey(Paginator.totalKey(SUB_SYSTEM_TOTALS, mainSystemId, keyword))
+                        .build());
+
+        // One batched lookup for the page's distinct main systems instead of one per row
+        Map<Long, String> mainSystemNames = systemCacheService.getMainSystemNames(resultPage.getRecords());
+        return Paginator.toResponse(resultPage, entity -> convertToResponse(entity, mainSystemNames));
+    }
 
-        if (mainSystemId != null) {
-            queryWrapper.eq(SubSystemEntity::getMainSystemId, mainSystemId);
-        }
+    @Override
+    public CursorPage<SubSystemResponse> getSubSystemListAfter(
+            Long mainSystemId, String keyword, String cursor, int size) {
+        List<SubSystemEntity> rows = subSystemMapper.selectList(SystemQueries.subSystemsAfter(
+                SystemQueries.subSystemList(mainSystemId, keyword), KeysetCursor.decode(cursor), size));
+        Map<Long, String> mainSystemNames = systemCacheService.getMainSystemNames(rows);
+        return CursorPage.slice(
+                rows,
+                size,
+                entity -> convertToResponse(entity, mainSystemNames),
+                entity -> new KeysetCursor(entity.getCreatedAt(), entity.getId()));
+    }
 
-        if (keyword != null && !keyword.isEmpty()) {
-            queryWrapper.and(
-                    w -> w.like(SubSystemEntity::getName, keyword).or().like(SubSystemEntity::getCode, keyword));
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public void updateSubSystem(Long id, SubSystemUpdateRequest request) {
+        // Usual case, parent unchanged - one statement: UPDATE ... SET <non-null fields>, version = version + 1
+        // WHERE id = ? AND main_system_id = ? AND version = ?
+        int updated = update(
+                changes(request),
+                new LambdaQueryWrapper<SubSystemEntity>()
+                        .eq(SubSystemEntity::getId, id)
+                        .eq(SubSystemEntity::getMainSystemId, request.getMainSystemId()));
+        if (updated == 0) {
+            reparent(id, request);
         }
-
-        queryWrapper.orderByDesc(SubSystemEntity::getCreatedAt);
-        Page<SubSystemEntity> resultPage = subSystemMapper.selectPage(pageParam, queryWrapper);
-
-        List<SubSystemResponse> records =
-                resultPage.getRecords().stream().map(this::convertToResponse).toList();
-
-        Page<SubSystemResponse> responsePage = new Page<>(page, size);
-        responsePage.setRecords(records);
-        responsePage.setTotal(resultPage.getTotal());
-
-        return responsePage;
+        systemCacheService.evictSubSystem(id);
+        systemTreeService.invalidate();
+        paginator.evictTotals(SUB_SYSTEM_TOTALS);
     }
 
     @Override
     @Transactional(rollbackFor = Exception.class)
-    public void updateSubSystem(Long id, SubSystemUpdateRequest request) {
+    public void deleteSubSystem(Long id) {
         SubSystemEntity entity = subSystemMapper.selectById(id);
         if (entity == null) {
-            throw new BusinessException(ERR_SUB_SYSTEM_NOT_FOUND, "Sub System not found");
+            return;
         }
-
-        // Validate Main System if changed (though typically not allowed to change
-        // parent freely, let's assume allowed)
-        if (!entity.getMainSystemId().equals(request.getMainSystemId())) {
-            MainSystemEntity mainSystem = mainSystemMapper.selectById(request.getMainSystemId());
-            if (mainSystem == null) {
-                throw new BusinessException(ERR_MAIN_SYSTEM_NOT_FOUND, "Main System not found");
-            }
-            entity.setMainSystemId(request.getMainSystemId());
+        if (subSystemMapper.deleteById(id) > 0) {
+            mainSystemMapper.moveSubSystemCount(entity.getMainSystemId(), null);
         }
+        systemCacheService.evictSubSystem(id);
+        systemTreeService.invalidate();
+        paginator.evictTotals(SUB_SYSTEM_TOTALS);
+    }
 
-        if (checkCodeExists(request.getCode(), id)) {
-            throw new BusinessException(ERR_CODE_EXISTS, "System code already exists");
+    /**
+     * The update found no row at the requested parent: the sub system is missing, stale, or moving to another main
+     * system. A move must read the current parent to adjust both counters; its version is checked by the second
+     * statement.
+     */
+    private void reparent(Long id, SubSystemUpdateRequest request) {
+        SubSystemEntity current = subSystemMapper.selectById(id);
+        if (current == null) {
+            throw new BusinessException(ERR_SUB_SYSTEM_NOT_FOUND, "Sub System not found");
+        }
+        final Long previousMainSystemId = current.getMainSystemId();
+        if (previousMainSystemId.equals(request.getMainSystemId())) {
+            // Parent unchanged, so the first statement missed on the version
+            throw new BusinessException(ERR_VERSION_CONFLICT, VERSION_CONFLICT_MESSAGE);
+        }
+        if (mainSystemMapper.selectById(request.getMainSystemId()) == null) {
+            throw new BusinessException(ERR_MAIN_SYSTEM_NOT_FOUND, "Main System not found");
         }
 
-        entity.setName(request.getName());
-        entity.setCode(request.getCode());
-        entity.setDescription(request.getDescription());
-        entity.setGitUrl(request.getGitUrl());
-        entity.setOwner(request.getOwner());
-        entity.setStatus(request.getStatus());
-
-        subSystemMapper.updateById(entity);
-    }
-
-    @Override
-    @Transactional(rollbackFor = Exception.class)
-    public void deleteSubSystem(Long id) {
-        subSystemMapper.deleteById(id);
+        SubSystemEntity changes = changes(request);
+        changes.setMainSystemId(request.getMainSystemId());
+        if (update(changes, new LambdaQueryWrapper<SubSystemEntity>().eq(SubSystemEntity::getId, id)) == 0) {
+            throw new BusinessException(ERR_VERSION_CONFLICT, VERSION_CONFLICT_MESSAGE);
+        }
+        mainSystemMapper.moveSubSystemCount(previousMainSystemId, request.getMainSystemId());
     }
 
-    private boolean checkCodeExists(String code, Long excludeId) {
-        LambdaQueryWrapper<SubSystemEntity> queryWrapper = new LambdaQueryWrapper<>();
-        queryWrapper.eq(SubSystemEntity::getCode, code);
-        if (excludeId != null) {
-            queryWrapper.ne(SubSystemEntity::getId, excludeId);
+    /**
+     * Writes the non-null fields of {@code changes} to the row matched by {@code where}; the optimistic locking
+     * interceptor adds the version check and increment.
+     */
+    private int update(SubSystemEntity changes, LambdaQueryWrapper<SubSystemEntity> where) {
+        try {
+            return subSystemMapper.update(changes, where);
+        } catch (DuplicateKeyException e) {
+            throw new BusinessException(ERR_CODE_EXISTS, CODE_EXISTS_MESSAGE, e);
         }
-        return subSystemMapper.selectCount(queryWrapper) > 0;
     }
 
-    private SubSystemResponse convertToResponse(SubSystemEntity entity) {
-        // Optimally we should batch fetch main system names, but for simple list/get
-        // it's okay to fetch individual or assume caller has context.
-        // For now, let's fetch main system request to populate name.
-        MainSystemEntity mainSystem = mainSystemMapper.selectById(entity.getMainSystemId());
-
-        return SubSystemResponse.builder()
-                .id(entity.getId())
-                .mainSystemId(entity.getMainSystemId())
-                .mainSystemName(mainSystem != null ? mainSystem.getName() : "Unknown")
-                .name(entity.getName())
-                .code(entity.getCode())
-                .description(entity.getDescription())
-                .gitUrl(entity.getGitUrl())
-                .owner(entity.getOwner())
-                .status(entity.getStatus())
-                .createdAt(entity.getCreatedAt())
-                .updatedAt(entity.getUpdatedAt())
+    /**
+     * The requested field values, without the parent. A fresh instance per statement: the interceptor overwrites its
+     * version with the incremented one.
+     */
+    private static SubSystemEntity changes(SubSystemUpdateRequest request) {
+        return SubSystemEntity.builder()
+                .name(request.getName())
+                .nameInitials(PinyinUtils.initials(request.getName()))
+                .nameSortKey(PinyinUtils.sortKey(request.getName()))
+                .nameKeyVersion(PinyinUtils.keyVersion(request.getName()))
+                .code(request.getCode())
+                .description(request.getDescription())
+                .gitUrl(request.getGitUrl())
+                .owner(request.getOwner())
+                .status(request.getStatus())
+                .version(request.getVersion())
                 .build();
     }
+
+    private static SubSystemResponse convertToResponse(SubSystemEntity entity, Map<Long, String> mainSystemNames) {
+        return SystemConverter.INSTANCE.toResponse(
+                entity, mainSystemNames.getOrDefault(entity.getMainSystemId(), "Unknown"));
+    }
 }
@@ -0,0 +1,64 @@
+package com.rdt.config.service;
+
+import com.rdt.config.model.entity.MainSystemEntity;
+import com.rdt.config.model.entity.SubSystemEntity;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Read-through cache of main and sub system rows for the read paths.
+ *
+ * <p>Returned entities are shared and must be treated as read-only; write paths load their own copy from the
+ * mapper and call the matching {@code evict} method.
+ */
+public interface SystemCacheService {
+
+    /**
+     * @param id main system id
+     * @return the row, or {@code null} if it does not exist (misses are not cached)
+     */
+    MainSystemEntity getMainSystem(Long id);
+
+    /**
+     * Bulk variant of {@link #getMainSystem}: ids not cached yet are loaded with a single query.
+     *
+     * @param ids main system ids
+     * @return the rows found, by id
+     */
+    Map<Long, MainSystemEntity> getMainSystems(Collection<Long> ids);
+
+    /**
+     * Names of the main systems the given sub systems belong to, resolved through {@link #getMainSystems}.
+     *
+     * @param subSystems sub systems
+     * @return main system names, by id (parents that no longer exist are absent)
+     */
+    Map<Long, String> getMainSystemNames(Collection<SubSystemEntity> subSystems);
+
+    /**
+     * @param id sub system id
+     * @return the row, or {@code null} if it does not exist (misses are not cached)
+     */
+    SubSystemEntity getSubSystem(Long id);
+
+    /**
+     * Drops a main system now and again once the current transaction completes.
+     *
+     * @param id main system id
+     */
+    void evictMainSystem(Long id);
+
+    /**
+     * Drops a sub system now and again once the current transaction completes.
+     *
+     * @param id sub system id
+     */
+    void evictSubSystem(Long id);
+
+    /**
+     * Bulk variant of {@link #evictSubSystem}.
+     *
+     * @param ids sub system ids
+     */
+    void evictSubSystems(Collection<Long> ids);
+}
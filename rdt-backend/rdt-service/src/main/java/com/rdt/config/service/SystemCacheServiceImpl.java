@@ -0,0 +1,118 @@
+package com.rdt.config.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rdt.common.util.TransactionUtils;
+import com.rdt.config.mapper.MainSystemMapper;
+import com.rdt.config.mapper.SubSystemMapper;
+import com.rdt.config.model.entity.MainSystemEntity;
+import com.rdt.config.model.entity.SubSystemEntity;
+import com.rdt.config.properties.SystemCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Service;
+
+/**
+ * Caffeine-backed {@link SystemCacheService}: bounded, expiring after {@code config.system-cache.ttl}.
+ *
+ * <p>Invalidation is local to this node; the TTL bounds how long other nodes serve a changed row. Hits, misses,
+ * evictions and load latency are published per cache ({@code config.main-system}, {@code config.sub-system}) as
+ * the standard {@code cache.*} meters.
+ */
+@Service
+public class SystemCacheServiceImpl implements SystemCacheService {
+
+    public static final String MAIN_SYSTEM_CACHE = "config.main-system";
+    public static final String SUB_SYSTEM_CACHE = "config.sub-system";
+
+    private final MainSystemMapper mainSystemMapper;
+    private final SubSystemMapper subSystemMapper;
+    private final Cache<Long, MainSystemEntity> mainSystems;
+    private final Cache<Long, SubSystemEntity> subSystems;
+
+    public SystemCacheServiceImpl(
+            MainSystemMapper mainSystemMapper,
+            SubSystemMapper subSystemMapper,
+            SystemCacheProperties properties,
+            MeterRegistry meterRegistry) {
+        this.mainSystemMapper = mainSystemMapper;
+        this.subSystemMapper = subSystemMapper;
+        this.mainSystems = newCache(properties);
+        this.subSystems = newCache(properties);
+        CaffeineCacheMetrics.monitor(meterRegistry, mainSystems, MAIN_SYSTEM_CACHE);
+        CaffeineCacheMetrics.monitor(meterRegistry, subSystems, SUB_SYSTEM_CACHE);
+    }
+
+    @Override
+    public MainSystemEntity getMainSystem(Long id) {
+        return mainSystems.get(id, mainSystemMapper::selectById);
+    }
+
+    @Override
+    public Map<Long, MainSystemEntity> getMainSystems(Collection<Long> ids) {
+        return mainSystems.getAll(ids, missing -> mainSystemMapper.selectBatchIds(missing).stream()
+                .collect(Collectors.toMap(MainSystemEntity::getId, Function.identity())));
+    }
+
+    @Override
+    public Map<Long, String> getMainSystemNames(Collection<SubSystemEntity> subSystems) {
+        Set<Long> ids = subSystems.stream()
+                .map(SubSystemEntity::getMainSystemId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return getMainSystems(ids).values().stream()
+                .collect(Collectors.toMap(MainSystemEntity::getId, MainSystemEntity::getName));
+    }
+
+    @Override
+    public SubSystemEntity getSubSystem(Long id) {
+        return subSystems.get(id, subSystemMapper::selectById);
+    }
+
+    @Override
+    public void evictMainSystem(Long id) {
+        evict(mainSystems, id);
+    }
+
+    @Override
+    public void evictSubSystem(Long id) {
+        evict(subSystems, id);
+    }
+
+    @Override
+    public void evictSubSystems(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<Long> keys = List.copyOf(ids);
+        subSystems.invalidateAll(keys);
+        TransactionUtils.afterCompletion(() -> subSystems.invalidateAll(keys));
+    }
+
+    private static <V> Cache<Long, V> newCache(SystemCacheProperties properties) {
+        return Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+    }
+
+    private static <V> void evict(Cache<Long, V> cache, Long id) {
+        if (id == null) {
+            return;
+        }
+        // Again after completion, so a reload racing with the transaction cannot keep the old row cached
+        cache.invalidate(id);
+        TransactionUtils.afterCompletion(() -> cache.invalidate(id));
+    }
+}
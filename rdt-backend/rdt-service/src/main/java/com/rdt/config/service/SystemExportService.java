@@ -0,0 +1,24 @@
+package com.rdt.config.service;
+
+import com.rdt.config.model.dto.MainSystemResponse;
+import com.rdt.config.model.dto.SubSystemResponse;
+import java.util.function.Consumer;
+
+/**
+ * Streams the system catalog over database cursors, each export in one read-only transaction: memory use does not
+ * grow with the row count, and a connection is held until the last row has been consumed.
+ */
+public interface SystemExportService {
+
+    /**
+     * @param sink receives each active main system, in id order
+     * @return number of main systems exported
+     */
+    long exportMainSystems(Consumer<MainSystemResponse> sink);
+
+    /**
+     * @param sink receives each active sub system with its main system's name, in id order
+     * @return number of sub systems exported
+     */
+    long exportSubSystems(Consumer<SubSystemResponse> sink);
+}
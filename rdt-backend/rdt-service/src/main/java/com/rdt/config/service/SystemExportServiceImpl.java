@@ -0,0 +1,49 @@
+package com.rdt.config.service;
+
+import com.rdt.config.mapper.MainSystemMapper;
+import com.rdt.config.mapper.SubSystemMapper;
+import com.rdt.config.model.dto.MainSystemResponse;
+import com.rdt.config.model.dto.SubSystemResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class SystemExportServiceImpl implements SystemExportService {
+
+    private final MainSystemMapper mainSystemMapper;
+    private final SubSystemMapper subSystemMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportMainSystems(Consumer<MainSystemResponse> sink) {
+        return drain(mainSystemMapper.selectExportCursor(), sink);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportSubSystems(Consumer<SubSystemResponse> sink) {
+        return drain(subSystemMapper.selectExportCursor(), sink);
+    }
+
+    /**
+     * Hands every row of {@code cursor} to {@code sink}, then closes it.
+     */
+    private static <T> long drain(Cursor<T> cursor, Consumer<T> sink) {
+        long rows = 0;
+        try (cursor) {
+            for (T row : cursor) {
+                sink.accept(row);
+                rows++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,26 @@
+package com.rdt.config.service;
+
+import com.rdt.config.model.dto.SystemTreeChildrenResponse;
+import com.rdt.config.model.dto.SystemTreeResponse;
+
+/**
+ * Serves the main/sub system hierarchy from an immutable snapshot.
+ */
+public interface SystemTreeService {
+
+    /**
+     * Current snapshot, rebuilt first if a config write happened since it was taken.
+     */
+    SystemTreeResponse getTree();
+
+    /**
+     * One page of a single tree level, read straight from the database: main systems when {@code parentId} is
+     * {@code null}, otherwise the sub systems of that main system. Pages by id after {@code cursor}.
+     */
+    SystemTreeChildrenResponse getChildren(Long parentId, Long cursor, int size);
+
+    /**
+     * Marks the snapshot stale; called by every main/sub system write.
+     */
+    void invalidate();
+}
@@ -0,0 +1,209 @@
+package com.rdt.config.service;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.rdt.common.util.DigestUtils;
+import com.rdt.common.util.TransactionUtils;
+import com.rdt.config.mapper.MainSystemMapper;
+import com.rdt.config.mapper.SubSystemMapper;
+import com.rdt.config.model.dto.SystemTreeChildrenResponse;
+import com.rdt.config.model.dto.SystemTreeNode;
+import com.rdt.config.model.dto.SystemTreeResponse;
+import com.rdt.config.model.entity.MainSystemEntity;
+import com.rdt.config.model.entity.SubSystemEntity;
+import com.rdt.config.properties.SystemCacheProperties;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * {@link SystemTreeService} backed by one immutable snapshot built from two set-based queries.
+ *
+ * <p>Writes only bump a counter (now and again after the transaction completes, so a rebuild racing with the
+ * transaction is discarded); the next read rebuilds under a lock while concurrent readers keep getting the previous
+ * snapshot. Writes on other nodes are not seen here, so a snapshot is also rebuilt once it is older than
+ * {@code config.system-cache.ttl}.
+ */
+@Service
+public class SystemTreeServiceImpl implements SystemTreeService {
+
+    private static final int VERSION_HEX_LENGTH = 32;
+    private static final char FIELD_SEPARATOR = '\u0000';
+
+    private final MainSystemMapper mainSystemMapper;
+    private final SubSystemMapper subSystemMapper;
+    private final long maxAgeNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicLong writes = new AtomicLong();
+    private final AtomicReference<SystemTreeResponse> snapshot = new AtomicReference<>();
+    private final AtomicLong snapshotWrites = new AtomicLong(-1);
+    private final AtomicLong snapshotBuiltAt = new AtomicLong();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    @Autowired
+    public SystemTreeServiceImpl(
+            MainSystemMapper mainSystemMapper, SubSystemMapper subSystemMapper, SystemCacheProperties properties) {
+        this(mainSystemMapper, subSystemMapper, properties, System::nanoTime);
+    }
+
+    public SystemTreeServiceImpl(
+            MainSystemMapper mainSystemMapper,
+            SubSystemMapper subSystemMapper,
+            SystemCacheProperties properties,
+            LongSupplier nanoClock) {
+        this.mainSystemMapper = mainSystemMapper;
+        this.subSystemMapper = subSystemMapper;
+        this.maxAgeNanos = properties.getTtl().toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public SystemTreeResponse getTree() {
+        // The snapshot is published before its stamps, so fresh stamps guarantee an equally fresh snapshot
+        if (isFresh()) {
+            return snapshot.get();
+        }
+        rebuildLock.lock();
+        try {
+            if (isFresh()) {
+                return snapshot.get();
+            }
+            // Read the counter before querying: a write landing mid-build leaves this snapshot stale
+            long writesSeen = writes.get();
+            long builtAt = nanoClock.getAsLong();
+            SystemTreeResponse rebuilt = build();
+            snapshot.set(rebuilt);
+            snapshotBuiltAt.set(builtAt);
+            snapshotWrites.set(writesSeen);
+            return rebuilt;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @Override
+    public SystemTreeChildrenResponse getChildren(Long parentId, Long cursor, int size) {
+        long afterId = cursor == null ? 0L : cursor;
+        // One extra row tells whether another page exists without a COUNT
+        List<SystemTreeNode> nodes = parentId == null
+                ? mainSystemMapper.selectAfter(afterId, size + 1).stream()
+                        .map(SystemTreeServiceImpl::toNode)
+                        .toList()
+                : subSystemMapper.selectChildrenAfter(parentId, afterId, size + 1).stream()
+                        .map(SystemTreeServiceImpl::toNode)
+                        .toList();
+        if (nodes.size() <= size) {
+            return SystemTreeChildrenResponse.builder().nodes(nodes).build();
+        }
+        List<SystemTreeNode> page = nodes.subList(0, size);
+        return SystemTreeChildrenResponse.builder()
+                .nodes(page)
+                .nextCursor(page.get(size - 1).getId())
+                .build();
+    }
+
+    @Override
+    public void invalidate() {
+        writes.incrementAndGet();
+        TransactionUtils.afterCompletion(writes::incrementAndGet);
+    }
+
+    private boolean isFresh() {
+        return snapshotWrites.get() == writes.get() && nanoClock.getAsLong() - snapshotBuiltAt.get() < maxAgeNanos;
+    }
+
+    private SystemTreeResponse build() {
+        List<MainSystemEntity> mains = mainSystemMapper.selectList(
+                new LambdaQueryWrapper<MainSystemEntity>().orderByAsc(MainSystemEntity::getId));
+        List<SubSystemEntity> subs = subSystemMapper.selectList(new LambdaQueryWrapper<SubSystemEntity>()
+                .orderByAsc(SubSystemEntity::getMainSystemId)
+                .orderByAsc(SubSystemEntity::getId));
+
+        Map<Long, List<SystemTreeNode>> childrenByParent = subs.stream()
+                .filter(sub -> sub.getMainSystemId() != null)
+                .collect(Collectors.groupingBy(
+                        SubSystemEntity::getMainSystemId,
+                        Collectors.mapping(SystemTreeServiceImpl::toNode, Collectors.toUnmodifiableList())));
+        List<SystemTreeNode> systems = mains.stream()
+                .map(main -> toNode(main, childrenByParent.getOrDefault(main.getId(), List.of())))
+                .toList();
+
+        return SystemTreeResponse.builder()
+                .version(fingerprint(systems))
+                .systems(systems)
+                .build();
+    }
+
+    private static SystemTreeNode toNode(MainSystemEntity entity, List<SystemTreeNode> children) {
+        return mainNodeBuilder(entity)
+                .childCount(children.size())
+                .children(children)
+                .build();
+    }
+
+    private static SystemTreeNode toNode(MainSystemEntity entity) {
+        return mainNodeBuilder(entity)
+                .childCount(Objects.requireNonNullElse(entity.getSubSystemCount(), 0))
+                .build();
+    }
+
+    private static SystemTreeNode toNode(SubSystemEntity entity) {
+        return SystemTreeNode.builder()
+                .id(entity.getId())
+                .parentId(entity.getMainSystemId())
+                .type(SystemTreeNode.TYPE_SUBSYSTEM)
+                .name(entity.getName())
+                .code(entity.getCode())
+                .description(entity.getDescription())
+                .owner(entity.getOwner())
+                .gitUrl(entity.getGitUrl())
+                .status(entity.getStatus())
+                .childCount(0)
+                .build();
+    }
+
+    private static SystemTreeNode.SystemTreeNodeBuilder mainNodeBuilder(MainSystemEntity entity) {
+        return SystemTreeNode.builder()
+                .id(entity.getId())
+                .type(SystemTreeNode.TYPE_SYSTEM)
+                .name(entity.getName())
+                .code(entity.getCode())
+                .description(entity.getDescription())
+                .owner(entity.getOwner())
+                .status(entity.getStatus());
+    }
+
+    /**
+     * Content hash of every served field, so identical trees get the same version on every node.
+     */
+    private static String fingerprint(List<SystemTreeNode> systems) {
+        StringBuilder canonical = new StringBuilder();
+        for (SystemTreeNode system : systems) {
+            appendNode(canonical, system);
+            system.getChildren().forEach(child -> appendNode(canonical, child));
+        }
+        return DigestUtils.sha256Hex(canonical.toString()).substring(0, VERSION_HEX_LENGTH);
+    }
+
+    private static void appendNode(StringBuilder canonical, SystemTreeNode node) {
+        for (Object field : new Object[] {
+            node.getId(),
+            node.getParentId(),
+            node.getType(),
+            node.getName(),
+            node.getCode(),
+            node.getDescription(),
+            node.getOwner(),
+            node.getGitUrl(),
+            node.getStatus()
+        }) {
+            canonical.append(Objects.toString(field, "")).append(FIELD_SEPARATOR);
+        }
+    }
+}
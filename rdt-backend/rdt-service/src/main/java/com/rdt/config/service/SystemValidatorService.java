@@ -0,0 +1,21 @@
+package com.rdt.config.service;
+
+import com.rdt.common.model.ResourceValidator;
+
+/**
+ * HTTP cache validators for the main/sub system detail endpoints, computed without building the response bodies.
+ * List pages take theirs from the built body ({@link ResourceValidator#ofBody}) and need no extra query.
+ */
+public interface SystemValidatorService {
+
+    /**
+     * Strong validator of a main system, from the entity cache; {@code null} if it does not exist.
+     */
+    ResourceValidator getMainSystemValidator(Long id);
+
+    /**
+     * Strong validator of a sub system (including its parent's name), from the entity cache; {@code null} if it
+     * does not exist.
+     */
+    ResourceValidator getSubSystemValidator(Long id);
+}
@@ -0,0 +1,68 @@
+package com.rdt.config.service;
+
+import com.rdt.common.model.ResourceValidator;
+import com.rdt.config.model.entity.MainSystemEntity;
+import com.rdt.config.model.entity.SubSystemEntity;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * {@link SystemValidatorService}: single rows are hashed from the entity cache, so a cached row needs no query.
+ */
+@Service
+@RequiredArgsConstructor
+public class SystemValidatorServiceImpl implements SystemValidatorService {
+
+    private static final String UNKNOWN_MAIN_SYSTEM = "Unknown";
+
+    private final SystemCacheService systemCacheService;
+
+    @Override
+    public ResourceValidator getMainSystemValidator(Long id) {
+        MainSystemEntity entity = systemCacheService.getMainSystem(id);
+        if (entity == null) {
+            return null;
+        }
+        return ResourceValidator.strong(
+                entity.getUpdatedAt(),
+                entity.getId(),
+                entity.getName(),
+                entity.getCode(),
+                entity.getDescription(),
+                entity.getOwner(),
+                entity.getStatus(),
+                entity.getCreatedAt(),
+                entity.getUpdatedAt());
+    }
+
+    @Override
+    public ResourceValidator getSubSystemValidator(Long id) {
+        SubSystemEntity entity = systemCacheService.getSubSystem(id);
+        if (entity == null) {
+            return null;
+        }
+        MainSystemEntity mainSystem = systemCacheService.getMainSystem(entity.getMainSystemId());
+        String mainSystemName = mainSystem == null ? UNKNOWN_MAIN_SYSTEM : mainSystem.getName();
+        return ResourceValidator.strong(
+                latest(entity.getUpdatedAt(), mainSystem == null ? null : mainSystem.getUpdatedAt()),
+                entity.getId(),
+                entity.getMainSystemId(),
+                mainSystemName,
+                entity.getName(),
+                entity.getCode(),
+                entity.getDescription(),
+                entity.getGitUrl(),
+                entity.getOwner(),
+                entity.getStatus(),
+                entity.getCreatedAt(),
+                entity.getUpdatedAt());
+    }
+
+    private static LocalDateTime latest(LocalDateTime first, LocalDateTime second) {
+        if (first == null) {
+            return second;
+        }
+        return second == null || first.isAfter(second) ? first : second;
+    }
+}
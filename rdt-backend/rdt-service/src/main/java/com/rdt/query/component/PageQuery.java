@@ -0,0 +1,42 @@
+package com.rdt.query.component;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * A paged list query for {@link Paginator}: its filter, kept apart from the ordering so the {@code COUNT} can run
+ * without it, and the key its total is cached under.
+ *
+ * @param <E> entity type
+ */
+@Value
+@Builder
+public class PageQuery<E> {
+
+    /**
+     * Builds a fresh filter wrapper on every call (wrappers are stateful and not thread-safe)
+     */
+    Supplier<LambdaQueryWrapper<E>> filter;
+
+    /**
+     * Appends the list ordering to a filter wrapper
+     */
+    Consumer<LambdaQueryWrapper<E>> order;
+
+    /**
+     * Key of the total in the totals cache, from {@link Paginator#totalKey}; {@code null} never caches
+     */
+    String totalKey;
+
+    /**
+     * @return filter and ordering, for the page query
+     */
+    public LambdaQueryWrapper<E> ordered() {
+        LambdaQueryWrapper<E> wrapper = filter.get();
+        order.accept(wrapper);
+        return wrapper;
+    }
+}
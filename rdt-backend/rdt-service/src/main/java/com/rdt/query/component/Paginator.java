@@ -0,0 +1,163 @@
+package com.rdt.query.component;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rdt.api.model.dto.PageResponse;
+import com.rdt.common.model.CountMode;
+import com.rdt.common.model.PageParams;
+import com.rdt.common.util.TransactionUtils;
+import com.rdt.query.config.PaginationProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs offset-paged list queries with the total obtained as the request's {@link CountMode} asks.
+ *
+ * <p>{@code PaginationInnerInterceptor} alone always issues {@code COUNT} with the same filter before the page
+ * query; on large tables that count costs more than the page. Here it can instead run concurrently on a
+ * {@link #EXECUTOR_BEAN dedicated executor} (and so on its own pooled connection, outside the caller's
+ * transaction), come from a short-lived per-filter cache that writes drop through {@link #evictTotals}, or be
+ * skipped for a one-row look-ahead.
+ *
+ * <p>Metrics: {@code pagination.totals} (cache statistics).
+ */
+@Component
+public class Paginator {
+
+    /** Name of the executor bean running parallel counts. */
+    public static final String EXECUTOR_BEAN = "pageCountExecutor";
+
+    /** Name of the totals cache in metrics. */
+    public static final String TOTALS_CACHE = "pagination.totals";
+
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final Executor executor;
+    private final Cache<String, Long> totals;
+
+    public Paginator(
+            PaginationProperties properties, @Qualifier(EXECUTOR_BEAN) Executor executor, MeterRegistry meterRegistry) {
+        this.executor = executor;
+        this.totals = Caffeine.newBuilder()
+                .maximumSize(properties.getTotalsMaxSize())
+                .expireAfterWrite(properties.getTotalsTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, totals, TOTALS_CACHE);
+    }
+
+    /**
+     * Cache key of a list total: the list's namespace plus its filter values, normalized the way MySQL compares
+     * them ({@code null} and blank alike, trimmed, case-insensitive).
+     *
+     * @param namespace list name, the unit of {@link #evictTotals}
+     * @param filter    filter values
+     * @return key
+     */
+    public static String totalKey(String namespace, Object... filter) {
+        StringBuilder key = new StringBuilder(namespace).append(KEY_SEPARATOR);
+        for (Object value : filter) {
+            String normalized = value == null ? "" : value.toString().trim().toLowerCase(Locale.ROOT);
+            key.append(normalized).append(KEY_SEPARATOR);
+        }
+        return key.toString();
+    }
+
+    /**
+     * One page of {@code query}.
+     *
+     * @param mapper mapper of the listed table
+     * @param params page, size and count mode
+     * @param query  filter, ordering and total key
+     * @param <E>    entity type
+     * @return page; with {@link CountMode#NONE} its total is a lower bound
+     */
+    public <E> Page<E> selectPage(BaseMapper<E> mapper, PageParams params, PageQuery<E> query) {
+        return switch (params.getCount()) {
+            case EXACT -> mapper.selectPage(new Page<>(params.getPage(), params.getSize()), query.ordered());
+            case PARALLEL -> selectWithParallelCount(mapper, params, query);
+            case CACHED -> selectWithCachedTotal(mapper, params, query);
+            case NONE -> selectWithLookAhead(mapper, params, query);
+        };
+    }
+
+    /**
+     * Converts a page of entities into the response sent to clients, without the MyBatis-Plus query state.
+     *
+     * @param page   page of entities
+     * @param mapper entity to record conversion
+     * @param <E>    entity type
+     * @param <T>    record type
+     * @return response page
+     */
+    public static <E, T> PageResponse<T> toResponse(Page<E> page, Function<E, T> mapper) {
+        return PageResponse.page(
+                page.getRecords().stream().map(mapper).toList(), page.getTotal(), page.getCurrent(), page.getSize());
+    }
+
+    /**
+     * Drops every cached total of a list, now and again once the current transaction completes.
+     *
+     * @param namespace list name passed to {@link #totalKey}
+     */
+    public void evictTotals(String namespace) {
+        String prefix = namespace + KEY_SEPARATOR;
+        Runnable evict = () -> totals.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+        evict.run();
+        TransactionUtils.afterCompletion(evict);
+    }
+
+    private <E> Page<E> selectWithParallelCount(BaseMapper<E> mapper, PageParams params, PageQuery<E> query) {
+        CompletableFuture<Long> count = CompletableFuture.supplyAsync(
+                () -> mapper.selectCount(query.getFilter().get()), executor);
+        Page<E> page = mapper.selectPage(new Page<>(params.getPage(), params.getSize(), false), query.ordered());
+        page.setTotal(join(count));
+        return page;
+    }
+
+    private <E> Page<E> selectWithCachedTotal(BaseMapper<E> mapper, PageParams params, PageQuery<E> query) {
+        String key = query.getTotalKey();
+        Long total = key == null ? null : totals.getIfPresent(key);
+        if (total == null) {
+            Page<E> page = selectWithParallelCount(mapper, params, query);
+            if (key != null) {
+                totals.put(key, page.getTotal());
+            }
+            return page;
+        }
+        Page<E> page = mapper.selectPage(new Page<>(params.getPage(), params.getSize(), false), query.ordered());
+        page.setTotal(total);
+        return page;
+    }
+
+    private static <E> Page<E> selectWithLookAhead(BaseMapper<E> mapper, PageParams params, PageQuery<E> query) {
+        int size = params.getSize();
+        List<E> rows = mapper.selectList(query.ordered().last("LIMIT " + params.offset() + ", " + (size + 1)));
+        boolean hasNext = rows.size() > size;
+        Page<E> page = new Page<>(params.getPage(), size, false);
+        page.setRecords(hasNext ? rows.subList(0, size) : rows);
+        page.setTotal(params.offset() + page.getRecords().size() + (hasNext ? 1 : 0));
+        return page;
+    }
+
+    private static long join(CompletableFuture<Long> count) {
+        try {
+            return count.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
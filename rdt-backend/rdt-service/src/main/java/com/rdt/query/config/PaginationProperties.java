@@ -0,0 +1,34 @@
+package com.rdt.query.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "pagination")
+public class PaginationProperties {
+
+    /**
+     * Threads running {@code COUNT} queries alongside page queries; each holds a pooled connection while it runs,
+     * so keep it well below the connection pool size
+     */
+    private int countPoolSize = 4;
+
+    /**
+     * Counts allowed to wait for a thread; beyond this the count runs on the request thread before the page query
+     */
+    private int countQueueCapacity = 32;
+
+    /**
+     * Maximum number of cached list totals (one per list and normalized filter)
+     */
+    private long totalsMaxSize = 10_000;
+
+    /**
+     * Lifetime of a cached total; writes on this node drop the list's totals at once, so this bounds how long
+     * writes on other nodes go unnoticed
+     */
+    private Duration totalsTtl = Duration.ofSeconds(30);
+}
@@ -0,0 +1,81 @@
+package com.rdt.query.mapper;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Keyword filter backed by the ngram FULLTEXT indexes over the searchable columns (纯静态工具类).
+ *
+ * <p>A keyword becomes a BOOLEAN MODE phrase, which the ngram parser splits into consecutive
+ * {@value #NGRAM_TOKEN_SIZE}-grams: that is substring matching answered from the index, with no
+ * {@code LIKE '%kw%'} scan. A keyword shorter than one token has no ngram to look up (as a prefix term it would only
+ * match at token starts, missing "k" in "desk"), so it falls back to {@code LIKE '%kw%'} over the same columns.
+ */
+public final class KeywordSearch {
+
+    /**
+     * {@code ngram_token_size} the indexes are built with (MySQL default, a server startup option)
+     */
+    public static final int NGRAM_TOKEN_SIZE = 2;
+
+    private static final String QUOTE = "\"";
+
+    private static final String LIKE_ESCAPE = "\\";
+
+    private static final String LIKE_ANY = "%";
+
+    private static final String LIKE_ONE = "_";
+
+    private KeywordSearch() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Restricts {@code wrapper} to rows whose {@code columns} (the exact column list of a FULLTEXT index, e.g.
+     * {@code "name, code"}) contain {@code keyword}; a blank keyword leaves it unfiltered.
+     */
+    public static <T> LambdaQueryWrapper<T> matching(LambdaQueryWrapper<T> wrapper, String columns, String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return wrapper;
+        }
+        String trimmed = keyword.strip();
+        if (isShorterThanToken(trimmed)) {
+            // 单字符无法组成 ngram token, 退化为 LIKE 子串匹配 (全文索引无法回答)
+            String pattern = likePattern(trimmed);
+            List<String> names = columnNames(columns);
+            return wrapper.and(w -> names.forEach(column -> w.or().apply(column + " LIKE {0}", pattern)));
+        }
+        wrapper.apply("MATCH(" + columns + ") AGAINST({0} IN BOOLEAN MODE)", booleanTerm(trimmed));
+        return wrapper;
+    }
+
+    /**
+     * Whether {@code keyword} (already trimmed) has fewer code points than one ngram token.
+     */
+    /* default */ static boolean isShorterThanToken(String keyword) {
+        return keyword.codePointCount(0, keyword.length()) < NGRAM_TOKEN_SIZE;
+    }
+
+    /**
+     * BOOLEAN MODE search string for a keyword of at least one token.
+     */
+    /* default */ static String booleanTerm(String keyword) {
+        // 短语内的操作符按字面处理, 仅需去掉会提前结束短语的双引号
+        return QUOTE + keyword.strip().replace(QUOTE, " ") + QUOTE;
+    }
+
+    /**
+     * {@code LIKE} pattern containing {@code keyword} literally (MySQL's default {@code \} escape).
+     */
+    /* default */ static String likePattern(String keyword) {
+        String escaped = keyword.replace(LIKE_ESCAPE, LIKE_ESCAPE + LIKE_ESCAPE)
+                .replace(LIKE_ANY, LIKE_ESCAPE + LIKE_ANY)
+                .replace(LIKE_ONE, LIKE_ESCAPE + LIKE_ONE);
+        return LIKE_ANY + escaped + LIKE_ANY;
+    }
+
+    private static List<String> columnNames(String columns) {
+        return Arrays.stream(columns.split(",")).map(String::strip).toList();
+    }
+}
@@ -0,0 +1,14 @@
+-- 为 sys_user 表添加 token_version 字段 (无状态 JWT 吊销: 锁定/禁用/删除时递增)
+SELECT COUNT(1) INTO @col_exists
+FROM information_schema.columns
+WHERE table_schema = DATABASE()
+  AND table_name = 'sys_user'
+  AND column_name = 'token_version';
+
+SET @sql_add_col = IF(@col_exists = 0,
+    'ALTER TABLE sys_user ADD COLUMN token_version INT NOT NULL DEFAULT 0 COMMENT ''令牌版本号'' AFTER last_login_time',
+    'SELECT "Column token_version already exists"');
+
+PREPARE stmt_add_col FROM @sql_add_col;
+EXECUTE stmt_add_col;
+DEALLOCATE PREPARE stmt_add_col;
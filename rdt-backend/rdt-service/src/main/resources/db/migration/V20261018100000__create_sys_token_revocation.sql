@@ -0,0 +1,10 @@
+-- 创建令牌吊销表: 登出的 JWT (jti) 在过期前保持吊销, 各节点按 id 增量同步
+CREATE TABLE IF NOT EXISTS `sys_token_revocation` (
+  `id` bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT '主键',
+  `jti` varchar(64) NOT NULL COMMENT '令牌ID',
+  `expires_at` datetime NOT NULL COMMENT '令牌过期时间',
+  `created_at` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
+  PRIMARY KEY (`id`),
+  UNIQUE KEY `uk_sys_token_revocation_jti` (`jti`),
+  KEY `idx_sys_token_revocation_expires` (`expires_at`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='令牌吊销表';
@@ -0,0 +1,16 @@
+-- 创建刷新令牌表: 仅存储令牌的 SHA-256 摘要; 同一次登录轮换出的令牌共享 family_id, 重放旧令牌时整组吊销
+CREATE TABLE IF NOT EXISTS `sys_refresh_token` (
+  `id` bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT '主键',
+  `user_id` bigint(20) unsigned NOT NULL COMMENT '用户ID',
+  `family_id` varchar(36) NOT NULL COMMENT '令牌族ID (一次登录)',
+  `token_hash` char(64) NOT NULL COMMENT '令牌摘要 (SHA-256)',
+  `token_version` int(11) NOT NULL DEFAULT 0 COMMENT '签发时的用户令牌版本',
+  `expires_at` datetime NOT NULL COMMENT '过期时间',
+  `used_at` datetime DEFAULT NULL COMMENT '轮换时间 (已使用)',
+  `revoked_at` datetime DEFAULT NULL COMMENT '吊销时间',
+  `created_at` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
+  PRIMARY KEY (`id`),
+  UNIQUE KEY `uk_sys_refresh_token_hash` (`token_hash`),
+  KEY `idx_sys_refresh_token_family` (`family_id`),
+  KEY `idx_sys_refresh_token_expires` (`expires_at`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='刷新令牌表';
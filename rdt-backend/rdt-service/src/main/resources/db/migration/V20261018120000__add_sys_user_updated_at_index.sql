@@ -0,0 +1,15 @@
+-- 为 sys_user.updated_at 添加索引: 用户名成员过滤器每隔几秒按更新时间 (数据库时钟) 增量同步其他节点的写入, 避免全表扫描
+
+SELECT COUNT(1) INTO @idx_exists
+FROM information_schema.statistics
+WHERE table_schema = DATABASE()
+  AND table_name = 'sys_user'
+  AND index_name = 'idx_sys_user_updated_at';
+
+SET @sql_add_idx = IF(@idx_exists = 0,
+    'ALTER TABLE `sys_user` ADD INDEX `idx_sys_user_updated_at` (`updated_at`)',
+    'SELECT "Index idx_sys_user_updated_at already exists"');
+
+PREPARE stmt_add_idx FROM @sql_add_idx;
+EXECUTE stmt_add_idx;
+DEALLOCATE PREPARE stmt_add_idx;
@@ -0,0 +1,25 @@
+-- 为 sys_main_system 表添加 sub_system_count 字段 (子系统计数, 由子系统写操作在同一事务内维护, 树形懒加载直接读取)
+SELECT COUNT(1) INTO @col_exists
+FROM information_schema.columns
+WHERE table_schema = DATABASE()
+  AND table_name = 'sys_main_system'
+  AND column_name = 'sub_system_count';
+
+SET @sql_add_col = IF(@col_exists = 0,
+    'ALTER TABLE sys_main_system ADD COLUMN sub_system_count INT NOT NULL DEFAULT 0 COMMENT ''子系统数量'' AFTER status',
+    'SELECT "Column sub_system_count already exists"');
+
+PREPARE stmt_add_col FROM @sql_add_col;
+EXECUTE stmt_add_col;
+DEALLOCATE PREPARE stmt_add_col;
+
+-- 回填现有计数 (按绝对值重算, 可重复执行; 不改动 updated_at)
+UPDATE sys_main_system m
+LEFT JOIN (
+    SELECT main_system_id, COUNT(1) AS cnt
+    FROM sys_sub_system
+    WHERE deleted_at IS NULL
+    GROUP BY main_system_id
+) s ON s.main_system_id = m.id
+SET m.sub_system_count = COALESCE(s.cnt, 0),
+    m.updated_at = m.updated_at;
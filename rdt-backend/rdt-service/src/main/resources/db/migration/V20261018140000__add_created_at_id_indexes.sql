@@ -0,0 +1,59 @@
+-- 为游标分页添加 (created_at, id) 复合索引: 列表按 created_at DESC, id DESC 排序,
+-- 下一页以 created_at < ? OR (created_at = ? AND id < ?) 定位, 深分页无需扫描并跳过前面的行
+-- 子系统列表常按主系统过滤, 额外添加 (main_system_id, created_at, id)
+
+SELECT COUNT(1) INTO @idx_exists
+FROM information_schema.statistics
+WHERE table_schema = DATABASE()
+  AND table_name = 'sys_user'
+  AND index_name = 'idx_sys_user_created_at_id';
+
+SET @sql_add_idx = IF(@idx_exists = 0,
+    'ALTER TABLE `sys_user` ADD INDEX `idx_sys_user_created_at_id` (`created_at`, `id`)',
+    'SELECT "Index idx_sys_user_created_at_id already exists"');
+
+PREPARE stmt_add_idx FROM @sql_add_idx;
+EXECUTE stmt_add_idx;
+DEALLOCATE PREPARE stmt_add_idx;
+
+SELECT COUNT(1) INTO @idx_exists
+FROM information_schema.statistics
+WHERE table_schema = DATABASE()
+  AND table_name = 'sys_main_system'
+  AND index_name = 'idx_sys_main_system_created_at_id';
+
+SET @sql_add_idx = IF(@idx_exists = 0,
+    'ALTER TABLE `sys_main_system` ADD INDEX `idx_sys_main_system_created_at_id` (`created_at`, `id`)',
+    'SELECT "Index idx_sys_main_system_created_at_id already exists"');
+
+PREPARE stmt_add_idx FROM @sql_add_idx;
+EXECUTE stmt_add_idx;
+DEALLOCATE PREPARE stmt_add_idx;
+
+SELECT COUNT(1) INTO @idx_exists
+FROM information_schema.statistics
+WHERE table_schema = DATABASE()
+  AND table_name = 'sys_sub_system'
+  AND index_name = 'idx_sys_sub_system_created_at_id';
+
+SET @sql_add_idx = IF(@idx_exists = 0,
+    'ALTER TABLE `sys_sub_system` ADD INDEX `idx_sys_sub_system_created_at_id` (`created_at`, `id`)',
+    'SELECT "Index idx_sys_sub_system_created_at_id already exists"');
+
+PREPARE stmt_add_idx FROM @sql_add_idx;
+EXECUTE stmt_add_idx;
+DEALLOCATE PREPARE stmt_add_idx;
+
+SELECT COUNT(1) INTO @idx_exists
+FROM information_schema.statistics
+WHERE table_schema = DATABASE()
+  AND table_name = 'sys_sub_system'
+  AND index_name = 'idx_sys_sub_system_main_created_at_id';
+
+SET @sql_add_idx = IF(@idx_exists = 0,
+    'ALTER TABLE `sys_sub_system` ADD INDEX `idx_sys_sub_system_main_created_at_id` (`main_system_id`, `created_at`, `id`)',
+    'SELECT "Index idx_sys_sub_system_main_created_at_id already exists"');
+
+PREPARE stmt_add_idx FROM @sql_add_idx;
+EXECUTE stmt_add_idx;
+DEALLOCATE PREPARE stmt_add_idx;
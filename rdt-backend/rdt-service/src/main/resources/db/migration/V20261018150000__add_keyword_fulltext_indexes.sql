@@ -0,0 +1,55 @@
+-- 为关键字搜索添加 ngram 全文索引, 替代 LIKE '%kw%' 的全表扫描
+-- 查询使用 MATCH(...) AGAINST('"kw"' IN BOOLEAN MODE): ngram 解析器把短语拆成连续的 2 字符 token, 等价于子串匹配
+-- 全文索引随 INSERT/UPDATE/DELETE 在事务提交时增量维护, 无需额外同步
+-- 注意:
+--   1. ngram_token_size 为服务端启动参数, 需保持默认值 2 (与 KeywordSearch.NGRAM_TOKEN_SIZE 一致)
+--   2. 默认停用词表会使包含 "a"、"i" 等停用词的 ngram token 不入索引 (如 admin 的 "ad"),
+--      停用词在建索引时确定, 因此在本会话内关闭后再建索引
+--   3. 首个全文索引会为表添加隐藏的 FTS_DOC_ID 列并重建表
+
+SET SESSION innodb_ft_enable_stopword = OFF;
+
+SELECT COUNT(1) INTO @idx_exists
+FROM information_schema.statistics
+WHERE table_schema = DATABASE()
+  AND table_name = 'sys_user'
+  AND index_name = 'ft_sys_user_username_email';
+
+SET @sql_add_idx = IF(@idx_exists = 0,
+    'ALTER TABLE `sys_user` ADD FULLTEXT INDEX `ft_sys_user_username_email` (`username`, `email`) WITH PARSER ngram',
+    'SELECT "Index ft_sys_user_username_email already exists"');
+
+PREPARE stmt_add_idx FROM @sql_add_idx;
+EXECUTE stmt_add_idx;
+DEALLOCATE PREPARE stmt_add_idx;
+
+SELECT COUNT(1) INTO @idx_exists
+FROM information_schema.statistics
+WHERE table_schema = DATABASE()
+  AND table_name = 'sys_main_system'
+  AND index_name = 'ft_sys_main_system_name_code';
+
+SET @sql_add_idx = IF(@idx_exists = 0,
+    'ALTER TABLE `sys_main_system` ADD FULLTEXT INDEX `ft_sys_main_system_name_code` (`name`, `code`) WITH PARSER ngram',
+    'SELECT "Index ft_sys_main_system_name_code already exists"');
+
+PREPARE stmt_add_idx FROM @sql_add_idx;
+EXECUTE stmt_add_idx;
+DEALLOCATE PREPARE stmt_add_idx;
+
+SELECT COUNT(1) INTO @idx_exists
+FROM information_schema.statistics
+WHERE table_schema = DATABASE()
+  AND table_name = 'sys_sub_system'
+  AND index_name = 'ft_sys_sub_system_name_code';
+
+SET @sql_add_idx = IF(@idx_exists = 0,
+    'ALTER TABLE `sys_sub_system` ADD FULLTEXT INDEX `ft_sys_sub_system_name_code` (`name`, `code`) WITH PARSER ngram',
+    'SELECT "Index ft_sys_sub_system_name_code already exists"');
+
+PREPARE stmt_add_idx FROM @sql_add_idx;
+EXECUTE stmt_add_idx;
+DEALLOCATE PREPARE stmt_add_idx;
+
+-- 恢复会话默认值, 避免影响连接池中复用该连接的后续迁移
+SET SESSION innodb_ft_enable_stopword = ON;
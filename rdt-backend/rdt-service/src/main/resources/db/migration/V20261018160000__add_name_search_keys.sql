@@ -0,0 +1,222 @@
+-- 为用户名与系统名称添加拼音检索键与排序键, 由服务在每次写入时计算 (PinyinUtils), 存量数据由 NameKeyBackfill 在启动时回填
+--   *_initials: 拼音首字母 (如 支付系统 -> zfxt), 并入 ngram 全文索引, 首字母与名称/编码一同走全文检索
+--   *_sort_key: 简体中文拼音排序规则的二进制排序键, 按名称排序时走 (*_sort_key, id) 索引
+
+-- sys_user
+SELECT COUNT(1) INTO @col_exists
+FROM information_schema.columns
+WHERE table_schema = DATABASE()
+  AND table_name = 'sys_user'
+  AND column_name = 'username_initials';
+
+SET @sql_add_col = IF(@col_exists = 0,
+    'ALTER TABLE sys_user ADD COLUMN username_initials VARCHAR(50) DEFAULT NULL COMMENT ''用户名拼音首字母'' AFTER username',
+    'SELECT "Column username_initials already exists"');
+
+PREPARE stmt_add_col FROM @sql_add_col;
+EXECUTE stmt_add_col;
+DEALLOCATE PREPARE stmt_add_col;
+
+SELECT COUNT(1) INTO @col_exists
+FROM information_schema.columns
+WHERE table_schema = DATABASE()
+  AND table_name = 'sys_user'
+  AND column_name = 'username_sort_key';
+
+SET @sql_add_col = IF(@col_exists = 0,
+    'ALTER TABLE sys_user ADD COLUMN username_sort_key VARBINARY(255) DEFAULT NULL COMMENT ''用户名排序键'' AFTER username_initials',
+    'SELECT "Column username_sort_key already exists"');
+
+PREPARE stmt_add_col FROM @sql_add_col;
+EXECUTE stmt_add_col;
+DEALLOCATE PREPARE stmt_add_col;
+
+SELECT COUNT(1) INTO @idx_exists
+FROM information_schema.statistics
+WHERE table_schema = DATABASE()
+  AND table_name = 'sys_user'
+  AND index_name = 'idx_sys_user_username_sort_key_id';
+
+SET @sql_idx = IF(@idx_exists = 0,
+    'ALTER TABLE `sys_user` ADD INDEX `idx_sys_user_username_sort_key_id` (`username_sort_key`, `id`)',
+    'SELECT "Index idx_sys_user_username_sort_key_id already exists"');
+
+PREPARE stmt_idx FROM @sql_idx;
+EXECUTE stmt_idx;
+DEALLOCATE PREPARE stmt_idx;
+
+-- sys_main_system
+SELECT COUNT(1) INTO @col_exists
+FROM information_schema.columns
+WHERE table_schema = DATABASE()
+  AND table_name = 'sys_main_system'
+  AND column_name = 'name_initials';
+
+SET @sql_add_col = IF(@col_exists = 0,
+    'ALTER TABLE sys_main_system ADD COLUMN name_initials VARCHAR(50) DEFAULT NULL COMMENT ''系统名称拼音首字母'' AFTER name',
+    'SELECT "Column name_initials already exists"');
+
+PREPARE stmt_add_col FROM @sql_add_col;
+EXECUTE stmt_add_col;
+DEALLOCATE PREPARE stmt_add_col;
+
+SELECT COUNT(1) INTO @col_exists
+FROM information_schema.columns
+WHERE table_schema = DATABASE()
+  AND table_name = 'sys_main_system'
+  AND column_name = 'name_sort_key';
+
+SET @sql_add_col = IF(@col_exists = 0,
+    'ALTER TABLE sys_main_system ADD COLUMN name_sort_key VARBINARY(255) DEFAULT NULL COMMENT ''系统名称排序键'' AFTER name_initials',
+    'SELECT "Column name_sort_key already exists"');
+
+PREPARE stmt_add_col FROM @sql_add_col;
+EXECUTE stmt_add_col;
+DEALLOCATE PREPARE stmt_add_col;
+
+SELECT COUNT(1) INTO @idx_exists
+FROM information_schema.statistics
+WHERE table_schema = DATABASE()
+  AND table_name = 'sys_main_system'
+  AND index_name = 'idx_sys_main_system_name_sort_key_id';
+
+SET @sql_idx = IF(@idx_exists = 0,
+    'ALTER TABLE `sys_main_system` ADD INDEX `idx_sys_main_system_name_sort_key_id` (`name_sort_key`, `id`)',
+    'SELECT "Index idx_sys_main_system_name_sort_key_id already exists"');
+
+PREPARE stmt_idx FROM @sql_idx;
+EXECUTE stmt_idx;
+DEALLOCATE PREPARE stmt_idx;
+
+-- sys_sub_system
+SELECT COUNT(1) INTO @col_exists
+FROM information_schema.columns
+WHERE table_schema = DATABASE()
+  AND table_name = 'sys_sub_system'
+  AND column_name = 'name_initials';
+
+SET @sql_add_col = IF(@col_exists = 0,
+    'ALTER TABLE sys_sub_system ADD COLUMN name_initials VARCHAR(50) DEFAULT NULL COMMENT ''子系统名称拼音首字母'' AFTER name',
+    'SELECT "Column name_initials already exists"');
+
+PREPARE stmt_add_col FROM @sql_add_col;
+EXECUTE stmt_add_col;
+DEALLOCATE PREPARE stmt_add_col;
+
+SELECT COUNT(1) INTO @col_exists
+FROM information_schema.columns
+WHERE table_schema = DATABASE()
+  AND table_name = 'sys_sub_system'
+  AND column_name = 'name_sort_key';
+
+SET @sql_add_col = IF(@col_exists = 0,
+    'ALTER TABLE sys_sub_system ADD COLUMN name_sort_key VARBINARY(255) DEFAULT NULL COMMENT ''子系统名称排序键'' AFTER name_initials',
+    'SELECT "Column name_sort_key already exists"');
+
+PREPARE stmt_add_col FROM @sql_add_col;
+EXECUTE stmt_add_col;
+DEALLOCATE PREPARE stmt_add_col;
+
+SELECT COUNT(1) INTO @idx_exists
+FROM information_schema.statistics
+WHERE table_schema = DATABASE()
+  AND table_name = 'sys_sub_system'
+  AND index_name = 'idx_sys_sub_system_name_sort_key_id';
+
+SET @sql_idx = IF(@idx_exists = 0,
+    'ALTER TABLE `sys_sub_system` ADD INDEX `idx_sys_sub_system_name_sort_key_id` (`name_sort_key`, `id`)',
+    'SELECT "Index idx_sys_sub_system_name_sort_key_id already exists"');
+
+PREPARE stmt_idx FROM @sql_idx;
+EXECUTE stmt_idx;
+DEALLOCATE PREPARE stmt_idx;
+
+-- 全文索引的列集合必须与 MATCH(...) 完全一致: 以包含首字母列的新索引替换原索引
+-- 与 V20261018150000 相同, 建索引前在本会话关闭停用词, 结束后恢复
+SET SESSION innodb_ft_enable_stopword = OFF;
+
+SELECT COUNT(1) INTO @idx_exists
+FROM information_schema.statistics
+WHERE table_schema = DATABASE()
+  AND table_name = 'sys_user'
+  AND index_name = 'ft_sys_user_username_email_initials';
+
+SET @sql_idx = IF(@idx_exists = 0,
+    'ALTER TABLE `sys_user` ADD FULLTEXT INDEX `ft_sys_user_username_email_initials` (`username`, `email`, `username_initials`) WITH PARSER ngram',
+    'SELECT "Index ft_sys_user_username_email_initials already exists"');
+
+PREPARE stmt_idx FROM @sql_idx;
+EXECUTE stmt_idx;
+DEALLOCATE PREPARE stmt_idx;
+
+SELECT COUNT(1) INTO @idx_exists
+FROM information_schema.statistics
+WHERE table_schema = DATABASE()
+  AND table_name = 'sys_user'
+  AND index_name = 'ft_sys_user_username_email';
+
+SET @sql_idx = IF(@idx_exists > 0,
+    'ALTER TABLE `sys_user` DROP INDEX `ft_sys_user_username_email`',
+    'SELECT "Index ft_sys_user_username_email already dropped"');
+
+PREPARE stmt_idx FROM @sql_idx;
+EXECUTE stmt_idx;
+DEALLOCATE PREPARE stmt_idx;
+
+SELECT COUNT(1) INTO @idx_exists
+FROM information_schema.statistics
+WHERE table_schema = DATABASE()
+  AND table_name = 'sys_main_system'
+  AND index_name = 'ft_sys_main_system_name_code_initials';
+
+SET @sql_idx = IF(@idx_exists = 0,
+    'ALTER TABLE `sys_main_system` ADD FULLTEXT INDEX `ft_sys_main_system_name_code_initials` (`name`, `code`, `name_initials`) WITH PARSER ngram',
+    'SELECT "Index ft_sys_main_system_name_code_initials already exists"');
+
+PREPARE stmt_idx FROM @sql_idx;
+EXECUTE stmt_idx;
+DEALLOCATE PREPARE stmt_idx;
+
+SELECT COUNT(1) INTO @idx_exists
+FROM information_schema.statistics
+WHERE table_schema = DATABASE()
+  AND table_name = 'sys_main_system'
+  AND index_name = 'ft_sys_main_system_name_code';
+
+SET @sql_idx = IF(@idx_exists > 0,
+    'ALTER TABLE `sys_main_system` DROP INDEX `ft_sys_main_system_name_code`',
+    'SELECT "Index ft_sys_main_system_name_code already dropped"');
+
+PREPARE stmt_idx FROM @sql_idx;
+EXECUTE stmt_idx;
+DEALLOCATE PREPARE stmt_idx;
+
+SELECT COUNT(1) INTO @idx_exists
+FROM information_schema.statistics
+WHERE table_schema = DATABASE()
+  AND table_name = 'sys_sub_system'
+  AND index_name = 'ft_sys_sub_system_name_code_initials';
+
+SET @sql_idx = IF(@idx_exists = 0,
+    'ALTER TABLE `sys_sub_system` ADD FULLTEXT INDEX `ft_sys_sub_system_name_code_initials` (`name`, `code`, `name_initials`) WITH PARSER ngram',
+    'SELECT "Index ft_sys_sub_system_name_code_initials already exists"');
+
+PREPARE stmt_idx FROM @sql_idx;
+EXECUTE stmt_idx;
+DEALLOCATE PREPARE stmt_idx;
+
+SELECT COUNT(1) INTO @idx_exists
+FROM information_schema.statistics
+WHERE table_schema = DATABASE()
+  AND table_name = 'sys_sub_system'
+  AND index_name = 'ft_sys_sub_system_name_code';
+
+SET @sql_idx = IF(@idx_exists > 0,
+    'ALTER TABLE `sys_sub_system` DROP INDEX `ft_sys_sub_system_name_code`',
+    'SELECT "Index ft_sys_sub_system_name_code already dropped"');
+
+PREPARE stmt_idx FROM @sql_idx;
+EXECUTE stmt_idx;
+DEALLOCATE PREPARE stmt_idx;
+
+SET SESSION innodb_ft_enable_stopword = ON;
@@ -0,0 +1,90 @@
+-- 系统编码唯一性改由唯一键保证, 服务直接写入并把 DuplicateKeyException 转为 "编码已存在" (不再先 SELECT COUNT)
+-- 原唯一键 (code, deleted_at) 对未删除行无效: MySQL 唯一索引中 NULL 互不相等, 两行 deleted_at 均为 NULL 时不冲突
+-- 改为在生成列 active_code (未删除行为 code, 已删除行为 NULL) 上建唯一键: 未删除行编码唯一, 已删除行不占用编码
+-- 若存量数据中已有重复的未删除编码, 添加唯一键会失败, 需先人工处理重复行
+
+-- sys_main_system
+SELECT COUNT(1) INTO @col_exists
+FROM information_schema.columns
+WHERE table_schema = DATABASE()
+  AND table_name = 'sys_main_system'
+  AND column_name = 'active_code';
+
+SET @sql_add_col = IF(@col_exists = 0,
+    'ALTER TABLE sys_main_system ADD COLUMN active_code VARCHAR(50) GENERATED ALWAYS AS (IF(deleted_at IS NULL, code, NULL)) VIRTUAL COMMENT ''未删除主系统的编码 (唯一键用)'' AFTER code',
+    'SELECT "Column active_code already exists"');
+
+PREPARE stmt_add_col FROM @sql_add_col;
+EXECUTE stmt_add_col;
+DEALLOCATE PREPARE stmt_add_col;
+
+SELECT COUNT(1) INTO @idx_exists
+FROM information_schema.statistics
+WHERE table_schema = DATABASE()
+  AND table_name = 'sys_main_system'
+  AND index_name = 'uk_sys_main_system_active_code';
+
+SET @sql_idx = IF(@idx_exists = 0,
+    'ALTER TABLE `sys_main_system` ADD UNIQUE KEY `uk_sys_main_system_active_code` (`active_code`)',
+    'SELECT "Index uk_sys_main_system_active_code already exists"');
+
+PREPARE stmt_idx FROM @sql_idx;
+EXECUTE stmt_idx;
+DEALLOCATE PREPARE stmt_idx;
+
+SELECT COUNT(1) INTO @idx_exists
+FROM information_schema.statistics
+WHERE table_schema = DATABASE()
+  AND table_name = 'sys_main_system'
+  AND index_name = 'uk_sys_main_system_code';
+
+SET @sql_idx = IF(@idx_exists > 0,
+    'ALTER TABLE `sys_main_system` DROP INDEX `uk_sys_main_system_code`',
+    'SELECT "Index uk_sys_main_system_code already dropped"');
+
+PREPARE stmt_idx FROM @sql_idx;
+EXECUTE stmt_idx;
+DEALLOCATE PREPARE stmt_idx;
+
+-- sys_sub_system
+SELECT COUNT(1) INTO @col_exists
+FROM information_schema.columns
+WHERE table_schema = DATABASE()
+  AND table_name = 'sys_sub_system'
+  AND column_name = 'active_code';
+
+SET @sql_add_col = IF(@col_exists = 0,
+    'ALTER TABLE sys_sub_system ADD COLUMN active_code VARCHAR(50) GENERATED ALWAYS AS (IF(deleted_at IS NULL, code, NULL)) VIRTUAL COMMENT ''未删除子系统的编码 (唯一键用)'' AFTER code',
+    'SELECT "Column active_code already exists"');
+
+PREPARE stmt_add_col FROM @sql_add_col;
+EXECUTE stmt_add_col;
+DEALLOCATE PREPARE stmt_add_col;
+
+SELECT COUNT(1) INTO @idx_exists
+FROM information_schema.statistics
+WHERE table_schema = DATABASE()
+  AND table_name = 'sys_sub_system'
+  AND index_name = 'uk_sys_sub_system_active_code';
+
+SET @sql_idx = IF(@idx_exists = 0,
+    'ALTER TABLE `sys_sub_system` ADD UNIQUE KEY `uk_sys_sub_system_active_code` (`active_code`)',
+    'SELECT "Index uk_sys_sub_system_active_code already exists"');
+
+PREPARE stmt_idx FROM @sql_idx;
+EXECUTE stmt_idx;
+DEALLOCATE PREPARE stmt_idx;
+
+SELECT COUNT(1) INTO @idx_exists
+FROM information_schema.statistics
+WHERE table_schema = DATABASE()
+  AND table_name = 'sys_sub_system'
+  AND index_name = 'uk_sys_sub_system_code';
+
+SET @sql_idx = IF(@idx_exists > 0,
+    'ALTER TABLE `sys_sub_system` DROP INDEX `uk_sys_sub_system_code`',
+    'SELECT "Index uk_sys_sub_system_code already dropped"');
+
+PREPARE stmt_idx FROM @sql_idx;
+EXECUTE stmt_idx;
+DEALLOCATE PREPARE stmt_idx;
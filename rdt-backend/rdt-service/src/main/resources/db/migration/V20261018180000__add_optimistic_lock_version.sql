@@ -0,0 +1,48 @@
+-- 为 sys_user / sys_main_system / sys_sub_system 添加乐观锁版本号 version (MyBatis-Plus @Version)
+-- 编辑接口带上读取时的 version, 更新为单条 UPDATE ... SET 变更列, version = version + 1 WHERE id = ? AND version = ?
+-- 影响行数为 0 即记录已被他人修改 (或已删除), 返回冲突而不是覆盖对方的修改
+
+-- sys_user
+SELECT COUNT(1) INTO @col_exists
+FROM information_schema.columns
+WHERE table_schema = DATABASE()
+  AND table_name = 'sys_user'
+  AND column_name = 'version';
+
+SET @sql_add_col = IF(@col_exists = 0,
+    'ALTER TABLE sys_user ADD COLUMN version INT NOT NULL DEFAULT 0 COMMENT ''乐观锁版本号'' AFTER status',
+    'SELECT "Column version already exists"');
+
+PREPARE stmt_add_col FROM @sql_add_col;
+EXECUTE stmt_add_col;
+DEALLOCATE PREPARE stmt_add_col;
+
+-- sys_main_system
+SELECT COUNT(1) INTO @col_exists
+FROM information_schema.columns
+WHERE table_schema = DATABASE()
+  AND table_name = 'sys_main_system'
+  AND column_name = 'version';
+
+SET @sql_add_col = IF(@col_exists = 0,
+    'ALTER TABLE sys_main_system ADD COLUMN version INT NOT NULL DEFAULT 0 COMMENT ''乐观锁版本号'' AFTER status',
+    'SELECT "Column version already exists"');
+
+PREPARE stmt_add_col FROM @sql_add_col;
+EXECUTE stmt_add_col;
+DEALLOCATE PREPARE stmt_add_col;
+
+-- sys_sub_system
+SELECT COUNT(1) INTO @col_exists
+FROM information_schema.columns
+WHERE table_schema = DATABASE()
+  AND table_name = 'sys_sub_system'
+  AND column_name = 'version';
+
+SET @sql_add_col = IF(@col_exists = 0,
+    'ALTER TABLE sys_sub_system ADD COLUMN version INT NOT NULL DEFAULT 0 COMMENT ''乐观锁版本号'' AFTER status',
+    'SELECT "Column version already exists"');
+
+PREPARE stmt_add_col FROM @sql_add_col;
+EXECUTE stmt_add_col;
+DEALLOCATE PREPARE stmt_add_col;
@@ -0,0 +1,102 @@
+-- 拼音首字母改为记录多音字的每个读音 (如 银行 -> yx yh, 读音之间以空格分隔), 列宽由 50 扩至 255
+-- MODIFY 保持原有注释与默认值, 重复执行无副作用
+
+ALTER TABLE sys_user
+    MODIFY COLUMN username_initials VARCHAR(255) DEFAULT NULL COMMENT '用户名拼音首字母';
+
+ALTER TABLE sys_main_system
+    MODIFY COLUMN name_initials VARCHAR(255) DEFAULT NULL COMMENT '系统名称拼音首字母';
+
+ALTER TABLE sys_sub_system
+    MODIFY COLUMN name_initials VARCHAR(255) DEFAULT NULL COMMENT '子系统名称拼音首字母';
+
+-- *_key_version: 计算首字母与排序键所用的规则版本 (PinyinUtils.KEY_VERSION), 服务每次写键时一并写入
+-- 已有行为 0, 启动后的异步回填按 *_key_version < 当前版本 筛选并原地重算两列; 重算前旧键保持可用, 检索与排序不受影响
+-- 索引 (*_key_version, 隐含主键 id) 使回填在全部重算完成后只做一次空的索引探查
+
+-- sys_user
+SELECT COUNT(1) INTO @col_exists
+FROM information_schema.columns
+WHERE table_schema = DATABASE()
+  AND table_name = 'sys_user'
+  AND column_name = 'username_key_version';
+
+SET @sql_add_col = IF(@col_exists = 0,
+    'ALTER TABLE sys_user ADD COLUMN username_key_version TINYINT NOT NULL DEFAULT 0 COMMENT ''用户名检索键规则版本'' AFTER username_sort_key',
+    'SELECT "Column username_key_version already exists"');
+
+PREPARE stmt_add_col FROM @sql_add_col;
+EXECUTE stmt_add_col;
+DEALLOCATE PREPARE stmt_add_col;
+
+SELECT COUNT(1) INTO @idx_exists
+FROM information_schema.statistics
+WHERE table_schema = DATABASE()
+  AND table_name = 'sys_user'
+  AND index_name = 'idx_sys_user_username_key_version';
+
+SET @sql_idx = IF(@idx_exists = 0,
+    'ALTER TABLE `sys_user` ADD INDEX `idx_sys_user_username_key_version` (`username_key_version`)',
+    'SELECT "Index idx_sys_user_username_key_version already exists"');
+
+PREPARE stmt_idx FROM @sql_idx;
+EXECUTE stmt_idx;
+DEALLOCATE PREPARE stmt_idx;
+
+-- sys_main_system
+SELECT COUNT(1) INTO @col_exists
+FROM information_schema.columns
+WHERE table_schema = DATABASE()
+  AND table_name = 'sys_main_system'
+  AND column_name = 'name_key_version';
+
+SET @sql_add_col = IF(@col_exists = 0,
+    'ALTER TABLE sys_main_system ADD COLUMN name_key_version TINYINT NOT NULL DEFAULT 0 COMMENT ''系统名称检索键规则版本'' AFTER name_sort_key',
+    'SELECT "Column name_key_version already exists"');
+
+PREPARE stmt_add_col FROM @sql_add_col;
+EXECUTE stmt_add_col;
+DEALLOCATE PREPARE stmt_add_col;
+
+SELECT COUNT(1) INTO @idx_exists
+FROM information_schema.statistics
+WHERE table_schema = DATABASE()
+  AND table_name = 'sys_main_system'
+  AND index_name = 'idx_sys_main_system_name_key_version';
+
+SET @sql_idx = IF(@idx_exists = 0,
+    'ALTER TABLE `sys_main_system` ADD INDEX `idx_sys_main_system_name_key_version` (`name_key_version`)',
+    'SELECT "Index idx_sys_main_system_name_key_version already exists"');
+
+PREPARE stmt_idx FROM @sql_idx;
+EXECUTE stmt_idx;
+DEALLOCATE PREPARE stmt_idx;
+
+-- sys_sub_system
+SELECT COUNT(1) INTO @col_exists
+FROM information_schema.columns
+WHERE table_schema = DATABASE()
+  AND table_name = 'sys_sub_system'
+  AND column_name = 'name_key_version';
+
+SET @sql_add_col = IF(@col_exists = 0,
+    'ALTER TABLE sys_sub_system ADD COLUMN name_key_version TINYINT NOT NULL DEFAULT 0 COMMENT ''子系统名称检索键规则版本'' AFTER name_sort_key',
+    'SELECT "Column name_key_version already exists"');
+
+PREPARE stmt_add_col FROM @sql_add_col;
+EXECUTE stmt_add_col;
+DEALLOCATE PREPARE stmt_add_col;
+
+SELECT COUNT(1) INTO @idx_exists
+FROM information_schema.statistics
+WHERE table_schema = DATABASE()
+  AND table_name = 'sys_sub_system'
+  AND index_name = 'idx_sys_sub_system_name_key_version';
+
+SET @sql_idx = IF(@idx_exists = 0,
+    'ALTER TABLE `sys_sub_system` ADD INDEX `idx_sys_sub_system_name_key_version` (`name_key_version`)',
+    'SELECT "Index idx_sys_sub_system_name_key_version already exists"');
+
+PREPARE stmt_idx FROM @sql_idx;
+EXECUTE stmt_idx;
+DEALLOCATE PREPARE stmt_idx;
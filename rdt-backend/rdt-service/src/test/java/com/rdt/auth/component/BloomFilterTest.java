@@ -0,0 +1,55 @@
+package com.rdt.auth.component;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("mightContain: never misses an added key")
+    void noFalseNegatives() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i);
+        }
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("user" + i));
+        }
+    }
+
+    @Test
+    @DisplayName("mightContain: false-positive rate stays near the target at the expected size")
+    void falsePositiveRate() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i);
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("other" + i)) {
+                falsePositives++;
+            }
+        }
+        double observed = falsePositives / 100_000.0;
+        assertTrue(observed < 0.02, "observed fpp " + observed);
+        assertEquals(0.01, filter.expectedFpp(), 0.005);
+    }
+
+    @Test
+    @DisplayName("expectedFpp and byteSize: empty filter reports 0, size follows the standard formula")
+    void sizing() {
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+        assertEquals(0.0, filter.expectedFpp());
+        // m = -n ln p / (ln 2)^2 = 9586 bits, rounded up to whole longs
+        assertEquals(1200, filter.byteSize());
+    }
+
+    @Test
+    @DisplayName("constructor: rejects impossible parameters")
+    void invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(10, 1.0));
+    }
+}
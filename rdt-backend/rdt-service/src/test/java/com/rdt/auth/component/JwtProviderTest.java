@@ -2,6 +2,8 @@ package com.rdt.auth.component;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import io.jsonwebtoken.Claims;
+import java.time.Instant;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -58,4 +60,51 @@ class JwtProviderTest {
         String token = jwtProvider.generateToken("testuser");
         assertEquals("testuser", jwtProvider.getUsernameFromToken(token));
     }
+
+    @Test
+    void generateToken_HasUniqueIdAndExpiry() {
+        Claims first = jwtProvider.verify(jwtProvider.generateToken("testuser")).orElseThrow();
+        Claims second =
+                jwtProvider.verify(jwtProvider.generateToken("testuser")).orElseThrow();
+
+        assertNotNull(first.getId());
+        assertNotEquals(first.getId(), second.getId());
+        assertTrue(jwtProvider.getExpiration(first).isAfter(Instant.now()));
+    }
+
+    @Test
+    void verify_ReturnsClaims() {
+        String token = jwtProvider.generateToken("testuser");
+        assertEquals(
+                "testuser",
+                jwtProvider
+                        .verify(token)
+                        .map(io.jsonwebtoken.Claims::getSubject)
+                        .orElse(null));
+    }
+
+    @Test
+    void verify_RejectsMissingAndForgedTokens() {
+        assertTrue(jwtProvider.verify(null).isEmpty());
+        assertTrue(jwtProvider.verify("").isEmpty());
+        assertTrue(jwtProvider
+                .verify(jwtProvider.generateToken("testuser") + "tamper")
+                .isEmpty());
+    }
+
+    @Test
+    void verify_CachedTokenIsServedFromMemory() {
+        org.mockito.Mockito.lenient().when(jwtProperties.getVerifiedCacheSize()).thenReturn(100L);
+        org.mockito.Mockito.lenient()
+                .when(jwtProperties.getVerifiedCacheTtl())
+                .thenReturn(java.time.Duration.ofMinutes(1));
+        jwtProvider.init();
+        String token = jwtProvider.generateToken("testuser");
+
+        io.jsonwebtoken.Claims first = jwtProvider.verify(token).orElseThrow();
+        io.jsonwebtoken.Claims second = jwtProvider.verify(token).orElseThrow();
+
+        assertSame(first, second);
+        assertTrue(jwtProvider.verify(token + "tamper").isEmpty());
+    }
 }
@@ -0,0 +1,118 @@
+package com.rdt.auth.component;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.rdt.auth.config.LoginRateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LoginAttemptLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MutableClock clock = new MutableClock();
+    private LoginRateLimitProperties properties;
+    private LoginAttemptLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LoginRateLimitProperties();
+        properties.setIpCapacity(3);
+        properties.setIpRefillPerMinute(60);
+        properties.setUserCapacity(100);
+        properties.setStripes(4);
+        properties.setMaxEntries(100);
+        limiter = new LoginAttemptLimiter(properties, meterRegistry, clock);
+    }
+
+    @Test
+    @DisplayName("tryAcquire: an IP gets its burst, then is throttled until tokens refill")
+    void tryAcquire_IpBucket() {
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limiter.tryAcquire("user" + i, "10.0.0.1"));
+        }
+        assertFalse(limiter.tryAcquire("user9", "10.0.0.1"));
+        assertTrue(limiter.tryAcquire("user9", "10.0.0.2"), "other IPs are unaffected");
+
+        clock.advance(Duration.ofSeconds(1)); // 60/min refills one token per second
+        assertTrue(limiter.tryAcquire("user9", "10.0.0.1"));
+        assertFalse(limiter.tryAcquire("user9", "10.0.0.1"));
+
+        assertEquals(
+                2.0,
+                meterRegistry
+                        .get("auth.login.throttled")
+                        .tag("scope", "ip")
+                        .counter()
+                        .count());
+    }
+
+    @Test
+    @DisplayName("tryAcquire: a username is throttled across IPs")
+    void tryAcquire_UserBucket() {
+        properties.setUserCapacity(2);
+        properties.setUserRefillPerMinute(1);
+        limiter = new LoginAttemptLimiter(properties, meterRegistry, clock);
+
+        assertTrue(limiter.tryAcquire("admin", "10.0.0.1"));
+        assertTrue(limiter.tryAcquire("admin", "10.0.0.2"));
+        assertFalse(limiter.tryAcquire("admin", "10.0.0.3"));
+    }
+
+    @Test
+    @DisplayName("tryAcquire: case and whitespace variants of a username share one bucket")
+    void tryAcquire_CaseVariantsShareBucket() {
+        properties.setUserCapacity(2);
+        properties.setUserRefillPerMinute(1);
+        limiter = new LoginAttemptLimiter(properties, meterRegistry, clock);
+
+        assertTrue(limiter.tryAcquire("admin", "10.0.0.1"));
+        assertTrue(limiter.tryAcquire("Admin", "10.0.0.2"));
+        assertFalse(limiter.tryAcquire("ADMIN", "10.0.0.3"));
+        assertFalse(limiter.tryAcquire(" aDmin ", "10.0.0.4"));
+    }
+
+    @Test
+    @DisplayName("recordFailure: counts consecutive failures and forgets them after the window or a reset")
+    void recordFailure_Counts() {
+        assertEquals(1, limiter.recordFailure("admin"));
+        assertEquals(2, limiter.recordFailure("admin"));
+        assertEquals(3, limiter.recordFailure("ADMIN"), "case variants count against the same account");
+        assertEquals(1, limiter.recordFailure("other"));
+
+        limiter.reset("Admin");
+        assertEquals(1, limiter.recordFailure("admin"));
+
+        clock.advance(properties.getFailureWindow().plusSeconds(1));
+        assertEquals(1, limiter.recordFailure("admin"));
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.rdt.auth.component;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import com.rdt.auth.config.LoginBookkeepingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+class LoginBookkeepingQueueTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 8, 0);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private LoginBookkeepingQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        LoginBookkeepingProperties properties = new LoginBookkeepingProperties();
+        properties.setBatchSize(100);
+        queue = new LoginBookkeepingQueue(
+                jdbcTemplate, properties, meterRegistry, Clock.fixed(Instant.EPOCH, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("flush: repeated logins of a user coalesce into one row with the latest time, in one batch")
+    @SuppressWarnings("unchecked")
+    void flush_CoalescesPerUser() throws SQLException {
+        queue.recordLogin(1L, T0);
+        queue.recordLogin(1L, T0.plusSeconds(5));
+        queue.recordLogin(1L, T0.plusSeconds(2));
+        queue.recordLogin(2L, T0);
+        assertEquals(2, queue.size());
+
+        queue.flush();
+
+        ArgumentCaptor<Collection<Map.Entry<Long, ?>>> rows = ArgumentCaptor.captor();
+        ArgumentCaptor<ParameterizedPreparedStatementSetter<Map.Entry<Long, ?>>> setter = ArgumentCaptor.captor();
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture(), eq(100), setter.capture());
+        assertEquals(2, rows.getValue().size());
+        assertEquals(0, queue.size());
+
+        Map.Entry<Long, ?> user1 = rows.getValue().stream()
+                .filter(row -> row.getKey() == 1L)
+                .findFirst()
+                .orElseThrow();
+        PreparedStatement ps = mock(PreparedStatement.class);
+        setter.getValue().setValues(ps, user1);
+        verify(ps).setTimestamp(1, Timestamp.valueOf(T0.plusSeconds(5)));
+        verify(ps).setLong(3, 1L);
+
+        assertEquals(
+                2.0,
+                meterRegistry.get("auth.login.bookkeeping.coalesced").counter().count());
+        assertEquals(2L, meterRegistry.get("auth.login.bookkeeping.lag").timer().count());
+    }
+
+    @Test
+    @DisplayName("flush: nothing queued means no statement")
+    void flush_Empty() {
+        queue.flush();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("flush: a failed batch is re-queued and written by the next flush")
+    void flush_FailureRequeues() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any()))
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenReturn(new int[][] {{1, 1}});
+        queue.recordLogin(1L, T0);
+        queue.recordLogin(2L, T0);
+
+        queue.flush();
+        assertEquals(2, queue.size());
+        assertEquals(
+                1.0,
+                meterRegistry.get("auth.login.bookkeeping.failed").counter().count());
+
+        queue.flush();
+        assertEquals(0, queue.size());
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyCollection(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("shutdown: pending bookkeeping is written before the context closes")
+    void shutdown_Flushes() {
+        queue.recordLogin(1L, T0);
+
+        queue.shutdown();
+
+        assertEquals(0, queue.size());
+        verify(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(), any());
+    }
+}
@@ -0,0 +1,86 @@
+package com.rdt.auth.component;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.rdt.auth.config.MembershipFilterProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MembershipFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private MembershipFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        MembershipFilterProperties properties = new MembershipFilterProperties();
+        properties.setSyncLookback(Duration.ofSeconds(30));
+        filter = new MembershipFilter("username", properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("mightContain: everything may exist until the first rebuild")
+    void beforeRebuild() {
+        assertTrue(filter.mightContain("anyone"));
+        filter.recordFalsePositive();
+        assertEquals(0.0, counter("membership.filter.false.positives"));
+    }
+
+    @Test
+    @DisplayName("rebuild: loaded keys are present, unknown keys are definite misses")
+    void rebuild() {
+        filter.rebuild(() -> List.of("admin", "alice"));
+
+        assertTrue(filter.mightContain("admin"));
+        assertFalse(filter.mightContain("mallory"));
+        assertEquals(
+                1.0,
+                meterRegistry
+                        .get("membership.filter.checks")
+                        .tag("result", "absent")
+                        .counter()
+                        .count());
+        assertEquals(2.0, meterRegistry.get("membership.filter.keys").gauge().value());
+        assertTrue(meterRegistry.get("membership.filter.bytes").gauge().value() > 0);
+    }
+
+    @Test
+    @DisplayName("add: keys added before or during a rebuild survive it")
+    void addAroundRebuild() {
+        filter.add("early");
+        filter.rebuild(() -> {
+            filter.add("during");
+            return List.of("admin");
+        });
+        filter.add("late");
+
+        assertTrue(filter.mightContain("early"));
+        assertTrue(filter.mightContain("during"));
+        assertTrue(filter.mightContain("late"));
+    }
+
+    @Test
+    @DisplayName("sync: pulls keys changed since the previous sync plus the lookback")
+    void sync() {
+        filter.sync(seconds -> fail("must not sync before the first rebuild"));
+        filter.rebuild(List::of);
+
+        AtomicLong window = new AtomicLong();
+        filter.sync(seconds -> {
+            window.set(seconds);
+            return List.of("remote");
+        });
+
+        assertTrue(filter.mightContain("remote"));
+        assertTrue(window.get() >= 30 && window.get() <= 60, "window " + window.get());
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+}
@@ -0,0 +1,127 @@
+package com.rdt.auth.component;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class PasswordHashBulkheadTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ThreadPoolTaskExecutor executor;
+    private PasswordHashBulkhead bulkhead;
+
+    /** Matches when raw equals encoded; "block" parks the hashing thread until released. */
+    private final PasswordEncoder encoder = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            if ("block".contentEquals(rawPassword)) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    };
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.initialize();
+        bulkhead = new PasswordHashBulkhead(encoder, executor, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("matches: verifies off the calling thread and records hash latency")
+    void matches_RunsOnBulkhead() {
+        assertTrue(bulkhead.matches("secret", "secret").join());
+        assertFalse(bulkhead.matches("secret", "other").join());
+
+        assertEquals(2, meterRegistry.get("auth.password.hash").timer().count());
+        assertEquals(2, meterRegistry.get("auth.password.hash.wait").timer().count());
+    }
+
+    @Test
+    @DisplayName("matches: sheds load immediately once threads and queue are full")
+    void matches_ShedsWhenSaturated() {
+        CompletableFuture<Boolean> running = bulkhead.matches("block", "block");
+        CompletableFuture<Boolean> queued = bulkhead.matches("secret", "secret");
+        waitForQueued(1);
+
+        CompletableFuture<Boolean> shed = bulkhead.matches("secret", "secret");
+
+        CompletionException ex = assertThrows(CompletionException.class, shed::join);
+        assertInstanceOf(RejectedExecutionException.class, ex.getCause());
+        assertEquals(
+                1.0, meterRegistry.get("auth.password.hash.rejected").counter().count());
+        assertEquals(1.0, meterRegistry.get("auth.password.hash.queue").gauge().value());
+
+        release.countDown();
+        assertTrue(running.join());
+        assertTrue(queued.join());
+    }
+
+    @Test
+    @DisplayName("matches: uses the executor's task decorator (MDC propagation)")
+    void matches_UsesTaskDecorator() {
+        executor.shutdown();
+        executor = new ThreadPoolTaskExecutor();
+        executor.setTaskDecorator(new com.rdt.common.async.MdcTaskDecorator());
+        executor.initialize();
+        bulkhead = new PasswordHashBulkhead(
+                new PasswordEncoder() {
+                    @Override
+                    public String encode(CharSequence rawPassword) {
+                        return rawPassword.toString();
+                    }
+
+                    @Override
+                    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                        return "trace-1".equals(MDC.get("traceId"));
+                    }
+                },
+                executor,
+                new SimpleMeterRegistry());
+
+        MDC.put("traceId", "trace-1");
+        try {
+            assertTrue(bulkhead.matches("x", "x").join());
+        } finally {
+            MDC.remove("traceId");
+        }
+    }
+
+    private void waitForQueued(int expected) {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (executor.getThreadPoolExecutor().getQueue().size() < expected && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+}
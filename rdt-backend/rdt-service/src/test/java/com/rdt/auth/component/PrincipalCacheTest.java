@@ -0,0 +1,109 @@
+package com.rdt.auth.component;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.rdt.auth.config.PrincipalCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class PrincipalCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PrincipalCache principalCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        principalCache = new PrincipalCache(new PrincipalCacheProperties(), meterRegistry);
+        loads = new AtomicInteger();
+    }
+
+    private UserDetails load(String username) {
+        loads.incrementAndGet();
+        return new User(username, "encoded", List.of());
+    }
+
+    @Test
+    @DisplayName("get: should load once and then serve from cache")
+    void get_CachesLoadedPrincipal() {
+        principalCache.get("admin", this::load);
+        principalCache.get("admin", this::load);
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("get: should publish hit and miss counts")
+    void get_PublishesMetrics() {
+        principalCache.get("admin", this::load);
+        principalCache.get("admin", this::load);
+
+        assertEquals(
+                1.0,
+                meterRegistry
+                        .get("cache.gets")
+                        .tag("cache", PrincipalCache.CACHE_NAME)
+                        .tag("result", "hit")
+                        .functionCounter()
+                        .count());
+        assertEquals(
+                1.0,
+                meterRegistry
+                        .get("cache.gets")
+                        .tag("cache", PrincipalCache.CACHE_NAME)
+                        .tag("result", "miss")
+                        .functionCounter()
+                        .count());
+    }
+
+    @Test
+    @DisplayName("evictAll: should drop every given principal and keep the others")
+    void evictAll_DropsGivenPrincipals() {
+        principalCache.get("alice", this::load);
+        principalCache.get("bob", this::load);
+        principalCache.get("carol", this::load);
+
+        principalCache.evictAll(List.of("alice", "bob"));
+        principalCache.get("alice", this::load);
+        principalCache.get("bob", this::load);
+        principalCache.get("carol", this::load);
+
+        assertEquals(5, loads.get());
+    }
+
+    @Test
+    @DisplayName("evict: should evict again when the surrounding transaction completes")
+    void evict_InsideTransaction() {
+        principalCache.get("admin", this::load);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            principalCache.evict("admin");
+            // A concurrent reader re-populates the entry before commit
+            principalCache.get("admin", this::load);
+
+            for (TransactionSynchronization sync : TransactionSynchronizationManager.getSynchronizations()) {
+                sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        principalCache.get("admin", this::load);
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    @DisplayName("evict: should ignore null usernames")
+    void evict_NullUsername() {
+        assertDoesNotThrow(() -> principalCache.evict(null));
+    }
+}
@@ -0,0 +1,79 @@
+package com.rdt.auth.component;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RevocationIndexTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Test
+    @DisplayName("contains: revoked ids are found until their token expires")
+    void contains_UntilExpiry() {
+        MutableClock clock = new MutableClock(NOW);
+        RevocationIndex index = new RevocationIndex(clock);
+        index.add("jti-1", NOW.plus(Duration.ofMinutes(5)));
+
+        assertTrue(index.contains("jti-1"));
+        assertFalse(index.contains("jti-2"));
+        assertFalse(index.contains(null));
+
+        clock.now = NOW.plus(Duration.ofMinutes(4));
+        index.expire();
+        assertTrue(index.contains("jti-1"));
+
+        clock.now = NOW.plus(Duration.ofMinutes(5)).plusSeconds(1);
+        index.expire();
+        assertFalse(index.contains("jti-1"));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    @DisplayName("add: already expired tokens are not stored")
+    void add_IgnoresExpired() {
+        RevocationIndex index = new RevocationIndex(Clock.fixed(NOW, ZoneOffset.UTC));
+        index.add("jti-1", NOW.minusSeconds(1));
+
+        assertFalse(index.contains("jti-1"));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    @DisplayName("add: revoking the same id twice keeps a single entry")
+    void add_Idempotent() {
+        RevocationIndex index = new RevocationIndex(Clock.fixed(NOW, ZoneOffset.UTC));
+        index.add("jti-1", NOW.plusSeconds(60));
+        index.add("jti-1", NOW.plusSeconds(60));
+
+        assertEquals(1, index.size());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.rdt.auth.component;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StripedLruMapTest {
+
+    @Test
+    @DisplayName("compute: updates are atomic per key under concurrency")
+    void compute_AtomicPerKey() throws InterruptedException {
+        StripedLruMap<AtomicInteger> map = new StripedLruMap<>(4, 100);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    map.compute("key" + (i % 10), AtomicInteger::new, AtomicInteger::incrementAndGet);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        for (int k = 0; k < 10; k++) {
+            assertEquals(800, map.compute("key" + k, AtomicInteger::new, AtomicInteger::get));
+        }
+    }
+
+    @Test
+    @DisplayName("compute: each stripe drops its least recently used key beyond capacity")
+    void compute_BoundedLru() {
+        StripedLruMap<AtomicInteger> map = new StripedLruMap<>(1, 2);
+        map.compute("a", AtomicInteger::new, AtomicInteger::incrementAndGet);
+        map.compute("b", AtomicInteger::new, AtomicInteger::incrementAndGet);
+        map.compute("a", AtomicInteger::new, AtomicInteger::incrementAndGet); // a is now most recent
+        map.compute("c", AtomicInteger::new, AtomicInteger::incrementAndGet); // evicts b
+
+        assertEquals(2, map.size());
+        assertEquals(2, map.compute("a", AtomicInteger::new, AtomicInteger::get));
+        assertEquals(0, map.compute("b", AtomicInteger::new, AtomicInteger::get));
+    }
+
+    @Test
+    @DisplayName("remove: forgets the key")
+    void remove_ForgetsKey() {
+        StripedLruMap<AtomicInteger> map = new StripedLruMap<>(2, 10);
+        map.compute("a", AtomicInteger::new, AtomicInteger::incrementAndGet);
+
+        map.remove("a");
+
+        assertEquals(0, map.size());
+    }
+}
@@ -0,0 +1,84 @@
+package com.rdt.auth.component;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    private final TimingWheel<String> wheel = new TimingWheel<>(10, 4, START);
+    private final List<String> expired = new ArrayList<>();
+
+    @Test
+    @DisplayName("schedule: past deadlines are rejected")
+    void schedule_PastDeadline() {
+        assertFalse(wheel.schedule("a", START - 1));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("advance: keys expire after their deadline, never before")
+    void advance_ExpiresAtDeadline() {
+        wheel.schedule("a", START + 25);
+
+        wheel.advance(START + 25, expired::add);
+        assertTrue(expired.isEmpty());
+
+        wheel.advance(START + 30, expired::add);
+        assertEquals(List.of("a"), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("advance: far deadlines cascade through higher levels")
+    void advance_CascadesFarDeadlines() {
+        // wheel covers 40ms per level 0 turn; these need levels 1 and 2
+        wheel.schedule("near", START + 5);
+        wheel.schedule("mid", START + 135);
+        wheel.schedule("far", START + 555);
+
+        for (long now = START; now <= START + 600; now++) {
+            wheel.advance(now, key -> expired.add(key));
+            if (now <= START + 135) {
+                assertFalse(expired.contains("mid"), "mid expired early at " + now);
+            }
+            if (now <= START + 555) {
+                assertFalse(expired.contains("far"), "far expired early at " + now);
+            }
+        }
+
+        assertEquals(List.of("near", "mid", "far"), expired);
+    }
+
+    @Test
+    @DisplayName("advance: every key is reported within one tick of its deadline")
+    void advance_WithinOneTick() {
+        for (int i = 0; i < 500; i++) {
+            wheel.schedule("k" + i, START + i * 7L);
+        }
+        List<Long> lateness = new ArrayList<>();
+        for (long now = START; now <= START + 3600; now++) {
+            long at = now;
+            wheel.advance(now, key -> {
+                long deadline = START + Long.parseLong(key.substring(1)) * 7L;
+                lateness.add(at - deadline);
+            });
+        }
+
+        assertEquals(500, lateness.size());
+        assertTrue(lateness.stream().allMatch(late -> late > 0 && late <= 10), lateness.toString());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("constructor: rejects invalid geometry")
+    void constructor_InvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new TimingWheel<String>(0, 4, START));
+        assertThrows(IllegalArgumentException.class, () -> new TimingWheel<String>(10, 1, START));
+    }
+}
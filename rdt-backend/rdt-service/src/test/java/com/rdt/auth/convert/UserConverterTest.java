@@ -0,0 +1,69 @@
+package com.rdt.auth.convert;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.rdt.auth.model.dto.UserDto;
+import com.rdt.auth.model.entity.SysUser;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class UserConverterTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2026, 1, 1, 8, 0);
+    private static final LocalDateTime LAST_LOGIN = LocalDateTime.of(2026, 2, 1, 9, 30);
+
+    @Test
+    @DisplayName("toDto: copies the exposed columns")
+    void toDto_CopiesColumns() {
+        UserDto dto = UserConverter.INSTANCE.toDto(fullUser());
+
+        assertEquals(1L, dto.getId());
+        assertEquals("alice", dto.getUsername());
+        assertEquals("alice@example.com", dto.getEmail());
+        assertEquals("https://example.com/a.png", dto.getAvatar());
+        assertEquals(1, dto.getStatus());
+        assertEquals(3, dto.getVersion());
+        assertEquals(CREATED, dto.getCreatedAt());
+        assertEquals(LAST_LOGIN, dto.getLastLoginTime());
+    }
+
+    @Test
+    @DisplayName("toDto: every UserDto property is mapped (fails when one is added to the DTO only)")
+    void toDto_MapsEveryProperty() throws Exception {
+        UserDto dto = UserConverter.INSTANCE.toDto(fullUser());
+
+        for (PropertyDescriptor property :
+                Introspector.getBeanInfo(UserDto.class, Object.class).getPropertyDescriptors()) {
+            assertNotNull(property.getReadMethod().invoke(dto), property.getName() + " is not mapped");
+        }
+    }
+
+    @Test
+    @DisplayName("toDto: null entity maps to null")
+    void toDto_Null() {
+        assertNull(UserConverter.INSTANCE.toDto(null));
+    }
+
+    private static SysUser fullUser() {
+        return SysUser.builder()
+                .id(1L)
+                .username("alice")
+                .usernameInitials("alice")
+                .usernameSortKey(new byte[] {1})
+                .email("alice@example.com")
+                .password("hash")
+                .avatar("https://example.com/a.png")
+                .status(1)
+                .version(3)
+                .failedAttempts(0)
+                .lockExpireTime(LAST_LOGIN)
+                .lastLoginTime(LAST_LOGIN)
+                .tokenVersion(2)
+                .createdAt(CREATED)
+                .updatedAt(LAST_LOGIN)
+                .build();
+    }
+}
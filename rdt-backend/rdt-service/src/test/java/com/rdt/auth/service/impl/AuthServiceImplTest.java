@@ -2,21 +2,55 @@ package com.rdt.auth.service.impl;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import com.rdt.auth.component.JwtProvider;
+import com.rdt.auth.component.LoginAttemptLimiter;
+import com.rdt.auth.component.LoginBookkeepingQueue;
+import com.rdt.auth.component.PasswordHashBulkhead;
+import com.rdt.auth.component.PrincipalCache;
+import com.rdt.auth.component.UsernameFilter;
+import com.rdt.auth.config.MembershipFilterProperties;
+import com.rdt.auth.constant.AuthConstants;
+import com.rdt.auth.mapper.UserMapper;
 import com.rdt.auth.model.dto.LoginReq;
 import com.rdt.auth.model.dto.LoginResp;
+import com.rdt.auth.model.dto.RefreshTokenReq;
+import com.rdt.auth.model.entity.SysRefreshToken;
 import com.rdt.auth.model.entity.SysUser;
 import com.rdt.auth.repository.UserRepository;
+import com.rdt.auth.service.RefreshTokenService;
+import com.rdt.auth.service.TokenRevocationService;
+import com.rdt.auth.service.TokenVersionService;
 import com.rdt.common.exception.BusinessException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.impl.DefaultClaims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.mockito.Spy;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 class AuthServiceImplTest {
 
@@ -27,7 +61,37 @@ class AuthServiceImplTest {
     private JwtProvider jwtProvider;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashBulkhead passwordHashBulkhead;
+
+    @Spy
+    private Executor loginExecutor = new SyncTaskExecutor();
+
+    @Mock
+    private LoginAttemptLimiter loginAttemptLimiter;
+
+    @Mock
+    private LoginBookkeepingQueue loginBookkeepingQueue;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+    @Mock
+    private PrincipalCache principalCache;
+
+    private final UserMapper userMapper = mock(UserMapper.class);
+
+    @Spy
+    private UsernameFilter usernameFilter =
+            new UsernameFilter(userMapper, new MembershipFilterProperties(), new SimpleMeterRegistry());
+
+    @Mock
+    private TokenVersionService tokenVersionService;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
 
     @InjectMocks
     private AuthServiceImpl authService;
@@ -35,6 +99,7 @@ class AuthServiceImplTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(loginAttemptLimiter.tryAcquire(any(), any())).thenReturn(true);
     }
 
     @Test
@@ -53,16 +118,30 @@ class AuthServiceImplTest {
                 .build();
 
         when(userRepository.selectOne(any())).thenReturn(user);
-        when(passwordEncoder.matches("password", "encodedPassword")).thenReturn(true);
-        when(jwtProvider.generateToken("admin")).thenReturn("mockToken");
+        when(passwordHashBulkhead.matches("password", "encodedPassword"))
+                .thenReturn(CompletableFuture.completedFuture(true));
+        when(jwtProvider.generateToken(eq("admin"), anyMap())).thenReturn("mockToken");
+        when(refreshTokenService.issue(eq(1L), eq(0), anyString())).thenReturn("mockRefreshToken");
 
         // When
-        LoginResp resp = authService.login(req);
+        LoginResp resp = authService.login(req, "127.0.0.1").join();
 
         // Then
         assertNotNull(resp);
         assertEquals("mockToken", resp.getToken());
+        assertEquals("mockRefreshToken", resp.getRefreshToken());
         assertEquals(1L, resp.getUser().getId());
+
+        ArgumentCaptor<Map<String, Object>> claims = ArgumentCaptor.captor();
+        verify(jwtProvider).generateToken(eq("admin"), claims.capture());
+        assertEquals(1L, claims.getValue().get(AuthConstants.CLAIM_USER_ID));
+        assertEquals(0, claims.getValue().get(AuthConstants.CLAIM_TOKEN_VERSION));
+        assertEquals(List.of(AuthConstants.ROLE_ADMIN), claims.getValue().get(AuthConstants.CLAIM_AUTHORITIES));
+
+        // Bookkeeping is queued, not written on the login path
+        verify(loginBookkeepingQueue).recordLogin(eq(1L), any(java.time.LocalDateTime.class));
+        verify(userRepository, never()).updateById(any(SysUser.class));
+        verify(userRepository, never()).unlock(any());
     }
 
     @Test
@@ -76,7 +155,47 @@ class AuthServiceImplTest {
         when(userRepository.selectOne(any())).thenReturn(null);
 
         // When & Then (Expect RuntimeException for now, standard should be custom)
-        assertThrows(BusinessException.class, () -> authService.login(req));
+        assertThrows(BusinessException.class, () -> authService.login(req, "127.0.0.1"));
+    }
+
+    @Test
+    @DisplayName("Login Failure: Username ruled out by the filter never reaches the database")
+    void login_UnknownUsernameFilteredOut() {
+        // Given: filter built from an empty table
+        usernameFilter.rebuild();
+        LoginReq req = new LoginReq();
+        req.setUsername("unknown");
+        req.setPassword("password");
+
+        // When & Then
+        assertThrows(BusinessException.class, () -> authService.login(req, "127.0.0.1"));
+        verify(userRepository, never()).selectOne(any());
+    }
+
+    @Test
+    @DisplayName("Login Success: the filter matches usernames case-insensitively, like the column collation")
+    void login_CaseVariantUsername() {
+        when(userMapper.selectAllUsernames()).thenReturn(List.of("admin"));
+        usernameFilter.rebuild();
+        LoginReq req = new LoginReq();
+        req.setUsername("Admin");
+        req.setPassword("password");
+        SysUser user = SysUser.builder()
+                .id(1L)
+                .username("admin")
+                .password("encodedPassword")
+                .status(1)
+                .build();
+        when(userRepository.selectOne(any())).thenReturn(user);
+        when(passwordHashBulkhead.matches("password", "encodedPassword"))
+                .thenReturn(CompletableFuture.completedFuture(true));
+        when(jwtProvider.generateToken(eq("admin"), anyMap())).thenReturn("mockToken");
+
+        LoginResp resp = authService.login(req, "127.0.0.1").join();
+
+        assertEquals("mockToken", resp.getToken());
+        assertTrue(usernameFilter.mightExist("ADMIN"));
+        assertFalse(usernameFilter.mightExist("unknown"));
     }
 
     @Test
@@ -96,7 +215,7 @@ class AuthServiceImplTest {
         when(userRepository.selectOne(any())).thenReturn(user);
 
         // When & Then
-        assertThrows(BusinessException.class, () -> authService.login(req));
+        assertThrows(BusinessException.class, () -> authService.login(req, "127.0.0.1"));
     }
 
     @Test
@@ -117,7 +236,7 @@ class AuthServiceImplTest {
         when(userRepository.selectOne(any())).thenReturn(user);
 
         // When & Then
-        assertThrows(BusinessException.class, () -> authService.login(req));
+        assertThrows(BusinessException.class, () -> authService.login(req, "127.0.0.1"));
     }
 
     @Test
@@ -137,20 +256,23 @@ class AuthServiceImplTest {
                 .build();
 
         when(userRepository.selectOne(any())).thenReturn(user);
-        when(passwordEncoder.matches("password", "encodedPassword")).thenReturn(true);
-        when(jwtProvider.generateToken("lockedUser")).thenReturn("mockToken");
+        when(passwordHashBulkhead.matches("password", "encodedPassword"))
+                .thenReturn(CompletableFuture.completedFuture(true));
+        when(jwtProvider.generateToken(eq("lockedUser"), anyMap())).thenReturn("mockToken");
 
         // When
-        LoginResp resp = authService.login(req);
+        LoginResp resp = authService.login(req, "127.0.0.1").join();
 
         // Then
         assertNotNull(resp);
         assertEquals(1, user.getStatus()); // STATUS_NORMAL
         assertNull(user.getLockExpireTime());
+        verify(userRepository).unlock(1L);
+        verify(loginBookkeepingQueue).recordLogin(eq(1L), any(java.time.LocalDateTime.class));
     }
 
     @Test
-    @DisplayName("Login Failure: Bad credentials should increment attempts")
+    @DisplayName("Login Failure: Bad credentials should count the attempt in memory without a database write")
     void login_BadCredentials() {
         // Given
         LoginReq req = new LoginReq();
@@ -165,12 +287,17 @@ class AuthServiceImplTest {
                 .build();
 
         when(userRepository.selectOne(any())).thenReturn(user);
-        when(passwordEncoder.matches("wrongPassword", "encodedPassword")).thenReturn(false);
+        when(passwordHashBulkhead.matches("wrongPassword", "encodedPassword"))
+                .thenReturn(CompletableFuture.completedFuture(false));
+        when(loginAttemptLimiter.recordFailure("user")).thenReturn(1);
 
         // When & Then
-        assertThrows(BusinessException.class, () -> authService.login(req));
-        assertEquals(1, user.getFailedAttempts());
-        verify(userRepository).updateById(user);
+        CompletionException ex = assertThrows(
+                CompletionException.class,
+                () -> authService.login(req, "127.0.0.1").join());
+        assertInstanceOf(BusinessException.class, ex.getCause());
+        verify(loginAttemptLimiter).recordFailure("user");
+        verify(userRepository, never()).updateById(any(SysUser.class));
     }
 
     @Test
@@ -185,18 +312,175 @@ class AuthServiceImplTest {
                 .username("user")
                 .password("encodedPassword")
                 .status(1) // STATUS_NORMAL
-                .failedAttempts(4) // One more fail will reach 5
                 .build();
 
         when(userRepository.selectOne(any())).thenReturn(user);
-        when(passwordEncoder.matches("wrongPassword", "encodedPassword")).thenReturn(false);
+        when(passwordHashBulkhead.matches("wrongPassword", "encodedPassword"))
+                .thenReturn(CompletableFuture.completedFuture(false));
+        when(loginAttemptLimiter.recordFailure("user")).thenReturn(5); // this failure reaches the threshold
 
         // When & Then
-        assertThrows(BusinessException.class, () -> authService.login(req));
-        assertEquals(5, user.getFailedAttempts());
-        assertEquals(2, user.getStatus()); // STATUS_LOCKED
-        assertNotNull(user.getLockExpireTime());
-        verify(userRepository).updateById(user);
+        CompletionException ex = assertThrows(
+                CompletionException.class,
+                () -> authService.login(req, "127.0.0.1").join());
+        assertInstanceOf(BusinessException.class, ex.getCause());
+        // Only the lock columns are written, unconditionally (no version)
+        ArgumentCaptor<SysUser> lock = ArgumentCaptor.forClass(SysUser.class);
+        verify(userRepository).updateById(lock.capture());
+        assertEquals(5, lock.getValue().getFailedAttempts());
+        assertEquals(2, lock.getValue().getStatus()); // STATUS_LOCKED
+        assertNotNull(lock.getValue().getLockExpireTime());
+        assertNull(lock.getValue().getVersion());
+        verify(tokenVersionService).bump(user.getId());
+        verify(principalCache).evict("user");
+        verify(loginAttemptLimiter).reset("user");
+    }
+
+    @Test
+    @DisplayName("Login Success: only the hash check runs on the bulkhead, the rest is handed to the login executor")
+    void login_ContinuesOffBulkhead() {
+        LoginReq req = new LoginReq();
+        req.setUsername("admin");
+        req.setPassword("password");
+        SysUser user = SysUser.builder()
+                .id(1L)
+                .username("admin")
+                .password("encodedPassword")
+                .status(1)
+                .build();
+        CompletableFuture<Boolean> hashed = new CompletableFuture<>();
+        Deque<Runnable> deferred = new ArrayDeque<>();
+        doAnswer(inv -> deferred.add(inv.getArgument(0))).when(loginExecutor).execute(any());
+        when(userRepository.selectOne(any())).thenReturn(user);
+        when(passwordHashBulkhead.matches("password", "encodedPassword")).thenReturn(hashed);
+        when(jwtProvider.generateToken(eq("admin"), anyMap())).thenReturn("mockToken");
+
+        CompletableFuture<LoginResp> login = authService.login(req, "127.0.0.1");
+        // Completing the hash (as a bulkhead thread would) must not run the transaction or sign the token
+        hashed.complete(true);
+
+        assertFalse(login.isDone());
+        verifyNoInteractions(jwtProvider, refreshTokenService, loginBookkeepingQueue);
+        assertEquals(1, deferred.size());
+
+        deferred.pop().run();
+        assertEquals("mockToken", login.join().getToken());
+        verify(loginBookkeepingQueue).recordLogin(eq(1L), any(java.time.LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Login Failure: a full login executor fails the login instead of finishing it on the bulkhead")
+    void login_LoginExecutorSaturated() {
+        LoginReq req = new LoginReq();
+        req.setUsername("admin");
+        req.setPassword("password");
+        SysUser user = SysUser.builder()
+                .id(1L)
+                .username("admin")
+                .password("encodedPassword")
+                .status(1)
+                .build();
+        doThrow(new RejectedExecutionException("login executor full"))
+                .when(loginExecutor)
+                .execute(any());
+        when(userRepository.selectOne(any())).thenReturn(user);
+        when(passwordHashBulkhead.matches("password", "encodedPassword"))
+                .thenReturn(CompletableFuture.completedFuture(true));
+
+        CompletableFuture<LoginResp> login = authService.login(req, "127.0.0.1");
+
+        CompletionException ex = assertThrows(CompletionException.class, login::join);
+        assertInstanceOf(RejectedExecutionException.class, ex.getCause());
+        verifyNoInteractions(jwtProvider, refreshTokenService, loginBookkeepingQueue, transactionTemplate);
+    }
+
+    @Test
+    @DisplayName("Login Failure: throttled attempts are rejected before any lookup or hashing")
+    void login_Throttled() {
+        LoginReq req = new LoginReq();
+        req.setUsername("user");
+        req.setPassword("password");
+        when(loginAttemptLimiter.tryAcquire("user", "10.0.0.1")).thenReturn(false);
+
+        BusinessException ex = assertThrows(BusinessException.class, () -> authService.login(req, "10.0.0.1"));
+
+        assertEquals(11_007, ex.getCode());
+        verifyNoInteractions(userRepository, passwordHashBulkhead);
+    }
+
+    @Test
+    @DisplayName("Refresh: valid refresh token should rotate within the same family without a password check")
+    void refresh_Success() {
+        RefreshTokenReq req = new RefreshTokenReq();
+        req.setRefreshToken("refresh");
+        when(refreshTokenService.rotate("refresh")).thenReturn(refreshRow(1, 2));
+        when(jwtProvider.generateToken(eq("admin"), anyMap())).thenReturn("newToken");
+        when(refreshTokenService.issue(1L, 2, "family-1")).thenReturn("newRefresh");
+
+        LoginResp resp = authService.refresh(req);
+
+        assertEquals("newToken", resp.getToken());
+        assertEquals("newRefresh", resp.getRefreshToken());
+        ArgumentCaptor<Map<String, Object>> claims = ArgumentCaptor.captor();
+        verify(jwtProvider).generateToken(eq("admin"), claims.capture());
+        assertEquals(2, claims.getValue().get(AuthConstants.CLAIM_TOKEN_VERSION));
+        assertEquals("family-1", claims.getValue().get(AuthConstants.CLAIM_SESSION_ID));
+        verifyNoInteractions(passwordHashBulkhead, userRepository);
+    }
+
+    @Test
+    @DisplayName("Refresh: token issued before a token_version bump should revoke the family")
+    void refresh_StaleTokenVersion() {
+        RefreshTokenReq req = new RefreshTokenReq();
+        req.setRefreshToken("refresh");
+        SysRefreshToken row = refreshRow(1, 1);
+        row.setUserTokenVersion(2);
+        when(refreshTokenService.rotate("refresh")).thenReturn(row);
+
+        BusinessException ex = assertThrows(BusinessException.class, () -> authService.refresh(req));
+
+        assertEquals(11_006, ex.getCode());
+        verify(refreshTokenService).revokeFamily("family-1");
+        verify(refreshTokenService, never()).issue(any(), anyInt(), any());
+    }
+
+    private SysRefreshToken refreshRow(int status, int tokenVersion) {
+        return SysRefreshToken.builder()
+                .id(10L)
+                .userId(1L)
+                .familyId("family-1")
+                .tokenVersion(tokenVersion)
+                .username("admin")
+                .userStatus(status)
+                .userTokenVersion(tokenVersion)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Logout: valid token should be revoked until it expires")
+    void logout_RevokesToken() {
+        Claims claims = new DefaultClaims();
+        claims.setSubject("admin");
+        claims.setId("jti-1");
+        claims.put(AuthConstants.CLAIM_SESSION_ID, "family-1");
+        Instant expiresAt = Instant.now().plusSeconds(3600);
+        when(jwtProvider.verify("token")).thenReturn(Optional.of(claims));
+        when(jwtProvider.getExpiration(claims)).thenReturn(expiresAt);
+
+        authService.logout("token");
+
+        verify(tokenRevocationService).revoke("jti-1", expiresAt);
+        verify(refreshTokenService).revokeFamily("family-1");
+    }
+
+    @Test
+    @DisplayName("Logout: invalid or missing token should be ignored")
+    void logout_InvalidToken() {
+        when(jwtProvider.verify(any())).thenReturn(Optional.empty());
+
+        authService.logout(null);
+
+        verifyNoInteractions(tokenRevocationService);
     }
 
     @Test
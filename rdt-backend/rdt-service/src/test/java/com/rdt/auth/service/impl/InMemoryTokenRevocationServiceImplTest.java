@@ -0,0 +1,25 @@
+package com.rdt.auth.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InMemoryTokenRevocationServiceImplTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final InMemoryTokenRevocationServiceImpl service = new InMemoryTokenRevocationServiceImpl(meterRegistry);
+
+    @Test
+    @DisplayName("revoke: token is reported revoked and counted")
+    void revoke_MarksTokenRevoked() {
+        service.revoke("jti-1", Instant.now().plusSeconds(60));
+        service.expire();
+
+        assertTrue(service.isRevoked("jti-1"));
+        assertFalse(service.isRevoked("jti-2"));
+        assertEquals(1.0, meterRegistry.get("auth.token.revocations").gauge().value());
+    }
+}
@@ -0,0 +1,71 @@
+package com.rdt.auth.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.rdt.auth.mapper.TokenRevocationMapper;
+import com.rdt.auth.model.entity.SysTokenRevocation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class JdbcTokenRevocationServiceImplTest {
+
+    @Mock
+    private TokenRevocationMapper tokenRevocationMapper;
+
+    private JdbcTokenRevocationServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new JdbcTokenRevocationServiceImpl(tokenRevocationMapper, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("revoke: persists the id and revokes it locally at once")
+    void revoke_PersistsAndIndexes() {
+        service.revoke("jti-1", Instant.now().plusSeconds(60));
+
+        verify(tokenRevocationMapper).insertIgnore(eq("jti-1"), any(LocalDateTime.class));
+        assertTrue(service.isRevoked("jti-1"));
+    }
+
+    @Test
+    @DisplayName("sync: pulls revocations recorded by other nodes")
+    void sync_LoadsRemoteRevocations() {
+        SysTokenRevocation row = SysTokenRevocation.builder()
+                .id(7L)
+                .jti("remote")
+                .expiresAt(LocalDateTime.now().plusMinutes(5))
+                .build();
+        when(tokenRevocationMapper.selectSince(eq(0L), any(), anyInt())).thenReturn(List.of(row));
+
+        service.sync();
+
+        assertTrue(service.isRevoked("remote"));
+        assertFalse(service.isRevoked("other"));
+    }
+
+    @Test
+    @DisplayName("purge: deletes expired rows in batches")
+    void purge_DeletesInBatches() {
+        when(tokenRevocationMapper.deleteExpired(any(), anyInt())).thenReturn(1000, 3);
+
+        service.purge();
+
+        verify(tokenRevocationMapper, times(2)).deleteExpired(any(), anyInt());
+        verify(tokenRevocationMapper, never()).selectSince(anyLong(), any(), anyInt());
+    }
+}
@@ -0,0 +1,121 @@
+package com.rdt.auth.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.rdt.auth.config.JwtProperties;
+import com.rdt.auth.mapper.RefreshTokenMapper;
+import com.rdt.auth.model.entity.SysRefreshToken;
+import com.rdt.common.exception.BusinessException;
+import com.rdt.common.util.DigestUtils;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceImplTest {
+
+    @Mock
+    private RefreshTokenMapper refreshTokenMapper;
+
+    private RefreshTokenServiceImpl refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenServiceImpl(refreshTokenMapper, new JwtProperties());
+    }
+
+    @Test
+    @DisplayName("issue: only the SHA-256 digest of the token is stored")
+    void issue_StoresDigestOnly() {
+        String token = refreshTokenService.issue(1L, 3, "family-1");
+
+        ArgumentCaptor<SysRefreshToken> row = ArgumentCaptor.forClass(SysRefreshToken.class);
+        verify(refreshTokenMapper).insert(row.capture());
+        assertEquals(DigestUtils.sha256Hex(token), row.getValue().getTokenHash());
+        assertEquals("family-1", row.getValue().getFamilyId());
+        assertEquals(3, row.getValue().getTokenVersion());
+        assertTrue(row.getValue().getExpiresAt().isAfter(LocalDateTime.now().plusDays(13)));
+        assertNotEquals(token, refreshTokenService.issue(1L, 3, "family-1"));
+    }
+
+    @Test
+    @DisplayName("rotate: unused token is consumed with a single lookup")
+    void rotate_Success() {
+        SysRefreshToken row = row();
+        when(refreshTokenMapper.selectByHash(DigestUtils.sha256Hex("token"))).thenReturn(row);
+        when(refreshTokenMapper.markUsed(eq(10L), any())).thenReturn(1);
+
+        assertSame(row, refreshTokenService.rotate("token"));
+        verify(refreshTokenMapper, never()).revokeFamily(any(), any());
+    }
+
+    @Test
+    @DisplayName("rotate: reusing a rotated token revokes the whole family")
+    void rotate_ReuseRevokesFamily() {
+        SysRefreshToken row = row();
+        row.setUsedAt(LocalDateTime.now().minusMinutes(1));
+        when(refreshTokenMapper.selectByHash(any())).thenReturn(row);
+
+        assertThrows(BusinessException.class, () -> refreshTokenService.rotate("token"));
+        verify(refreshTokenMapper).revokeFamily(eq("family-1"), any());
+        verify(refreshTokenMapper, never()).markUsed(any(), any());
+    }
+
+    @Test
+    @DisplayName("rotate: losing a concurrent rotation is treated as reuse")
+    void rotate_ConcurrentRotation() {
+        when(refreshTokenMapper.selectByHash(any())).thenReturn(row());
+        when(refreshTokenMapper.markUsed(eq(10L), any())).thenReturn(0);
+
+        assertThrows(BusinessException.class, () -> refreshTokenService.rotate("token"));
+        verify(refreshTokenMapper).revokeFamily(eq("family-1"), any());
+    }
+
+    @Test
+    @DisplayName("rotate: unknown, revoked and expired tokens are rejected")
+    void rotate_InvalidTokens() {
+        assertThrows(BusinessException.class, () -> refreshTokenService.rotate("unknown"));
+
+        SysRefreshToken revoked = row();
+        revoked.setRevokedAt(LocalDateTime.now());
+        when(refreshTokenMapper.selectByHash(DigestUtils.sha256Hex("revoked"))).thenReturn(revoked);
+        assertThrows(BusinessException.class, () -> refreshTokenService.rotate("revoked"));
+
+        SysRefreshToken expired = row();
+        expired.setExpiresAt(LocalDateTime.now().minusSeconds(1));
+        when(refreshTokenMapper.selectByHash(DigestUtils.sha256Hex("expired"))).thenReturn(expired);
+        when(refreshTokenMapper.markUsed(eq(10L), any())).thenReturn(1);
+        assertThrows(BusinessException.class, () -> refreshTokenService.rotate("expired"));
+
+        verify(refreshTokenMapper, never()).revokeFamily(any(), any());
+    }
+
+    @Test
+    @DisplayName("purge: deletes expired rows in batches")
+    void purge_DeletesInBatches() {
+        when(refreshTokenMapper.deleteExpired(any(), anyInt())).thenReturn(1000, 0);
+
+        refreshTokenService.purge();
+
+        verify(refreshTokenMapper, times(2)).deleteExpired(any(), anyInt());
+    }
+
+    private SysRefreshToken row() {
+        return SysRefreshToken.builder()
+                .id(10L)
+                .userId(1L)
+                .familyId("family-1")
+                .tokenVersion(0)
+                .expiresAt(LocalDateTime.now().plusDays(1))
+                .build();
+    }
+}
@@ -0,0 +1,106 @@
+package com.rdt.auth.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.rdt.auth.mapper.UserMapper;
+import com.rdt.auth.model.entity.SysUser;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class TokenVersionServiceImplTest {
+
+    @Mock
+    private UserMapper userMapper;
+
+    @InjectMocks
+    private TokenVersionServiceImpl tokenVersionService;
+
+    @Test
+    @DisplayName("isCurrent: unknown users are at version 0")
+    void isCurrent_UnknownUser() {
+        assertTrue(tokenVersionService.isCurrent(1L, 0));
+    }
+
+    @Test
+    @DisplayName("bump: outside a transaction revokes older tokens immediately")
+    void bump_RevokesOlderTokens() {
+        tokenVersionService.bump(1L);
+
+        verify(userMapper).incrementTokenVersions(any());
+        assertFalse(tokenVersionService.isCurrent(1L, 0));
+        assertTrue(tokenVersionService.isCurrent(1L, 1));
+        assertTrue(tokenVersionService.isCurrent(2L, 0));
+    }
+
+    @Test
+    @DisplayName("bump: inside a transaction takes effect after commit")
+    void bump_AfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            tokenVersionService.bump(1L);
+            assertTrue(tokenVersionService.isCurrent(1L, 0));
+
+            for (TransactionSynchronization sync : TransactionSynchronizationManager.getSynchronizations()) {
+                sync.afterCommit();
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertFalse(tokenVersionService.isCurrent(1L, 0));
+    }
+
+    @Test
+    @DisplayName("bumpAll: one statement revokes the older tokens of every user")
+    void bumpAll_RevokesOlderTokens() {
+        tokenVersionService.bumpAll(List.of(1L, 2L));
+
+        verify(userMapper).incrementTokenVersions(any());
+        assertFalse(tokenVersionService.isCurrent(1L, 0));
+        assertFalse(tokenVersionService.isCurrent(2L, 0));
+        assertTrue(tokenVersionService.isCurrent(3L, 0));
+    }
+
+    @Test
+    @DisplayName("refresh: loads bumped versions and revokes deleted users entirely")
+    void refresh_LoadsVersions() {
+        SysUser bumped = SysUser.builder().id(1L).tokenVersion(3).build();
+        SysUser deleted = SysUser.builder()
+                .id(2L)
+                .tokenVersion(0)
+                .deletedAt(LocalDateTime.now())
+                .build();
+        when(userMapper.selectTokenVersions()).thenReturn(List.of(bumped, deleted));
+
+        tokenVersionService.refresh();
+
+        assertFalse(tokenVersionService.isCurrent(1L, 2));
+        assertTrue(tokenVersionService.isCurrent(1L, 3));
+        assertFalse(tokenVersionService.isCurrent(2L, 100));
+    }
+
+    @Test
+    @DisplayName("refresh: never lowers a version bumped locally")
+    void refresh_KeepsHigherLocalVersion() {
+        tokenVersionService.bump(1L);
+        tokenVersionService.bump(1L);
+        when(userMapper.selectTokenVersions())
+                .thenReturn(List.of(SysUser.builder().id(1L).tokenVersion(1).build()));
+
+        tokenVersionService.refresh();
+
+        assertFalse(tokenVersionService.isCurrent(1L, 1));
+        assertTrue(tokenVersionService.isCurrent(1L, 2));
+    }
+}
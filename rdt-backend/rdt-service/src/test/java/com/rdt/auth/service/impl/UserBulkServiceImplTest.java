@@ -0,0 +1,120 @@
+package com.rdt.auth.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import com.baomidou.mybatisplus.core.conditions.update.UpdateWrapper;
+import com.rdt.auth.component.PrincipalCache;
+import com.rdt.auth.config.BulkOperationProperties;
+import com.rdt.auth.mapper.UserMapper;
+import com.rdt.auth.model.entity.SysUser;
+import com.rdt.auth.service.TokenVersionService;
+import com.rdt.common.model.BulkResult;
+import com.rdt.query.component.Paginator;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class UserBulkServiceImplTest {
+
+    private final UserMapper userMapper = mock(UserMapper.class);
+    private final PrincipalCache principalCache = mock(PrincipalCache.class);
+    private final TokenVersionService tokenVersionService = mock(TokenVersionService.class);
+    private final Paginator paginator = mock(Paginator.class);
+    private final BulkOperationProperties properties = new BulkOperationProperties();
+
+    private UserBulkServiceImpl userBulkService;
+
+    @BeforeEach
+    void setUp() {
+        userBulkService =
+                new UserBulkServiceImpl(userMapper, principalCache, tokenVersionService, paginator, properties);
+    }
+
+    @Test
+    @DisplayName("disableUsers: one update for the users not disabled yet, then one sweep of tokens and caches")
+    void disableUsers_ChangesOnlyActiveUsers() {
+        when(userMapper.selectList(any())).thenReturn(List.of(user(1L, "alice", 1), user(2L, "bob", 0)));
+        when(userMapper.update(any(SysUser.class), any())).thenReturn(1);
+
+        BulkResult result = userBulkService.disableUsers(List.of(1L, 2L, 3L));
+
+        assertEquals(2, result.getMatched());
+        assertEquals(1, result.getAffected());
+        assertEquals(List.of(1L), updatedIds());
+        verify(tokenVersionService).bumpAll(List.of(1L));
+        verify(principalCache).evictAll(List.of("alice"));
+        verify(paginator).evictTotals(UserServiceImpl.USER_TOTALS);
+    }
+
+    @Test
+    @DisplayName("enableUsers: leaves active and locked users alone and keeps their tokens")
+    void enableUsers_ChangesOnlyDisabledUsers() {
+        when(userMapper.selectList(any()))
+                .thenReturn(List.of(user(1L, "alice", 0), user(2L, "bob", 1), user(3L, "carol", 2)));
+        when(userMapper.update(any(SysUser.class), any())).thenReturn(1);
+
+        BulkResult result = userBulkService.enableUsers(List.of(1L, 2L, 3L));
+
+        assertEquals(3, result.getMatched());
+        assertEquals(1, result.getAffected());
+        verify(userMapper).update(argThat(user -> user.getStatus() == 1), any());
+        verify(tokenVersionService, never()).bumpAll(any());
+        verify(principalCache).evictAll(List.of("alice"));
+    }
+
+    @Test
+    @DisplayName("deleteUsers: repeated ids are dropped and the rest handled in chunks of chunkSize")
+    void deleteUsers_Chunks() {
+        properties.setChunkSize(2);
+        when(userMapper.selectList(any()))
+                .thenReturn(List.of(user(1L, "alice", 1), user(2L, "bob", 1)))
+                .thenReturn(List.of(user(3L, "carol", 0)));
+        when(userMapper.deleteBatchIds(any())).thenReturn(2, 1);
+
+        BulkResult result = userBulkService.deleteUsers(List.of(1L, 2L, 1L, 3L));
+
+        assertEquals(3, result.getMatched());
+        assertEquals(3, result.getAffected());
+        verify(userMapper, times(2)).selectList(any());
+        verify(userMapper).deleteBatchIds(List.of(1L, 2L));
+        verify(userMapper).deleteBatchIds(List.of(3L));
+        verify(tokenVersionService).bumpAll(List.of(1L, 2L, 3L));
+        verify(principalCache).evictAll(List.of("alice", "bob", "carol"));
+    }
+
+    @Test
+    @DisplayName("disableUsers: nothing to change writes nothing and keeps the caches")
+    void disableUsers_NothingToChange() {
+        when(userMapper.selectList(any())).thenReturn(List.of(user(1L, "alice", 0)));
+
+        BulkResult result = userBulkService.disableUsers(List.of(1L));
+
+        assertEquals(1, result.getMatched());
+        assertEquals(0, result.getAffected());
+        verify(userMapper, never()).update(any(SysUser.class), any());
+        verifyNoInteractions(tokenVersionService, principalCache);
+        verify(paginator, never()).evictTotals(anyString());
+    }
+
+    private static SysUser user(Long id, String username, int status) {
+        return SysUser.builder().id(id).username(username).status(status).build();
+    }
+
+    /**
+     * Bound values of the single status update's {@code WHERE id IN} list.
+     */
+    @SuppressWarnings("unchecked")
+    private List<Object> updatedIds() {
+        ArgumentCaptor<UpdateWrapper<SysUser>> wrapper = ArgumentCaptor.captor();
+        verify(userMapper).update(argThat(user -> user.getStatus() == 0), wrapper.capture());
+        assertEquals("version = version + 1", wrapper.getValue().getSqlSet());
+        // Values are bound as the SQL segment is rendered
+        assertTrue(wrapper.getValue().getCustomSqlSegment().contains("id IN"));
+        return List.copyOf(wrapper.getValue().getParamNameValuePairs().values());
+    }
+}
@@ -4,14 +4,18 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import com.rdt.auth.component.PrincipalCache;
+import com.rdt.auth.config.PrincipalCacheProperties;
 import com.rdt.auth.model.entity.SysUser;
 import com.rdt.auth.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
@@ -20,6 +24,10 @@ class UserDetailsServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Spy
+    private PrincipalCache principalCache =
+            new PrincipalCache(new PrincipalCacheProperties(), new SimpleMeterRegistry());
+
     @InjectMocks
     private UserDetailsServiceImpl userDetailsService;
 
@@ -80,4 +88,46 @@ class UserDetailsServiceImplTest {
         assertNotNull(userDetails);
         assertFalse(userDetails.isAccountNonLocked());
     }
+
+    @Test
+    @DisplayName("Load User Cached: Repeated lookups should hit the database once")
+    void loadUserByUsername_Cached() {
+        // Given
+        SysUser user = SysUser.builder()
+                .username("admin")
+                .password("encodedPassword")
+                .status(1)
+                .build();
+
+        when(userRepository.selectOne(any())).thenReturn(user);
+
+        // When
+        UserDetails first = userDetailsService.loadUserByUsername("admin");
+        UserDetails second = userDetailsService.loadUserByUsername("admin");
+
+        // Then
+        assertSame(first, second);
+        verify(userRepository, times(1)).selectOne(any());
+    }
+
+    @Test
+    @DisplayName("Load User Evicted: Eviction should force a reload")
+    void loadUserByUsername_ReloadAfterEvict() {
+        // Given
+        SysUser user = SysUser.builder()
+                .username("admin")
+                .password("encodedPassword")
+                .status(1)
+                .build();
+
+        when(userRepository.selectOne(any())).thenReturn(user);
+        userDetailsService.loadUserByUsername("admin");
+
+        // When
+        principalCache.evict("admin");
+        userDetailsService.loadUserByUsername("admin");
+
+        // Then
+        verify(userRepository, times(2)).selectOne(any());
+    }
 }
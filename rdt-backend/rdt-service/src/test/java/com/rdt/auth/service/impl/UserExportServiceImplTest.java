@@ -0,0 +1,61 @@
+package com.rdt.auth.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.rdt.auth.mapper.UserMapper;
+import com.rdt.auth.model.dto.UserDto;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.ibatis.cursor.Cursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class UserExportServiceImplTest {
+
+    @Mock
+    private UserMapper userMapper;
+
+    @Mock
+    private Cursor<UserDto> cursor;
+
+    @InjectMocks
+    private UserExportServiceImpl userExportService;
+
+    @Test
+    @DisplayName("exportUsers: hands every row to the sink in cursor order, then closes the cursor")
+    void exportUsers_StreamsAndCloses() throws IOException {
+        UserDto alice = new UserDto();
+        alice.setUsername("alice");
+        UserDto bob = new UserDto();
+        bob.setUsername("bob");
+        when(userMapper.selectExportCursor()).thenReturn(cursor);
+        when(cursor.iterator()).thenReturn(List.of(alice, bob).iterator());
+        List<UserDto> exported = new ArrayList<>();
+
+        assertEquals(2, userExportService.exportUsers(exported::add));
+
+        assertEquals(List.of(alice, bob), exported);
+        verify(cursor).close();
+    }
+
+    @Test
+    @DisplayName("exportUsers: a failing sink (client gone) stops the read and still closes the cursor")
+    void exportUsers_ClosesWhenSinkFails() throws IOException {
+        when(userMapper.selectExportCursor()).thenReturn(cursor);
+        when(cursor.iterator()).thenReturn(List.of(new UserDto()).iterator());
+
+        assertThrows(
+                IllegalStateException.class,
+                () -> userExportService.exportUsers(user -> {
+                    throw new IllegalStateException("Broken pipe");
+                }));
+        verify(cursor).close();
+    }
+}
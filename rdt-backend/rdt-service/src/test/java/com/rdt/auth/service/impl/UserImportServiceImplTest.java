@@ -0,0 +1,199 @@
+package com.rdt.auth.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import com.rdt.auth.component.UsernameFilter;
+import com.rdt.auth.config.MembershipFilterProperties;
+import com.rdt.auth.config.UserImportProperties;
+import com.rdt.auth.mapper.UserMapper;
+import com.rdt.auth.model.dto.CreateUserReq;
+import com.rdt.auth.model.dto.UserImportReport;
+import com.rdt.auth.model.dto.UserImportRow;
+import com.rdt.query.component.Paginator;
+import com.rdt.query.config.PaginationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class UserImportServiceImplTest {
+
+    private final UserMapper userMapper = mock(UserMapper.class);
+    private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final UsernameFilter usernameFilter = spy(
+            new UsernameFilter(mock(UserMapper.class), new MembershipFilterProperties(), new SimpleMeterRegistry()));
+    private final Paginator paginator =
+            spy(new Paginator(new PaginationProperties(), Runnable::run, new SimpleMeterRegistry()));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UserImportProperties properties = new UserImportProperties();
+    private final ValidatorFactory validatorFactory = Validation.buildDefaultValidatorFactory();
+    private final ForkJoinPool hashPool = new ForkJoinPool(2);
+
+    private UserImportServiceImpl importService;
+
+    @BeforeEach
+    void setUp() {
+        when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> "hash:" + invocation.getArgument(0));
+        when(userMapper.selectUsernames(any())).thenReturn(List.of());
+        importService = new UserImportServiceImpl(
+                userMapper,
+                passwordEncoder,
+                validatorFactory.getValidator(),
+                usernameFilter,
+                paginator,
+                jdbcTemplate,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                hashPool,
+                properties,
+                meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hashPool.shutdown();
+        validatorFactory.close();
+    }
+
+    @Test
+    @DisplayName("importUsers: creates the valid rows and reports the others by line")
+    void importUsers_ReportsRejectedRows() {
+        when(userMapper.selectUsernames(any())).thenReturn(List.of("CAROL"));
+
+        UserImportReport report = importService.importUsers(List.of(
+                        row(1, "alice", "secret1", "alice@example.com"),
+                        row(2, "bob", "secret2", "not-an-email"),
+                        UserImportRow.malformed(3, "Unexpected character"),
+                        row(4, "Alice", "secret4", null),
+                        row(5, "carol", "secret5", null))
+                .iterator());
+
+        assertEquals(1, report.getImported());
+        assertEquals(4, report.getFailed());
+        assertFalse(report.isErrorsTruncated());
+        assertEquals(
+                List.of(2L, 3L, 4L, 5L),
+                report.getErrors().stream()
+                        .map(UserImportReport.RowError::getLine)
+                        .toList());
+        assertEquals("bob", report.getErrors().get(0).getUsername());
+        assertTrue(report.getErrors().get(0).getMessage().startsWith("email"));
+        assertEquals("Unexpected character", report.getErrors().get(1).getMessage());
+        assertEquals(List.of(List.of("alice")), insertedBatches());
+        verify(passwordEncoder).encode("secret1");
+        verify(passwordEncoder, times(1)).encode(anyString());
+        verify(usernameFilter).add("alice");
+        verify(paginator).evictTotals(UserServiceImpl.USER_TOTALS);
+        assertEquals(
+                1.0,
+                meterRegistry
+                        .counter("auth.users.import.rows", "outcome", "imported")
+                        .count());
+    }
+
+    @Test
+    @DisplayName("importUsers: one uniqueness query and one batch per chunk")
+    void importUsers_Chunks() {
+        properties.setChunkSize(2);
+        List<UserImportRow> rows = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            rows.add(row(i, "user" + i, "secret" + i, null));
+        }
+
+        UserImportReport report = importService.importUsers(rows.iterator());
+
+        assertEquals(5, report.getImported());
+        verify(userMapper, times(3)).selectUsernames(any());
+        assertEquals(
+                List.of(List.of("user1", "user2"), List.of("user3", "user4"), List.of("user5")), insertedBatches());
+    }
+
+    @Test
+    @DisplayName("importUsers: a username taken during the import drops that row and writes the rest again")
+    void importUsers_RetriesWithoutConcurrentlyTakenNames() {
+        when(userMapper.selectUsernames(any())).thenReturn(List.of()).thenReturn(List.of("bob"));
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any()))
+                .thenThrow(new DuplicateKeyException("Duplicate entry 'bob'"))
+                .thenReturn(new int[0][]);
+
+        UserImportReport report =
+                importService.importUsers(List.of(row(1, "alice", "secret1", null), row(2, "bob", "secret2", null))
+                        .iterator());
+
+        assertEquals(1, report.getImported());
+        assertEquals(1, report.getFailed());
+        assertEquals(List.of(List.of("alice", "bob"), List.of("alice")), insertedBatches());
+        // 重试沿用已算好的哈希
+        verify(passwordEncoder, times(2)).encode(anyString());
+        verify(usernameFilter, never()).add("bob");
+    }
+
+    @Test
+    @DisplayName("importUsers: a duplicate key not explained by a taken username is not swallowed")
+    void importUsers_RethrowsUnexplainedDuplicateKey() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any()))
+                .thenThrow(new DuplicateKeyException("Duplicate entry"));
+        List<UserImportRow> rows = List.of(row(1, "alice", "secret1", null));
+
+        assertThrows(DuplicateKeyException.class, () -> importService.importUsers(rows.iterator()));
+    }
+
+    @Test
+    @DisplayName("importUsers: lists at most maxErrors rejected rows but counts them all")
+    void importUsers_TruncatesErrors() {
+        properties.setMaxErrors(1);
+
+        UserImportReport report = importService.importUsers(List.of(
+                        UserImportRow.malformed(1, "bad"),
+                        UserImportRow.malformed(2, "bad"),
+                        row(3, "", "secret", null))
+                .iterator());
+
+        assertEquals(0, report.getImported());
+        assertEquals(3, report.getFailed());
+        assertEquals(1, report.getErrors().size());
+        assertTrue(report.isErrorsTruncated());
+        verifyNoInteractions(jdbcTemplate, passwordEncoder);
+        verify(paginator, never()).evictTotals(anyString());
+    }
+
+    private static UserImportRow row(long line, String username, String password, String email) {
+        CreateUserReq user = new CreateUserReq();
+        user.setUsername(username);
+        user.setPassword(password);
+        user.setEmail(email);
+        return UserImportRow.parsed(line, user);
+    }
+
+    /**
+     * Usernames of every batch handed to JDBC, in call order.
+     */
+    @SuppressWarnings("unchecked")
+    private List<List<String>> insertedBatches() {
+        ArgumentCaptor<Collection<UserImportRow>> batches = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate, atLeast(0))
+                .batchUpdate(anyString(), batches.capture(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        return batches.getAllValues().stream()
+                .map(batch ->
+                        batch.stream().map(row -> row.getUser().getUsername()).toList())
+                .toList();
+    }
+}
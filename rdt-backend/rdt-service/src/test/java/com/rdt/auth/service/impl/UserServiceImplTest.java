@@ -6,19 +6,36 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.rdt.api.model.dto.PageResponse;
+import com.rdt.auth.component.PrincipalCache;
+import com.rdt.auth.component.UsernameFilter;
+import com.rdt.auth.config.MembershipFilterProperties;
 import com.rdt.auth.mapper.UserMapper;
 import com.rdt.auth.model.dto.CreateUserReq;
 import com.rdt.auth.model.dto.UpdateUserReq;
 import com.rdt.auth.model.dto.UserDto;
 import com.rdt.auth.model.entity.SysUser;
+import com.rdt.auth.service.TokenVersionService;
 import com.rdt.common.exception.BusinessException;
+import com.rdt.common.model.CursorPage;
+import com.rdt.common.model.KeysetCursor;
+import com.rdt.common.model.PageParams;
+import com.rdt.query.component.Paginator;
+import com.rdt.query.config.PaginationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +47,19 @@ class UserServiceImplTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private PrincipalCache principalCache;
+
+    @Mock
+    private TokenVersionService tokenVersionService;
+
+    @Spy
+    private UsernameFilter usernameFilter =
+            new UsernameFilter(mock(UserMapper.class), new MembershipFilterProperties(), new SimpleMeterRegistry());
+
+    @Spy
+    private Paginator paginator = new Paginator(new PaginationProperties(), Runnable::run, new SimpleMeterRegistry());
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -40,11 +70,14 @@ class UserServiceImplTest {
         CreateUserReq req = new CreateUserReq();
         req.setUsername("existing");
 
-        when(userMapper.selectCount(any())).thenReturn(1L);
+        when(userMapper.insert(any(SysUser.class))).thenThrow(new DuplicateKeyException("Duplicate entry 'existing'"));
 
         // When & Then
-        assertThrows(BusinessException.class, () -> userService.createUser(req));
-        verify(userMapper, never()).insert(any());
+        BusinessException e = assertThrows(BusinessException.class, () -> userService.createUser(req));
+        assertEquals(BusinessException.BAD_REQUEST_CODE, e.getCode());
+        assertInstanceOf(DuplicateKeyException.class, e.getCause());
+        verify(userMapper, never()).selectCount(any());
+        verify(paginator, never()).evictTotals(any());
     }
 
     @Test
@@ -56,7 +89,6 @@ class UserServiceImplTest {
         req.setPassword("password");
         req.setEmail("test@example.com");
 
-        when(userMapper.selectCount(any())).thenReturn(0L);
         when(passwordEncoder.encode(any())).thenReturn("encodedPassword");
         when(userMapper.insert(any(SysUser.class))).thenReturn(1);
 
@@ -68,6 +100,38 @@ class UserServiceImplTest {
         verify(userMapper).insert(any(SysUser.class));
     }
 
+    @Test
+    @DisplayName("createUser: repeated creates of one username rely on the key alone, every loser gets 400")
+    public void createUser_RepeatedDuplicateUsernames() {
+        // Given: a stand-in for the username unique key. It only checks the DuplicateKeyException mapping; whether
+        // MySQL lets exactly one concurrent insert through is the key's job and is not exercised here.
+        Map<String, SysUser> rows = new HashMap<>();
+        when(passwordEncoder.encode(any())).thenReturn("encodedPassword");
+        when(userMapper.insert(any(SysUser.class))).thenAnswer(invocation -> {
+            SysUser user = invocation.getArgument(0);
+            if (rows.putIfAbsent(user.getUsername(), user) != null) {
+                throw new DuplicateKeyException("Duplicate entry '" + user.getUsername() + "'");
+            }
+            return 1;
+        });
+        CreateUserReq req = new CreateUserReq();
+        req.setUsername("newuser");
+        req.setPassword("password");
+        int callers = 4;
+
+        // When / Then: the first create wins, every later one is told the name is taken
+        userService.createUser(req);
+        for (int i = 1; i < callers; i++) {
+            BusinessException e = assertThrows(BusinessException.class, () -> userService.createUser(req));
+            assertEquals(BusinessException.BAD_REQUEST_CODE, e.getCode());
+            assertInstanceOf(DuplicateKeyException.class, e.getCause());
+        }
+        assertEquals(1, rows.size());
+        verify(userMapper, times(callers)).insert(any(SysUser.class));
+        verify(userMapper, never()).selectCount(any());
+        verify(paginator, times(1)).evictTotals(UserServiceImpl.USER_TOTALS);
+    }
+
     @Test
     @DisplayName("updateUser: should succeed when user exists")
     public void updateUser_Success() {
@@ -76,28 +140,48 @@ class UserServiceImplTest {
         UpdateUserReq req = new UpdateUserReq();
         req.setEmail("new@example.com");
         req.setAvatar("new-avatar.png");
+        req.setVersion(2);
 
-        SysUser existingUser = new SysUser();
-        existingUser.setId(id);
-        existingUser.setUsername("user");
-
-        when(userMapper.selectById(id)).thenReturn(existingUser);
         when(userMapper.updateById(any())).thenReturn(1);
 
         // When
         userService.updateUser(id, req);
 
-        // Then
-        assertEquals("new@example.com", existingUser.getEmail());
-        assertEquals("new-avatar.png", existingUser.getAvatar());
-        verify(userMapper).updateById(existingUser);
+        // Then: one conditional statement with the changed columns, no read first
+        ArgumentCaptor<SysUser> written = ArgumentCaptor.forClass(SysUser.class);
+        verify(userMapper).updateById(written.capture());
+        assertEquals(id, written.getValue().getId());
+        assertEquals("new@example.com", written.getValue().getEmail());
+        assertEquals("new-avatar.png", written.getValue().getAvatar());
+        assertEquals(2, written.getValue().getVersion());
+        assertNull(written.getValue().getPassword());
+        verify(userMapper, never()).selectById(any());
+        verifyNoInteractions(principalCache);
     }
 
     @Test
     @DisplayName("updateUser: should throw exception when user not found")
     public void updateUser_Fail_NotFound() {
+        when(userMapper.updateById(any())).thenReturn(0);
         when(userMapper.selectById(anyLong())).thenReturn(null);
-        assertThrows(BusinessException.class, () -> userService.updateUser(1L, new UpdateUserReq()));
+        BusinessException e =
+                assertThrows(BusinessException.class, () -> userService.updateUser(1L, new UpdateUserReq()));
+        assertEquals(BusinessException.NOT_FOUND_CODE, e.getCode());
+    }
+
+    @Test
+    @DisplayName("updateUser: a stale version is reported as a conflict instead of overwriting")
+    public void updateUser_Fail_StaleVersion() {
+        UpdateUserReq req = new UpdateUserReq();
+        req.setEmail("new@example.com");
+        req.setVersion(2);
+        when(userMapper.updateById(any())).thenReturn(0);
+        when(userMapper.selectById(1L))
+                .thenReturn(SysUser.builder().id(1L).version(3).build());
+
+        BusinessException e = assertThrows(BusinessException.class, () -> userService.updateUser(1L, req));
+        assertEquals(BusinessException.CONFLICT_CODE, e.getCode());
+        verify(paginator, never()).evictTotals(any());
     }
 
     @Test
@@ -105,10 +189,13 @@ class UserServiceImplTest {
     public void softDeleteUser_Success() {
         Long id = 1L;
         SysUser user = new SysUser();
+        user.setUsername("user");
         when(userMapper.selectById(id)).thenReturn(user);
         when(userMapper.deleteById(id)).thenReturn(1);
 
         assertTrue(userService.softDeleteUser(id));
+        verify(tokenVersionService).bump(id);
+        verify(principalCache).evict("user");
     }
 
     @Test
@@ -149,11 +236,46 @@ class UserServiceImplTest {
         when(userMapper.selectPage(any(), any())).thenReturn(userPage);
 
         // When
-        Page<UserDto> result = userService.getUsers(1, 10, "keyword");
+        PageResponse<UserDto> result = userService.getUsers(PageParams.exact(1, 10), "keyword");
 
         // Then
         assertNotNull(result);
         assertEquals(1, result.getRecords().size());
         assertEquals("user", result.getRecords().get(0).getUsername());
     }
+
+    @Test
+    @DisplayName("getUsersAfter: the extra row becomes the cursor of the next page, which seeks past it")
+    public void getUsersAfter_PagesByCursor() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 10, 18, 12, 0);
+        when(userMapper.selectList(any()))
+                .thenReturn(List.of(user(3L, createdAt), user(2L, createdAt), user(1L, createdAt)))
+                .thenReturn(List.of(user(1L, createdAt)));
+
+        CursorPage<UserDto> first = userService.getUsersAfter(null, 2, null);
+        assertEquals(
+                List.of(3L, 2L), first.getRecords().stream().map(UserDto::getId).toList());
+        assertEquals(new KeysetCursor(createdAt, 2L), KeysetCursor.decode(first.getNextCursor()));
+
+        CursorPage<UserDto> last = userService.getUsersAfter(first.getNextCursor(), 2, null);
+        assertEquals(1, last.getRecords().size());
+        assertNull(last.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("getUsersAfter: a tampered cursor is a bad request, not a query")
+    public void getUsersAfter_InvalidCursor() {
+        BusinessException e =
+                assertThrows(BusinessException.class, () -> userService.getUsersAfter("not-a-cursor", 10, null));
+
+        assertEquals(BusinessException.BAD_REQUEST_CODE, e.getCode());
+        verify(userMapper, never()).selectList(any());
+    }
+
+    private static SysUser user(Long id, LocalDateTime createdAt) {
+        SysUser user = new SysUser();
+        user.setId(id);
+        user.setCreatedAt(createdAt);
+        return user;
+    }
 }
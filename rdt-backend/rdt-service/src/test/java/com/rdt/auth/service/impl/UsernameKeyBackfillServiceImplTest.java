@@ -0,0 +1,97 @@
+package com.rdt.auth.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.rdt.auth.mapper.UserMapper;
+import com.rdt.auth.model.entity.SysUser;
+import com.rdt.common.util.PinyinUtils;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+@ExtendWith(MockitoExtension.class)
+class UsernameKeyBackfillServiceImplTest {
+
+    @Mock
+    private UserMapper userMapper;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private Executor asyncExecutor;
+
+    @InjectMocks
+    private UsernameKeyBackfillServiceImpl backfill;
+
+    @Test
+    void writesEachBatchAsOneJdbcBatch() throws SQLException {
+        SysUser user = SysUser.builder().id(1L).username("张三").build();
+        when(userMapper.selectStaleUsernameKeys(PinyinUtils.KEY_VERSION, 0L, 500))
+                .thenReturn(List.of(user));
+
+        backfill.backfill();
+
+        ArgumentCaptor<Collection<SysUser>> rows = ArgumentCaptor.captor();
+        ArgumentCaptor<ParameterizedPreparedStatementSetter<SysUser>> setter = ArgumentCaptor.captor();
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture(), eq(1), setter.capture());
+        assertEquals(List.of(user), List.copyOf(rows.getValue()));
+        PreparedStatement ps = mock(PreparedStatement.class);
+        setter.getValue().setValues(ps, user);
+        verify(ps).setString(1, "zs");
+        verify(ps).setBytes(2, PinyinUtils.sortKey("张三"));
+        verify(ps).setInt(3, PinyinUtils.KEY_VERSION);
+        verify(ps).setLong(4, 1L);
+    }
+
+    @Test
+    void pagesThroughFullBatchesByLastId() {
+        List<SysUser> batch = LongStream.rangeClosed(1, 500)
+                .mapToObj(id -> SysUser.builder().id(id).username("user" + id).build())
+                .toList();
+        when(userMapper.selectStaleUsernameKeys(PinyinUtils.KEY_VERSION, 0L, 500))
+                .thenReturn(batch);
+        when(userMapper.selectStaleUsernameKeys(PinyinUtils.KEY_VERSION, 500L, 500))
+                .thenReturn(List.of());
+
+        backfill.backfill();
+
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), eq(batch), eq(500), any());
+        verify(userMapper, times(2)).selectStaleUsernameKeys(eq(PinyinUtils.KEY_VERSION), anyLong(), anyInt());
+    }
+
+    @Test
+    void failureDoesNotEscape() {
+        when(userMapper.selectStaleUsernameKeys(PinyinUtils.KEY_VERSION, 0L, 500))
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        assertDoesNotThrow(backfill::backfill);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void startupOnlyHandsTheBackfillToTheExecutor() {
+        backfill.backfillAfterStartup();
+
+        verify(asyncExecutor).execute(any());
+        verifyNoInteractions(userMapper, jdbcTemplate);
+    }
+}
@@ -0,0 +1,83 @@
+package com.rdt.config.convert;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.rdt.config.model.dto.MainSystemResponse;
+import com.rdt.config.model.dto.SubSystemResponse;
+import com.rdt.config.model.entity.MainSystemEntity;
+import com.rdt.config.model.entity.SubSystemEntity;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SystemConverterTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2026, 1, 1, 8, 0);
+    private static final LocalDateTime UPDATED = LocalDateTime.of(2026, 2, 1, 9, 30);
+
+    @Test
+    @DisplayName("toResponse: copies the main system columns")
+    void toResponse_MainSystem() throws Exception {
+        MainSystemResponse response = SystemConverter.INSTANCE.toResponse(MainSystemEntity.builder()
+                .id(1L)
+                .name("支付平台")
+                .nameInitials("zfpt")
+                .nameSortKey(new byte[] {1})
+                .code("PAY")
+                .description("Payments")
+                .owner("alice")
+                .status(1)
+                .version(2)
+                .createdAt(CREATED)
+                .updatedAt(UPDATED)
+                .build());
+
+        assertEquals(1L, response.getId());
+        assertEquals("支付平台", response.getName());
+        assertEquals("PAY", response.getCode());
+        assertEquals(2, response.getVersion());
+        assertEquals(UPDATED, response.getUpdatedAt());
+        assertAllMapped(response);
+    }
+
+    @Test
+    @DisplayName("toResponse: copies the sub system columns and takes the main system name as given")
+    void toResponse_SubSystem() throws Exception {
+        SubSystemResponse response = SystemConverter.INSTANCE.toResponse(
+                SubSystemEntity.builder()
+                        .id(10L)
+                        .mainSystemId(1L)
+                        .name("网关")
+                        .nameInitials("wg")
+                        .nameSortKey(new byte[] {1})
+                        .code("GW")
+                        .description("Gateway")
+                        .gitUrl("https://git.example.com/gw.git")
+                        .owner("bob")
+                        .status(0)
+                        .version(4)
+                        .createdAt(CREATED)
+                        .updatedAt(UPDATED)
+                        .build(),
+                "支付平台");
+
+        assertEquals(10L, response.getId());
+        assertEquals(1L, response.getMainSystemId());
+        assertEquals("支付平台", response.getMainSystemName());
+        assertEquals("https://git.example.com/gw.git", response.getGitUrl());
+        assertEquals(4, response.getVersion());
+        assertAllMapped(response);
+    }
+
+    /**
+     * Every response property is set (fails when one is added to the response only).
+     */
+    private static void assertAllMapped(Object response) throws Exception {
+        for (PropertyDescriptor property :
+                Introspector.getBeanInfo(response.getClass(), Object.class).getPropertyDescriptors()) {
+            assertNotNull(property.getReadMethod().invoke(response), property.getName() + " is not mapped");
+        }
+    }
+}
@@ -4,21 +4,32 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
-import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.rdt.common.exception.BusinessException;
+import com.rdt.common.model.KeysetCursor;
+import com.rdt.common.model.PageParams;
+import com.rdt.common.util.PinyinUtils;
 import com.rdt.config.mapper.MainSystemMapper;
 import com.rdt.config.mapper.SubSystemMapper;
 import com.rdt.config.model.dto.MainSystemCreateRequest;
 import com.rdt.config.model.dto.MainSystemUpdateRequest;
 import com.rdt.config.model.entity.MainSystemEntity;
+import com.rdt.config.properties.SystemCacheProperties;
+import com.rdt.query.component.Paginator;
+import com.rdt.query.config.PaginationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
 
 @ExtendWith(MockitoExtension.class)
 class MainSystemServiceTest {
@@ -29,9 +40,25 @@ class MainSystemServiceTest {
     @Mock
     private SubSystemMapper subSystemMapper;
 
-    @InjectMocks
+    @Mock
+    private SystemTreeService systemTreeService;
+
+    private SystemCacheServiceImpl systemCacheService;
+
     private MainSystemServiceImpl mainSystemService;
 
+    @BeforeEach
+    void setUp() {
+        // Real cache over the mocked mappers, so every mapper call still stands for one SQL statement
+        systemCacheService = new SystemCacheServiceImpl(
+                mainSystemMapper, subSystemMapper, new SystemCacheProperties(), new SimpleMeterRegistry());
+        mainSystemService = new MainSystemServiceImpl(
+                mainSystemMapper,
+                systemCacheService,
+                systemTreeService,
+                new Paginator(new PaginationProperties(), Runnable::run, new SimpleMeterRegistry()));
+    }
+
     @Test
     @DisplayName("Create Main System - Success")
     void createMainSystem_Success() {
@@ -42,7 +69,6 @@ class MainSystemServiceTest {
                 .description("Finance Description")
                 .build();
 
-        when(mainSystemMapper.selectCount(any(LambdaQueryWrapper.class))).thenReturn(0L);
         when(mainSystemMapper.insert(any(MainSystemEntity.class))).thenAnswer(invocation -> {
             MainSystemEntity entity = invocation.getArgument(0);
             entity.setId(10L);
@@ -55,6 +81,21 @@ class MainSystemServiceTest {
         verify(mainSystemMapper).insert(any(MainSystemEntity.class));
     }
 
+    @Test
+    @DisplayName("Create Main System - Success: stores the pinyin initials and sort key of the name")
+    void createMainSystem_StoresNameKeys() {
+        MainSystemCreateRequest request =
+                MainSystemCreateRequest.builder().name("支付系统").code("PAY_SYS").build();
+
+        mainSystemService.createMainSystem(request);
+
+        ArgumentCaptor<MainSystemEntity> inserted = ArgumentCaptor.forClass(MainSystemEntity.class);
+        verify(mainSystemMapper).insert(inserted.capture());
+        assertEquals("zfxt", inserted.getValue().getNameInitials());
+        assertArrayEquals(PinyinUtils.sortKey("支付系统"), inserted.getValue().getNameSortKey());
+        assertEquals(PinyinUtils.KEY_VERSION, inserted.getValue().getNameKeyVersion());
+    }
+
     @Test
     @DisplayName("Create Main System - Failure: Duplicate Code")
     void createMainSystem_Failure_DuplicateCode() {
@@ -63,10 +104,45 @@ class MainSystemServiceTest {
                 .code("FIN_SYS")
                 .build();
 
-        when(mainSystemMapper.selectCount(any(LambdaQueryWrapper.class))).thenReturn(1L);
+        when(mainSystemMapper.insert(any(MainSystemEntity.class)))
+                .thenThrow(new DuplicateKeyException("Duplicate entry 'FIN_SYS'"));
+
+        BusinessException e = assertThrows(BusinessException.class, () -> mainSystemService.createMainSystem(request));
+        assertEquals(10_002, e.getCode());
+        assertInstanceOf(DuplicateKeyException.class, e.getCause());
+        verify(mainSystemMapper, never()).selectCount(any());
+        verify(systemTreeService, never()).invalidate();
+    }
+
+    @Test
+    @DisplayName("Create Main System - repeated creates of one code: no pre-check, every loser gets 10002")
+    void createMainSystem_RepeatedDuplicateCodes() {
+        // 以 putIfAbsent 代替 uk_sys_main_system_active_code, 只验证 DuplicateKeyException 的映射;
+        // 并发插入只有一个成功由 MySQL 唯一键保证, 此处 mock 不能证明
+        Map<String, MainSystemEntity> rows = new HashMap<>();
+        when(mainSystemMapper.insert(any(MainSystemEntity.class))).thenAnswer(invocation -> {
+            MainSystemEntity entity = invocation.getArgument(0);
+            if (rows.putIfAbsent(entity.getCode(), entity) != null) {
+                throw new DuplicateKeyException("Duplicate entry '" + entity.getCode() + "'");
+            }
+            entity.setId(1L);
+            return 1;
+        });
+        MainSystemCreateRequest request = MainSystemCreateRequest.builder()
+                .name("Finance System")
+                .code("FIN_SYS")
+                .build();
+        int callers = 4;
 
-        assertThrows(BusinessException.class, () -> mainSystemService.createMainSystem(request));
-        verify(mainSystemMapper, never()).insert(any(MainSystemEntity.class));
+        assertEquals(1L, mainSystemService.createMainSystem(request));
+        for (int i = 1; i < callers; i++) {
+            BusinessException e =
+                    assertThrows(BusinessException.class, () -> mainSystemService.createMainSystem(request));
+            assertEquals(10_002, e.getCode());
+        }
+        assertEquals(1, rows.size());
+        verify(mainSystemMapper, times(callers)).insert(any(MainSystemEntity.class));
+        verify(mainSystemMapper, never()).selectCount(any());
     }
 
     @Test
@@ -102,10 +178,9 @@ class MainSystemServiceTest {
                 MainSystemEntity.builder().id(2L).name("Sys2").code("S2").build()));
         pageResult.setTotal(2);
 
-        when(mainSystemMapper.selectPage(any(Page.class), any(LambdaQueryWrapper.class)))
-                .thenReturn(pageResult);
+        when(mainSystemMapper.selectPage(any(), any())).thenReturn(pageResult);
 
-        var result = mainSystemService.getMainSystemList("Sys", 1, 10);
+        var result = mainSystemService.getMainSystemList("Sys", PageParams.exact(1, 10));
 
         assertEquals(2, result.getTotal());
         assertEquals(2, result.getRecords().size());
@@ -118,39 +193,144 @@ class MainSystemServiceTest {
         MainSystemUpdateRequest request = MainSystemUpdateRequest.builder()
                 .name("Updated Name")
                 .code("UPDATED")
+                .version(3)
+                .build();
+        when(mainSystemMapper.updateById(any(MainSystemEntity.class))).thenReturn(1);
+
+        mainSystemService.updateMainSystem(1L, request);
+
+        // One conditional statement carrying only the requested fields and the version read by the client
+        ArgumentCaptor<MainSystemEntity> written = ArgumentCaptor.forClass(MainSystemEntity.class);
+        verify(mainSystemMapper).updateById(written.capture());
+        assertEquals(1L, written.getValue().getId());
+        assertEquals("Updated Name", written.getValue().getName());
+        assertEquals(3, written.getValue().getVersion());
+        assertNull(written.getValue().getDescription());
+        verify(mainSystemMapper, never()).selectById(any());
+        verify(systemTreeService).invalidate();
+    }
+
+    @Test
+    @DisplayName("Update Main System - Failure: stale version")
+    void updateMainSystem_Failure_StaleVersion() {
+        MainSystemUpdateRequest request =
+                MainSystemUpdateRequest.builder().name("Finance").version(3).build();
+        when(mainSystemMapper.updateById(any(MainSystemEntity.class))).thenReturn(0);
+        when(mainSystemMapper.selectById(1L))
+                .thenReturn(MainSystemEntity.builder().id(1L).version(4).build());
+
+        BusinessException e =
+                assertThrows(BusinessException.class, () -> mainSystemService.updateMainSystem(1L, request));
+        assertEquals(10_005, e.getCode());
+        verify(systemTreeService, never()).invalidate();
+    }
+
+    @Test
+    @DisplayName("Update Main System - Failure: code taken by another system")
+    void updateMainSystem_Failure_DuplicateCode() {
+        MainSystemUpdateRequest request = MainSystemUpdateRequest.builder()
+                .name("Finance")
+                .code("HR_SYS")
+                .version(0)
                 .build();
-        MainSystemEntity entity = MainSystemEntity.builder().id(1L).code("OLD").build();
+        when(mainSystemMapper.updateById(any(MainSystemEntity.class)))
+                .thenThrow(new DuplicateKeyException("Duplicate entry 'HR_SYS'"));
+
+        BusinessException e =
+                assertThrows(BusinessException.class, () -> mainSystemService.updateMainSystem(1L, request));
+        assertEquals(10_002, e.getCode());
+        verify(systemTreeService, never()).invalidate();
+    }
 
+    @Test
+    @DisplayName("Get Main System - served from cache until an update evicts it")
+    void getMainSystem_CachedUntilUpdate() {
+        MainSystemEntity entity =
+                MainSystemEntity.builder().id(1L).name("Before").code("OLD").build();
         when(mainSystemMapper.selectById(1L)).thenReturn(entity);
-        when(mainSystemMapper.selectCount(any(LambdaQueryWrapper.class))).thenReturn(0L); // No duplicate code
 
-        mainSystemService.updateMainSystem(1L, request);
+        mainSystemService.getMainSystem(1L);
+        mainSystemService.getMainSystem(1L);
+        verify(mainSystemMapper, times(1)).selectById(1L);
+
+        when(mainSystemMapper.updateById(any(MainSystemEntity.class))).thenAnswer(invocation -> {
+            entity.setName("After");
+            return 1;
+        });
+        MainSystemUpdateRequest request = MainSystemUpdateRequest.builder()
+                .name("After")
+                .code("OLD")
+                .version(0)
+                .build();
+        mainSystemService.updateMainSystem(1L, request); // writes without reading, then evicts
 
-        verify(mainSystemMapper).updateById(any(MainSystemEntity.class));
-        assertEquals("Updated Name", entity.getName());
+        assertEquals("After", mainSystemService.getMainSystem(1L).getName());
+        verify(mainSystemMapper, times(2)).selectById(1L);
     }
 
     @Test
     @DisplayName("Update Main System - Not Found")
     void updateMainSystem_NotFound() {
-        MainSystemUpdateRequest request = MainSystemUpdateRequest.builder().build();
+        MainSystemUpdateRequest request =
+                MainSystemUpdateRequest.builder().version(0).build();
+        when(mainSystemMapper.updateById(any(MainSystemEntity.class))).thenReturn(0);
         when(mainSystemMapper.selectById(1L)).thenReturn(null);
-        assertThrows(BusinessException.class, () -> mainSystemService.updateMainSystem(1L, request));
+        BusinessException e =
+                assertThrows(BusinessException.class, () -> mainSystemService.updateMainSystem(1L, request));
+        assertEquals(10_003, e.getCode());
     }
 
     @Test
     @DisplayName("Delete Main System - Success")
     void deleteMainSystem_Success() {
-        when(subSystemMapper.selectCount(any(LambdaQueryWrapper.class))).thenReturn(0L);
+        when(mainSystemMapper.delete(any())).thenReturn(1);
         mainSystemService.deleteMainSystem(1L);
-        verify(mainSystemMapper).deleteById(1L);
+        verify(mainSystemMapper, never()).selectById(any());
+        verifyNoInteractions(subSystemMapper);
+        verify(systemTreeService).invalidate();
     }
 
     @Test
     @DisplayName("Delete Main System - Failure: Has Sub Systems")
     void deleteMainSystem_Failure_HasChildren() {
-        when(subSystemMapper.selectCount(any(LambdaQueryWrapper.class))).thenReturn(1L);
+        when(mainSystemMapper.delete(any())).thenReturn(0);
+        when(mainSystemMapper.selectById(1L))
+                .thenReturn(MainSystemEntity.builder().id(1L).subSystemCount(1).build());
         assertThrows(BusinessException.class, () -> mainSystemService.deleteMainSystem(1L));
-        verify(mainSystemMapper, never()).deleteById(anyLong());
+        verify(systemTreeService, never()).invalidate();
+    }
+
+    @Test
+    @DisplayName("Delete Main System - missing row is a no-op")
+    void deleteMainSystem_Missing() {
+        when(mainSystemMapper.delete(any())).thenReturn(0);
+        when(mainSystemMapper.selectById(1L)).thenReturn(null);
+        assertDoesNotThrow(() -> mainSystemService.deleteMainSystem(1L));
+        verify(systemTreeService, never()).invalidate();
+    }
+
+    @Test
+    @DisplayName("Get Main System List After - one bounded query, cursor only when more rows follow")
+    void getMainSystemListAfter_PagesByCursor() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 10, 18, 12, 0);
+        when(mainSystemMapper.selectList(any()))
+                .thenReturn(List.of(
+                        MainSystemEntity.builder()
+                                .id(5L)
+                                .name("Sys5")
+                                .createdAt(createdAt)
+                                .build(),
+                        MainSystemEntity.builder()
+                                .id(4L)
+                                .name("Sys4")
+                                .createdAt(createdAt)
+                                .build()));
+
+        var result = mainSystemService.getMainSystemListAfter("Sys", "", 1);
+
+        assertEquals(1, result.getRecords().size());
+        assertEquals("Sys5", result.getRecords().get(0).getName());
+        assertEquals(new KeysetCursor(createdAt, 5L), KeysetCursor.decode(result.getNextCursor()));
+        verify(mainSystemMapper, never()).selectPage(any(), any());
     }
 }
@@ -0,0 +1,145 @@
+package com.rdt.config.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.rdt.common.util.PinyinUtils;
+import com.rdt.config.mapper.MainSystemMapper;
+import com.rdt.config.mapper.SubSystemMapper;
+import com.rdt.config.model.entity.MainSystemEntity;
+import com.rdt.config.model.entity.SubSystemEntity;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+@ExtendWith(MockitoExtension.class)
+class NameKeyBackfillServiceImplTest {
+
+    @Mock
+    private MainSystemMapper mainSystemMapper;
+
+    @Mock
+    private SubSystemMapper subSystemMapper;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private Executor asyncExecutor;
+
+    @InjectMocks
+    private NameKeyBackfillServiceImpl backfill;
+
+    @Test
+    void recomputesStaleKeysOfEveryTable() throws SQLException {
+        MainSystemEntity mainSystem =
+                MainSystemEntity.builder().id(7L).name("支付系统").build();
+        when(mainSystemMapper.selectStaleNameKeys(PinyinUtils.KEY_VERSION, 0L, 500))
+                .thenReturn(List.of(mainSystem));
+        when(subSystemMapper.selectStaleNameKeys(PinyinUtils.KEY_VERSION, 0L, 500))
+                .thenReturn(List.of());
+
+        backfill.backfill();
+
+        ArgumentCaptor<Collection<MainSystemEntity>> rows = ArgumentCaptor.captor();
+        ArgumentCaptor<ParameterizedPreparedStatementSetter<MainSystemEntity>> setter = ArgumentCaptor.captor();
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture(), eq(1), setter.capture());
+        assertEquals(List.of(mainSystem), List.copyOf(rows.getValue()));
+        PreparedStatement ps = mock(PreparedStatement.class);
+        setter.getValue().setValues(ps, mainSystem);
+        verify(ps).setString(1, "zfxt");
+        verify(ps).setBytes(2, PinyinUtils.sortKey("支付系统"));
+        verify(ps).setInt(3, PinyinUtils.KEY_VERSION);
+        verify(ps).setLong(4, 7L);
+    }
+
+    @Test
+    void pagesThroughFullBatchesByLastId() {
+        List<SubSystemEntity> batch = IntStream.rangeClosed(1, 500)
+                .mapToObj(i ->
+                        SubSystemEntity.builder().id((long) i).name("订单" + i).build())
+                .toList();
+        when(mainSystemMapper.selectStaleNameKeys(PinyinUtils.KEY_VERSION, 0L, 500))
+                .thenReturn(List.of());
+        when(subSystemMapper.selectStaleNameKeys(PinyinUtils.KEY_VERSION, 0L, 500))
+                .thenReturn(batch);
+        when(subSystemMapper.selectStaleNameKeys(PinyinUtils.KEY_VERSION, 500L, 500))
+                .thenReturn(List.of());
+
+        backfill.backfill();
+
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), eq(batch), eq(500), any());
+        verify(subSystemMapper, times(2)).selectStaleNameKeys(eq(PinyinUtils.KEY_VERSION), anyLong(), anyInt());
+    }
+
+    @Test
+    void failureDoesNotEscape() {
+        when(mainSystemMapper.selectStaleNameKeys(PinyinUtils.KEY_VERSION, 0L, 500))
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        assertDoesNotThrow(backfill::backfill);
+        verifyNoInteractions(subSystemMapper, jdbcTemplate);
+    }
+
+    @Test
+    void startupOnlyHandsTheBackfillToTheExecutor() {
+        backfill.backfillAfterStartup();
+
+        verify(asyncExecutor).execute(any());
+        verifyNoInteractions(mainSystemMapper, subSystemMapper, jdbcTemplate);
+    }
+
+    @Test
+    void sortKeysFollowPinyinOrder() {
+        List<String> names = List.of("Apple", "阿里", "北京", "订单", "用户中心", "支付系统", "中国");
+
+        List<String> sorted = names.stream()
+                .sorted((a, b) -> Arrays.compareUnsigned(PinyinUtils.sortKey(a), PinyinUtils.sortKey(b)))
+                .toList();
+
+        assertEquals(names, sorted);
+        assertArrayEquals(PinyinUtils.sortKey("apple"), PinyinUtils.sortKey("APPLE"));
+        assertNull(PinyinUtils.initials("admin"));
+        assertEquals("zfapixt", PinyinUtils.initials("支付 API 系统"));
+    }
+
+    @Test
+    void initialsCoverEveryReadingOfPolyphones() {
+        assertEquals(List.of("yx", "yh"), readings("银行"));
+        assertEquals(List.of("zq", "cq"), readings("重庆"));
+        assertEquals(List.of("zs", "cs"), readings("长沙"));
+        assertTrue(readings("网上银行系统").contains("wsyhxt"));
+        assertTrue(readings("重庆银行 2 号").containsAll(List.of("cqyh2h", "zqyx2h")));
+    }
+
+    @Test
+    void initialsStayBoundedForNamesFullOfPolyphones() {
+        String initials = PinyinUtils.initials("重重重重重重重重重重".repeat(5));
+
+        assertTrue(readings("重重重重重重重重重重".repeat(5)).size() <= PinyinUtils.MAX_READINGS);
+        assertTrue(initials.length() <= PinyinUtils.INITIALS_LENGTH);
+        assertTrue(initials.startsWith("z".repeat(50)));
+    }
+
+    private static List<String> readings(String name) {
+        return List.of(PinyinUtils.initials(name).split(" "));
+    }
+}
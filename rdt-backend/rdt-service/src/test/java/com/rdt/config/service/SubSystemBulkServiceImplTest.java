@@ -0,0 +1,131 @@
+package com.rdt.config.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.rdt.auth.config.BulkOperationProperties;
+import com.rdt.common.exception.BusinessException;
+import com.rdt.common.model.BulkResult;
+import com.rdt.config.mapper.MainSystemMapper;
+import com.rdt.config.mapper.SubSystemMapper;
+import com.rdt.config.model.dto.SubSystemBulkRequest;
+import com.rdt.config.model.entity.MainSystemEntity;
+import com.rdt.config.model.entity.SubSystemEntity;
+import com.rdt.query.component.Paginator;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SubSystemBulkServiceImplTest {
+
+    private final SubSystemMapper subSystemMapper = mock(SubSystemMapper.class);
+    private final MainSystemMapper mainSystemMapper = mock(MainSystemMapper.class);
+    private final SystemCacheService systemCacheService = mock(SystemCacheService.class);
+    private final SystemTreeService systemTreeService = mock(SystemTreeService.class);
+    private final Paginator paginator = mock(Paginator.class);
+
+    private SubSystemBulkServiceImpl subSystemBulkService;
+
+    @BeforeEach
+    void setUp() {
+        subSystemBulkService = new SubSystemBulkServiceImpl(
+                subSystemMapper,
+                mainSystemMapper,
+                systemCacheService,
+                systemTreeService,
+                paginator,
+                new BulkOperationProperties());
+    }
+
+    @Test
+    @DisplayName("moveSubSystems: one update, one counter adjustment per parent and one cache sweep")
+    void moveSubSystems_ByIds() {
+        when(mainSystemMapper.selectById(9L))
+                .thenReturn(MainSystemEntity.builder().id(9L).build());
+        when(subSystemMapper.selectList(any()))
+                .thenReturn(List.of(sub(1L, 1L, 1), sub(2L, 1L, 1), sub(3L, 2L, 1), sub(4L, 9L, 1)));
+        when(subSystemMapper.update(any(SubSystemEntity.class), any())).thenReturn(3);
+
+        BulkResult result = subSystemBulkService.moveSubSystems(SubSystemBulkRequest.builder()
+                .ids(List.of(1L, 2L, 3L, 4L, 5L))
+                .targetMainSystemId(9L)
+                .build());
+
+        assertEquals(4, result.getMatched());
+        assertEquals(3, result.getAffected());
+        verify(subSystemMapper).update(argThat(sub -> sub.getMainSystemId() == 9L), any());
+        verify(mainSystemMapper).adjustSubSystemCounts(Map.of(1L, -2, 2L, -1, 9L, 3));
+        verify(systemCacheService).evictSubSystems(List.of(1L, 2L, 3L));
+        verify(systemTreeService).invalidate();
+        verify(paginator).evictTotals(SubSystemServiceImpl.SUB_SYSTEM_TOTALS);
+    }
+
+    @Test
+    @DisplayName("moveSubSystems: an unknown target main system is rejected before anything is read")
+    void moveSubSystems_UnknownTarget() {
+        SubSystemBulkRequest request = SubSystemBulkRequest.builder()
+                .ids(List.of(1L))
+                .targetMainSystemId(9L)
+                .build();
+
+        assertThrows(BusinessException.class, () -> subSystemBulkService.moveSubSystems(request));
+        verify(subSystemMapper, never()).selectList(any());
+    }
+
+    @Test
+    @DisplayName("deleteSubSystems: by main system, resolving its sub system ids in one query")
+    void deleteSubSystems_ByMainSystem() {
+        when(subSystemMapper.selectList(any()))
+                .thenReturn(List.of(sub(5L, null, null), sub(6L, null, null)))
+                .thenReturn(List.of(sub(5L, 1L, 1), sub(6L, 1L, 0)));
+        when(subSystemMapper.deleteBatchIds(any())).thenReturn(2);
+
+        BulkResult result = subSystemBulkService.deleteSubSystems(
+                SubSystemBulkRequest.builder().mainSystemId(1L).build());
+
+        assertEquals(2, result.getMatched());
+        assertEquals(2, result.getAffected());
+        verify(subSystemMapper).deleteBatchIds(List.of(5L, 6L));
+        verify(mainSystemMapper).adjustSubSystemCounts(Map.of(1L, -2));
+        verify(systemCacheService).evictSubSystems(List.of(5L, 6L));
+    }
+
+    @Test
+    @DisplayName("updateSubSystemStatus: only rows not in the status yet are written")
+    void updateSubSystemStatus_ChangesOnlyOtherStatuses() {
+        when(subSystemMapper.selectList(any())).thenReturn(List.of(sub(1L, 1L, 1), sub(2L, 1L, 0)));
+        when(subSystemMapper.update(any(SubSystemEntity.class), any())).thenReturn(1);
+
+        BulkResult result = subSystemBulkService.updateSubSystemStatus(
+                SubSystemBulkRequest.builder().ids(List.of(1L, 2L)).status(0).build());
+
+        assertEquals(2, result.getMatched());
+        assertEquals(1, result.getAffected());
+        verify(subSystemMapper).update(argThat(sub -> sub.getStatus() == 0), any());
+        verify(systemCacheService).evictSubSystems(List.of(1L));
+        verify(mainSystemMapper, never()).adjustSubSystemCounts(any());
+    }
+
+    @Test
+    @DisplayName("bulk requests must select by exactly one of ids and mainSystemId")
+    void bulk_RejectsAmbiguousSelection() {
+        SubSystemBulkRequest both =
+                SubSystemBulkRequest.builder().ids(List.of(1L)).mainSystemId(1L).build();
+        SubSystemBulkRequest neither = SubSystemBulkRequest.builder().build();
+
+        assertThrows(BusinessException.class, () -> subSystemBulkService.deleteSubSystems(both));
+        assertThrows(BusinessException.class, () -> subSystemBulkService.deleteSubSystems(neither));
+        verifyNoInteractions(subSystemMapper, systemCacheService);
+    }
+
+    private static SubSystemEntity sub(Long id, Long mainSystemId, Integer status) {
+        return SubSystemEntity.builder()
+                .id(id)
+                .mainSystemId(mainSystemId)
+                .status(status)
+                .build();
+    }
+}
@@ -2,24 +2,42 @@ package com.rdt.config.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.*;
 
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.rdt.common.exception.BusinessException;
+import com.rdt.common.model.KeysetCursor;
+import com.rdt.common.model.PageParams;
 import com.rdt.config.mapper.MainSystemMapper;
 import com.rdt.config.mapper.SubSystemMapper;
 import com.rdt.config.model.dto.SubSystemCreateRequest;
 import com.rdt.config.model.dto.SubSystemUpdateRequest;
 import com.rdt.config.model.entity.MainSystemEntity;
 import com.rdt.config.model.entity.SubSystemEntity;
+import com.rdt.config.properties.SystemCacheProperties;
+import com.rdt.query.component.Paginator;
+import com.rdt.query.config.PaginationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.apache.ibatis.builder.MapperBuilderAssistant;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
 
 @ExtendWith(MockitoExtension.class)
 class SubSystemServiceTest {
@@ -30,9 +48,33 @@ class SubSystemServiceTest {
     @Mock
     private MainSystemMapper mainSystemMapper;
 
-    @InjectMocks
+    @Mock
+    private SystemTreeService systemTreeService;
+
+    private SystemCacheServiceImpl systemCacheService;
+
     private SubSystemServiceImpl subSystemService;
 
+    @BeforeAll
+    static void initTableInfo() {
+        // Lambda wrappers resolve their column names from the table metadata when rendered
+        TableInfoHelper.initTableInfo(
+                new MapperBuilderAssistant(new MybatisConfiguration(), ""), SubSystemEntity.class);
+    }
+
+    @BeforeEach
+    void setUp() {
+        // Real cache over the mocked mappers, so every mapper call still stands for one SQL statement
+        systemCacheService = new SystemCacheServiceImpl(
+                mainSystemMapper, subSystemMapper, new SystemCacheProperties(), new SimpleMeterRegistry());
+        subSystemService = new SubSystemServiceImpl(
+                subSystemMapper,
+                mainSystemMapper,
+                systemCacheService,
+                systemTreeService,
+                new Paginator(new PaginationProperties(), Runnable::run, new SimpleMeterRegistry()));
+    }
+
     @Test
     @DisplayName("Create Sub System - Success")
     void createSubSystem_Success() {
@@ -45,7 +87,6 @@ class SubSystemServiceTest {
 
         // Mock Main System Exists
         when(mainSystemMapper.selectById(1L)).thenReturn(new MainSystemEntity());
-        when(subSystemMapper.selectCount(any(LambdaQueryWrapper.class))).thenReturn(0L);
         when(subSystemMapper.insert(any(SubSystemEntity.class))).thenAnswer(invocation -> {
             ((SubSystemEntity) invocation.getArgument(0)).setId(10L);
             return 1;
@@ -54,6 +95,25 @@ class SubSystemServiceTest {
         Long id = subSystemService.createSubSystem(request);
 
         assertEquals(10L, id);
+        verify(mainSystemMapper).moveSubSystemCount(null, 1L);
+    }
+
+    @Test
+    @DisplayName("Create Sub System - Fail: code taken, reported from the unique key without a lookup")
+    void createSubSystem_Fail_DuplicateCode() {
+        SubSystemCreateRequest request = SubSystemCreateRequest.builder()
+                .mainSystemId(1L)
+                .name("Backend")
+                .code("BACKEND")
+                .build();
+        when(mainSystemMapper.selectById(1L)).thenReturn(new MainSystemEntity());
+        when(subSystemMapper.insert(any(SubSystemEntity.class)))
+                .thenThrow(new DuplicateKeyException("Duplicate entry 'BACKEND'"));
+
+        BusinessException e = assertThrows(BusinessException.class, () -> subSystemService.createSubSystem(request));
+        assertEquals(10_002, e.getCode());
+        verify(subSystemMapper, never()).selectCount(any());
+        verify(mainSystemMapper, never()).moveSubSystemCount(any(), any());
     }
 
     @Test
@@ -73,8 +133,9 @@ class SubSystemServiceTest {
         SubSystemEntity entity =
                 SubSystemEntity.builder().id(1L).mainSystemId(10L).name("Sub").build();
         when(subSystemMapper.selectById(1L)).thenReturn(entity);
-        when(mainSystemMapper.selectById(10L))
-                .thenReturn(MainSystemEntity.builder().name("Main").build());
+        when(mainSystemMapper.selectBatchIds(Set.of(10L)))
+                .thenReturn(
+                        List.of(MainSystemEntity.builder().id(10L).name("Main").build()));
 
         var response = subSystemService.getSubSystem(1L);
 
@@ -99,35 +160,135 @@ class SubSystemServiceTest {
         pageResult.setRecords(List.of(sub1));
         pageResult.setTotal(1);
 
-        when(subSystemMapper.selectPage(any(Page.class), any(LambdaQueryWrapper.class)))
-                .thenReturn(pageResult);
-        when(mainSystemMapper.selectById(10L))
-                .thenReturn(MainSystemEntity.builder().name("Main").build());
+        when(subSystemMapper.selectPage(any(), any())).thenReturn(pageResult);
+        when(mainSystemMapper.selectBatchIds(Set.of(10L)))
+                .thenReturn(
+                        List.of(MainSystemEntity.builder().id(10L).name("Main").build()));
 
-        var result = subSystemService.getSubSystemList(10L, "Sub", 1, 10);
+        var result = subSystemService.getSubSystemList(10L, "Sub", PageParams.exact(1, 10));
 
         assertEquals(1, result.getTotal());
         assertEquals("Sub1", result.getRecords().get(0).getName());
     }
 
     @Test
-    @DisplayName("Update Sub System - Success")
+    @DisplayName("Get Sub System List - a 100-row page costs two statements, whatever the number of main systems")
+    void getSubSystemList_StatementsPerPage() {
+        List<SubSystemEntity> rows = IntStream.range(0, 100)
+                .mapToObj(i -> SubSystemEntity.builder()
+                        .id((long) i)
+                        .mainSystemId((long) (i % 7))
+                        .name("Sub" + i)
+                        .build())
+                .toList();
+        Page<SubSystemEntity> pageResult = new Page<>();
+        pageResult.setRecords(rows);
+        pageResult.setTotal(100);
+        when(subSystemMapper.selectPage(any(), any())).thenReturn(pageResult);
+        when(mainSystemMapper.selectBatchIds(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream()
+                    .map(id ->
+                            MainSystemEntity.builder().id(id).name("Main" + id).build())
+                    .toList();
+        });
+
+        var result = subSystemService.getSubSystemList(null, null, PageParams.exact(1, 100));
+
+        assertEquals(100, result.getRecords().size());
+        assertEquals("Main3", result.getRecords().get(10).getMainSystemName());
+        // Every mapper call is one SQL statement: the page query plus one batched lookup of the 7 distinct parents
+        int statements = mockingDetails(subSystemMapper).getInvocations().size()
+                + mockingDetails(mainSystemMapper).getInvocations().size();
+        assertEquals(2, statements);
+        verify(mainSystemMapper).selectBatchIds(Set.of(0L, 1L, 2L, 3L, 4L, 5L, 6L));
+
+        // The parents are cached now: the next page is a single statement
+        subSystemService.getSubSystemList(null, null, PageParams.exact(2, 100));
+        assertEquals(
+                3,
+                mockingDetails(subSystemMapper).getInvocations().size()
+                        + mockingDetails(mainSystemMapper).getInvocations().size());
+    }
+
+    @Test
+    @DisplayName("Update Sub System - Success: same parent, one conditional statement and no read")
+    @SuppressWarnings("unchecked")
     void updateSubSystem_Success() {
         SubSystemUpdateRequest request = SubSystemUpdateRequest.builder()
                 .mainSystemId(10L) // Same main system
                 .name("Updated")
                 .code("UPD")
+                .version(3)
                 .build();
-        SubSystemEntity entity =
-                SubSystemEntity.builder().id(1L).mainSystemId(10L).code("OLD").build();
-
-        when(subSystemMapper.selectById(1L)).thenReturn(entity);
-        when(subSystemMapper.selectCount(any(LambdaQueryWrapper.class))).thenReturn(0L);
+        when(subSystemMapper.update(any(SubSystemEntity.class), any())).thenReturn(1);
 
         subSystemService.updateSubSystem(1L, request);
 
-        verify(subSystemMapper).updateById(entity);
-        assertEquals("Updated", entity.getName());
+        ArgumentCaptor<SubSystemEntity> written = ArgumentCaptor.forClass(SubSystemEntity.class);
+        ArgumentCaptor<LambdaQueryWrapper<SubSystemEntity>> where = ArgumentCaptor.captor();
+        verify(subSystemMapper).update(written.capture(), where.capture());
+        assertEquals("Updated", written.getValue().getName());
+        assertEquals(3, written.getValue().getVersion());
+        assertNull(written.getValue().getMainSystemId());
+        assertTrue(where.getValue().getSqlSegment().contains("main_system_id"));
+        verify(subSystemMapper, never()).selectById(any());
+        verifyNoInteractions(mainSystemMapper);
+    }
+
+    @Test
+    @DisplayName("Update Sub System - Fail: code taken by another sub system")
+    void updateSubSystem_DuplicateCode() {
+        SubSystemUpdateRequest request = SubSystemUpdateRequest.builder()
+                .mainSystemId(10L)
+                .name("Updated")
+                .code("TAKEN")
+                .version(0)
+                .build();
+        when(subSystemMapper.update(any(SubSystemEntity.class), any()))
+                .thenThrow(new DuplicateKeyException("Duplicate entry 'TAKEN'"));
+
+        BusinessException e =
+                assertThrows(BusinessException.class, () -> subSystemService.updateSubSystem(1L, request));
+        assertEquals(10_002, e.getCode());
+        verify(subSystemMapper, never()).selectCount(any());
+        verify(mainSystemMapper, never()).moveSubSystemCount(any(), any());
+    }
+
+    @Test
+    @DisplayName("Update Sub System - Fail: stale version")
+    void updateSubSystem_StaleVersion() {
+        SubSystemUpdateRequest request = SubSystemUpdateRequest.builder()
+                .mainSystemId(10L)
+                .name("Updated")
+                .version(3)
+                .build();
+        when(subSystemMapper.update(any(SubSystemEntity.class), any())).thenReturn(0);
+        when(subSystemMapper.selectById(1L))
+                .thenReturn(SubSystemEntity.builder()
+                        .id(1L)
+                        .mainSystemId(10L)
+                        .version(4)
+                        .build());
+
+        BusinessException e =
+                assertThrows(BusinessException.class, () -> subSystemService.updateSubSystem(1L, request));
+        assertEquals(10_005, e.getCode());
+        verify(subSystemMapper, times(1)).update(any(SubSystemEntity.class), any());
+        verify(systemTreeService, never()).invalidate();
+    }
+
+    @Test
+    @DisplayName("Update Sub System - Fail: Not Found")
+    void updateSubSystem_NotFound() {
+        SubSystemUpdateRequest request =
+                SubSystemUpdateRequest.builder().mainSystemId(10L).version(0).build();
+        when(subSystemMapper.update(any(SubSystemEntity.class), any())).thenReturn(0);
+        when(subSystemMapper.selectById(1L)).thenReturn(null);
+
+        BusinessException e =
+                assertThrows(BusinessException.class, () -> subSystemService.updateSubSystem(1L, request));
+        assertEquals(10_004, e.getCode());
     }
 
     @Test
@@ -137,23 +298,85 @@ class SubSystemServiceTest {
                 .mainSystemId(20L) // Changed main system
                 .name("Updated")
                 .code("UPD")
+                .version(3)
                 .build();
-        SubSystemEntity entity =
-                SubSystemEntity.builder().id(1L).mainSystemId(10L).code("OLD").build();
-
-        when(subSystemMapper.selectById(1L)).thenReturn(entity);
+        // No row at the requested parent, then the move by id
+        when(subSystemMapper.update(any(SubSystemEntity.class), any())).thenReturn(0, 1);
+        when(subSystemMapper.selectById(1L))
+                .thenReturn(SubSystemEntity.builder()
+                        .id(1L)
+                        .mainSystemId(10L)
+                        .version(3)
+                        .build());
         when(mainSystemMapper.selectById(20L)).thenReturn(new MainSystemEntity());
-        when(subSystemMapper.selectCount(any(LambdaQueryWrapper.class))).thenReturn(0L);
 
         subSystemService.updateSubSystem(1L, request);
 
-        assertEquals(20L, entity.getMainSystemId());
+        ArgumentCaptor<SubSystemEntity> written = ArgumentCaptor.forClass(SubSystemEntity.class);
+        verify(subSystemMapper, times(2)).update(written.capture(), any());
+        assertEquals(20L, written.getAllValues().get(1).getMainSystemId());
+        assertEquals(3, written.getAllValues().get(1).getVersion());
+        verify(mainSystemMapper).moveSubSystemCount(10L, 20L);
+    }
+
+    @Test
+    @DisplayName("Sub system counters - reparenting adjusts both parents in id order")
+    void moveSubSystemCount_LocksInIdOrder() {
+        MainSystemMapper counters = mock(MainSystemMapper.class, CALLS_REAL_METHODS);
+        doReturn(1).when(counters).adjustSubSystemCount(anyLong(), anyInt());
+
+        counters.moveSubSystemCount(20L, 10L);
+        counters.moveSubSystemCount(10L, 10L);
+
+        InOrder order = inOrder(counters);
+        order.verify(counters).adjustSubSystemCount(10L, 1);
+        order.verify(counters).adjustSubSystemCount(20L, -1);
+        verify(counters, times(2)).adjustSubSystemCount(anyLong(), anyInt());
     }
 
     @Test
     @DisplayName("Delete Sub System - Success")
     void deleteSubSystem_Success() {
+        when(subSystemMapper.selectById(1L))
+                .thenReturn(SubSystemEntity.builder().id(1L).mainSystemId(10L).build());
+        when(subSystemMapper.deleteById(1L)).thenReturn(1);
+
         subSystemService.deleteSubSystem(1L);
+
         verify(subSystemMapper).deleteById(1L);
+        verify(mainSystemMapper).moveSubSystemCount(10L, null);
+        verify(systemTreeService).invalidate();
+    }
+
+    @Test
+    @DisplayName("Delete Sub System - Missing row leaves the counters alone")
+    void deleteSubSystem_Missing() {
+        subSystemService.deleteSubSystem(1L);
+
+        verify(subSystemMapper, never()).deleteById(anyLong());
+        verify(mainSystemMapper, never()).moveSubSystemCount(any(), any());
+    }
+
+    @Test
+    @DisplayName("Get Sub System List After - last page resolves parent names and carries no cursor")
+    void getSubSystemListAfter_LastPage() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 10, 18, 12, 0);
+        when(subSystemMapper.selectList(any()))
+                .thenReturn(List.of(SubSystemEntity.builder()
+                        .id(1L)
+                        .mainSystemId(10L)
+                        .name("Sub1")
+                        .createdAt(createdAt)
+                        .build()));
+        when(mainSystemMapper.selectBatchIds(Set.of(10L)))
+                .thenReturn(
+                        List.of(MainSystemEntity.builder().id(10L).name("Main").build()));
+
+        var result = subSystemService.getSubSystemListAfter(
+                10L, null, new KeysetCursor(createdAt.plusSeconds(1), 9L).encode(), 10);
+
+        assertEquals(1, result.getRecords().size());
+        assertEquals("Main", result.getRecords().get(0).getMainSystemName());
+        assertNull(result.getNextCursor());
     }
 }
@@ -0,0 +1,99 @@
+package com.rdt.config.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+import com.rdt.config.mapper.MainSystemMapper;
+import com.rdt.config.mapper.SubSystemMapper;
+import com.rdt.config.model.entity.MainSystemEntity;
+import com.rdt.config.model.entity.SubSystemEntity;
+import com.rdt.config.properties.SystemCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SystemCacheServiceImplTest {
+
+    private final MainSystemMapper mainSystemMapper = mock(MainSystemMapper.class);
+    private final SubSystemMapper subSystemMapper = mock(SubSystemMapper.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SystemCacheServiceImpl cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new SystemCacheServiceImpl(
+                mainSystemMapper, subSystemMapper, new SystemCacheProperties(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("getMainSystem: loads once, then serves from the cache and records hits")
+    void getMainSystem_ReadThrough() {
+        MainSystemEntity main = MainSystemEntity.builder().id(1L).name("Main").build();
+        when(mainSystemMapper.selectById(1L)).thenReturn(main);
+
+        assertSame(main, cache.getMainSystem(1L));
+        assertSame(main, cache.getMainSystem(1L));
+
+        verify(mainSystemMapper, times(1)).selectById(1L);
+        assertEquals(
+                1.0,
+                meterRegistry
+                        .get("cache.gets")
+                        .tag("cache", SystemCacheServiceImpl.MAIN_SYSTEM_CACHE)
+                        .tag("result", "hit")
+                        .functionCounter()
+                        .count());
+    }
+
+    @Test
+    @DisplayName("getSubSystem: missing rows are not cached")
+    void getSubSystem_MissNotCached() {
+        assertNull(cache.getSubSystem(1L));
+        SubSystemEntity sub = SubSystemEntity.builder().id(1L).build();
+        when(subSystemMapper.selectById(1L)).thenReturn(sub);
+
+        assertSame(sub, cache.getSubSystem(1L));
+    }
+
+    @Test
+    @DisplayName("getMainSystems: only uncached ids are loaded, in one batch")
+    void getMainSystems_BatchesMisses() {
+        when(mainSystemMapper.selectById(1L))
+                .thenReturn(MainSystemEntity.builder().id(1L).name("One").build());
+        cache.getMainSystem(1L);
+        when(mainSystemMapper.selectBatchIds(anyCollection()))
+                .thenReturn(List.of(
+                        MainSystemEntity.builder().id(2L).name("Two").build(),
+                        MainSystemEntity.builder().id(3L).name("Three").build()));
+
+        Map<Long, MainSystemEntity> result = cache.getMainSystems(List.of(1L, 2L, 3L, 4L));
+
+        assertEquals(Set.of(1L, 2L, 3L), result.keySet());
+        verify(mainSystemMapper).selectBatchIds(Set.of(2L, 3L, 4L));
+    }
+
+    @Test
+    @DisplayName("evict: the next read goes back to the database")
+    void evict_Reloads() {
+        when(mainSystemMapper.selectById(1L))
+                .thenReturn(MainSystemEntity.builder().id(1L).build());
+        when(subSystemMapper.selectById(1L))
+                .thenReturn(SubSystemEntity.builder().id(1L).build());
+        cache.getMainSystem(1L);
+        cache.getSubSystem(1L);
+
+        cache.evictMainSystem(1L);
+        cache.evictSubSystem(1L);
+        cache.evictSubSystem(null);
+        cache.getMainSystem(1L);
+        cache.getSubSystem(1L);
+
+        verify(mainSystemMapper, times(2)).selectById(1L);
+        verify(subSystemMapper, times(2)).selectById(1L);
+    }
+}
@@ -0,0 +1,64 @@
+package com.rdt.config.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.rdt.config.mapper.MainSystemMapper;
+import com.rdt.config.mapper.SubSystemMapper;
+import com.rdt.config.model.dto.MainSystemResponse;
+import com.rdt.config.model.dto.SubSystemResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.ibatis.cursor.Cursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SystemExportServiceImplTest {
+
+    @Mock
+    private MainSystemMapper mainSystemMapper;
+
+    @Mock
+    private SubSystemMapper subSystemMapper;
+
+    @Mock
+    private Cursor<MainSystemResponse> mainCursor;
+
+    @Mock
+    private Cursor<SubSystemResponse> subCursor;
+
+    @InjectMocks
+    private SystemExportServiceImpl systemExportService;
+
+    @Test
+    @DisplayName("exportMainSystems: hands every row to the sink, then closes the cursor")
+    void exportMainSystems_StreamsAndCloses() throws IOException {
+        MainSystemResponse payment =
+                MainSystemResponse.builder().id(1L).code("PAY").build();
+        when(mainSystemMapper.selectExportCursor()).thenReturn(mainCursor);
+        when(mainCursor.iterator()).thenReturn(List.of(payment).iterator());
+        List<MainSystemResponse> exported = new ArrayList<>();
+
+        assertEquals(1, systemExportService.exportMainSystems(exported::add));
+
+        assertEquals(List.of(payment), exported);
+        verify(mainCursor).close();
+    }
+
+    @Test
+    @DisplayName("exportSubSystems: a cursor that fails to close surfaces as an I/O error")
+    void exportSubSystems_CloseFailure() throws IOException {
+        when(subSystemMapper.selectExportCursor()).thenReturn(subCursor);
+        when(subCursor.iterator()).thenReturn(List.<SubSystemResponse>of().iterator());
+        doThrow(new IOException("connection reset")).when(subCursor).close();
+
+        assertThrows(UncheckedIOException.class, () -> systemExportService.exportSubSystems(row -> fail()));
+    }
+}
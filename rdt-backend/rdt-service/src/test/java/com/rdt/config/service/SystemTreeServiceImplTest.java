@@ -0,0 +1,150 @@
+package com.rdt.config.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.baomidou.mybatisplus.core.conditions.Wrapper;
+import com.rdt.config.mapper.MainSystemMapper;
+import com.rdt.config.mapper.SubSystemMapper;
+import com.rdt.config.model.dto.SystemTreeChildrenResponse;
+import com.rdt.config.model.dto.SystemTreeNode;
+import com.rdt.config.model.dto.SystemTreeResponse;
+import com.rdt.config.model.entity.MainSystemEntity;
+import com.rdt.config.model.entity.SubSystemEntity;
+import com.rdt.config.properties.SystemCacheProperties;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SystemTreeServiceImplTest {
+
+    private final MainSystemMapper mainSystemMapper = mock(MainSystemMapper.class);
+    private final SubSystemMapper subSystemMapper = mock(SubSystemMapper.class);
+    private final AtomicLong nanos = new AtomicLong();
+    private SystemTreeServiceImpl treeService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        treeService =
+                new SystemTreeServiceImpl(mainSystemMapper, subSystemMapper, new SystemCacheProperties(), nanos::get);
+        when(mainSystemMapper.selectList(any(Wrapper.class))).thenReturn(List.of(main(1L, "Alpha"), main(2L, "Beta")));
+        when(subSystemMapper.selectList(any(Wrapper.class)))
+                .thenReturn(List.of(sub(10L, 1L, "a-1"), sub(11L, 1L, "a-2"), sub(20L, 2L, "b-1")));
+    }
+
+    @Test
+    @DisplayName("getTree: two queries, sub systems grouped under their parents")
+    @SuppressWarnings("unchecked")
+    void getTree_BuildsHierarchy() {
+        SystemTreeResponse tree = treeService.getTree();
+
+        assertEquals(2, tree.getSystems().size());
+        SystemTreeNode alpha = tree.getSystems().get(0);
+        assertEquals(SystemTreeNode.TYPE_SYSTEM, alpha.getType());
+        assertEquals(2, alpha.getChildCount());
+        assertEquals(
+                List.of(10L, 11L),
+                alpha.getChildren().stream().map(SystemTreeNode::getId).toList());
+        assertEquals(1L, alpha.getChildren().get(0).getParentId());
+        assertEquals(1, tree.getSystems().get(1).getChildren().size());
+        assertThrows(
+                UnsupportedOperationException.class, () -> alpha.getChildren().add(alpha));
+        verify(mainSystemMapper, times(1)).selectList(any(Wrapper.class));
+        verify(subSystemMapper, times(1)).selectList(any(Wrapper.class));
+    }
+
+    @Test
+    @DisplayName("getTree: readers share one snapshot until a write invalidates it")
+    @SuppressWarnings("unchecked")
+    void getTree_SharedUntilInvalidated() {
+        SystemTreeResponse first = treeService.getTree();
+        assertSame(first, treeService.getTree());
+
+        treeService.invalidate();
+        SystemTreeResponse rebuilt = treeService.getTree();
+
+        assertNotSame(first, rebuilt);
+        assertEquals(first.getVersion(), rebuilt.getVersion());
+        verify(mainSystemMapper, times(2)).selectList(any(Wrapper.class));
+    }
+
+    @Test
+    @DisplayName("getTree: content changes produce a new version")
+    @SuppressWarnings("unchecked")
+    void getTree_VersionFollowsContent() {
+        String before = treeService.getTree().getVersion();
+        when(subSystemMapper.selectList(any(Wrapper.class)))
+                .thenReturn(List.of(sub(10L, 1L, "a-1"), sub(11L, 2L, "a-2"), sub(20L, 2L, "b-1")));
+
+        treeService.invalidate();
+
+        assertNotEquals(before, treeService.getTree().getVersion());
+    }
+
+    @Test
+    @DisplayName("getTree: snapshots older than the TTL are rebuilt to pick up other nodes' writes")
+    @SuppressWarnings("unchecked")
+    void getTree_ExpiresAfterTtl() {
+        treeService.getTree();
+        nanos.addAndGet(Duration.ofMinutes(1).toNanos());
+
+        treeService.getTree();
+
+        verify(subSystemMapper, times(2)).selectList(any(Wrapper.class));
+    }
+
+    @Test
+    @DisplayName("getChildren: root level pages main systems by id, child counts from the counter column")
+    void getChildren_RootPage() {
+        MainSystemEntity alpha = main(1L, "Alpha");
+        alpha.setSubSystemCount(2);
+        when(mainSystemMapper.selectAfter(0L, 3)).thenReturn(List.of(alpha, main(2L, "Beta"), main(3L, "Gamma")));
+
+        SystemTreeChildrenResponse page = treeService.getChildren(null, null, 2);
+
+        assertEquals(
+                List.of(1L, 2L),
+                page.getNodes().stream().map(SystemTreeNode::getId).toList());
+        assertEquals(2, page.getNodes().get(0).getChildCount());
+        assertEquals(0, page.getNodes().get(1).getChildCount());
+        assertNull(page.getNodes().get(0).getChildren());
+        assertEquals(2L, page.getNextCursor());
+        verifyNoInteractions(subSystemMapper);
+    }
+
+    @Test
+    @DisplayName("getChildren: last page of a main system's sub systems has no next cursor")
+    void getChildren_LastPage() {
+        when(subSystemMapper.selectChildrenAfter(1L, 10L, 3)).thenReturn(List.of(sub(11L, 1L, "a-2")));
+
+        SystemTreeChildrenResponse page = treeService.getChildren(1L, 10L, 2);
+
+        assertEquals(1, page.getNodes().size());
+        assertEquals(SystemTreeNode.TYPE_SUBSYSTEM, page.getNodes().get(0).getType());
+        assertNull(page.getNextCursor());
+    }
+
+    private static MainSystemEntity main(Long id, String name) {
+        return MainSystemEntity.builder()
+                .id(id)
+                .name(name)
+                .code(name.toUpperCase())
+                .status(1)
+                .build();
+    }
+
+    private static SubSystemEntity sub(Long id, Long mainSystemId, String name) {
+        return SubSystemEntity.builder()
+                .id(id)
+                .mainSystemId(mainSystemId)
+                .name(name)
+                .code(name.toUpperCase())
+                .status(1)
+                .build();
+    }
+}
@@ -0,0 +1,73 @@
+package com.rdt.config.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.rdt.common.model.ResourceValidator;
+import com.rdt.config.model.entity.MainSystemEntity;
+import com.rdt.config.model.entity.SubSystemEntity;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SystemValidatorServiceImplTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2026, 10, 18, 12, 0);
+
+    @Mock
+    private SystemCacheService systemCacheService;
+
+    @InjectMocks
+    private SystemValidatorServiceImpl validatorService;
+
+    @Test
+    @DisplayName("Main system validator - strong, from the cache, changes with any served field")
+    void getMainSystemValidator_FromCache() {
+        MainSystemEntity entity = MainSystemEntity.builder()
+                .id(1L)
+                .name("Main")
+                .code("MAIN")
+                .updatedAt(UPDATED_AT)
+                .build();
+        when(systemCacheService.getMainSystem(1L)).thenReturn(entity);
+
+        ResourceValidator before = validatorService.getMainSystemValidator(1L);
+        entity.setOwner("alice");
+        ResourceValidator after = validatorService.getMainSystemValidator(1L);
+
+        assertTrue(before.getEtag().startsWith("\""));
+        assertEquals(UPDATED_AT.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(), before.getLastModified());
+        assertNotEquals(before.getEtag(), after.getEtag());
+    }
+
+    @Test
+    @DisplayName("Main system validator - missing row has none")
+    void getMainSystemValidator_Missing() {
+        assertNull(validatorService.getMainSystemValidator(1L));
+    }
+
+    @Test
+    @DisplayName("Sub system validator - a parent rename changes the tag")
+    void getSubSystemValidator_FollowsParentName() {
+        MainSystemEntity parent =
+                MainSystemEntity.builder().id(10L).name("Before").build();
+        when(systemCacheService.getSubSystem(1L))
+                .thenReturn(SubSystemEntity.builder()
+                        .id(1L)
+                        .mainSystemId(10L)
+                        .updatedAt(UPDATED_AT)
+                        .build());
+        when(systemCacheService.getMainSystem(10L)).thenReturn(parent);
+
+        String before = validatorService.getSubSystemValidator(1L).getEtag();
+        parent.setName("After");
+
+        assertNotEquals(before, validatorService.getSubSystemValidator(1L).getEtag());
+    }
+}
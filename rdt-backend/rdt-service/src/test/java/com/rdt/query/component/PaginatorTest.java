@@ -0,0 +1,163 @@
+package com.rdt.query.component;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.rdt.auth.mapper.UserMapper;
+import com.rdt.auth.model.entity.SysUser;
+import com.rdt.common.model.CountMode;
+import com.rdt.common.model.PageParams;
+import com.rdt.common.model.SortOrder;
+import com.rdt.query.config.PaginationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class PaginatorTest {
+
+    private static final String NAMESPACE = "test.users";
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final Paginator paginator = new Paginator(new PaginationProperties(), executor, new SimpleMeterRegistry());
+    private final UserMapper mapper = mock(UserMapper.class);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("EXACT: one selectPage, counted by the pagination interceptor")
+    void exactLeavesCountToInterceptor() {
+        when(mapper.selectPage(any(), any())).thenReturn(new Page<>(1, 10, 42));
+
+        assertEquals(
+                42,
+                paginator
+                        .selectPage(mapper, PageParams.exact(1, 10), query("a"))
+                        .getTotal());
+
+        ArgumentCaptor<Page<SysUser>> page = pageCaptor();
+        verify(mapper).selectPage(page.capture(), any());
+        assertTrue(page.getValue().searchCount());
+        verify(mapper, never()).selectCount(any());
+    }
+
+    @Test
+    @DisplayName("PARALLEL: the count runs on the executor while the page query skips its own count")
+    void parallelCountsOnExecutor() {
+        AtomicReference<String> countThread = new AtomicReference<>();
+        when(mapper.selectCount(any())).thenAnswer(invocation -> {
+            countThread.set(Thread.currentThread().getName());
+            return 42L;
+        });
+        when(mapper.selectPage(any(), any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Page<SysUser> result = paginator.selectPage(mapper, params(CountMode.PARALLEL), query("a"));
+
+        assertEquals(42, result.getTotal());
+        assertFalse(result.searchCount());
+        assertNotEquals(Thread.currentThread().getName(), countThread.get());
+    }
+
+    @Test
+    @DisplayName("PARALLEL: a failed count surfaces as the mapper's own exception")
+    void parallelCountFailurePropagates() {
+        when(mapper.selectCount(any())).thenThrow(new IllegalStateException("count failed"));
+        when(mapper.selectPage(any(), any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        assertThrows(
+                IllegalStateException.class,
+                () -> paginator.selectPage(mapper, params(CountMode.PARALLEL), query("a")));
+    }
+
+    @Test
+    @DisplayName("CACHED: one count per normalized filter until a write evicts the list's totals")
+    void cachedTotalsPerFilter() {
+        when(mapper.selectCount(any())).thenReturn(42L, 7L, 43L);
+        when(mapper.selectPage(any(), any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        assertEquals(
+                42,
+                paginator
+                        .selectPage(mapper, params(CountMode.CACHED), query("Admin"))
+                        .getTotal());
+        assertEquals(
+                42,
+                paginator
+                        .selectPage(mapper, params(CountMode.CACHED), query(" admin "))
+                        .getTotal());
+        assertEquals(
+                7,
+                paginator
+                        .selectPage(mapper, params(CountMode.CACHED), query("ops"))
+                        .getTotal());
+        verify(mapper, times(2)).selectCount(any());
+
+        paginator.evictTotals(NAMESPACE);
+
+        assertEquals(
+                43,
+                paginator
+                        .selectPage(mapper, params(CountMode.CACHED), query("admin"))
+                        .getTotal());
+        verify(mapper, times(3)).selectCount(any());
+    }
+
+    @Test
+    @DisplayName("NONE: no count; the extra look-ahead row only raises the total's lower bound")
+    void noneLooksAhead() {
+        when(mapper.selectList(any())).thenReturn(users(11)).thenReturn(users(4));
+
+        Page<SysUser> full =
+                paginator.selectPage(mapper, new PageParams(3, 10, CountMode.NONE, SortOrder.NEWEST), query("a"));
+        Page<SysUser> last =
+                paginator.selectPage(mapper, new PageParams(4, 10, CountMode.NONE, SortOrder.NEWEST), query("a"));
+
+        assertEquals(10, full.getRecords().size());
+        assertEquals(31, full.getTotal());
+        assertTrue(full.hasNext());
+        assertEquals(4, last.getRecords().size());
+        assertEquals(34, last.getTotal());
+        assertFalse(last.hasNext());
+        verify(mapper, never()).selectCount(any());
+        verify(mapper, never()).selectPage(any(), any());
+    }
+
+    private static PageParams params(CountMode count) {
+        return new PageParams(1, 10, count, SortOrder.NEWEST);
+    }
+
+    private static PageQuery<SysUser> query(String keyword) {
+        return PageQuery.<SysUser>builder()
+                .filter(LambdaQueryWrapper::new)
+                .order(w -> w.orderByDesc(SysUser::getCreatedAt))
+                .totalKey(Paginator.totalKey(NAMESPACE, keyword))
+                .build();
+    }
+
+    private static List<SysUser> users(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> {
+                    SysUser user = new SysUser();
+                    user.setId(id);
+                    return user;
+                })
+                .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<Page<SysUser>> pageCaptor() {
+        return ArgumentCaptor.forClass(Page.class);
+    }
+}
@@ -0,0 +1,74 @@
+package com.rdt.query.mapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.rdt.auth.model.entity.SysUser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class KeywordSearchTest {
+
+    @Test
+    @DisplayName("booleanTerm: keywords become a quoted phrase so ngrams match as a substring")
+    void phrase() {
+        assertEquals("\"admin\"", KeywordSearch.booleanTerm(" admin "));
+        assertEquals("\"a+b -c\"", KeywordSearch.booleanTerm("a+b -c"));
+        assertEquals("\"say  hi \"", KeywordSearch.booleanTerm("say \"hi\""));
+    }
+
+    @Test
+    @DisplayName("isShorterThanToken: counts code points, not chars")
+    void shorterThanToken() {
+        assertTrue(KeywordSearch.isShorterThanToken("k"));
+        assertTrue(KeywordSearch.isShorterThanToken("用"));
+        assertTrue(KeywordSearch.isShorterThanToken("𠀀"));
+        assertFalse(KeywordSearch.isShorterThanToken("de"));
+    }
+
+    @Test
+    @DisplayName("likePattern: wildcards and the escape character match literally")
+    void likePattern() {
+        assertEquals("%k%", KeywordSearch.likePattern("k"));
+        assertEquals("%\\%%", KeywordSearch.likePattern("%"));
+        assertEquals("%\\_%", KeywordSearch.likePattern("_"));
+        assertEquals("%\\\\%", KeywordSearch.likePattern("\\"));
+    }
+
+    @Test
+    @DisplayName("matching: blank keywords leave the query unfiltered")
+    void blank() {
+        assertEquals(
+                "",
+                KeywordSearch.matching(new LambdaQueryWrapper<SysUser>(), "username, email", null)
+                        .getSqlSegment());
+        assertEquals(
+                "",
+                KeywordSearch.matching(new LambdaQueryWrapper<SysUser>(), "username, email", "  ")
+                        .getSqlSegment());
+    }
+
+    @Test
+    @DisplayName("matching: binds the term as a parameter of MATCH ... AGAINST")
+    void matching() {
+        LambdaQueryWrapper<SysUser> wrapper =
+                KeywordSearch.matching(new LambdaQueryWrapper<>(), "username, email", "o'brien");
+
+        assertTrue(wrapper.getSqlSegment().startsWith("(MATCH(username, email) AGAINST(#{ew.paramNameValuePairs."));
+        assertTrue(wrapper.getSqlSegment().endsWith("} IN BOOLEAN MODE))"));
+        assertTrue(wrapper.getParamNameValuePairs().containsValue("\"o'brien\""));
+    }
+
+    @Test
+    @DisplayName("matching: a keyword shorter than one token falls back to LIKE on every column")
+    void shortKeywordFallsBackToLike() {
+        LambdaQueryWrapper<SysUser> wrapper =
+                KeywordSearch.matching(new LambdaQueryWrapper<>(), "username, email", " k ");
+
+        String sql = wrapper.getSqlSegment();
+        assertFalse(sql.contains("MATCH"));
+        assertTrue(sql.contains("username LIKE #{ew.paramNameValuePairs."));
+        assertTrue(sql.contains("OR email LIKE #{ew.paramNameValuePairs."));
+        assertTrue(wrapper.getParamNameValuePairs().containsValue("%k%"));
+    }
+}
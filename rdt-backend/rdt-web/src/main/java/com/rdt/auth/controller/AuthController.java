@@ -2,17 +2,22 @@ package com.rdt.auth.controller;
 
 import com.rdt.auth.model.dto.LoginReq;
 import com.rdt.auth.model.dto.LoginResp;
+import com.rdt.auth.model.dto.RefreshTokenReq;
 import com.rdt.auth.service.AuthService;
 import com.rdt.common.Result;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -27,34 +32,56 @@ import org.springframework.web.bind.annotation.RestController;
 @Slf4j
 public class AuthController {
 
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private final AuthService authService;
 
     /**
      * User login.
      *
      * @param req Login request
-     * @return Login response
+     * @param request HTTP request (client address for rate limiting)
+     * @return Login response, completed once the password has been verified
      */
     @Operation(summary = "Login", description = "Authenticate user and return JWT token.")
     @PreAuthorize("permitAll()")
     @PostMapping("/login")
-    public Result<LoginResp> login(@RequestBody @Valid LoginReq req) {
-        return Result.success(authService.login(req));
+    public CompletableFuture<Result<LoginResp>> login(@RequestBody @Valid LoginReq req, HttpServletRequest request) {
+        // Async: the request thread is released while the password is verified on the hashing bulkhead
+        return authService.login(req, request.getRemoteAddr()).thenApply(Result::success);
+    }
+
+    /**
+     * Exchange a refresh token for a new token pair.
+     *
+     * @param req Refresh request
+     * @return New access and refresh tokens
+     */
+    @Operation(
+            summary = "Refresh",
+            description = "Rotate the refresh token and issue a new access token without re-entering the password.")
+    @PreAuthorize("permitAll()")
+    @PostMapping("/refresh")
+    public Result<LoginResp> refresh(@RequestBody @Valid RefreshTokenReq req) {
+        return Result.success(authService.refresh(req));
     }
 
     /**
      * User logout.
      *
+     * @param authorization Authorization header carrying the bearer token to revoke
      * @return Success result
      */
     @Operation(summary = "Logout", description = "Invalidate current token.")
     @PreAuthorize("permitAll()")
     @PostMapping("/logout")
-    public Result<Void> logout() {
-        // Note: For stateless JWT, true logout requires a blacklist (Redis-based
-        // solution).
-        // Current implementation relies on client-side token removal.
+    public Result<Void> logout(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
         log.info("User requested logout");
+        String token = authorization != null && authorization.startsWith(BEARER_PREFIX)
+                ? authorization.substring(BEARER_PREFIX.length())
+                : null;
+        authService.logout(token);
         return Result.success();
     }
 }
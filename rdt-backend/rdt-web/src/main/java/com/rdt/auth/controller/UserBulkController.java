@@ -0,0 +1,56 @@
+package com.rdt.auth.controller;
+
+import com.rdt.auth.model.dto.BulkUserReq;
+import com.rdt.auth.service.UserBulkService;
+import com.rdt.common.Result;
+import com.rdt.common.model.BulkResult;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 用户批量操作控制器
+ */
+@Tag(name = "User Management", description = "APIs for managing system users.")
+@RestController
+@RequestMapping("/users/bulk")
+@RequiredArgsConstructor
+@Validated
+public class UserBulkController {
+
+    private final UserBulkService userBulkService;
+
+    @Operation(
+            summary = "Enable Users",
+            description = "Re-enable disabled users by id; returns how many matched and how many changed.")
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/enable")
+    public Result<BulkResult> enableUsers(@RequestBody @Valid BulkUserReq req) {
+        return Result.success(userBulkService.enableUsers(req.getIds()));
+    }
+
+    @Operation(
+            summary = "Disable Users",
+            description = "Disable users by id and revoke their tokens; returns how many matched and how many changed.")
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/disable")
+    public Result<BulkResult> disableUsers(@RequestBody @Valid BulkUserReq req) {
+        return Result.success(userBulkService.disableUsers(req.getIds()));
+    }
+
+    @Operation(
+            summary = "Delete Users",
+            description = "Soft-delete users by id and revoke their tokens; returns how many matched and were deleted.")
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/delete")
+    public Result<BulkResult> deleteUsers(@RequestBody @Valid BulkUserReq req) {
+        return Result.success(userBulkService.deleteUsers(req.getIds()));
+    }
+}
@@ -1,20 +1,41 @@
 package com.rdt.auth.controller;
 
-import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.rdt.api.model.dto.PageResponse;
 import com.rdt.auth.i18n.UserMessages;
 import com.rdt.auth.model.dto.CreateUserReq;
 import com.rdt.auth.model.dto.UpdateUserReq;
 import com.rdt.auth.model.dto.UserDto;
+import com.rdt.auth.model.dto.UserImportReport;
+import com.rdt.auth.service.UserExportService;
+import com.rdt.auth.service.UserImportService;
 import com.rdt.auth.service.UserService;
+import com.rdt.auth.support.UserImportReader;
 import com.rdt.common.Result;
+import com.rdt.common.model.CursorPage;
+import com.rdt.common.model.ExportFormat;
+import com.rdt.common.model.PageParams;
+import com.rdt.common.model.ResourceValidator;
+import com.rdt.web.support.ConditionalRequests;
+import com.rdt.web.support.ExportQuery;
+import com.rdt.web.support.ExportStreams;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.io.IOException;
+import java.io.InputStream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * 用户管理控制器
@@ -29,28 +50,68 @@ public class UserController {
 
     private static final int CODE_USER_NOT_FOUND = 10_002;
     private static final int CODE_INTERNAL_ERROR = 500;
+    private static final int MAX_PAGE_SIZE = PageParams.MAX_SIZE;
 
     private final UserService userService;
+    private final UserImportService userImportService;
+    private final UserImportReader userImportReader;
+    private final UserExportService userExportService;
+    private final ExportStreams exportStreams;
 
     @Operation(summary = "Get Users", description = "Get paginated list of users.")
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping
-    public Result<Page<UserDto>> getUsers(
-            @RequestParam(defaultValue = "1") int page,
-            @RequestParam(defaultValue = "10") int size,
+    public Result<PageResponse<UserDto>> getUsers(
+            @ParameterObject @Valid PageParams pageParams,
+            @RequestParam(required = false) String keyword,
+            ServletWebRequest webRequest) {
+        PageResponse<UserDto> page = userService.getUsers(pageParams, keyword);
+        if (ConditionalRequests.notModified(webRequest, ResourceValidator.ofBody(page))) {
+            return null;
+        }
+        return Result.success(page);
+    }
+
+    @Operation(
+            summary = "Get Users (Cursor)",
+            description = "Keyset pagination, newest first: pass an empty cursor for the first page, then nextCursor.")
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping(params = "cursor")
+    public Result<CursorPage<UserDto>> getUsersAfter(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(MAX_PAGE_SIZE) int size,
             @RequestParam(required = false) String keyword) {
+        return Result.success(userService.getUsersAfter(cursor, size, keyword));
+    }
 
-        return Result.success(userService.getUsers(page, size, keyword));
+    @Operation(
+            summary = "Export Users",
+            description = "Stream every active user, in id order, as NDJSON (default) or CSV with a header row.")
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/export")
+    public StreamingResponseBody exportUsers(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format, HttpServletResponse response) {
+        return exportStreams.stream(
+                response,
+                ExportQuery.<UserDto>builder()
+                        .resource("users")
+                        .type(UserDto.class)
+                        .format(format)
+                        .source(userExportService::exportUsers)
+                        .build());
     }
 
     @Operation(summary = "Get User", description = "Get user details by ID.")
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping("/{id}")
-    public Result<UserDto> getUser(@PathVariable Long id) {
+    public Result<UserDto> getUser(@PathVariable Long id, ServletWebRequest webRequest) {
         UserDto user = userService.getUserById(id);
         if (user == null) {
             return Result.error(CODE_USER_NOT_FOUND, UserMessages.USER_NOT_FOUND);
         }
+        if (ConditionalRequests.notModified(webRequest, ResourceValidator.ofBody(user))) {
+            return null;
+        }
         return Result.success(user);
     }
 
@@ -62,6 +123,19 @@ public class UserController {
         return Result.success();
     }
 
+    @Operation(
+            summary = "Import Users",
+            description = "Create users in bulk from a CSV (header username,password,email,avatar) or NDJSON body. "
+                    + "Valid rows are created chunk by chunk; the report lists the rejected rows.")
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping(
+            value = "/import",
+            consumes = {ExportStreams.CSV, MediaType.APPLICATION_NDJSON_VALUE})
+    public Result<UserImportReport> importUsers(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType, InputStream body) throws IOException {
+        return Result.success(userImportService.importUsers(userImportReader.read(contentType, body)));
+    }
+
     @Operation(summary = "Update User", description = "Update user details.")
     @PreAuthorize("hasRole('ADMIN')")
     @PutMapping("/{id}")
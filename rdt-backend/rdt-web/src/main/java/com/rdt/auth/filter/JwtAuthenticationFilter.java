@@ -1,16 +1,23 @@
 package com.rdt.auth.filter;
 
 import com.rdt.auth.component.JwtProvider;
+import com.rdt.auth.config.JwtProperties;
+import com.rdt.auth.constant.AuthConstants;
+import com.rdt.auth.service.TokenRevocationService;
+import com.rdt.auth.service.TokenVersionService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -27,9 +34,13 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final String BEARER_PREFIX = "Bearer ";
+    private static final int STATUS_NORMAL = 1;
 
     private final JwtProvider jwtProvider;
+    private final JwtProperties jwtProperties;
     private final UserDetailsService userDetailsService;
+    private final TokenVersionService tokenVersionService;
+    private final TokenRevocationService tokenRevocationService;
 
     @Override
     @SuppressWarnings("PMD.AvoidCatchingGenericException")
@@ -40,15 +51,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
         try {
             String jwt = getJwtFromRequest(request);
+            // Single verify-and-extract: signature and expiry are checked once per request
+            Claims claims = jwtProvider.verify(jwt).filter(this::notRevoked).orElse(null);
+            UserDetails userDetails = claims == null ? null : resolveUser(claims);
 
-            if (StringUtils.hasText(jwt) && jwtProvider.validateToken(jwt)) {
-                String username = jwtProvider.getUsernameFromToken(jwt);
-
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-
+            if (userDetails != null) {
                 log.info(
                         "JWT Validation Success. Username: {}, Authorities: {}",
-                        username,
+                        userDetails.getUsername(),
                         userDetails.getAuthorities());
 
                 UsernamePasswordAuthenticationToken authentication =
@@ -66,6 +76,46 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private boolean notRevoked(Claims claims) {
+        if (tokenRevocationService.isRevoked(claims.getId())) {
+            log.warn("JWT rejected: token of '{}' was revoked by logout", claims.getSubject());
+            return false;
+        }
+        return true;
+    }
+
+    private UserDetails resolveUser(Claims claims) {
+        if (!jwtProperties.isStateless()) {
+            return userDetailsService.loadUserByUsername(claims.getSubject());
+        }
+        return statelessUser(claims);
+    }
+
+    /**
+     * Builds the principal from the token alone; revocation is checked against the in-memory version table.
+     */
+    private UserDetails statelessUser(Claims claims) {
+        Long userId = claims.get(AuthConstants.CLAIM_USER_ID, Long.class);
+        Integer version = claims.get(AuthConstants.CLAIM_TOKEN_VERSION, Integer.class);
+        Integer status = claims.get(AuthConstants.CLAIM_STATUS, Integer.class);
+        if (userId == null || version == null || !Integer.valueOf(STATUS_NORMAL).equals(status)) {
+            log.warn("JWT rejected: missing stateless claims or inactive status for '{}'", claims.getSubject());
+            return null;
+        }
+        if (!tokenVersionService.isCurrent(userId, version)) {
+            log.warn("JWT rejected: token version {} revoked for '{}'", version, claims.getSubject());
+            return null;
+        }
+        List<?> authorities = claims.get(AuthConstants.CLAIM_AUTHORITIES, List.class);
+        return User.withUsername(claims.getSubject())
+                .password("")
+                .authorities(
+                        authorities == null
+                                ? new String[0]
+                                : authorities.stream().map(String::valueOf).toArray(String[]::new))
+                .build();
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
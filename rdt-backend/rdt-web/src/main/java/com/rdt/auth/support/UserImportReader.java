@@ -0,0 +1,159 @@
+package com.rdt.auth.support;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rdt.auth.i18n.UserMessages;
+import com.rdt.auth.model.dto.CreateUserReq;
+import com.rdt.auth.model.dto.UserImportRow;
+import com.rdt.common.exception.BusinessException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reads a bulk user import body lazily, one row per {@code next()}, so the service consumes the upload while it is
+ * still arriving instead of buffering it.
+ *
+ * <p>Formats: {@code text/csv} with a header row ({@code username,password,email,avatar}; column order and case are
+ * free, email and avatar optional) and {@code application/x-ndjson}, one {@code CreateUserReq} object per line. A row
+ * that cannot be parsed is returned as malformed and reported; a CSV syntax error ends the file there, since nothing
+ * after it can be split into rows reliably.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserImportReader {
+
+    private static final String USERNAME = "username";
+    private static final String PASSWORD = "password";
+    private static final String EMAIL = "email";
+    private static final String AVATAR = "avatar";
+    private static final List<String> REQUIRED_COLUMNS = List.of(USERNAME, PASSWORD);
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param contentType request content type, {@code text/csv} or {@code application/x-ndjson}
+     * @param body        request body, read as UTF-8
+     * @return rows in file order
+     * @throws IOException if the CSV header cannot be read
+     */
+    public Iterator<UserImportRow> read(MediaType contentType, InputStream body) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        if (MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)) {
+            return new JsonLines(reader.lines().iterator());
+        }
+        CSVParser parser = CSVFormat.DEFAULT
+                .withFirstRecordAsHeader()
+                .withIgnoreHeaderCase()
+                .withTrim()
+                .parse(reader);
+        if (!parser.getHeaderMap().keySet().stream()
+                .map(column -> column.toLowerCase(Locale.ROOT))
+                .toList()
+                .containsAll(REQUIRED_COLUMNS)) {
+            throw BusinessException.badRequest(UserMessages.IMPORT_HEADER, String.join(",", REQUIRED_COLUMNS));
+        }
+        return new CsvRows(parser);
+    }
+
+    private UserImportRow parseJson(long line, String json) {
+        try {
+            return UserImportRow.parsed(line, objectMapper.readValue(json, CreateUserReq.class));
+        } catch (JsonProcessingException e) {
+            return UserImportRow.malformed(line, e.getOriginalMessage());
+        }
+    }
+
+    private static String column(CSVRecord record, String name) {
+        if (!record.isSet(name) || record.get(name).isEmpty()) {
+            return null;
+        }
+        return record.get(name);
+    }
+
+    /**
+     * NDJSON rows, numbered by physical line.
+     */
+    private final class JsonLines implements Iterator<UserImportRow> {
+
+        private final Iterator<String> lines;
+        private long line;
+
+        private JsonLines(Iterator<String> lines) {
+            this.lines = lines;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return lines.hasNext();
+        }
+
+        @Override
+        public UserImportRow next() {
+            String json = lines.next();
+            line++;
+            return parseJson(line, json);
+        }
+    }
+
+    /**
+     * CSV rows, numbered as lines with the header as line 1. A syntax error surfaces from {@code hasNext()}; it
+     * becomes one last malformed row.
+     */
+    private static final class CsvRows implements Iterator<UserImportRow> {
+
+        private final CSVParser parser;
+        private final Iterator<CSVRecord> records;
+        private UserImportRow failure;
+        private boolean failureReturned;
+
+        private CsvRows(CSVParser parser) {
+            this.parser = parser;
+            this.records = parser.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (failure != null) {
+                return !failureReturned;
+            }
+            try {
+                return records.hasNext();
+            } catch (IllegalStateException e) {
+                // commons-csv 把语法错误与读取失败都包装为 IllegalStateException, 均在此结束
+                failure = UserImportRow.malformed(parser.getCurrentLineNumber(), e.getMessage());
+                return true;
+            }
+        }
+
+        @Override
+        public UserImportRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (failure != null) {
+                failureReturned = true;
+                return failure;
+            }
+            CSVRecord record = records.next();
+            CreateUserReq user = new CreateUserReq();
+            user.setUsername(column(record, USERNAME));
+            user.setPassword(column(record, PASSWORD));
+            user.setEmail(column(record, EMAIL));
+            user.setAvatar(column(record, AVATAR));
+            return UserImportRow.parsed(record.getRecordNumber() + 1, user);
+        }
+    }
+}
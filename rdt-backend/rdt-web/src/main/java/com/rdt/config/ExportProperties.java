@@ -0,0 +1,23 @@
+package com.rdt.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "export")
+public class ExportProperties {
+
+    /**
+     * Exports streaming at the same time, each holding a thread and a pooled connection (keep below the Hikari pool
+     * size); further export requests get 503
+     */
+    private int poolSize = 2;
+
+    /**
+     * Longest an export may take; also the timeout of every other asynchronous request
+     */
+    private Duration requestTimeout = Duration.ofMinutes(30);
+}
@@ -1,18 +1,34 @@
 package com.rdt.config;
 
+import com.rdt.auth.component.PasswordHashBulkhead;
+import com.rdt.auth.config.LoginExecutorProperties;
+import com.rdt.auth.config.PasswordHashingProperties;
+import com.rdt.auth.config.UserImportProperties;
+import com.rdt.auth.service.AuthService;
+import com.rdt.auth.service.UserImportService;
 import com.rdt.common.async.MdcTaskDecorator;
+import com.rdt.query.component.Paginator;
+import com.rdt.query.config.PaginationProperties;
+import com.rdt.web.support.ExportStreams;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 /**
- * 线程池配置. 配置 @Async 默认线程池，并集成 MDC 透传。
+ * 线程池配置. 配置 @Async 默认线程池、密码哈希隔离线程池、登录后续处理线程池、分页并行 COUNT 线程池、批量导入哈希线程池与导出线程池，并集成 MDC 透传。
+ * 开启 @Scheduled 后台任务 (调度线程数见 spring.task.scheduling)。
  */
 @EnableAsync
+@EnableScheduling
 @Configuration
 public class ThreadPoolConfig implements AsyncConfigurer {
 
@@ -40,4 +56,117 @@ public class ThreadPoolConfig implements AsyncConfigurer {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * 密码哈希隔离舱 (Bulkhead). BCrypt 校验独占的有界线程池, 避免登录洪峰占满 Tomcat 请求线程。
+     *
+     * @param properties 线程数与队列容量 (auth.password-hashing)
+     * @return 密码哈希线程池
+     */
+    @Bean(PasswordHashBulkhead.EXECUTOR_BEAN)
+    public ThreadPoolTaskExecutor passwordHashExecutor(PasswordHashingProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getPoolSize());
+        executor.setMaxPoolSize(properties.getPoolSize());
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.setThreadNamePrefix("rdt-bcrypt-");
+        executor.setTaskDecorator(new MdcTaskDecorator());
+
+        // 拒绝策略：直接拒绝 (快速失败返回 503)。不能用 CallerRunsPolicy，否则哈希又回到请求线程上执行
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    /**
+     * 登录后续处理线程池. 密码校验通过后的事务、JWT 签发与刷新令牌写入在此执行, 隔离舱线程只做 BCrypt。
+     *
+     * @param properties 线程数与队列容量 (auth.login-executor)
+     * @return 登录线程池
+     */
+    @Bean(AuthService.LOGIN_EXECUTOR_BEAN)
+    public ThreadPoolTaskExecutor loginExecutor(LoginExecutorProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getPoolSize());
+        executor.setMaxPoolSize(properties.getPoolSize());
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.setThreadNamePrefix("rdt-login-");
+        executor.setTaskDecorator(new MdcTaskDecorator());
+
+        // 拒绝策略：直接拒绝 (返回 503)。CallerRunsPolicy 会让后续处理回到提交它的隔离舱线程上执行
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    /**
+     * 分页并行 COUNT 线程池. 与分页查询同时执行 COUNT, 每个任务占用一个独立的数据库连接。
+     *
+     * @param properties 线程数与队列容量 (pagination)
+     * @return 分页 COUNT 线程池
+     */
+    @Bean(Paginator.EXECUTOR_BEAN)
+    public ThreadPoolTaskExecutor pageCountExecutor(PaginationProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getCountPoolSize());
+        executor.setMaxPoolSize(properties.getCountPoolSize());
+        executor.setQueueCapacity(properties.getCountQueueCapacity());
+        executor.setThreadNamePrefix("rdt-page-count-");
+        executor.setTaskDecorator(new MdcTaskDecorator());
+
+        // 拒绝策略：调用者执行。线程池满时退化为请求线程上的串行 COUNT, 结果不变
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    /**
+     * 批量导入密码哈希线程池. 每个分块的 BCrypt 在此并行执行 (parallelStream 运行于提交它的 ForkJoinPool),
+     * 不占用公共 ForkJoinPool 与登录的哈希隔离舱。
+     *
+     * @param properties 并行度 (auth.user-import)
+     * @return 导入哈希线程池
+     */
+    @Bean(name = UserImportService.HASH_POOL_BEAN, destroyMethod = "shutdown")
+    @SuppressWarnings("PMD.DoNotUseThreads")
+    public ForkJoinPool userImportHashPool(UserImportProperties properties) {
+        return new ForkJoinPool(properties.getHashParallelism());
+    }
+
+    /**
+     * 导出线程池. 作为 Spring MVC 异步执行器运行 StreamingResponseBody; 每个导出占用一个线程与一个数据库连接直至写完,
+     * 线程数即并发导出上限。无等待队列, 满时直接拒绝 (返回 503)。
+     *
+     * @param properties 线程数 (export)
+     * @return 导出线程池
+     */
+    @Bean(ExportStreams.EXECUTOR_BEAN)
+    public ThreadPoolTaskExecutor exportExecutor(ExportProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getPoolSize());
+        executor.setMaxPoolSize(properties.getPoolSize());
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("rdt-export-");
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    /**
+     * Spring MVC 异步请求配置: 由导出线程池执行 StreamingResponseBody, 超时放宽到一次完整导出所需时间。
+     * 以 Bean 方法而非配置类声明, 避免 @WebMvcTest 切片加载它。
+     *
+     * @param exportExecutor 导出线程池
+     * @param properties     超时 (export)
+     * @return MVC 配置
+     */
+    @Bean
+    public WebMvcConfigurer exportAsyncSupport(
+            @Qualifier(ExportStreams.EXECUTOR_BEAN) ThreadPoolTaskExecutor exportExecutor,
+            ExportProperties properties) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+                configurer.setTaskExecutor(exportExecutor);
+                configurer.setDefaultTimeout(properties.getRequestTimeout().toMillis());
+            }
+        };
+    }
 }
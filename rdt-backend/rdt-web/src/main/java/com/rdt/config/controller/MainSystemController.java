@@ -1,18 +1,33 @@
 package com.rdt.config.controller;
 
-import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.rdt.api.model.dto.PageResponse;
 import com.rdt.common.Result;
+import com.rdt.common.model.CursorPage;
+import com.rdt.common.model.ExportFormat;
+import com.rdt.common.model.PageParams;
+import com.rdt.common.model.ResourceValidator;
 import com.rdt.config.model.dto.MainSystemCreateRequest;
 import com.rdt.config.model.dto.MainSystemResponse;
 import com.rdt.config.model.dto.MainSystemUpdateRequest;
 import com.rdt.config.service.MainSystemService;
+import com.rdt.config.service.SystemExportService;
+import com.rdt.config.service.SystemValidatorService;
+import com.rdt.web.support.ConditionalRequests;
+import com.rdt.web.support.ExportQuery;
+import com.rdt.web.support.ExportStreams;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/main-systems")
@@ -21,7 +36,12 @@ import org.springframework.web.bind.annotation.*;
 @Validated
 public class MainSystemController {
 
+    private static final int MAX_PAGE_SIZE = PageParams.MAX_SIZE;
+
     private final MainSystemService mainSystemService;
+    private final SystemValidatorService systemValidatorService;
+    private final SystemExportService systemExportService;
+    private final ExportStreams exportStreams;
 
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
@@ -30,21 +50,57 @@ public class MainSystemController {
         return Result.success(mainSystemService.createMainSystem(request));
     }
 
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('USER')")
+    @Operation(
+            summary = "Export Main Systems",
+            description = "Stream every active main system, in id order, as NDJSON (default) or CSV.")
+    public StreamingResponseBody exportMainSystems(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format, HttpServletResponse response) {
+        return exportStreams.stream(
+                response,
+                ExportQuery.<MainSystemResponse>builder()
+                        .resource("main-systems")
+                        .type(MainSystemResponse.class)
+                        .format(format)
+                        .source(systemExportService::exportMainSystems)
+                        .build());
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('USER')")
     @Operation(summary = "Get Main System Details")
-    public Result<MainSystemResponse> getMainSystem(@PathVariable Long id) {
+    public Result<MainSystemResponse> getMainSystem(@PathVariable Long id, ServletWebRequest webRequest) {
+        if (ConditionalRequests.notModified(webRequest, systemValidatorService.getMainSystemValidator(id))) {
+            return null;
+        }
         return Result.success(mainSystemService.getMainSystem(id));
     }
 
     @GetMapping
     @PreAuthorize("hasRole('USER')")
     @Operation(summary = "Get Main System List")
-    public Result<Page<MainSystemResponse>> getMainSystemList(
+    public Result<PageResponse<MainSystemResponse>> getMainSystemList(
+            @RequestParam(required = false) String keyword,
+            @ParameterObject @Valid PageParams pageParams,
+            ServletWebRequest webRequest) {
+        PageResponse<MainSystemResponse> page = mainSystemService.getMainSystemList(keyword, pageParams);
+        if (ConditionalRequests.notModified(webRequest, ResourceValidator.ofBody(page))) {
+            return null;
+        }
+        return Result.success(page);
+    }
+
+    @GetMapping(params = "cursor")
+    @PreAuthorize("hasRole('USER')")
+    @Operation(
+            summary = "Get Main System List (Cursor)",
+            description = "Keyset pagination, newest first: pass an empty cursor for the first page, then nextCursor.")
+    public Result<CursorPage<MainSystemResponse>> getMainSystemListAfter(
             @RequestParam(required = false) String keyword,
-            @RequestParam(defaultValue = "1") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        return Result.success(mainSystemService.getMainSystemList(keyword, page, size));
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(MAX_PAGE_SIZE) int size) {
+        return Result.success(mainSystemService.getMainSystemListAfter(keyword, cursor, size));
     }
 
     @PutMapping("/{id}")
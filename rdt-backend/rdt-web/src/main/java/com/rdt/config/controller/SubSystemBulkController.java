@@ -0,0 +1,53 @@
+package com.rdt.config.controller;
+
+import com.rdt.common.Result;
+import com.rdt.common.model.BulkResult;
+import com.rdt.config.model.dto.SubSystemBulkRequest;
+import com.rdt.config.service.SubSystemBulkService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/sub-systems/bulk")
+@RequiredArgsConstructor
+@Tag(name = "Sub System Management")
+@Validated
+public class SubSystemBulkController {
+
+    private final SubSystemBulkService subSystemBulkService;
+
+    @PostMapping("/move")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+            summary = "Move Sub Systems",
+            description = "Move the sub systems given by ids, or all of mainSystemId's, under targetMainSystemId.")
+    public Result<BulkResult> moveSubSystems(@RequestBody @Valid SubSystemBulkRequest request) {
+        return Result.success(subSystemBulkService.moveSubSystems(request));
+    }
+
+    @PostMapping("/status")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+            summary = "Update Sub System Status",
+            description = "Set the status of the sub systems given by ids, or of all of mainSystemId's.")
+    public Result<BulkResult> updateSubSystemStatus(@RequestBody @Valid SubSystemBulkRequest request) {
+        return Result.success(subSystemBulkService.updateSubSystemStatus(request));
+    }
+
+    @PostMapping("/delete")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+            summary = "Delete Sub Systems",
+            description = "Soft-delete the sub systems given by ids, or all of mainSystemId's.")
+    public Result<BulkResult> deleteSubSystems(@RequestBody @Valid SubSystemBulkRequest request) {
+        return Result.success(subSystemBulkService.deleteSubSystems(request));
+    }
+}
@@ -1,18 +1,33 @@
 package com.rdt.config.controller;
 
-import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.rdt.api.model.dto.PageResponse;
 import com.rdt.common.Result;
+import com.rdt.common.model.CursorPage;
+import com.rdt.common.model.ExportFormat;
+import com.rdt.common.model.PageParams;
+import com.rdt.common.model.ResourceValidator;
 import com.rdt.config.model.dto.SubSystemCreateRequest;
 import com.rdt.config.model.dto.SubSystemResponse;
 import com.rdt.config.model.dto.SubSystemUpdateRequest;
 import com.rdt.config.service.SubSystemService;
+import com.rdt.config.service.SystemExportService;
+import com.rdt.config.service.SystemValidatorService;
+import com.rdt.web.support.ConditionalRequests;
+import com.rdt.web.support.ExportQuery;
+import com.rdt.web.support.ExportStreams;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/sub-systems")
@@ -21,7 +36,12 @@ import org.springframework.web.bind.annotation.*;
 @Validated
 public class SubSystemController {
 
+    private static final int MAX_PAGE_SIZE = PageParams.MAX_SIZE;
+
     private final SubSystemService subSystemService;
+    private final SystemValidatorService systemValidatorService;
+    private final SystemExportService systemExportService;
+    private final ExportStreams exportStreams;
 
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
@@ -30,22 +50,59 @@ public class SubSystemController {
         return Result.success(subSystemService.createSubSystem(request));
     }
 
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('USER')")
+    @Operation(
+            summary = "Export Sub Systems",
+            description = "Stream every active sub system with its main system name, in id order, as NDJSON or CSV.")
+    public StreamingResponseBody exportSubSystems(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format, HttpServletResponse response) {
+        return exportStreams.stream(
+                response,
+                ExportQuery.<SubSystemResponse>builder()
+                        .resource("sub-systems")
+                        .type(SubSystemResponse.class)
+                        .format(format)
+                        .source(systemExportService::exportSubSystems)
+                        .build());
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('USER')")
     @Operation(summary = "Get Sub System Details")
-    public Result<SubSystemResponse> getSubSystem(@PathVariable Long id) {
+    public Result<SubSystemResponse> getSubSystem(@PathVariable Long id, ServletWebRequest webRequest) {
+        if (ConditionalRequests.notModified(webRequest, systemValidatorService.getSubSystemValidator(id))) {
+            return null;
+        }
         return Result.success(subSystemService.getSubSystem(id));
     }
 
     @GetMapping
     @PreAuthorize("hasRole('USER')")
     @Operation(summary = "Get Sub System List")
-    public Result<Page<SubSystemResponse>> getSubSystemList(
+    public Result<PageResponse<SubSystemResponse>> getSubSystemList(
+            @RequestParam(required = false) Long mainSystemId,
+            @RequestParam(required = false) String keyword,
+            @ParameterObject @Valid PageParams pageParams,
+            ServletWebRequest webRequest) {
+        PageResponse<SubSystemResponse> page = subSystemService.getSubSystemList(mainSystemId, keyword, pageParams);
+        if (ConditionalRequests.notModified(webRequest, ResourceValidator.ofBody(page))) {
+            return null;
+        }
+        return Result.success(page);
+    }
+
+    @GetMapping(params = "cursor")
+    @PreAuthorize("hasRole('USER')")
+    @Operation(
+            summary = "Get Sub System List (Cursor)",
+            description = "Keyset pagination, newest first: pass an empty cursor for the first page, then nextCursor.")
+    public Result<CursorPage<SubSystemResponse>> getSubSystemListAfter(
             @RequestParam(required = false) Long mainSystemId,
             @RequestParam(required = false) String keyword,
-            @RequestParam(defaultValue = "1") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        return Result.success(subSystemService.getSubSystemList(mainSystemId, keyword, page, size));
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(MAX_PAGE_SIZE) int size) {
+        return Result.success(subSystemService.getSubSystemListAfter(mainSystemId, keyword, cursor, size));
     }
 
     @PutMapping("/{id}")
@@ -0,0 +1,54 @@
+package com.rdt.config.controller;
+
+import com.rdt.common.Result;
+import com.rdt.config.model.dto.SystemTreeChildrenResponse;
+import com.rdt.config.model.dto.SystemTreeResponse;
+import com.rdt.config.service.SystemTreeService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+@RestController
+@RequestMapping("/api/v1/system-tree")
+@RequiredArgsConstructor
+@Tag(name = "System Tree")
+@Validated
+public class SystemTreeController {
+
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final SystemTreeService systemTreeService;
+
+    @GetMapping
+    @PreAuthorize("hasRole('USER')")
+    @Operation(summary = "Get Main Systems With Their Sub Systems")
+    public Result<SystemTreeResponse> getSystemTree(WebRequest webRequest, HttpServletResponse response) {
+        SystemTreeResponse tree = systemTreeService.getTree();
+        // Clients must revalidate; an unchanged tree then costs a header comparison and an empty 304
+        response.setHeader(
+                HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        if (webRequest.checkNotModified("\"" + tree.getVersion() + "\"")) {
+            return null;
+        }
+        return Result.success(tree);
+    }
+
+    @GetMapping("/children")
+    @PreAuthorize("hasRole('USER')")
+    @Operation(summary = "Get One Page Of A Tree Level (Main Systems When parentId Is Omitted)")
+    public Result<SystemTreeChildrenResponse> getChildren(
+            @RequestParam(required = false) Long parentId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "50") @Min(1) @Max(MAX_PAGE_SIZE) int size) {
+        return Result.success(systemTreeService.getChildren(parentId, cursor, size));
+    }
+}
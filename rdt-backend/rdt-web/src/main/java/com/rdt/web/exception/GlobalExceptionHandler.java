@@ -4,6 +4,7 @@ import com.rdt.common.Result;
 import com.rdt.common.exception.BusinessException;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -26,6 +27,7 @@ import org.springframework.web.servlet.NoHandlerFoundException;
  */
 @Slf4j
 @RestControllerAdvice
+@SuppressWarnings("PMD.TooManyMethods") // one handler per exception type is the point of this class
 public class GlobalExceptionHandler {
 
     // ==================== 业务异常 ====================
@@ -42,6 +44,19 @@ public class GlobalExceptionHandler {
         return Result.error(exception.getCode(), exception.getMessage());
     }
 
+    /**
+     * 处理线程池饱和 (如密码哈希隔离舱已满): 快速失败, 提示客户端稍后重试.
+     *
+     * @param exception 拒绝执行异常
+     * @return 统一响应
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public Result<Void> handleRejectedExecution(RejectedExecutionException exception) {
+        log.warn("Request shed, executor saturated: {}", exception.getMessage());
+        return Result.error(HttpStatus.SERVICE_UNAVAILABLE.value(), "Server is busy, please retry shortly");
+    }
+
     // ==================== 参数校验异常 ====================
 
     /**
@@ -0,0 +1,45 @@
+package com.rdt.web.support;
+
+import com.rdt.common.model.ResourceValidator;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Conditional GET support for controllers that keep the {@code Result<T>} return type (纯静态工具类).
+ *
+ * <p>Usage: {@code if (ConditionalRequests.notModified(webRequest, validator)) return null;}. Spring then answers
+ * {@code 304} with the validators and no body. Detail reads check a validator from the entity cache before building
+ * the body; list pages and users check {@link com.rdt.common.model.ResourceValidator#ofBody} of the loaded body, so no
+ * request runs a query just to compute its validator.
+ */
+public final class ConditionalRequests {
+
+    private static final String CACHE_CONTROL =
+            CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    private ConditionalRequests() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Sets {@code ETag}/{@code Last-Modified} on the response and checks {@code If-None-Match} (or, without it,
+     * {@code If-Modified-Since}). Responses are marked {@code no-cache}, so clients always revalidate instead of
+     * reusing a copy heuristically.
+     *
+     * @param webRequest current request
+     * @param validator validators of the current representation; {@code null} when the resource does not exist
+     * @return {@code true} if the client's copy is current and the handler should return {@code null}
+     */
+    public static boolean notModified(ServletWebRequest webRequest, ResourceValidator validator) {
+        if (validator == null) {
+            return false;
+        }
+        HttpServletResponse response = webRequest.getResponse();
+        if (response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        }
+        return webRequest.checkNotModified(validator.getEtag(), validator.getLastModified());
+    }
+}
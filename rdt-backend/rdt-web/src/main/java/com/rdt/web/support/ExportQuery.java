@@ -0,0 +1,37 @@
+package com.rdt.web.support;
+
+import com.rdt.common.model.ExportFormat;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * A streamed export for {@link ExportStreams}: what to read, as which type, and in which format to write it.
+ *
+ * @param <T> row type, serialized as in the list responses
+ */
+@Value
+@Builder
+public class ExportQuery<T> {
+
+    /**
+     * Name of the exported resource (e.g. {@code users}): the download file name and the {@code resource} metric tag
+     */
+    String resource;
+
+    /**
+     * Row type; its JSON properties are the CSV columns
+     */
+    Class<T> type;
+
+    /**
+     * Body format
+     */
+    ExportFormat format;
+
+    /**
+     * Hands every row to the given sink and returns how many there were (a cursor-backed service method)
+     */
+    ToLongFunction<Consumer<T>> source;
+}
@@ -0,0 +1,246 @@
+package com.rdt.web.support;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.rdt.common.model.ExportFormat;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Writes a cursor-backed export straight to the response as NDJSON or CSV, in constant memory.
+ *
+ * <p>Rows are serialized one at a time into a buffer that is flushed every {@value #FLUSH_EVERY_ROWS} rows. A flush
+ * blocks while the client is not reading (its TCP window is full), which in turn stops the cursor from fetching: a
+ * slow client slows the export down instead of piling rows up on the heap.
+ *
+ * <p>Metrics, tagged {@code resource} and {@code format}: {@code export.rows} (rows written, so its rate is the
+ * throughput), {@code export.flush} (time blocked pushing buffered rows to the client: the back-pressure),
+ * {@code export.duration} (whole export, also tagged {@code outcome}) and {@code export.active} (exports in progress).
+ */
+@Slf4j
+@Component
+public class ExportStreams {
+
+    /**
+     * CSV media type ({@code MediaType} has no constant for it).
+     */
+    public static final String CSV = "text/csv";
+
+    /**
+     * Name of the executor bean running export bodies (Spring MVC's async executor).
+     */
+    public static final String EXECUTOR_BEAN = "exportExecutor";
+
+    private static final int FLUSH_EVERY_ROWS = 1_000;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final char LINE_FEED = '\n';
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger active = new AtomicInteger();
+
+    public ExportStreams(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("export.active", active, AtomicInteger::get)
+                .description("Exports currently streaming")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Sets the content type and download file name on {@code response}, then returns the body running {@code query}
+     * once Spring hands it the output stream (on the MVC async executor, after the handler has returned). The headers
+     * are set here, on the request thread, so the body never touches them while the initial dispatch is committing the
+     * response.
+     *
+     * @param response current response, for the headers
+     * @param query    what to export and how
+     * @param <T>      row type
+     * @return streaming body
+     */
+    public <T> StreamingResponseBody stream(HttpServletResponse response, ExportQuery<T> query) {
+        ExportFormat format = query.getFormat();
+        String extension = format.name().toLowerCase(Locale.ROOT);
+        response.setContentType(format == ExportFormat.CSV ? CSV : MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(
+                HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment()
+                        .filename(query.getResource() + "." + extension)
+                        .build()
+                        .toString());
+
+        return out -> {
+            Tags tags = Tags.of("resource", query.getResource(), "format", format.name());
+            Timer.Sample sample = Timer.start(meterRegistry);
+            String outcome = "failed";
+            active.incrementAndGet();
+            try (RowWriter<T> writer = format == ExportFormat.CSV
+                    ? new CsvRowWriter<>(out, query.getType(), tags)
+                    : new JsonRowWriter<>(out, query.getType(), tags)) {
+                long rows = query.getSource().applyAsLong(writer::accept);
+                outcome = "completed";
+                log.info("Exported {} {} as {}", rows, query.getResource(), format);
+            } catch (UncheckedIOException e) {
+                // 客户端断开等写出失败: 还原为 IOException, 由 Spring 按异步请求失败处理
+                throw e.getCause();
+            } finally {
+                active.decrementAndGet();
+                sample.stop(meterRegistry.timer("export.duration", tags.and("outcome", outcome)));
+            }
+        };
+    }
+
+    /**
+     * Buffered row sink over the response stream, flushing (and timing the flush) every {@value #FLUSH_EVERY_ROWS}
+     * rows.
+     */
+    private abstract class RowWriter<T> implements AutoCloseable {
+
+        private final Timer flushTimer;
+        private final Counter rowCounter;
+        private int pending;
+
+        /* default */ RowWriter(Tags tags) {
+            this.flushTimer = meterRegistry.timer("export.flush", tags);
+            this.rowCounter = meterRegistry.counter("export.rows", tags);
+        }
+
+        /**
+         * Writes {@code row}; I/O failures are rethrown unchecked so they can cross the service's {@code Consumer}.
+         */
+        /* default */ void accept(T row) {
+            try {
+                write(row);
+                pending++;
+                if (pending >= FLUSH_EVERY_ROWS) {
+                    flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /* default */ abstract void write(T row) throws IOException;
+
+        /* default */ abstract void flushTarget() throws IOException;
+
+        private void flush() throws IOException {
+            long started = System.nanoTime();
+            flushTarget();
+            flushTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            rowCounter.increment(pending);
+            pending = 0;
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+
+    /**
+     * One JSON object per line.
+     */
+    private final class JsonRowWriter<T> extends RowWriter<T> {
+
+        private final OutputStream target;
+        private final ObjectWriter rowWriter;
+
+        /* default */ JsonRowWriter(OutputStream out, Class<T> type, Tags tags) {
+            super(tags);
+            this.target = new BufferedOutputStream(out, BUFFER_SIZE);
+            this.rowWriter = objectMapper.writerFor(type);
+        }
+
+        @Override
+        /* default */ void write(T row) throws IOException {
+            target.write(rowWriter.writeValueAsBytes(row));
+            target.write(LINE_FEED);
+        }
+
+        @Override
+        /* default */ void flushTarget() throws IOException {
+            target.flush();
+        }
+    }
+
+    /**
+     * A header row of the type's JSON property names, then one record per row with the values as serialized in JSON
+     * (absent values left empty).
+     *
+     * <p>Columns are read straight off the row through the accessors Jackson introspected once per export; only values
+     * without a plain CSV form (dates, enums) go through the mapper, so they match the JSON export.
+     */
+    private final class CsvRowWriter<T> extends RowWriter<T> {
+
+        private final List<AnnotatedMember> accessors;
+        private final CSVPrinter printer;
+
+        /* default */ CsvRowWriter(OutputStream out, Class<T> type, Tags tags) throws IOException {
+            super(tags);
+            List<BeanPropertyDefinition> properties =
+                    objectMapper
+                            .getSerializationConfig()
+                            .introspect(objectMapper.constructType(type))
+                            .findProperties()
+                            .stream()
+                            .filter(BeanPropertyDefinition::couldSerialize)
+                            .toList();
+            this.accessors =
+                    properties.stream().map(BeanPropertyDefinition::getAccessor).toList();
+            this.printer = new CSVPrinter(
+                    new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE),
+                    CSVFormat.DEFAULT);
+            printer.printRecord(
+                    properties.stream().map(BeanPropertyDefinition::getName).toList());
+        }
+
+        @Override
+        /* default */ void write(T row) throws IOException {
+            for (AnnotatedMember accessor : accessors) {
+                printer.print(format(accessor.getValue(row)));
+            }
+            printer.println();
+        }
+
+        private Object format(Object value) {
+            if (value == null || value instanceof CharSequence || value instanceof Number || value instanceof Boolean) {
+                return value;
+            }
+            JsonNode node = objectMapper.valueToTree(value);
+            return node.isValueNode() ? node.asText() : node.toString();
+        }
+
+        @Override
+        /* default */ void flushTarget() throws IOException {
+            printer.flush();
+        }
+    }
+}
@@ -187,6 +187,7 @@ public class ArchitectureTest {
 
     // 8. API 契约：Controller 所有公开方法必须返回 Result<T>
     // 注意：这里放宽限制，只要返回类型简单名称包含 "Result" 即可
+    // 异步接口 (如登录) 允许返回 CompletableFuture<Result<T>>; 流式导出 (文件下载) 允许返回 StreamingResponseBody
     @ArchTest
     final ArchRule controllers_should_return_result_wrapper = methods()
             .that()
@@ -196,8 +197,13 @@ public class ArchitectureTest {
             .resideInAPackage("..controller..")
             .should()
             .haveRawReturnType(com.rdt.common.Result.class)
+            .orShould()
+            .haveRawReturnType(java.util.concurrent.CompletableFuture.class)
+            .orShould()
+            .haveRawReturnType(org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody.class)
             .allowEmptyShould(true)
-            .because("API must return unified wrapper 'Result<T>'.");
+            .because(
+                    "API must return unified wrapper 'Result<T>' (or a CompletableFuture of it); streamed exports return a StreamingResponseBody.");
 
     // 14. 校验规则：POST/PUT 请求的 @RequestBody 参数必须带有 @Valid
     // 注意：ArchUnit 对参数注解的检查在不同版本行为略有差异，这里确保逻辑严密
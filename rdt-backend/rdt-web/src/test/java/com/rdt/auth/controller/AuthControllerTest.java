@@ -1,18 +1,27 @@
 package com.rdt.auth.controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rdt.auth.component.JwtProvider;
+import com.rdt.auth.config.JwtProperties;
 import com.rdt.auth.model.dto.LoginReq;
 import com.rdt.auth.model.dto.LoginResp;
+import com.rdt.auth.model.dto.RefreshTokenReq;
 import com.rdt.auth.service.AuthService;
+import com.rdt.auth.service.TokenRevocationService;
+import com.rdt.auth.service.TokenVersionService;
 import com.rdt.common.exception.BusinessException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -21,6 +30,7 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 @WebMvcTest(AuthController.class)
 class AuthControllerTest {
@@ -37,6 +47,15 @@ class AuthControllerTest {
     @MockitoBean
     private UserDetailsService userDetailsService;
 
+    @MockitoBean
+    private JwtProperties jwtProperties;
+
+    @MockitoBean
+    private TokenVersionService tokenVersionService;
+
+    @MockitoBean
+    private TokenRevocationService tokenRevocationService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -49,17 +68,53 @@ class AuthControllerTest {
 
         LoginResp resp = LoginResp.builder().token("mock-token").build();
 
-        when(authService.login(any(LoginReq.class))).thenReturn(resp);
+        when(authService.login(any(LoginReq.class), any())).thenReturn(CompletableFuture.completedFuture(resp));
 
-        mockMvc.perform(post("/auth/login")
+        MvcResult pending = mockMvc.perform(post("/auth/login")
                         .with(csrf())
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(req)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(pending))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.code").value(200))
                 .andExpect(jsonPath("$.data.token").value("mock-token"));
     }
 
+    @Test
+    @WithMockUser
+    void refresh_Success() throws Exception {
+        RefreshTokenReq req = new RefreshTokenReq();
+        req.setRefreshToken("refresh-token");
+
+        when(authService.refresh(any(RefreshTokenReq.class)))
+                .thenReturn(LoginResp.builder()
+                        .token("new-token")
+                        .refreshToken("new-refresh-token")
+                        .build());
+
+        mockMvc.perform(post("/auth/refresh")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.token").value("new-token"))
+                .andExpect(jsonPath("$.data.refreshToken").value("new-refresh-token"));
+    }
+
+    @Test
+    @WithMockUser
+    void refresh_MissingToken() throws Exception {
+        mockMvc.perform(post("/auth/refresh")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(400));
+    }
+
     @Test
     @WithMockUser
     void login_Failure() throws Exception {
@@ -67,7 +122,7 @@ class AuthControllerTest {
         req.setUsername("admin");
         req.setPassword("wrong");
 
-        when(authService.login(any(LoginReq.class))).thenThrow(new BusinessException(11001, "Invalid password"));
+        when(authService.login(any(LoginReq.class), any())).thenThrow(new BusinessException(11001, "Invalid password"));
 
         mockMvc.perform(post("/auth/login")
                         .with(csrf())
@@ -77,11 +132,55 @@ class AuthControllerTest {
                 .andExpect(jsonPath("$.code").value(11001));
     }
 
+    @Test
+    @WithMockUser
+    void login_BadPasswordAsync() throws Exception {
+        LoginReq req = new LoginReq();
+        req.setUsername("admin");
+        req.setPassword("wrong");
+
+        when(authService.login(any(LoginReq.class), any()))
+                .thenReturn(CompletableFuture.failedFuture(new BusinessException(11001, "Invalid password")));
+
+        MvcResult pending = mockMvc.perform(post("/auth/login")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(pending)).andExpect(jsonPath("$.code").value(11001));
+    }
+
+    @Test
+    @WithMockUser
+    void login_BulkheadSaturated() throws Exception {
+        LoginReq req = new LoginReq();
+        req.setUsername("admin");
+        req.setPassword("123456");
+
+        when(authService.login(any(LoginReq.class), any()))
+                .thenReturn(CompletableFuture.failedFuture(new RejectedExecutionException("bulkhead full")));
+
+        MvcResult pending = mockMvc.perform(post("/auth/login")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.code").value(503));
+    }
+
     @Test
     @WithMockUser
     void logout_Success() throws Exception {
-        mockMvc.perform(post("/auth/logout").with(csrf()))
+        mockMvc.perform(post("/auth/logout").with(csrf()).header("Authorization", "Bearer abc.def.ghi"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.code").value(200));
+
+        verify(authService).logout("abc.def.ghi");
     }
 }
@@ -0,0 +1,80 @@
+package com.rdt.auth.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.rdt.auth.component.JwtProvider;
+import com.rdt.auth.config.JwtProperties;
+import com.rdt.auth.service.TokenRevocationService;
+import com.rdt.auth.service.TokenVersionService;
+import com.rdt.auth.service.UserBulkService;
+import com.rdt.common.model.BulkResult;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(UserBulkController.class)
+class UserBulkControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private UserBulkService userBulkService;
+
+    @MockitoBean
+    private JwtProvider jwtProvider;
+
+    @MockitoBean
+    private UserDetailsService userDetailsService;
+
+    @MockitoBean
+    private JwtProperties jwtProperties;
+
+    @MockitoBean
+    private TokenVersionService tokenVersionService;
+
+    @MockitoBean
+    private TokenRevocationService tokenRevocationService;
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("disableUsers: returns the matched and changed counts")
+    void disableUsers_Success() throws Exception {
+        when(userBulkService.disableUsers(List.of(1L, 2L))).thenReturn(new BulkResult(2, 1));
+
+        mockMvc.perform(post("/users/bulk/disable")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[1,2]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value(200))
+                .andExpect(jsonPath("$.data.matched").value(2))
+                .andExpect(jsonPath("$.data.affected").value(1));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("deleteUsers: an empty id list is rejected")
+    void deleteUsers_EmptyIds() throws Exception {
+        mockMvc.perform(post("/users/bulk/delete")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[]}"))
+                .andExpect(status().isBadRequest());
+        verify(userBulkService, never()).deleteUsers(any());
+    }
+}
@@ -1,33 +1,59 @@
 package com.rdt.auth.controller;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rdt.api.model.dto.PageResponse;
 import com.rdt.auth.component.JwtProvider;
+import com.rdt.auth.config.JwtProperties;
 import com.rdt.auth.model.dto.CreateUserReq;
 import com.rdt.auth.model.dto.UpdateUserReq;
 import com.rdt.auth.model.dto.UserDto;
+import com.rdt.auth.model.dto.UserImportReport;
+import com.rdt.auth.model.dto.UserImportRow;
+import com.rdt.auth.service.TokenRevocationService;
+import com.rdt.auth.service.TokenVersionService;
+import com.rdt.auth.service.UserExportService;
+import com.rdt.auth.service.UserImportService;
 import com.rdt.auth.service.UserService;
+import com.rdt.auth.support.UserImportReader;
+import com.rdt.common.model.CountMode;
+import com.rdt.common.model.CursorPage;
+import com.rdt.common.model.PageParams;
+import com.rdt.common.model.ResourceValidator;
+import com.rdt.common.model.SortOrder;
+import com.rdt.web.support.ExportStreams;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 @WebMvcTest(UserController.class)
+@Import({UserImportReader.class, ExportStreams.class, SimpleMeterRegistry.class})
 public class UserControllerTest {
 
     @Autowired
@@ -36,12 +62,27 @@ public class UserControllerTest {
     @MockitoBean
     private UserService userService;
 
+    @MockitoBean
+    private UserImportService userImportService;
+
+    @MockitoBean
+    private UserExportService userExportService;
+
     @MockitoBean
     private JwtProvider jwtProvider;
 
     @MockitoBean
     private UserDetailsService userDetailsService;
 
+    @MockitoBean
+    private JwtProperties jwtProperties;
+
+    @MockitoBean
+    private TokenVersionService tokenVersionService;
+
+    @MockitoBean
+    private TokenRevocationService tokenRevocationService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -72,16 +113,54 @@ public class UserControllerTest {
             roles = {"ADMIN"})
     @DisplayName("getUsers: should return paginated list")
     public void getUsers_Success() throws Exception {
-        Page<UserDto> mockPage = new Page<>();
-        mockPage.setRecords(Collections.singletonList(new UserDto()));
-        mockPage.setTotal(1);
+        PageResponse<UserDto> mockPage = PageResponse.page(Collections.singletonList(new UserDto()), 1, 1, 10);
 
-        when(userService.getUsers(anyInt(), anyInt(), any())).thenReturn(mockPage);
+        when(userService.getUsers(any(), any())).thenReturn(mockPage);
 
         mockMvc.perform(get("/users").param("page", "1").param("size", "10"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.code").value(200))
-                .andExpect(jsonPath("$.data.records").isArray());
+                .andExpect(jsonPath("$.data.records").isArray())
+                .andExpect(jsonPath("$.data.total").value(1))
+                .andExpect(jsonPath("$.data.hasNext").value(false))
+                .andExpect(jsonPath("$.data.orders").doesNotExist())
+                .andExpect(jsonPath("$.data.searchCount").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser(
+            username = "admin",
+            roles = {"ADMIN"})
+    @DisplayName("getUser: should answer 304 with an empty body when the ETag of the loaded user matches")
+    public void getUser_NotModified() throws Exception {
+        UserDto user = new UserDto();
+        user.setId(1L);
+        user.setUsername("alice");
+        when(userService.getUserById(1L)).thenReturn(user);
+        String etag = ResourceValidator.ofBody(user).getEtag();
+
+        mockMvc.perform(get("/users/1").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+        verify(userService).getUserById(1L);
+    }
+
+    @Test
+    @WithMockUser(
+            username = "admin",
+            roles = {"ADMIN"})
+    @DisplayName("getUsers: the ETag comes from the loaded page, a stale one gets the body and a current one 304")
+    public void getUsers_Modified() throws Exception {
+        PageResponse<UserDto> page = PageResponse.page(List.of(), 0, 1, 10);
+        when(userService.getUsers(PageParams.exact(1, 10), null)).thenReturn(page);
+        String etag = ResourceValidator.ofBody(page).getEtag();
+
+        mockMvc.perform(get("/users").header("If-None-Match", "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(jsonPath("$.code").value(200));
+        mockMvc.perform(get("/users").header("If-None-Match", etag)).andExpect(status().isNotModified());
     }
 
     @Test
@@ -92,6 +171,7 @@ public class UserControllerTest {
     public void updateUser_Success() throws Exception {
         UpdateUserReq req = new UpdateUserReq();
         req.setEmail("updated@example.com");
+        req.setVersion(0);
 
         doNothing().when(userService).updateUser(anyLong(), any(UpdateUserReq.class));
 
@@ -103,6 +183,24 @@ public class UserControllerTest {
                 .andExpect(jsonPath("$.code").value(200));
     }
 
+    @Test
+    @WithMockUser(
+            username = "admin",
+            roles = {"ADMIN"})
+    @DisplayName("updateUser: the version read with the user is required")
+    public void updateUser_MissingVersion() throws Exception {
+        UpdateUserReq req = new UpdateUserReq();
+        req.setEmail("updated@example.com");
+
+        mockMvc.perform(put("/users/1")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(400));
+        verify(userService, never()).updateUser(anyLong(), any());
+    }
+
     @Test
     @WithMockUser(
             username = "admin",
@@ -128,4 +226,195 @@ public class UserControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.code").value(200));
     }
+
+    @Test
+    @WithMockUser(
+            username = "admin",
+            roles = {"ADMIN"})
+    @DisplayName("getUsers: a cursor parameter switches to keyset pagination without a total")
+    public void getUsersAfter_Success() throws Exception {
+        when(userService.getUsersAfter("", 10, null))
+                .thenReturn(new CursorPage<>(Collections.singletonList(new UserDto()), "next"));
+
+        mockMvc.perform(get("/users").param("cursor", ""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.records").isArray())
+                .andExpect(jsonPath("$.data.nextCursor").value("next"))
+                .andExpect(jsonPath("$.data.total").doesNotExist());
+        verify(userService, never()).getUsers(any(), any());
+    }
+
+    @Test
+    @WithMockUser(
+            username = "admin",
+            roles = {"ADMIN"})
+    @DisplayName("getUsers: page, size, count mode and sort bind from the query string")
+    public void getUsers_CountMode() throws Exception {
+        PageParams params = new PageParams(3, 20, CountMode.NONE, SortOrder.NAME);
+        when(userService.getUsers(params, null)).thenReturn(PageResponse.page(List.of(), 0, 1, 10));
+
+        mockMvc.perform(get("/users")
+                        .param("page", "3")
+                        .param("size", "20")
+                        .param("count", "NONE")
+                        .param("sort", "NAME"))
+                .andExpect(status().isOk());
+        verify(userService).getUsers(params, null);
+    }
+
+    @Test
+    @WithMockUser(
+            username = "admin",
+            roles = {"ADMIN"})
+    @DisplayName("getUsers: out-of-range page or size is rejected with 400 before any query")
+    public void getUsers_PageParamsOutOfRange() throws Exception {
+        mockMvc.perform(get("/users").param("count", "NONE").param("page", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(400));
+        mockMvc.perform(get("/users").param("size", "-1"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(400));
+        mockMvc.perform(get("/users").param("size", String.valueOf(PageParams.MAX_SIZE + 1)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(400));
+        verify(userService, never()).getUsers(any(), any());
+    }
+
+    @Test
+    @WithMockUser(
+            username = "admin",
+            roles = {"ADMIN"})
+    @DisplayName("importUsers: CSV rows reach the service by header name, with line numbers and parse errors")
+    public void importUsers_Csv() throws Exception {
+        List<UserImportRow> rows = drainImportedRows();
+
+        mockMvc.perform(post("/users/import")
+                        .with(csrf())
+                        .contentType("text/csv")
+                        .content("Password,username,email\n"
+                                + "secret1,alice,alice@example.com\n"
+                                + "secret2,bob,\n"
+                                + "\"unterminated,carol,\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.imported").value(2));
+
+        assertEquals(3, rows.size());
+        assertEquals(2, rows.get(0).getLine());
+        assertEquals("alice", rows.get(0).getUser().getUsername());
+        assertEquals("secret1", rows.get(0).getUser().getPassword());
+        assertEquals("alice@example.com", rows.get(0).getUser().getEmail());
+        assertNull(rows.get(1).getUser().getEmail());
+        assertNull(rows.get(2).getUser());
+        assertNotNull(rows.get(2).getError());
+    }
+
+    @Test
+    @WithMockUser(
+            username = "admin",
+            roles = {"ADMIN"})
+    @DisplayName("importUsers: a CSV without the username and password columns is rejected up front")
+    public void importUsers_CsvMissingColumns() throws Exception {
+        mockMvc.perform(post("/users/import")
+                        .with(csrf())
+                        .contentType("text/csv")
+                        .content("username,email\nalice,alice@example.com\n"))
+                .andExpect(jsonPath("$.code").value(400));
+        verify(userImportService, never()).importUsers(any());
+    }
+
+    @Test
+    @WithMockUser(
+            username = "admin",
+            roles = {"ADMIN"})
+    @DisplayName("importUsers: NDJSON lines reach the service one by one, malformed lines as errors")
+    public void importUsers_Ndjson() throws Exception {
+        List<UserImportRow> rows = drainImportedRows();
+
+        mockMvc.perform(post("/users/import")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"username\":\"alice\",\"password\":\"secret1\"}\n{not json}\n"))
+                .andExpect(status().isOk());
+
+        assertEquals(2, rows.size());
+        assertEquals("alice", rows.get(0).getUser().getUsername());
+        assertEquals(2, rows.get(1).getLine());
+        assertNotNull(rows.get(1).getError());
+    }
+
+    @Test
+    @WithMockUser(
+            username = "admin",
+            roles = {"ADMIN"})
+    @DisplayName("exportUsers: streams one JSON object per line as an NDJSON download")
+    public void exportUsers_Ndjson() throws Exception {
+        when(userExportService.exportUsers(any())).thenAnswer(invocation -> {
+            Consumer<UserDto> sink = invocation.getArgument(0);
+            sink.accept(exportedUser(1L, "alice"));
+            sink.accept(exportedUser(2L, "bob"));
+            return 2L;
+        });
+
+        MvcResult result = mockMvc.perform(get("/users/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"users.ndjson\""))
+                .andExpect(content()
+                        .string("{\"id\":1,\"username\":\"alice\",\"status\":1}\n"
+                                + "{\"id\":2,\"username\":\"bob\",\"status\":1}\n"));
+    }
+
+    @Test
+    @WithMockUser(
+            username = "admin",
+            roles = {"ADMIN"})
+    @DisplayName("exportUsers: CSV has a header row of every property, absent values left empty")
+    public void exportUsers_Csv() throws Exception {
+        when(userExportService.exportUsers(any())).thenAnswer(invocation -> {
+            Consumer<UserDto> sink = invocation.getArgument(0);
+            sink.accept(exportedUser(1L, "alice"));
+            return 1L;
+        });
+
+        MvcResult result = mockMvc.perform(get("/users/export").param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(content()
+                        .string("id,username,email,avatar,status,version,createdAt,lastLoginTime\r\n"
+                                + "1,alice,,,1,,,\r\n"));
+    }
+
+    private static UserDto exportedUser(Long id, String username) {
+        UserDto user = new UserDto();
+        user.setId(id);
+        user.setUsername(username);
+        user.setStatus(1);
+        return user;
+    }
+
+    /**
+     * Stubs the import service to consume the rows it is given, as the real one does, and collects them.
+     */
+    private List<UserImportRow> drainImportedRows() {
+        List<UserImportRow> rows = new ArrayList<>();
+        when(userImportService.importUsers(any())).thenAnswer(invocation -> {
+            Iterator<UserImportRow> iterator = invocation.getArgument(0);
+            iterator.forEachRemaining(rows::add);
+            long parsed = rows.stream().filter(row -> row.getUser() != null).count();
+            return UserImportReport.builder()
+                    .imported(parsed)
+                    .failed(rows.size() - parsed)
+                    .errors(List.of())
+                    .build();
+        });
+        return rows;
+    }
 }
@@ -1,37 +1,56 @@
 package com.rdt.config.controller;
 
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rdt.api.model.dto.PageResponse;
 import com.rdt.auth.component.JwtProvider;
+import com.rdt.auth.config.JwtProperties;
+import com.rdt.auth.service.TokenRevocationService;
+import com.rdt.auth.service.TokenVersionService;
+import com.rdt.common.model.CursorPage;
+import com.rdt.common.model.ResourceValidator;
 import com.rdt.config.model.dto.MainSystemCreateRequest;
 import com.rdt.config.model.dto.MainSystemResponse;
 import com.rdt.config.model.dto.MainSystemUpdateRequest;
 import com.rdt.config.service.MainSystemService;
+import com.rdt.config.service.SystemExportService;
+import com.rdt.config.service.SystemValidatorService;
+import com.rdt.web.support.ExportStreams;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 @WebMvcTest(MainSystemController.class)
+@Import({ExportStreams.class, SimpleMeterRegistry.class})
 class MainSystemControllerTest {
 
     @Autowired
@@ -40,12 +59,27 @@ class MainSystemControllerTest {
     @MockitoBean
     private MainSystemService mainSystemService;
 
+    @MockitoBean
+    private SystemValidatorService systemValidatorService;
+
+    @MockitoBean
+    private SystemExportService systemExportService;
+
     @MockitoBean
     private JwtProvider jwtProvider;
 
     @MockitoBean
     private UserDetailsService userDetailsService;
 
+    @MockitoBean
+    private JwtProperties jwtProperties;
+
+    @MockitoBean
+    private TokenVersionService tokenVersionService;
+
+    @MockitoBean
+    private TokenRevocationService tokenRevocationService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -87,25 +121,40 @@ class MainSystemControllerTest {
                 .andExpect(jsonPath("$.data.code").value("SYS001"));
     }
 
+    @Test
+    @WithMockUser(roles = "USER")
+    void getMainSystem_NotModified() throws Exception {
+        ResourceValidator validator = ResourceValidator.strong(LocalDateTime.of(2026, 1, 1, 0, 0), 1L, "SYS001");
+        when(systemValidatorService.getMainSystemValidator(1L)).thenReturn(validator);
+
+        mockMvc.perform(get("/api/v1/main-systems/1").header("If-None-Match", validator.getEtag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", validator.getEtag()))
+                .andExpect(header().exists("Last-Modified"))
+                .andExpect(content().string(""));
+        verify(mainSystemService, never()).getMainSystem(anyLong());
+    }
+
     @Test
     @WithMockUser(roles = "USER")
     void getMainSystemList_Success() throws Exception {
-        Page<MainSystemResponse> page = new Page<>(1, 10);
-        page.setRecords(List.of(
-                MainSystemResponse.builder()
-                        .id(1L)
-                        .code("SYS001")
-                        .name("System 1")
-                        .build(),
-                MainSystemResponse.builder()
-                        .id(2L)
-                        .code("SYS002")
-                        .name("System 2")
-                        .build()));
-        page.setTotal(2);
-
-        when(mainSystemService.getMainSystemList(anyString(), anyInt(), anyInt()))
-                .thenReturn(page);
+        PageResponse<MainSystemResponse> page = PageResponse.page(
+                List.of(
+                        MainSystemResponse.builder()
+                                .id(1L)
+                                .code("SYS001")
+                                .name("System 1")
+                                .build(),
+                        MainSystemResponse.builder()
+                                .id(2L)
+                                .code("SYS002")
+                                .name("System 2")
+                                .build()),
+                2,
+                1,
+                10);
+
+        when(mainSystemService.getMainSystemList(anyString(), any())).thenReturn(page);
 
         mockMvc.perform(get("/api/v1/main-systems")
                         .param("keyword", "test")
@@ -119,8 +168,10 @@ class MainSystemControllerTest {
     @Test
     @WithMockUser(roles = "ADMIN")
     void updateMainSystem_Success() throws Exception {
-        MainSystemUpdateRequest request =
-                MainSystemUpdateRequest.builder().name("Updated System").build();
+        MainSystemUpdateRequest request = MainSystemUpdateRequest.builder()
+                .name("Updated System")
+                .version(0)
+                .build();
 
         doNothing().when(mainSystemService).updateMainSystem(anyLong(), any(MainSystemUpdateRequest.class));
 
@@ -141,4 +192,52 @@ class MainSystemControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.code").value(200));
     }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void getMainSystemListAfter_Success() throws Exception {
+        when(mainSystemService.getMainSystemListAfter("test", "abc", 20))
+                .thenReturn(new CursorPage<>(
+                        List.of(MainSystemResponse.builder()
+                                .id(1L)
+                                .code("SYS001")
+                                .build()),
+                        null));
+
+        mockMvc.perform(get("/api/v1/main-systems")
+                        .param("keyword", "test")
+                        .param("cursor", "abc")
+                        .param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.records[0].code").value("SYS001"))
+                .andExpect(jsonPath("$.data.nextCursor").doesNotExist());
+        verify(mainSystemService, never()).getMainSystemList(any(), any());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void exportMainSystems_Csv() throws Exception {
+        when(systemExportService.exportMainSystems(any())).thenAnswer(invocation -> {
+            Consumer<MainSystemResponse> sink = invocation.getArgument(0);
+            sink.accept(MainSystemResponse.builder()
+                    .id(1L)
+                    .code("SYS001")
+                    .name("Test System, Main")
+                    .status(1)
+                    .createdAt(LocalDateTime.of(2026, 10, 18, 12, 0))
+                    .build());
+            return 1L;
+        });
+
+        MvcResult result = mockMvc.perform(get("/api/v1/main-systems/export").param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"main-systems.csv\""))
+                .andExpect(content()
+                        .string("id,name,code,description,owner,status,version,createdAt,updatedAt\r\n"
+                                + "1,\"Test System, Main\",SYS001,,,1,,2026-10-18T12:00:00,\r\n"));
+    }
 }
@@ -0,0 +1,65 @@
+package com.rdt.config.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.rdt.auth.component.JwtProvider;
+import com.rdt.auth.config.JwtProperties;
+import com.rdt.auth.service.TokenRevocationService;
+import com.rdt.auth.service.TokenVersionService;
+import com.rdt.common.model.BulkResult;
+import com.rdt.config.model.dto.SubSystemBulkRequest;
+import com.rdt.config.service.SubSystemBulkService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(SubSystemBulkController.class)
+class SubSystemBulkControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private SubSystemBulkService subSystemBulkService;
+
+    @MockitoBean
+    private JwtProvider jwtProvider;
+
+    @MockitoBean
+    private UserDetailsService userDetailsService;
+
+    @MockitoBean
+    private JwtProperties jwtProperties;
+
+    @MockitoBean
+    private TokenVersionService tokenVersionService;
+
+    @MockitoBean
+    private TokenRevocationService tokenRevocationService;
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void moveSubSystems_Success() throws Exception {
+        when(subSystemBulkService.moveSubSystems(any(SubSystemBulkRequest.class)))
+                .thenReturn(new BulkResult(3, 2));
+
+        mockMvc.perform(post("/api/v1/sub-systems/bulk/move")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"mainSystemId\":1,\"targetMainSystemId\":2}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value(200))
+                .andExpect(jsonPath("$.data.matched").value(3))
+                .andExpect(jsonPath("$.data.affected").value(2));
+    }
+}
@@ -5,33 +5,53 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rdt.api.model.dto.PageResponse;
 import com.rdt.auth.component.JwtProvider;
+import com.rdt.auth.config.JwtProperties;
+import com.rdt.auth.service.TokenRevocationService;
+import com.rdt.auth.service.TokenVersionService;
+import com.rdt.common.model.CursorPage;
+import com.rdt.common.model.ResourceValidator;
 import com.rdt.config.model.dto.SubSystemCreateRequest;
 import com.rdt.config.model.dto.SubSystemResponse;
 import com.rdt.config.model.dto.SubSystemUpdateRequest;
 import com.rdt.config.service.SubSystemService;
+import com.rdt.config.service.SystemExportService;
+import com.rdt.config.service.SystemValidatorService;
+import com.rdt.web.support.ExportStreams;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 @WebMvcTest(SubSystemController.class)
+@Import({ExportStreams.class, SimpleMeterRegistry.class})
 class SubSystemControllerTest {
 
     @Autowired
@@ -40,12 +60,27 @@ class SubSystemControllerTest {
     @MockitoBean
     private SubSystemService subSystemService;
 
+    @MockitoBean
+    private SystemValidatorService systemValidatorService;
+
+    @MockitoBean
+    private SystemExportService systemExportService;
+
     @MockitoBean
     private JwtProvider jwtProvider;
 
     @MockitoBean
     private UserDetailsService userDetailsService;
 
+    @MockitoBean
+    private JwtProperties jwtProperties;
+
+    @MockitoBean
+    private TokenVersionService tokenVersionService;
+
+    @MockitoBean
+    private TokenRevocationService tokenRevocationService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -89,27 +124,42 @@ class SubSystemControllerTest {
                 .andExpect(jsonPath("$.data.code").value("SUB001"));
     }
 
+    @Test
+    @WithMockUser(roles = "USER")
+    void getSubSystem_NotModified() throws Exception {
+        ResourceValidator validator = ResourceValidator.strong(LocalDateTime.of(2026, 1, 1, 0, 0), 1L, "SYS001");
+        when(systemValidatorService.getSubSystemValidator(1L)).thenReturn(validator);
+
+        mockMvc.perform(get("/api/v1/sub-systems/1").header("If-None-Match", validator.getEtag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", validator.getEtag()))
+                .andExpect(header().exists("Last-Modified"))
+                .andExpect(content().string(""));
+        verify(subSystemService, never()).getSubSystem(anyLong());
+    }
+
     @Test
     @WithMockUser(roles = "USER")
     void getSubSystemList_Success() throws Exception {
-        Page<SubSystemResponse> page = new Page<>(1, 10);
-        page.setRecords(List.of(
-                SubSystemResponse.builder()
-                        .id(1L)
-                        .mainSystemId(1L)
-                        .code("SUB001")
-                        .name("SubSystem 1")
-                        .build(),
-                SubSystemResponse.builder()
-                        .id(2L)
-                        .mainSystemId(1L)
-                        .code("SUB002")
-                        .name("SubSystem 2")
-                        .build()));
-        page.setTotal(2);
-
-        when(subSystemService.getSubSystemList(anyLong(), anyString(), anyInt(), anyInt()))
-                .thenReturn(page);
+        PageResponse<SubSystemResponse> page = PageResponse.page(
+                List.of(
+                        SubSystemResponse.builder()
+                                .id(1L)
+                                .mainSystemId(1L)
+                                .code("SUB001")
+                                .name("SubSystem 1")
+                                .build(),
+                        SubSystemResponse.builder()
+                                .id(2L)
+                                .mainSystemId(1L)
+                                .code("SUB002")
+                                .name("SubSystem 2")
+                                .build()),
+                2,
+                1,
+                10);
+
+        when(subSystemService.getSubSystemList(anyLong(), anyString(), any())).thenReturn(page);
 
         mockMvc.perform(get("/api/v1/sub-systems")
                         .param("mainSystemId", "1")
@@ -124,8 +174,10 @@ class SubSystemControllerTest {
     @Test
     @WithMockUser(roles = "ADMIN")
     void updateSubSystem_Success() throws Exception {
-        SubSystemUpdateRequest request =
-                SubSystemUpdateRequest.builder().name("Updated SubSystem").build();
+        SubSystemUpdateRequest request = SubSystemUpdateRequest.builder()
+                .name("Updated SubSystem")
+                .version(0)
+                .build();
 
         doNothing().when(subSystemService).updateSubSystem(anyLong(), any(SubSystemUpdateRequest.class));
 
@@ -146,4 +198,54 @@ class SubSystemControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.code").value(200));
     }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void getSubSystemListAfter_Success() throws Exception {
+        when(subSystemService.getSubSystemListAfter(1L, null, "", 10))
+                .thenReturn(new CursorPage<>(
+                        List.of(SubSystemResponse.builder()
+                                .id(1L)
+                                .code("SUB001")
+                                .build()),
+                        "next"));
+
+        mockMvc.perform(get("/api/v1/sub-systems").param("mainSystemId", "1").param("cursor", ""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.records[0].code").value("SUB001"))
+                .andExpect(jsonPath("$.data.nextCursor").value("next"));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void getSubSystemListAfter_PageSizeBounded() throws Exception {
+        mockMvc.perform(get("/api/v1/sub-systems").param("cursor", "").param("size", "501"))
+                .andExpect(status().isBadRequest());
+        verify(subSystemService, never()).getSubSystemListAfter(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void exportSubSystems_Ndjson() throws Exception {
+        when(systemExportService.exportSubSystems(any())).thenAnswer(invocation -> {
+            Consumer<SubSystemResponse> sink = invocation.getArgument(0);
+            sink.accept(SubSystemResponse.builder()
+                    .id(1L)
+                    .mainSystemId(2L)
+                    .mainSystemName("Main")
+                    .code("SUB001")
+                    .build());
+            return 1L;
+        });
+
+        MvcResult result = mockMvc.perform(get("/api/v1/sub-systems/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"sub-systems.ndjson\""))
+                .andExpect(content()
+                        .string("{\"id\":1,\"mainSystemId\":2,\"mainSystemName\":\"Main\",\"code\":\"SUB001\"}\n"));
+    }
 }
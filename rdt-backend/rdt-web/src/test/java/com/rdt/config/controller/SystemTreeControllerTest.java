@@ -0,0 +1,114 @@
+package com.rdt.config.controller;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.rdt.auth.component.JwtProvider;
+import com.rdt.auth.config.JwtProperties;
+import com.rdt.auth.service.TokenRevocationService;
+import com.rdt.auth.service.TokenVersionService;
+import com.rdt.config.model.dto.SystemTreeChildrenResponse;
+import com.rdt.config.model.dto.SystemTreeNode;
+import com.rdt.config.model.dto.SystemTreeResponse;
+import com.rdt.config.service.SystemTreeService;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(SystemTreeController.class)
+class SystemTreeControllerTest {
+
+    private static final String TREE_URL = "/api/v1/system-tree";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private SystemTreeService systemTreeService;
+
+    @MockitoBean
+    private JwtProvider jwtProvider;
+
+    @MockitoBean
+    private UserDetailsService userDetailsService;
+
+    @MockitoBean
+    private JwtProperties jwtProperties;
+
+    @MockitoBean
+    private TokenVersionService tokenVersionService;
+
+    @MockitoBean
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        SystemTreeNode child = SystemTreeNode.builder()
+                .id(10L)
+                .parentId(1L)
+                .type(SystemTreeNode.TYPE_SUBSYSTEM)
+                .name("Sub")
+                .build();
+        SystemTreeNode root = SystemTreeNode.builder()
+                .id(1L)
+                .type(SystemTreeNode.TYPE_SYSTEM)
+                .name("Main")
+                .children(List.of(child))
+                .build();
+        when(systemTreeService.getTree())
+                .thenReturn(SystemTreeResponse.builder()
+                        .version("abc123")
+                        .systems(List.of(root))
+                        .build());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void getSystemTree_Success() throws Exception {
+        mockMvc.perform(get(TREE_URL))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"abc123\""))
+                .andExpect(jsonPath("$.data.version").value("abc123"))
+                .andExpect(jsonPath("$.data.systems[0].children[0].parentId").value(1))
+                .andExpect(jsonPath("$.data.systems[0].parentId").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void getSystemTree_NotModified() throws Exception {
+        mockMvc.perform(get(TREE_URL).header("If-None-Match", "\"abc123\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void getChildren_Success() throws Exception {
+        SystemTreeNode node = SystemTreeNode.builder()
+                .id(2L)
+                .type(SystemTreeNode.TYPE_SYSTEM)
+                .name("Main")
+                .childCount(7)
+                .build();
+        when(systemTreeService.getChildren(null, 1L, 1))
+                .thenReturn(SystemTreeChildrenResponse.builder()
+                        .nodes(List.of(node))
+                        .nextCursor(2L)
+                        .build());
+
+        mockMvc.perform(get(TREE_URL + "/children").param("cursor", "1").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.nodes[0].childCount").value(7))
+                .andExpect(jsonPath("$.data.nextCursor").value(2));
+    }
+}
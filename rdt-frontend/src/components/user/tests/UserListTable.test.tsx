@@ -12,6 +12,7 @@ const mockUsers = [
     email: 'john@example.com',
     avatar: '',
     status: UserStatus.ACTIVE,
+    version: 0,
     createdAt: '2023-01-01',
   },
 ];
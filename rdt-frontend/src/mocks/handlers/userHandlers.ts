@@ -12,6 +12,7 @@ let users: UserDTO[] = Array.from({ length: 25 }, (_, i) => ({
   email: `user_${i + 1}@example.com`,
   avatar: '',
   status: i % 5 === 0 ? UserStatus.LOCKED : UserStatus.ACTIVE,
+  version: 0,
   createdAt: new Date().toISOString(),
 }));
 
@@ -77,6 +78,7 @@ export const userHandlers = [
       email: body.email,
       avatar: body.avatar || '',
       status: UserStatus.ACTIVE,
+      version: 0,
       createdAt: new Date().toISOString(),
     };
     users.unshift(newUser);
@@ -101,7 +103,14 @@ export const userHandlers = [
       );
     }
 
-    users[index] = { ...users[index], ...body };
+    if (body.version !== users[index].version) {
+      return HttpResponse.json(
+        { code: 409, message: 'User was modified by someone else, reload it and try again', data: null },
+        { status: 200 }
+      );
+    }
+
+    users[index] = { ...users[index], ...body, version: users[index].version + 1 };
 
     return HttpResponse.json({
       code: 0,
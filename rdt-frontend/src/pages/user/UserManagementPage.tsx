@@ -53,7 +53,7 @@ export const UserManagementPage = () => {
   const handleSubmit = async (data: CreateUserRequest) => {
     try {
       if (selectedUser) {
-        await updateUser(selectedUser.id, data);
+        await updateUser(selectedUser.id, { ...data, version: selectedUser.version });
         ui.success(t('user.updateSuccess'));
       } else {
         await createUser(data);
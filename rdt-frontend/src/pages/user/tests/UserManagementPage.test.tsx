@@ -57,10 +57,11 @@ describe('UserManagementPage', () => {
       email: 'user1@example.com',
       status: UserStatus.ACTIVE,
       avatar: '',
+      version: 0,
       createdAt: '2026-01-01T00:00:00Z',
     };
     vi.mocked(userApi.getUsers).mockResolvedValue(
-      createMockResponse({ records: [mockUser], total: 1, current: 1, size: 10, pages: 1 })
+      createMockResponse({ records: [mockUser], total: 1, current: 1, size: 10, hasNext: false })
     );
 
     useUserStore.setState({
@@ -127,7 +128,7 @@ describe('UserManagementPage', () => {
       total: 0,
       current: 1,
       size: 10,
-      pages: 0,
+      hasNext: false,
     });
 
     render(<UserManagementPage />);
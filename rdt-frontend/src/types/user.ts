@@ -21,6 +21,8 @@ export interface UserDTO {
   email: string;
   avatar: string;
   status: UserStatus;
+  /** Optimistic lock version, sent back with updates */
+  version: number;
   createdAt: string;
 }
 
@@ -34,7 +36,7 @@ export interface UserListResponse {
   total: number;
   current: number;
   size: number;
-  pages: number;
+  hasNext: boolean;
   records: UserDTO[];
 }
 
@@ -51,4 +53,6 @@ export interface UpdateUserRequest {
   email?: string;
   avatar?: string;
   status?: UserStatus;
+  /** Version of the user being edited; the update is refused if it changed since */
+  version?: number;
 }